@@ -0,0 +1,177 @@
+package com.badminton.academy.admission;
+
+import com.badminton.academy.dto.response.BulkheadStatsResponse;
+import com.badminton.academy.dto.response.MessageResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Admits each API request through one of four bulkheads before it reaches security or a
+ * controller: {@code auth} for {@code /api/auth/**}, {@code report} for the configured
+ * report paths, {@code read} for other GET/HEAD requests and {@code write} for the rest.
+ *
+ * A saturated bulkhead answers 503 with {@code Retry-After} after at most its
+ * {@code max-wait}, instead of letting the request wait up to the connection pool's
+ * timeout, and only for its own kind of traffic: a burst of monthly matrices fills the
+ * report bulkhead while logins keep their own slots. The slot is held until the response
+ * is complete, including asynchronous responses.
+ */
+@Slf4j
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    public static final String AUTH = "auth";
+    public static final String REPORT = "report";
+    public static final String READ = "read";
+    public static final String WRITE = "write";
+
+    private static final AntPathMatcher PATHS = new AntPathMatcher();
+
+    private final Map<String, Bulkhead> bulkheads;
+    private final List<String> reportPaths;
+    private final List<String> exemptPaths;
+    private final Duration retryAfter;
+    private final ObjectMapper objectMapper;
+
+    public AdmissionControlFilter(Map<String, Bulkhead> bulkheads, List<String> reportPaths, List<String> exemptPaths,
+                                  Duration retryAfter, ObjectMapper objectMapper) {
+        this.bulkheads = bulkheads;
+        this.reportPaths = reportPaths;
+        this.exemptPaths = exemptPaths;
+        this.retryAfter = retryAfter;
+        this.objectMapper = objectMapper;
+    }
+
+    public List<BulkheadStatsResponse> stats() {
+        List<BulkheadStatsResponse> stats = new ArrayList<>(bulkheads.size());
+        bulkheads.values().forEach(bulkhead -> stats.add(bulkhead.stats()));
+        return stats;
+    }
+
+    /**
+     * The bulkhead that admits the request, or null when it is not limited.
+     */
+    String classify(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (!path.startsWith("/api/") || matchesAny(exemptPaths, path)) {
+            return null;
+        }
+        if (path.startsWith("/api/auth/")) {
+            return AUTH;
+        }
+        if (matchesAny(reportPaths, path)) {
+            return REPORT;
+        }
+        String method = request.getMethod();
+        return HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method) ? READ : WRITE;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String kind = classify(request);
+        Bulkhead bulkhead = kind != null ? bulkheads.get(kind) : null;
+        if (bulkhead == null || HttpMethod.OPTIONS.matches(request.getMethod())) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        boolean entered;
+        try {
+            entered = bulkhead.tryEnter();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            entered = false;
+        }
+        if (!entered) {
+            reject(bulkhead, request, response);
+            return;
+        }
+
+        Slot slot = new Slot(bulkhead);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(slot);
+            } else {
+                slot.release();
+            }
+        }
+    }
+
+    private void reject(Bulkhead bulkhead, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        log.warn("Bulkhead {} saturated; rejecting {} {}", bulkhead.getName(), request.getMethod(), request.getRequestURI());
+        response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, retryAfter.toSeconds())));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+                MessageResponse.error("The service is busy. Please try again shortly."));
+    }
+
+    private static boolean matchesAny(List<String> patterns, String path) {
+        for (String pattern : patterns) {
+            if (PATHS.match(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the bulkhead slot exactly once, when the response completes.
+     */
+    private static final class Slot implements AsyncListener {
+
+        private final Bulkhead bulkhead;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        Slot(Bulkhead bulkhead) {
+            this.bulkhead = bulkhead;
+        }
+
+        void release() {
+            if (released.compareAndSet(false, true)) {
+                bulkhead.exit();
+            }
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // Re-register for the restarted async cycle
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
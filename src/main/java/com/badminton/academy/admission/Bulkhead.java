@@ -0,0 +1,95 @@
+package com.badminton.academy.admission;
+
+import com.badminton.academy.dto.response.BulkheadStatsResponse;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limits one kind of request to {@code maxConcurrent} at a time, with at most
+ * {@code maxWaiting} queued for up to {@code maxWait}. Waiters are admitted in arrival order.
+ */
+public class Bulkhead {
+
+    private final String name;
+    private final int maxConcurrent;
+    private final int maxWaiting;
+    private final Duration maxWait;
+    private final Semaphore permits;
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder waited = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong longestWaitNanos = new AtomicLong();
+
+    public Bulkhead(String name, int maxConcurrent, int maxWaiting, Duration maxWait) {
+        if (maxConcurrent < 1 || maxWaiting < 0) {
+            throw new IllegalArgumentException("Bulkhead " + name + " needs at least one slot and a non-negative queue");
+        }
+        this.name = name;
+        this.maxConcurrent = maxConcurrent;
+        this.maxWaiting = maxWaiting;
+        this.maxWait = maxWait;
+        this.permits = new Semaphore(maxConcurrent, true);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    /**
+     * Takes a slot, waiting if the queue has room.
+     *
+     * @return false when the request should be turned away; otherwise the caller must
+     * {@link #exit()} when done
+     */
+    public boolean tryEnter() throws InterruptedException {
+        if (permits.tryAcquire(0, TimeUnit.NANOSECONDS)) {
+            admitted.increment();
+            return true;
+        }
+        if (permits.getQueueLength() >= maxWaiting) {
+            rejected.increment();
+            return false;
+        }
+        long start = System.nanoTime();
+        boolean entered = permits.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+        long waitedNanos = System.nanoTime() - start;
+        waited.increment();
+        totalWaitNanos.add(waitedNanos);
+        longestWaitNanos.accumulateAndGet(waitedNanos, Math::max);
+        if (entered) {
+            admitted.increment();
+        } else {
+            rejected.increment();
+        }
+        return entered;
+    }
+
+    public void exit() {
+        permits.release();
+    }
+
+    public BulkheadStatsResponse stats() {
+        long waits = waited.sum();
+        return BulkheadStatsResponse.builder()
+                .name(name)
+                .maxConcurrent(maxConcurrent)
+                .maxWaiting(maxWaiting)
+                .maxWaitMillis(maxWait.toMillis())
+                .active(maxConcurrent - permits.availablePermits())
+                .waiting(permits.getQueueLength())
+                .admitted(admitted.sum())
+                .rejected(rejected.sum())
+                .averageWaitMillis(waits == 0 ? 0 : totalWaitNanos.sum() / 1e6 / waits)
+                .longestWaitMillis(TimeUnit.NANOSECONDS.toMillis(longestWaitNanos.get()))
+                .build();
+    }
+}
@@ -0,0 +1,239 @@
+package com.badminton.academy.audit;
+
+import com.badminton.academy.config.WorkerThreads;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Asynchronous audit mode ({@code app.audit.mode=async}).
+ *
+ * Each attendance transaction stages its audit entries in attendance_audit_outbox before it
+ * commits, so they are as durable as the attendance change itself. After the commit the
+ * entries are offered to a bounded queue; a single writer thread takes whatever has queued
+ * up (up to {@code batch-size} transactions) and, in one transaction, claims the matching
+ * outbox rows, writes all their audit rows as multi-row INSERTs and deletes the outbox rows.
+ *
+ * Entries that never reach the writer (full queue, failed write, shutdown or crash) stay in
+ * the outbox; {@link #sweepOutbox} delivers outbox rows older than {@code outbox-grace}.
+ * Claiming with {@code FOR UPDATE SKIP LOCKED} lets the writer, the sweep and other
+ * instances run side by side without writing an entry twice.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.audit", name = "mode", havingValue = "async")
+@Slf4j
+public class AsyncAuditDispatcher {
+
+    private static final TypeReference<List<AttendanceAuditEntry>> ENTRIES = new TypeReference<>() {
+    };
+
+    private final AuditLogWriter writer;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final WorkerThreads workerThreads;
+    private final BlockingQueue<Staged> queue;
+    private final int batchSize;
+    private final Duration outboxGrace;
+    private volatile boolean running;
+    private Thread worker;
+
+    public AsyncAuditDispatcher(
+            AuditLogWriter writer,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            ObjectMapper objectMapper,
+            WorkerThreads workerThreads,
+            @Value("${app.audit.async.queue-capacity:10000}") int queueCapacity,
+            @Value("${app.audit.async.batch-size:200}") int batchSize,
+            @Value("${app.audit.async.outbox-grace:30s}") Duration outboxGrace
+    ) {
+        if (queueCapacity < 1 || batchSize < 1) {
+            throw new IllegalArgumentException("Audit queue capacity and batch size must be positive");
+        }
+        this.writer = writer;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.workerThreads = workerThreads;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.outboxGrace = outboxGrace;
+    }
+
+    /**
+     * Audit entries of one committed transaction and the outbox row that holds them.
+     */
+    record Staged(long outboxId, List<AttendanceAuditEntry> entries) {
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        worker = workerThreads.start("audit-writer", this::drainQueue);
+        log.info("Attendance audit writing asynchronously (queue capacity {}, batch size {})",
+                queue.remainingCapacity(), batchSize);
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+        }
+        if (!queue.isEmpty()) {
+            log.info("{} queued audit batches stay in the outbox until the next sweep", queue.size());
+        }
+    }
+
+    /**
+     * Inserts the outbox row on the calling (still open) transaction.
+     */
+    Staged stage(List<AttendanceAuditEntry> entries) {
+        String payload = encode(entries);
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    "INSERT INTO attendance_audit_outbox (payload, created_at) VALUES (?, ?)", new String[]{"id"});
+            statement.setString(1, payload);
+            statement.setTimestamp(2, Timestamp.valueOf(LocalDateTime.now()));
+            return statement;
+        }, keyHolder);
+        return new Staged(keyHolder.getKey().longValue(), entries);
+    }
+
+    void enqueue(Staged staged) {
+        if (!queue.offer(staged)) {
+            log.debug("Audit queue full; outbox row {} is left for the sweep", staged.outboxId());
+        }
+    }
+
+    /**
+     * Delivers outbox rows that the writer did not pick up in time.
+     */
+    @Scheduled(fixedDelayString = "${app.audit.async.sweep-interval-ms:30000}")
+    public void sweepOutbox() {
+        Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minus(outboxGrace));
+        List<Staged> stranded = new ArrayList<>();
+        jdbcTemplate.query(
+                "SELECT id, payload FROM attendance_audit_outbox WHERE created_at < ? ORDER BY id LIMIT ?",
+                row -> {
+                    long id = row.getLong("id");
+                    try {
+                        stranded.add(new Staged(id, decode(row.getString("payload"))));
+                    } catch (IllegalArgumentException ex) {
+                        log.error("Skipping unreadable audit outbox row {}: {}", id, ex.getMessage());
+                    }
+                },
+                cutoff, batchSize);
+        if (!stranded.isEmpty()) {
+            int written = deliver(stranded);
+            log.info("Audit outbox sweep wrote {} rows from {} staged transactions", written, stranded.size());
+        }
+    }
+
+    private void drainQueue() {
+        List<Staged> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            queue.drainTo(batch, batchSize - 1);
+            deliver(batch);
+            batch.clear();
+        }
+    }
+
+    /**
+     * Writes a batch in one transaction; if that fails, each staged transaction is retried on
+     * its own so one bad entry cannot hold back the others. Failures stay in the outbox.
+     *
+     * @return number of audit rows written
+     */
+    private int deliver(List<Staged> batch) {
+        try {
+            return write(batch);
+        } catch (RuntimeException ex) {
+            if (batch.size() == 1) {
+                log.warn("Could not write audit rows of outbox row {}, leaving it staged: {}",
+                        batch.get(0).outboxId(), ex.getMessage());
+                return 0;
+            }
+            log.warn("Could not write {} staged audit batches together, retrying one by one: {}",
+                    batch.size(), ex.getMessage());
+            int written = 0;
+            for (Staged staged : batch) {
+                written += deliver(List.of(staged));
+            }
+            return written;
+        }
+    }
+
+    private int write(List<Staged> batch) {
+        Integer written = transactionTemplate.execute(status -> {
+            List<Long> ids = batch.stream().map(Staged::outboxId).toList();
+            Set<Long> claimed = new HashSet<>(jdbcTemplate.queryForList(
+                    "SELECT id FROM attendance_audit_outbox WHERE id IN (" + placeholders(ids.size()) + ") FOR UPDATE SKIP LOCKED",
+                    Long.class, ids.toArray()));
+            if (claimed.isEmpty()) {
+                return 0;
+            }
+            List<AttendanceAuditEntry> entries = batch.stream()
+                    .filter(staged -> claimed.contains(staged.outboxId()))
+                    .flatMap(staged -> staged.entries().stream())
+                    .toList();
+            writer.write(entries);
+            jdbcTemplate.update(
+                    "DELETE FROM attendance_audit_outbox WHERE id IN (" + placeholders(claimed.size()) + ")",
+                    claimed.toArray());
+            return entries.size();
+        });
+        return written != null ? written : 0;
+    }
+
+    private String encode(List<AttendanceAuditEntry> entries) {
+        try {
+            return objectMapper.writeValueAsString(entries);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not encode audit entries", ex);
+        }
+    }
+
+    private List<AttendanceAuditEntry> decode(String payload) {
+        try {
+            return objectMapper.readValue(payload, ENTRIES);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException("Malformed audit payload: " + ex.getOriginalMessage(), ex);
+        }
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
@@ -0,0 +1,53 @@
+package com.badminton.academy.audit;
+
+import com.badminton.academy.model.AttendanceAuditLog;
+import com.badminton.academy.model.enums.AttendanceEntryType;
+import com.badminton.academy.model.enums.AttendanceStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * One attendance_audit_log row, detached from the persistence context so it can be written
+ * with plain JDBC or staged in the outbox as JSON.
+ */
+public record AttendanceAuditEntry(
+        Long attendanceId,
+        LocalDate attendanceDate,
+        String action,
+        AttendanceStatus previousStatus,
+        AttendanceEntryType previousEntryType,
+        String previousNotes,
+        AttendanceStatus newStatus,
+        AttendanceEntryType newEntryType,
+        String newNotes,
+        Long changedById,
+        String changedByRole,
+        String reason,
+        boolean wasBackdated,
+        LocalDateTime changedAt
+) {
+
+    /**
+     * Reads the attendance ID and date from the log at call time, so it must run after the
+     * attendance row has been persisted.
+     */
+    static AttendanceAuditEntry of(AttendanceAuditLog log) {
+        return new AttendanceAuditEntry(
+                log.getAttendance().getId(),
+                log.getAttendance().getDate(),
+                log.getAction(),
+                log.getPreviousStatus(),
+                log.getPreviousEntryType(),
+                log.getPreviousNotes(),
+                log.getNewStatus(),
+                log.getNewEntryType(),
+                log.getNewNotes(),
+                log.getChangedBy() != null ? log.getChangedBy().getId() : null,
+                log.getChangedByRole(),
+                log.getReason(),
+                Boolean.TRUE.equals(log.getWasBackdated()),
+                log.getChangedAt()
+        );
+    }
+}
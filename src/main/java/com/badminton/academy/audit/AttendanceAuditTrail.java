@@ -0,0 +1,98 @@
+package com.badminton.academy.audit;
+
+import com.badminton.academy.model.AttendanceAuditLog;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects the attendance audit rows of the current transaction and writes them at commit.
+ *
+ * Write paths hand over unsaved {@link AttendanceAuditLog}s as they change attendance, so
+ * the hot path no longer inserts an audit row per change. Just before the transaction
+ * commits, the persistence context is flushed (new attendance rows get their IDs and exist
+ * for the foreign key) and the whole buffer goes out as one multi-row INSERT on the
+ * transaction's connection. A transaction that rolls back leaves no audit rows.
+ *
+ * With {@code app.audit.mode=async} the commit only stages the buffer as a single outbox
+ * row and {@link AsyncAuditDispatcher} writes the audit rows after the commit.
+ */
+@Component
+@Slf4j
+public class AttendanceAuditTrail {
+
+    private final EntityManager entityManager;
+    private final AuditLogWriter writer;
+    private final AsyncAuditDispatcher dispatcher;
+
+    public AttendanceAuditTrail(
+            EntityManager entityManager,
+            AuditLogWriter writer,
+            ObjectProvider<AsyncAuditDispatcher> dispatcher
+    ) {
+        this.entityManager = entityManager;
+        this.writer = writer;
+        this.dispatcher = dispatcher.getIfAvailable();
+    }
+
+    /**
+     * Buffers an audit row until the surrounding transaction commits. The log's attendance
+     * may still be unsaved; its ID is read at commit.
+     */
+    public void record(AttendanceAuditLog auditLog) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Attendance audit rows must be recorded inside a transaction");
+        }
+        if (auditLog.getChangedAt() == null) {
+            auditLog.setChangedAt(LocalDateTime.now());
+        }
+        Buffer buffer = (Buffer) TransactionSynchronizationManager.getResource(this);
+        if (buffer == null) {
+            buffer = new Buffer();
+            TransactionSynchronizationManager.bindResource(this, buffer);
+            TransactionSynchronizationManager.registerSynchronization(buffer);
+        }
+        buffer.logs.add(auditLog);
+    }
+
+    public void recordAll(List<AttendanceAuditLog> auditLogs) {
+        auditLogs.forEach(this::record);
+    }
+
+    private class Buffer implements TransactionSynchronization {
+
+        private final List<AttendanceAuditLog> logs = new ArrayList<>();
+        private AsyncAuditDispatcher.Staged staged;
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            entityManager.flush();
+            List<AttendanceAuditEntry> entries = logs.stream().map(AttendanceAuditEntry::of).toList();
+            if (dispatcher != null) {
+                staged = dispatcher.stage(entries);
+            } else {
+                writer.write(entries);
+            }
+            log.debug("Attendance audit: {} rows {}", entries.size(), dispatcher != null ? "staged" : "written");
+        }
+
+        @Override
+        public void afterCommit() {
+            if (staged != null) {
+                dispatcher.enqueue(staged);
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(AttendanceAuditTrail.this);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.badminton.academy.audit;
+
+import com.badminton.academy.model.enums.AttendanceEntryType;
+import com.badminton.academy.model.enums.AttendanceStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Writes audit entries to attendance_audit_log as multi-row INSERT statements, one per
+ * {@value #MAX_ROWS_PER_STATEMENT} entries, on the caller's transaction.
+ *
+ * IDs come from attendance_audit_log_seq like the entity's, so rows written here and rows
+ * persisted through JPA never collide. The sequence steps by {@value #ALLOCATION_SIZE}, so
+ * each nextval reserves a block the way Hibernate's pooled optimizer reads it (value - 49 up
+ * to value), and IDs are handed out from that block across calls rather than spending one
+ * nextval per row.
+ */
+@Component
+@RequiredArgsConstructor
+public class AuditLogWriter {
+
+    // 15 parameters per row keeps a full statement well below the driver's 32767 bind limit
+    static final int MAX_ROWS_PER_STATEMENT = 500;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO attendance_audit_log (id, attendance_id, attendance_date, action, previous_status, previous_entry_type, " +
+            "previous_notes, new_status, new_entry_type, new_notes, changed_by_id, changed_by_role, reason, " +
+            "was_backdated, changed_at) VALUES ";
+
+    private static final String ROW_SQL = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String NEXT_BLOCK_SQL = "SELECT nextval('attendance_audit_log_seq')";
+
+    // Must match INCREMENT BY in V6 and allocationSize on AttendanceAuditLog
+    static final int ALLOCATION_SIZE = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // A lock rather than synchronized so a virtual thread waiting on nextval does not pin its carrier
+    private final ReentrantLock allocationLock = new ReentrantLock();
+    private long nextId;
+    private long blockEnd = -1;
+
+    public void write(List<AttendanceAuditEntry> entries) {
+        for (int from = 0; from < entries.size(); from += MAX_ROWS_PER_STATEMENT) {
+            List<AttendanceAuditEntry> chunk = entries.subList(from, Math.min(entries.size(), from + MAX_ROWS_PER_STATEMENT));
+            String sql = INSERT_SQL + String.join(", ", Collections.nCopies(chunk.size(), ROW_SQL));
+            jdbcTemplate.update(sql, parameters(chunk, allocateIds(chunk.size())));
+        }
+    }
+
+    private long[] allocateIds(int count) {
+        long[] ids = new long[count];
+        allocationLock.lock();
+        try {
+            for (int i = 0; i < count; i++) {
+                if (nextId > blockEnd) {
+                    long hi = jdbcTemplate.queryForObject(NEXT_BLOCK_SQL, Long.class);
+                    // A fresh sequence starts at 1, which has no full block below it
+                    nextId = Math.max(1, hi - ALLOCATION_SIZE + 1);
+                    blockEnd = hi;
+                }
+                ids[i] = nextId++;
+            }
+        } finally {
+            allocationLock.unlock();
+        }
+        return ids;
+    }
+
+    private static Object[] parameters(List<AttendanceAuditEntry> entries, long[] ids) {
+        List<Object> parameters = new ArrayList<>(entries.size() * 15);
+        for (int i = 0; i < entries.size(); i++) {
+            AttendanceAuditEntry entry = entries.get(i);
+            parameters.add(ids[i]);
+            parameters.add(entry.attendanceId());
+            parameters.add(Date.valueOf(entry.attendanceDate()));
+            parameters.add(entry.action());
+            parameters.add(name(entry.previousStatus()));
+            parameters.add(name(entry.previousEntryType()));
+            parameters.add(entry.previousNotes());
+            parameters.add(name(entry.newStatus()));
+            parameters.add(name(entry.newEntryType()));
+            parameters.add(entry.newNotes());
+            parameters.add(entry.changedById());
+            parameters.add(entry.changedByRole());
+            parameters.add(entry.reason());
+            parameters.add(entry.wasBackdated());
+            parameters.add(Timestamp.valueOf(entry.changedAt()));
+        }
+        return parameters.toArray();
+    }
+
+    private static String name(AttendanceStatus status) {
+        return status != null ? status.name() : null;
+    }
+
+    private static String name(AttendanceEntryType entryType) {
+        return entryType != null ? entryType.name() : null;
+    }
+}
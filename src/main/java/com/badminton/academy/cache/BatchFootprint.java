@@ -0,0 +1,35 @@
+package com.badminton.academy.cache;
+
+import com.badminton.academy.model.Batch;
+import com.badminton.academy.model.Student;
+import com.badminton.academy.model.enums.SkillLevel;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * The cache keys a batch's responses are stored under: its own ID, skill level, coach and
+ * enrolled students. The name is kept because student responses embed batch names.
+ */
+public record BatchFootprint(
+        Long id,
+        String name,
+        boolean active,
+        SkillLevel skillLevel,
+        Long coachId,
+        Set<Long> studentIds
+) {
+
+    public static BatchFootprint of(Batch batch) {
+        return new BatchFootprint(
+                batch.getId(),
+                batch.getName(),
+                Boolean.TRUE.equals(batch.getIsActive()),
+                batch.getSkillLevel(),
+                batch.getCoach() != null ? batch.getCoach().getId() : null,
+                batch.getStudents() != null
+                        ? batch.getStudents().stream().map(Student::getId).collect(Collectors.toUnmodifiableSet())
+                        : Set.of()
+        );
+    }
+}
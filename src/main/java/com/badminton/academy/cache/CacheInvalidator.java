@@ -0,0 +1,423 @@
+package com.badminton.academy.cache;
+
+import com.badminton.academy.cache.StudentFootprint.BatchRef;
+import com.badminton.academy.dto.response.CacheStatsResponse;
+import com.github.benmanes.caffeine.cache.Policy;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Key-targeted invalidation for the student, batch and coach caches.
+ *
+ * Write paths capture a footprint of the entity before and after the change and hand both
+ * here. The footprints say which keys the entity is cached under (its ID, parent, batches,
+ * coaches, skill level, email...). Because list caches hold only member IDs (see
+ * {@link NormalizedCache}), an edit evicts the entity's own entry and touches a list only
+ * when the entity joins or leaves it. Responses that embed another entity's name (batch and
+ * parent names in students, coach names in batches) are evicted by ID when that name changes.
+ *
+ * Evictions run immediately and again after the surrounding transaction commits, so a
+ * concurrent read cannot re-cache the pre-commit state. After commit they are also published
+ * on the {@link InvalidationBus}, and evictions published by other instances are applied to
+ * this instance's L1 caches. Filter caches evicted by predicate are cleared on the other
+ * instances, since their keys are not known there.
+ */
+@Component
+@Slf4j
+public class CacheInvalidator {
+
+    private final CacheManager cacheManager;
+    private final InvalidationBus invalidationBus;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Map<String, LongAdder> evictedKeys = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> remoteEvictions = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> clears = new ConcurrentHashMap<>();
+
+    public CacheInvalidator(CacheManager cacheManager, InvalidationBus invalidationBus) {
+        this.cacheManager = cacheManager;
+        this.invalidationBus = invalidationBus;
+        invalidationBus.subscribe(this::onRemoteInvalidation);
+    }
+
+    /**
+     * @param before footprint before the write, or null when the student was created
+     * @param after  footprint after the write, or null when the student was deleted
+     */
+    public void studentChanged(StudentFootprint before, StudentFootprint after) {
+        StudentFootprint current = after != null ? after : before;
+        Evictions evictions = new Evictions().key("students:byId", current.id());
+
+        if (before == null || after == null) {
+            evictions.key("students:all", NormalizedCache.ALL);
+        }
+        if (changed(before, after, StudentFootprint::active) && eitherActive(before, after, StudentFootprint::active)) {
+            evictions.key("students:active", NormalizedCache.ALL);
+        }
+        if (changed(before, after, StudentFootprint::skillLevel)) {
+            evictions.keys("students:bySkillLevel", values(before, after, StudentFootprint::skillLevel));
+        }
+        if (changed(before, after, StudentFootprint::skillLevel) || changed(before, after, StudentFootprint::active)) {
+            evictions.keys("students:countBySkillLevel", values(before, after, StudentFootprint::skillLevel));
+        }
+        if (changed(before, after, StudentFootprint::parentId)) {
+            evictions.keys("students:byParent", values(before, after, StudentFootprint::parentId));
+        }
+        if (after == null) {
+            evictions.key("students:feeHistory", current.id());
+        }
+
+        // Joining or leaving a batch changes the batch roster, the coach roster and coach totals
+        Set<BatchRef> joinedOrLeft = symmetricDifference(
+                before != null ? before.batches() : Set.of(),
+                after != null ? after.batches() : Set.of());
+        if (!joinedOrLeft.isEmpty()) {
+            Set<Long> batchIds = joinedOrLeft.stream().map(BatchRef::id).collect(Collectors.toSet());
+            Set<Long> coachIds = joinedOrLeft.stream().map(BatchRef::coachId).filter(Objects::nonNull).collect(Collectors.toSet());
+            evictions.keys("students:byBatch", batchIds)
+                    .keys("students:byCoach", coachIds)
+                    .keys("batches:byId", batchIds)
+                    .key("batches:byStudent", current.id())
+                    .keys("coaches:byId", coachIds);
+        }
+
+        evictions.apply("student " + current.id());
+    }
+
+    /**
+     * @param before footprint before the write, or null when the batch was created
+     * @param after  footprint after the write, or null when the batch was deleted
+     */
+    public void batchChanged(BatchFootprint before, BatchFootprint after) {
+        BatchFootprint current = after != null ? after : before;
+        Set<Long> coachIds = values(before, after, BatchFootprint::coachId);
+        Evictions evictions = new Evictions().key("batches:byId", current.id());
+
+        if (before == null || after == null) {
+            evictions.key("batches:all", NormalizedCache.ALL)
+                    .keys("batches:byStudent", union(before, after, BatchFootprint::studentIds));
+        }
+        if (changed(before, after, BatchFootprint::active) && eitherActive(before, after, BatchFootprint::active)) {
+            evictions.key("batches:active", NormalizedCache.ALL)
+                    .key("batches:withSlots", NormalizedCache.ALL)
+                    .keys("batches:byCoach", activeBatchCoachKeys(coachIds));
+        }
+        if (changed(before, after, BatchFootprint::coachId)) {
+            // The batch moves between coach lists; coach totals and rosters follow it
+            evictions.keys("batches:byCoach", batchCoachKeys(coachIds))
+                    .keys("coaches:byId", coachIds)
+                    .key("coaches:byBatch", current.id())
+                    .keys("students:byCoach", coachIds);
+        }
+        if (changed(before, after, BatchFootprint::skillLevel)) {
+            evictions.keys("batches:bySkillLevel", values(before, after, BatchFootprint::skillLevel));
+        }
+        if (changed(before, after, BatchFootprint::name)) {
+            // Student responses embed the IDs and names of their batches
+            evictions.keys("students:byId", union(before, after, BatchFootprint::studentIds));
+        }
+        if (after == null) {
+            evictions.key("students:byBatch", current.id());
+        }
+
+        evictions.apply("batch " + current.id());
+    }
+
+    /**
+     * @param before footprint before the write, or null when the coach was created
+     * @param after  footprint after the write, or null when the coach was deleted
+     */
+    public void coachChanged(CoachFootprint before, CoachFootprint after) {
+        CoachFootprint current = after != null ? after : before;
+        Evictions evictions = new Evictions().key("coaches:byId", current.id());
+
+        if (before == null || after == null) {
+            evictions.key("coaches:all", NormalizedCache.ALL);
+        }
+        if (changed(before, after, CoachFootprint::active)) {
+            evictions.key("coaches:count", NormalizedCache.ALL);
+            if (eitherActive(before, after, CoachFootprint::active)) {
+                evictions.key("coaches:active", NormalizedCache.ALL);
+            }
+        }
+        if (changed(before, after, CoachFootprint::email)) {
+            evictions.keys("coaches:byEmail", values(before, after, CoachFootprint::email));
+        }
+        if (changed(before, after, CoachFootprint::specialization)) {
+            evictions.matching("coaches:bySpecialization",
+                    key -> matchesSpecialization(before, key) || matchesSpecialization(after, key));
+        }
+        if (changed(before, after, CoachFootprint::yearsOfExperience) || changed(before, after, CoachFootprint::active)) {
+            evictions.matching("coaches:byExperience",
+                    key -> meetsExperience(before, key) || meetsExperience(after, key));
+        }
+        if (before != null && after != null && changed(before, after, CoachFootprint::fullName)) {
+            // Batch responses embed the coach name
+            evictions.keys("batches:byId", current.batchIds());
+        }
+
+        evictions.apply("coach " + current.id());
+    }
+
+    /**
+     * Parents are only cached inside student responses, so only a rename evicts anything.
+     */
+    public void parentChanged(ParentFootprint before, ParentFootprint after) {
+        if (!changed(before, after, ParentFootprint::fullName)) {
+            return;
+        }
+        // Student responses embed the parent name
+        new Evictions()
+                .keys("students:byId", union(before, after, ParentFootprint::childIds))
+                .apply("parent " + after.id());
+    }
+
+    /**
+     * Policy, hit ratio, load and invalidation counters for every cache managed by the cache
+     * manager. Weighted size and maximum are in estimated bytes for weight-bounded caches.
+     */
+    public List<CacheStatsResponse> stats() {
+        List<CacheStatsResponse> stats = new ArrayList<>();
+        for (String name : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache == null) {
+                continue;
+            }
+            CacheStatsResponse.CacheStatsResponseBuilder response = CacheStatsResponse.builder()
+                    .name(name)
+                    .invalidatedKeys(count(evictedKeys, name))
+                    .remoteInvalidations(count(remoteEvictions, name))
+                    .clears(count(clears, name));
+            if (cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache) {
+                CacheStats cacheStats = nativeCache.stats();
+                response.size(nativeCache.estimatedSize())
+                        .hitCount(cacheStats.hitCount())
+                        .missCount(cacheStats.missCount())
+                        .hitRatio(cacheStats.hitRate())
+                        .loadCount(cacheStats.loadCount())
+                        .averageLoadMillis(cacheStats.averageLoadPenalty() / 1_000_000.0)
+                        .evictionCount(cacheStats.evictionCount());
+                Policy<?, ?> policy = nativeCache.policy();
+                policy.eviction().ifPresent(eviction -> response
+                        .maximum(eviction.getMaximum())
+                        .weightedSize(eviction.weightedSize().isPresent() ? eviction.weightedSize().getAsLong() : null));
+                policy.expireAfterWrite().ifPresent(expiry -> response.expireAfterWriteSeconds(expiry.getExpiresAfter().toSeconds()));
+                policy.refreshAfterWrite().ifPresent(refresh -> response.refreshAfterWriteSeconds(refresh.getRefreshesAfter().toSeconds()));
+            }
+            stats.add(response.build());
+        }
+        return stats;
+    }
+
+    /**
+     * Applies evictions published by another instance to the local tier only; the publishing
+     * instance has already evicted any shared tier.
+     */
+    void onRemoteInvalidation(InvalidationEvent event) {
+        if (instanceId.equals(event.origin())) {
+            return;
+        }
+        Collection<String> cleared = event.clearedCaches().contains(InvalidationEvent.ALL_CACHES)
+                ? cacheManager.getCacheNames()
+                : event.clearedCaches();
+        for (String name : cleared) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null) {
+                if (cache instanceof TwoTierCache twoTier) {
+                    twoTier.clearLocal();
+                } else {
+                    cache.clear();
+                }
+                remoteEvictions.computeIfAbsent(name, n -> new LongAdder()).increment();
+            }
+        }
+        event.keys().forEach((name, keys) -> {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null) {
+                for (Object key : keys) {
+                    if (cache instanceof TwoTierCache twoTier) {
+                        twoTier.evictLocal(key);
+                    } else {
+                        cache.evict(key);
+                    }
+                }
+                remoteEvictions.computeIfAbsent(name, n -> new LongAdder()).add(keys.size());
+            }
+        });
+        log.debug("Remote cache invalidation from {}: {} cleared {}", event.origin(), event.keys(), event.clearedCaches());
+    }
+
+    private static boolean matchesSpecialization(CoachFootprint coach, Object key) {
+        if (coach == null || coach.specialization() == null) {
+            return false;
+        }
+        return !(key instanceof String specialization)
+                || coach.specialization().toLowerCase().contains(specialization.toLowerCase());
+    }
+
+    private static boolean meetsExperience(CoachFootprint coach, Object key) {
+        if (coach == null || !coach.active() || coach.yearsOfExperience() == null) {
+            return false;
+        }
+        return !(key instanceof Integer years) || coach.yearsOfExperience() >= years;
+    }
+
+    /**
+     * batches:byCoach holds both the full and the active-only list per coach.
+     */
+    private static Set<Object> batchCoachKeys(Collection<Long> coachIds) {
+        Set<Object> keys = new HashSet<>(coachIds);
+        keys.addAll(activeBatchCoachKeys(coachIds));
+        return keys;
+    }
+
+    private static Set<Object> activeBatchCoachKeys(Collection<Long> coachIds) {
+        return coachIds.stream().map(coachId -> "active:" + coachId).collect(Collectors.toSet());
+    }
+
+    private static <F> boolean changed(F before, F after, Function<F, ?> field) {
+        return before == null || after == null || !Objects.equals(field.apply(before), field.apply(after));
+    }
+
+    private static <F, V> Set<V> values(F before, F after, Function<F, V> field) {
+        return Stream.of(before, after)
+                .filter(Objects::nonNull)
+                .map(field)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+    }
+
+    private static <F, V> Set<V> union(F before, F after, Function<F, Set<V>> field) {
+        return Stream.of(before, after)
+                .filter(Objects::nonNull)
+                .flatMap(footprint -> field.apply(footprint).stream())
+                .collect(Collectors.toSet());
+    }
+
+    private static <F> boolean eitherActive(F before, F after, Predicate<F> active) {
+        return (before != null && active.test(before)) || (after != null && active.test(after));
+    }
+
+    private static <T> Set<T> symmetricDifference(Set<T> left, Set<T> right) {
+        Set<T> difference = new HashSet<>(left);
+        difference.addAll(right);
+        Set<T> common = new HashSet<>(left);
+        common.retainAll(right);
+        difference.removeAll(common);
+        return difference;
+    }
+
+    private static long count(Map<String, LongAdder> counters, String name) {
+        LongAdder counter = counters.get(name);
+        return counter != null ? counter.sum() : 0;
+    }
+
+    /**
+     * Evictions collected for one write, applied now and after commit.
+     */
+    private final class Evictions {
+
+        private final Map<String, Set<Object>> keys = new LinkedHashMap<>();
+        private final Map<String, List<Predicate<Object>>> predicates = new LinkedHashMap<>();
+
+        Evictions key(String cacheName, Object key) {
+            if (key != null) {
+                keys.computeIfAbsent(cacheName, name -> new LinkedHashSet<>()).add(key);
+            }
+            return this;
+        }
+
+        Evictions keys(String cacheName, Collection<?> cacheKeys) {
+            cacheKeys.forEach(key -> key(cacheName, key));
+            return this;
+        }
+
+        Evictions matching(String cacheName, Predicate<Object> predicate) {
+            predicates.computeIfAbsent(cacheName, name -> new ArrayList<>()).add(predicate);
+            return this;
+        }
+
+        void apply(String description) {
+            evict(true);
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        evict(false);
+                        publish();
+                    }
+                });
+            } else {
+                publish();
+            }
+            log.debug("Cache invalidation for {}: {}", description, keys);
+        }
+
+        private void publish() {
+            InvalidationEvent event = new InvalidationEvent(instanceId, Map.copyOf(keys), Set.copyOf(predicates.keySet()));
+            try {
+                invalidationBus.publish(event);
+            } catch (RuntimeException ex) {
+                // The write has committed; other instances catch up at TTL expiry
+                log.warn("Could not publish cache invalidation: {}", ex.getMessage());
+            }
+        }
+
+        private void evict(boolean record) {
+            keys.forEach((name, cacheKeys) -> {
+                Cache cache = cacheManager.getCache(name);
+                if (cache != null) {
+                    cacheKeys.forEach(cache::evict);
+                    if (record) {
+                        evictedKeys.computeIfAbsent(name, n -> new LongAdder()).add(cacheKeys.size());
+                    }
+                }
+            });
+            predicates.forEach((name, matchers) -> {
+                Cache cache = cacheManager.getCache(name);
+                if (cache == null) {
+                    return;
+                }
+                Predicate<Object> affected = matchers.stream().reduce(key -> false, Predicate::or);
+                if (cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache) {
+                    Set<Object> matched = new HashSet<>();
+                    nativeCache.asMap().keySet().forEach(key -> {
+                        if (affected.test(key)) {
+                            matched.add(key);
+                        }
+                    });
+                    matched.forEach(cache::evict);
+                    if (record) {
+                        evictedKeys.computeIfAbsent(name, n -> new LongAdder()).add(matched.size());
+                    }
+                } else {
+                    cache.clear();
+                    if (record) {
+                        clears.computeIfAbsent(name, n -> new LongAdder()).increment();
+                    }
+                }
+            });
+        }
+    }
+}
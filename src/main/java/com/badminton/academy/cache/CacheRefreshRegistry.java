@@ -0,0 +1,42 @@
+package com.badminton.academy.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Loaders that recompute a cache entry from its key, used by caches configured with
+ * {@code refresh-after-write}. Services register a loader for each cache they own.
+ *
+ * A cache without a registered loader behaves as a plain cache: lookups that miss fall
+ * through to the caller, and an entry due for refresh is dropped instead of reloaded.
+ */
+@Component
+@Slf4j
+public class CacheRefreshRegistry {
+
+    private final Map<String, Function<Object, Object>> loaders = new ConcurrentHashMap<>();
+
+    public void register(String cacheName, Function<Object, Object> loader) {
+        loaders.put(cacheName, loader);
+    }
+
+    public boolean hasLoader(String cacheName) {
+        return loaders.containsKey(cacheName);
+    }
+
+    /**
+     * Recomputes the value for the key, or returns null when no loader is registered.
+     */
+    public Object load(String cacheName, Object key) {
+        Function<Object, Object> loader = loaders.get(cacheName);
+        if (loader == null) {
+            return null;
+        }
+        log.debug("Refreshing cache entry: {} {}", cacheName, key);
+        return loader.apply(key);
+    }
+}
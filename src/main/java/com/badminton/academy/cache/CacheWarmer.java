@@ -0,0 +1,121 @@
+package com.badminton.academy.cache;
+
+import com.badminton.academy.config.CachePolicyProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Preloads the hot caches listed under {@code app.cache.warm-up.caches} once the application
+ * is ready, so the first requests after a cold start or redeploy hit a warm cache.
+ *
+ * Each cache is loaded through its refresh loader in {@link CacheRefreshRegistry}, in
+ * parallel and within the configured time budget. Requests are served throughout; until
+ * warm-up finishes {@link #isReady()} is false and {@code /api/health} reports "warming".
+ */
+@Component
+@Slf4j
+public class CacheWarmer {
+
+    public enum State {
+        WARMING,
+        READY
+    }
+
+    private final CacheManager cacheManager;
+    private final CacheRefreshRegistry refreshRegistry;
+    private final CachePolicyProperties.WarmUp settings;
+    private volatile State state;
+
+    public CacheWarmer(CacheManager cacheManager, CacheRefreshRegistry refreshRegistry, CachePolicyProperties properties) {
+        this.cacheManager = cacheManager;
+        this.refreshRegistry = refreshRegistry;
+        this.settings = properties.getWarmUp();
+        this.state = settings.isEnabled() && !settings.getCaches().isEmpty() ? State.WARMING : State.READY;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public boolean isReady() {
+        return state == State.READY;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (state == State.READY) {
+            return;
+        }
+        Thread thread = new Thread(this::warmUp, "cache-warm-up");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Loads every configured cache and marks the warmer ready, waiting at most the budget.
+     */
+    void warmUp() {
+        long start = System.nanoTime();
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, settings.getParallelism()), runnable -> {
+            Thread thread = new Thread(runnable, "cache-warm-up-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<String> names = new ArrayList<>();
+            List<Callable<Void>> tasks = new ArrayList<>();
+            for (String name : settings.getCaches()) {
+                Cache cache = cacheManager.getCache(name);
+                if (cache == null || !refreshRegistry.hasLoader(name)) {
+                    log.warn("Cache warm-up skipped for {}: {}", name, cache == null ? "cache not configured" : "no loader registered");
+                    continue;
+                }
+                names.add(name);
+                tasks.add(() -> {
+                    Object value = refreshRegistry.load(name, NormalizedCache.ALL);
+                    // A load cancelled by the budget may still return; don't cache it late
+                    if (value != null && !Thread.currentThread().isInterrupted()) {
+                        cache.putIfAbsent(NormalizedCache.ALL, value);
+                    }
+                    return null;
+                });
+            }
+
+            List<Future<Void>> results = executor.invokeAll(tasks, settings.getBudget().toMillis(), TimeUnit.MILLISECONDS);
+            int warmed = 0;
+            for (int i = 0; i < results.size(); i++) {
+                try {
+                    results.get(i).get();
+                    warmed++;
+                } catch (CancellationException ex) {
+                    log.warn("Cache warm-up for {} did not finish within {}", names.get(i), settings.getBudget());
+                } catch (ExecutionException ex) {
+                    log.warn("Cache warm-up for {} failed: {}", names.get(i), ex.getCause().getMessage());
+                }
+            }
+            log.info("Cache warm-up finished: {} of {} caches in {} ms", warmed, names.size(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+            state = State.READY;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.badminton.academy.cache;
+
+import com.badminton.academy.model.Batch;
+import com.badminton.academy.model.Coach;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * The cache keys a coach's responses are stored under, plus the search fields
+ * (specialization, experience) that decide which filtered lists include the coach.
+ * The name is kept because batch responses embed the coach name.
+ */
+public record CoachFootprint(
+        Long id,
+        String email,
+        String fullName,
+        boolean active,
+        String specialization,
+        Integer yearsOfExperience,
+        Set<Long> batchIds
+) {
+
+    public static CoachFootprint of(Coach coach) {
+        return new CoachFootprint(
+                coach.getId(),
+                coach.getEmail(),
+                coach.getFullName(),
+                Boolean.TRUE.equals(coach.getIsActive()),
+                coach.getSpecialization(),
+                coach.getYearsOfExperience(),
+                coach.getBatches() != null
+                        ? coach.getBatches().stream().map(Batch::getId).collect(Collectors.toUnmodifiableSet())
+                        : Set.of()
+        );
+    }
+}
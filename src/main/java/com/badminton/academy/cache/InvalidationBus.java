@@ -0,0 +1,21 @@
+package com.badminton.academy.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Broadcasts cache invalidations between application instances.
+ *
+ * The transport is chosen with {@code app.cache.bus.transport}: {@code loopback} (default,
+ * in-process only) or {@code postgres} (LISTEN/NOTIFY on the application database).
+ * Delivery is at most once; transports that can lose events deliver
+ * {@link InvalidationEvent#everything} to their subscribers when they reconnect.
+ */
+public interface InvalidationBus {
+
+    /**
+     * Sends the event to every subscribed instance, including this one.
+     */
+    void publish(InvalidationEvent event);
+
+    void subscribe(Consumer<InvalidationEvent> subscriber);
+}
@@ -0,0 +1,143 @@
+package com.badminton.academy.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.cache.interceptor.SimpleKey;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Text encoding of {@link InvalidationEvent}s for transports that carry strings.
+ *
+ * Cache keys are tagged with their type so they decode to keys equal to the originals:
+ * {@code L:7} (Long), {@code I:3} (Integer), {@code S:text}, {@code E:<enum class>:NAME} and
+ * {@code K} for the no-argument key. A cache whose keys cannot be encoded, or an event that
+ * would exceed the transport's size limit, is sent as a clear of the affected caches.
+ */
+final class InvalidationCodec {
+
+    private static final String ENUM_PACKAGE = "com.badminton.academy.";
+
+    private final ObjectMapper objectMapper;
+    private final int maxLength;
+
+    InvalidationCodec(ObjectMapper objectMapper, int maxLength) {
+        this.objectMapper = objectMapper;
+        this.maxLength = maxLength;
+    }
+
+    String encode(InvalidationEvent event) {
+        Map<String, List<String>> keys = new LinkedHashMap<>();
+        Set<String> clears = new LinkedHashSet<>(event.clearedCaches());
+        event.keys().forEach((cacheName, cacheKeys) -> {
+            List<String> encoded = new ArrayList<>(cacheKeys.size());
+            for (Object key : cacheKeys) {
+                String tagged = encodeKey(key);
+                if (tagged == null) {
+                    clears.add(cacheName);
+                    return;
+                }
+                encoded.add(tagged);
+            }
+            keys.put(cacheName, encoded);
+        });
+        keys.keySet().removeAll(clears);
+
+        String payload = write(new Payload(event.origin(), keys, clears));
+        if (payload.length() > maxLength) {
+            // Too many keys for one message: clear the affected caches instead
+            clears.addAll(keys.keySet());
+            payload = write(new Payload(event.origin(), Map.of(), clears));
+        }
+        return payload;
+    }
+
+    InvalidationEvent decode(String payload) {
+        try {
+            Payload decoded = objectMapper.readValue(payload, Payload.class);
+            Map<String, Set<Object>> keys = new LinkedHashMap<>();
+            Set<String> clears = new LinkedHashSet<>(decoded.clears());
+            decoded.keys().forEach((cacheName, cacheKeys) -> {
+                Set<Object> decodedKeys = new LinkedHashSet<>();
+                for (String tagged : cacheKeys) {
+                    Object key = decodeKey(tagged);
+                    if (key == null) {
+                        clears.add(cacheName);
+                        return;
+                    }
+                    decodedKeys.add(key);
+                }
+                keys.put(cacheName, decodedKeys);
+            });
+            keys.keySet().removeAll(clears);
+            return new InvalidationEvent(decoded.origin(), keys, clears);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException("Malformed invalidation payload: " + ex.getOriginalMessage(), ex);
+        }
+    }
+
+    static String encodeKey(Object key) {
+        if (key instanceof Long value) {
+            return "L:" + value;
+        }
+        if (key instanceof Integer value) {
+            return "I:" + value;
+        }
+        if (key instanceof String value) {
+            return "S:" + value;
+        }
+        if (key instanceof Enum<?> value && value.getDeclaringClass().getName().startsWith(ENUM_PACKAGE)) {
+            return "E:" + value.getDeclaringClass().getName() + ":" + value.name();
+        }
+        if (SimpleKey.EMPTY.equals(key)) {
+            return "K";
+        }
+        return null;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static Object decodeKey(String tagged) {
+        if (tagged.equals("K")) {
+            return SimpleKey.EMPTY;
+        }
+        if (tagged.length() < 2 || tagged.charAt(1) != ':') {
+            return null;
+        }
+        String value = tagged.substring(2);
+        try {
+            return switch (tagged.charAt(0)) {
+                case 'L' -> Long.valueOf(value);
+                case 'I' -> Integer.valueOf(value);
+                case 'S' -> value;
+                case 'E' -> {
+                    int separator = value.lastIndexOf(':');
+                    String className = value.substring(0, separator);
+                    if (!className.startsWith(ENUM_PACKAGE)) {
+                        yield null;
+                    }
+                    Class<?> type = Class.forName(className);
+                    yield type.isEnum() ? Enum.valueOf((Class<? extends Enum>) type, value.substring(separator + 1)) : null;
+                }
+                default -> null;
+            };
+        } catch (RuntimeException | ClassNotFoundException ex) {
+            return null;
+        }
+    }
+
+    private String write(Payload payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not encode invalidation event", ex);
+        }
+    }
+
+    private record Payload(String origin, Map<String, List<String>> keys, Set<String> clears) {
+    }
+}
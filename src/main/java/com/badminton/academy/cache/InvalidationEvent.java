@@ -0,0 +1,28 @@
+package com.badminton.academy.cache;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Cache evictions made by one write on one instance, broadcast over the
+ * {@link InvalidationBus} so other instances drop the same entries from their L1 caches.
+ *
+ * @param origin        ID of the instance that made the write; it ignores its own events
+ * @param keys          evicted keys per cache name
+ * @param clearedCaches caches to clear entirely; {@link #ALL_CACHES} clears every cache
+ */
+public record InvalidationEvent(String origin, Map<String, Set<Object>> keys, Set<String> clearedCaches) {
+
+    public static final String ALL_CACHES = "*";
+
+    /**
+     * Clears every cache; sent when an instance may have missed events.
+     */
+    public static InvalidationEvent everything(String origin) {
+        return new InvalidationEvent(origin, Map.of(), Set.of(ALL_CACHES));
+    }
+
+    public boolean isEmpty() {
+        return keys.isEmpty() && clearedCaches.isEmpty();
+    }
+}
@@ -0,0 +1,31 @@
+package com.badminton.academy.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * In-process {@link InvalidationBus}: events reach only subscribers in this JVM.
+ *
+ * The default transport for single-instance deployments. Tests share one instance between
+ * several {@link CacheInvalidator}s to simulate a cluster.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.cache.bus", name = "transport", havingValue = "loopback", matchIfMissing = true)
+public class LoopbackInvalidationBus implements InvalidationBus {
+
+    private final List<Consumer<InvalidationEvent>> subscribers = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(InvalidationEvent event) {
+        subscribers.forEach(subscriber -> subscriber.accept(event));
+    }
+
+    @Override
+    public void subscribe(Consumer<InvalidationEvent> subscriber) {
+        subscribers.add(subscriber);
+    }
+}
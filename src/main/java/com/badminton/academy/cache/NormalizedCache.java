@@ -0,0 +1,211 @@
+package com.badminton.academy.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Normalized response cache.
+ *
+ * Each entity has exactly one canonical response, stored in its {@code <entity>:byId}
+ * cache. List caches hold only the IDs of their members as a {@code long[]} in query order,
+ * and lookup caches (by email, by batch) hold a single ID. Lists are assembled from the
+ * entity cache on read; entries evicted since the list was cached are reloaded in one batch.
+ *
+ * An update to one entity therefore replaces one cache entry, and list caches only change
+ * when membership changes (see {@link CacheInvalidator}).
+ *
+ * Loads run in a read-only transaction, so callers do not need one on the cache-hit path.
+ * A list miss is single-flight: concurrent readers of the same key wait for one query
+ * instead of each running it. Lists registered with {@link #refreshWith} are recomputed in
+ * the background when their cache has {@code refresh-after-write}, while readers keep
+ * getting the current IDs.
+ */
+@Component
+@Slf4j
+public class NormalizedCache {
+
+    /**
+     * Key for list caches that take no arguments (all, active, ...).
+     */
+    public static final Object ALL = SimpleKey.EMPTY;
+
+    private final CacheManager cacheManager;
+    private final CacheRefreshRegistry refreshRegistry;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public NormalizedCache(CacheManager cacheManager, CacheRefreshRegistry refreshRegistry,
+                           PlatformTransactionManager transactionManager) {
+        this.cacheManager = cacheManager;
+        this.refreshRegistry = refreshRegistry;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * How to identify and batch-load the canonical responses of one entity type.
+     *
+     * @param cacheName the entity cache, keyed by ID
+     * @param idOf      extracts the entity ID from a response
+     * @param loader    loads responses for the given IDs; IDs that no longer exist are omitted
+     */
+    public record Entities<T>(String cacheName, Function<T, Long> idOf, Function<List<Long>, List<T>> loader) {
+    }
+
+    /**
+     * Returns the canonical response for the ID, or null when the entity does not exist.
+     */
+    public <T> T get(Entities<T> entities, Long id) {
+        Cache cache = cache(entities.cacheName());
+        T cached = cachedValue(cache, id);
+        if (cached != null) {
+            return cached;
+        }
+        log.debug("Cache miss: {} {}", entities.cacheName(), id);
+        List<T> loaded = readOnlyTransaction.execute(status -> entities.loader().apply(List.of(id)));
+        return loaded == null || loaded.isEmpty() ? null : canonical(cache, entities, loaded.get(0));
+    }
+
+    /**
+     * Returns the list cached under the key, assembled from canonical responses. On a miss
+     * runs the query once for all concurrent callers, stores each row as the canonical
+     * response unless one is already cached, and caches the row IDs.
+     */
+    public <T> List<T> list(String listCacheName, Object key, Entities<T> entities, Supplier<List<T>> query) {
+        Cache listCache = cache(listCacheName);
+        long[] ids = listCache.get(key, long[].class);
+        if (ids != null) {
+            return assemble(entities, ids);
+        }
+        List<List<T>> loaded = new ArrayList<>(1);
+        try {
+            ids = listCache.get(key, () -> {
+                log.debug("Cache miss: {} {}", listCacheName, key);
+                List<T> rows = load(entities, query);
+                loaded.add(rows);
+                return ids(entities, rows);
+            });
+        } catch (Cache.ValueRetrievalException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+        // Callers that waited on another caller's load assemble from the entity cache
+        return loaded.isEmpty() ? assemble(entities, ids) : loaded.get(0);
+    }
+
+    /**
+     * Registers the query behind a list cache for refresh-ahead. Takes effect when the cache
+     * is configured with {@code refresh-after-write}.
+     */
+    public <T> void refreshWith(String listCacheName, Entities<T> entities, Function<Object, List<T>> query) {
+        refreshRegistry.register(listCacheName, key -> {
+            List<T> rows = load(entities, () -> query.apply(key));
+            return ids(entities, rows);
+        });
+    }
+
+    /**
+     * Returns the entity ID cached under the key, resolving and caching it on a miss.
+     * Returns null (and caches nothing) when the lookup finds no entity.
+     */
+    public Long pointer(String cacheName, Object key, Supplier<Long> lookup) {
+        Cache cache = cache(cacheName);
+        Long id = cache.get(key, Long.class);
+        if (id == null) {
+            log.debug("Cache miss: {} {}", cacheName, key);
+            id = lookup.get();
+            if (id != null) {
+                cache.put(key, id);
+            }
+        }
+        return id;
+    }
+
+    /**
+     * Runs the query in a read-only transaction and replaces each row with the canonical
+     * response, caching rows that have none yet.
+     */
+    private <T> List<T> load(Entities<T> entities, Supplier<List<T>> query) {
+        List<T> rows = readOnlyTransaction.execute(status -> query.get());
+        Cache entityCache = cache(entities.cacheName());
+        List<T> result = new ArrayList<>(rows.size());
+        for (T row : rows) {
+            result.add(canonical(entityCache, entities, row));
+        }
+        return result;
+    }
+
+    private <T> long[] ids(Entities<T> entities, List<T> rows) {
+        long[] ids = new long[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            ids[i] = entities.idOf().apply(rows.get(i));
+        }
+        return ids;
+    }
+
+    private <T> List<T> assemble(Entities<T> entities, long[] ids) {
+        Cache cache = cache(entities.cacheName());
+        List<T> result = new ArrayList<>(Collections.<T>nCopies(ids.length, null));
+        Map<Long, Integer> missing = new LinkedHashMap<>();
+        for (int i = 0; i < ids.length; i++) {
+            T cached = cachedValue(cache, ids[i]);
+            if (cached != null) {
+                result.set(i, cached);
+            } else {
+                missing.put(ids[i], i);
+            }
+        }
+        if (!missing.isEmpty()) {
+            log.debug("Cache miss: {} {} of {} list entries", entities.cacheName(), missing.size(), ids.length);
+            List<T> loaded = readOnlyTransaction.execute(status -> entities.loader().apply(new ArrayList<>(missing.keySet())));
+            for (T row : loaded) {
+                T canonical = canonical(cache, entities, row);
+                Integer index = missing.get(entities.idOf().apply(canonical));
+                if (index != null) {
+                    result.set(index, canonical);
+                }
+            }
+            // Entities deleted since the list was cached
+            result.removeIf(Objects::isNull);
+        }
+        return result;
+    }
+
+    private <T> T canonical(Cache cache, Entities<T> entities, T row) {
+        Cache.ValueWrapper existing = cache.putIfAbsent(entities.idOf().apply(row), row);
+        return existing != null && existing.get() != null ? cast(existing.get()) : row;
+    }
+
+    private <T> T cachedValue(Cache cache, Long id) {
+        Cache.ValueWrapper wrapper = cache.get(id);
+        return wrapper != null ? cast(wrapper.get()) : null;
+    }
+
+    private Cache cache(String name) {
+        Cache cache = cacheManager.getCache(name);
+        if (cache == null) {
+            throw new IllegalStateException("Cache not configured: " + name);
+        }
+        return cache;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T cast(Object value) {
+        return (T) value;
+    }
+}
@@ -0,0 +1,28 @@
+package com.badminton.academy.cache;
+
+import com.badminton.academy.model.Parent;
+import com.badminton.academy.model.Student;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * The parent's name and children. Parents have no response caches of their own; the name
+ * is kept because student responses embed the parent name.
+ */
+public record ParentFootprint(
+        Long id,
+        String fullName,
+        Set<Long> childIds
+) {
+
+    public static ParentFootprint of(Parent parent) {
+        return new ParentFootprint(
+                parent.getId(),
+                parent.getFullName(),
+                parent.getChildren() != null
+                        ? parent.getChildren().stream().map(Student::getId).collect(Collectors.toUnmodifiableSet())
+                        : Set.of()
+        );
+    }
+}
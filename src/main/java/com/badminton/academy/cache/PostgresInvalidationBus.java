@@ -0,0 +1,184 @@
+package com.badminton.academy.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * {@link InvalidationBus} over Postgres {@code LISTEN/NOTIFY} on the application database.
+ *
+ * Events are sent with {@code pg_notify} on a pooled connection, from a single background
+ * thread so writes never wait on the broadcast. A dedicated connection outside the pool
+ * listens on the channel. When that connection drops, notifications sent meanwhile are
+ * lost, so after reconnecting subscribers receive {@link InvalidationEvent#everything}.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.cache.bus", name = "transport", havingValue = "postgres")
+@Slf4j
+public class PostgresInvalidationBus implements InvalidationBus {
+
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]{0,62}");
+    // Postgres rejects NOTIFY payloads of 8000 bytes or more
+    private static final int MAX_PAYLOAD = 7900;
+    private static final String INSTANCE = "postgres-bus";
+
+    private final DataSource dataSource;
+    private final DataSourceProperties dataSourceProperties;
+    private final InvalidationCodec codec;
+    private final String channel;
+    private final Duration pollInterval;
+    private final Duration reconnectDelay;
+    private final List<Consumer<InvalidationEvent>> subscribers = new CopyOnWriteArrayList<>();
+    private final ExecutorService publisher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "cache-bus-publisher");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile boolean running;
+    private Thread listener;
+
+    public PostgresInvalidationBus(
+            DataSource dataSource,
+            DataSourceProperties dataSourceProperties,
+            ObjectMapper objectMapper,
+            @Value("${app.cache.bus.channel:cache_invalidation}") String channel,
+            @Value("${app.cache.bus.poll-interval:500ms}") Duration pollInterval,
+            @Value("${app.cache.bus.reconnect-delay:5s}") Duration reconnectDelay
+    ) {
+        if (!CHANNEL_NAME.matcher(channel).matches()) {
+            throw new IllegalArgumentException("Invalid invalidation channel name: " + channel);
+        }
+        this.dataSource = dataSource;
+        this.dataSourceProperties = dataSourceProperties;
+        this.codec = new InvalidationCodec(objectMapper, MAX_PAYLOAD);
+        this.channel = channel;
+        this.pollInterval = pollInterval;
+        this.reconnectDelay = reconnectDelay;
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        listener = new Thread(this::listen, "cache-bus-listener");
+        listener.setDaemon(true);
+        listener.start();
+        log.info("Cache invalidation bus listening on Postgres channel {}", channel);
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (listener != null) {
+            listener.interrupt();
+        }
+        publisher.shutdown();
+    }
+
+    @Override
+    public void publish(InvalidationEvent event) {
+        if (event.isEmpty()) {
+            return;
+        }
+        String payload = codec.encode(event);
+        publisher.execute(() -> notify(payload));
+    }
+
+    @Override
+    public void subscribe(Consumer<InvalidationEvent> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    private void notify(String payload) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT pg_notify(?, ?)")) {
+            statement.setString(1, channel);
+            statement.setString(2, payload);
+            statement.execute();
+            if (!connection.getAutoCommit()) {
+                connection.commit();
+            }
+        } catch (SQLException ex) {
+            // Other instances keep serving their copies until TTL expiry
+            log.warn("Could not publish cache invalidation: {}", ex.getMessage());
+        }
+    }
+
+    private void listen() {
+        boolean connectedBefore = false;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(
+                    dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(),
+                    dataSourceProperties.determinePassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                if (connectedBefore) {
+                    log.info("Cache invalidation bus reconnected; clearing local caches");
+                    deliver(InvalidationEvent.everything(INSTANCE));
+                }
+                connectedBefore = true;
+                PGConnection notifications = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] received = notifications.getNotifications((int) pollInterval.toMillis());
+                    if (received == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : received) {
+                        receive(notification.getParameter());
+                    }
+                }
+            } catch (SQLException ex) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Cache invalidation listener disconnected: {}; retrying in {}", ex.getMessage(), reconnectDelay);
+                try {
+                    Thread.sleep(reconnectDelay.toMillis());
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void receive(String payload) {
+        try {
+            deliver(codec.decode(payload));
+        } catch (IllegalArgumentException ex) {
+            log.warn("Ignoring cache invalidation: {}", ex.getMessage());
+        }
+    }
+
+    private void deliver(InvalidationEvent event) {
+        for (Consumer<InvalidationEvent> subscriber : subscribers) {
+            try {
+                subscriber.accept(event);
+            } catch (RuntimeException ex) {
+                log.error("Cache invalidation subscriber failed: {}", ex.getMessage(), ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.badminton.academy.cache;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Estimates the retained size in bytes of a cached value, for caches bounded by weight.
+ *
+ * Walks response DTOs field by field (field lists are computed once per class) and uses
+ * fixed estimates for strings, boxed numbers, dates and collections. The figure is an
+ * estimate for sizing caches against each other, not an exact heap measurement.
+ */
+public class ResponseWeigher implements Weigher<Object, Object> {
+
+    private static final int OBJECT_HEADER = 16;
+    private static final int REFERENCE = 4;
+    private static final int MAX_DEPTH = 4;
+
+    private static final ClassValue<Field[]> FIELDS = new ClassValue<>() {
+        @Override
+        protected Field[] computeValue(Class<?> type) {
+            List<Field> fields = new ArrayList<>();
+            for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers()) && field.trySetAccessible()) {
+                        fields.add(field);
+                    }
+                }
+            }
+            return fields.toArray(Field[]::new);
+        }
+    };
+
+    @Override
+    public int weigh(Object key, Object value) {
+        return (int) Math.min(Integer.MAX_VALUE, estimate(value, 0));
+    }
+
+    static long estimate(Object value, int depth) {
+        if (value == null || value instanceof Enum<?>) {
+            return 0;
+        }
+        if (value instanceof long[] array) {
+            return OBJECT_HEADER + 8L * array.length;
+        }
+        if (value instanceof CharSequence text) {
+            return 40 + text.length();
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof Character) {
+            return OBJECT_HEADER + 8;
+        }
+        if (value instanceof TemporalAccessor) {
+            return 48;
+        }
+        if (depth >= MAX_DEPTH) {
+            return OBJECT_HEADER;
+        }
+        if (value instanceof Collection<?> collection) {
+            long size = 48;
+            for (Object element : collection) {
+                size += 32 + estimate(element, depth + 1);
+            }
+            return size;
+        }
+        if (value instanceof Map<?, ?> map) {
+            long size = 48;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                size += 32 + estimate(entry.getKey(), depth + 1) + estimate(entry.getValue(), depth + 1);
+            }
+            return size;
+        }
+        if (value instanceof Object[] array) {
+            long size = OBJECT_HEADER + (long) REFERENCE * array.length;
+            for (Object element : array) {
+                size += estimate(element, depth + 1);
+            }
+            return size;
+        }
+        if (value.getClass().getName().startsWith("java.")) {
+            return 32;
+        }
+        long size = OBJECT_HEADER;
+        for (Field field : FIELDS.get(value.getClass())) {
+            Class<?> type = field.getType();
+            if (type.isPrimitive()) {
+                size += type == long.class || type == double.class ? 8 : 4;
+                continue;
+            }
+            size += REFERENCE;
+            try {
+                size += estimate(field.get(value), depth + 1);
+            } catch (IllegalAccessException ignored) {
+                // Counted as a reference only
+            }
+        }
+        return size;
+    }
+}
@@ -0,0 +1,47 @@
+package com.badminton.academy.cache;
+
+import com.badminton.academy.model.Batch;
+import com.badminton.academy.model.Student;
+import com.badminton.academy.model.enums.SkillLevel;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * The cache keys a student's responses are stored under: its own ID, skill level, parent,
+ * and the batches (with their coaches) it belongs to.
+ *
+ * Capture one before and one after a write, inside the write's transaction, and pass both
+ * to {@link CacheInvalidator#studentChanged}.
+ */
+public record StudentFootprint(
+        Long id,
+        boolean active,
+        SkillLevel skillLevel,
+        Long parentId,
+        Set<BatchRef> batches
+) {
+
+    /**
+     * A batch the student belongs to, with the coach whose roster includes the student.
+     */
+    public record BatchRef(Long id, Long coachId) {
+    }
+
+    public static StudentFootprint of(Student student) {
+        Set<BatchRef> batches = student.getBatches() != null
+                ? student.getBatches().stream().map(StudentFootprint::ref).collect(Collectors.toUnmodifiableSet())
+                : Set.of();
+        return new StudentFootprint(
+                student.getId(),
+                Boolean.TRUE.equals(student.getIsActive()),
+                student.getSkillLevel(),
+                student.getParent() != null ? student.getParent().getId() : null,
+                batches
+        );
+    }
+
+    private static BatchRef ref(Batch batch) {
+        return new BatchRef(batch.getId(), batch.getCoach() != null ? batch.getCoach().getId() : null);
+    }
+}
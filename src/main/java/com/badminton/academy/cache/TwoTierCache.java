@@ -0,0 +1,114 @@
+package com.badminton.academy.cache;
+
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+
+/**
+ * An in-process L1 cache in front of a shared L2 cache.
+ *
+ * Reads try L1, then L2 (copying hits into L1), then the loader (writing to both). Writes
+ * and evictions go to both tiers. Invalidations received from other instances only touch
+ * L1 through {@link #evictLocal} and {@link #clearLocal}, since the sending instance has
+ * already evicted the shared tier.
+ *
+ * {@link #getNativeCache()} returns the L1 cache, so statistics describe this instance.
+ */
+public class TwoTierCache implements Cache {
+
+    private final Cache local;
+    private final Cache shared;
+
+    public TwoTierCache(Cache local, Cache shared) {
+        this.local = local;
+        this.shared = shared;
+    }
+
+    @Override
+    public String getName() {
+        return local.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper value = local.get(key);
+        if (value == null) {
+            value = shared.get(key);
+            if (value != null) {
+                local.put(key, value.get());
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper value = get(key);
+        if (value == null) {
+            return null;
+        }
+        Object stored = value.get();
+        if (stored != null && type != null && !type.isInstance(stored)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + stored);
+        }
+        return type != null ? type.cast(stored) : null;
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return local.get(key, () -> {
+            ValueWrapper value = shared.get(key);
+            if (value != null) {
+                @SuppressWarnings("unchecked")
+                T stored = (T) value.get();
+                return stored;
+            }
+            T loaded = valueLoader.call();
+            shared.put(key, loaded);
+            return loaded;
+        });
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        local.put(key, value);
+        shared.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = local.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        ValueWrapper sharedExisting = shared.putIfAbsent(key, value);
+        Object winner = sharedExisting != null ? sharedExisting.get() : value;
+        ValueWrapper localExisting = local.putIfAbsent(key, winner);
+        return localExisting != null ? localExisting : sharedExisting;
+    }
+
+    @Override
+    public void evict(Object key) {
+        local.evict(key);
+        shared.evict(key);
+    }
+
+    @Override
+    public void clear() {
+        local.clear();
+        shared.clear();
+    }
+
+    public void evictLocal(Object key) {
+        local.evict(key);
+    }
+
+    public void clearLocal() {
+        local.clear();
+    }
+}
@@ -0,0 +1,71 @@
+package com.badminton.academy.config;
+
+import com.badminton.academy.admission.AdmissionControlFilter;
+import com.badminton.academy.admission.Bulkhead;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Configuration
+@EnableConfigurationProperties(AdmissionProperties.class)
+@Slf4j
+public class AdmissionConfig {
+
+    @Bean
+    public AdmissionControlFilter admissionControlFilter(
+            AdmissionProperties properties,
+            ObjectMapper objectMapper,
+            ObjectProvider<DataSource> dataSource
+    ) {
+        Map<String, Bulkhead> bulkheads = new LinkedHashMap<>();
+        properties.getBulkheads().forEach((name, limits) -> bulkheads.put(name,
+                new Bulkhead(name, limits.getMaxConcurrent(), limits.getMaxWaiting(), limits.getMaxWait())));
+        warnIfReportsCanTakeThePool(bulkheads.get(AdmissionControlFilter.REPORT), dataSource.getIfAvailable());
+        return new AdmissionControlFilter(bulkheads, properties.getReportPaths(), properties.getExemptPaths(),
+                properties.getRetryAfter(), objectMapper);
+    }
+
+    /**
+     * Runs after CORS, so a 503 still carries the CORS headers the browser needs to read it,
+     * and before Spring Security, so rejected requests never reach the token or principal
+     * lookups.
+     */
+    @Bean
+    public FilterRegistrationBean<AdmissionControlFilter> admissionControlFilterRegistration(
+            AdmissionControlFilter filter,
+            AdmissionProperties properties
+    ) {
+        FilterRegistrationBean<AdmissionControlFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 10);
+        registration.setEnabled(properties.isEnabled());
+        return registration;
+    }
+
+    private void warnIfReportsCanTakeThePool(Bulkhead reports, DataSource dataSource) {
+        if (reports == null || dataSource == null) {
+            return;
+        }
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                int poolSize = dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+                if (reports.getMaxConcurrent() >= poolSize) {
+                    log.warn("Report bulkhead allows {} concurrent requests with a pool of {} connections; "
+                            + "reports can starve other traffic", reports.getMaxConcurrent(), poolSize);
+                }
+            }
+        } catch (SQLException ex) {
+            log.debug("Could not read the connection pool size: {}", ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.badminton.academy.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Request bulkheads, bound from {@code app.admission} (see
+ * {@link com.badminton.academy.admission.AdmissionControlFilter}).
+ *
+ * Bulkheads are named {@code auth}, {@code report}, {@code read} and {@code write}; one
+ * that is not configured does not limit its traffic.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.admission")
+public class AdmissionProperties {
+
+    private boolean enabled = true;
+
+    private Map<String, Limits> bulkheads = new LinkedHashMap<>();
+
+    /**
+     * Path patterns served by the report bulkhead, e.g. {@code /api/attendance/batch/*}{@code /monthly}.
+     */
+    private List<String> reportPaths = new ArrayList<>();
+
+    /**
+     * Path patterns that bypass admission control (health checks, API docs).
+     */
+    private List<String> exemptPaths = new ArrayList<>();
+
+    /**
+     * Sent as {@code Retry-After} with a 503.
+     */
+    private Duration retryAfter = Duration.ofSeconds(2);
+
+    @Data
+    public static class Limits {
+
+        /**
+         * Requests of this kind handled at once.
+         */
+        private int maxConcurrent = 8;
+
+        /**
+         * Requests allowed to wait for a slot; further ones get 503 immediately.
+         */
+        private int maxWaiting = 50;
+
+        /**
+         * How long a request waits for a slot before it gets 503.
+         */
+        private Duration maxWait = Duration.ofSeconds(1);
+    }
+}
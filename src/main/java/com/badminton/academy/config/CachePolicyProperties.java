@@ -0,0 +1,108 @@
+package com.badminton.academy.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-cache Caffeine policies, bound from {@code app.cache}.
+ *
+ * Every cache starts from {@code defaults}; an entry under {@code caches} overrides the
+ * fields it sets. Cache names contain colons, so YAML keys use the bracket form:
+ * {@code "[students:byId]"}.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.cache")
+public class CachePolicyProperties {
+
+    private Policy defaults = new Policy();
+
+    private Map<String, Policy> caches = new LinkedHashMap<>();
+
+    private WarmUp warmUp = new WarmUp();
+
+    private L2 l2 = new L2();
+
+    /**
+     * The effective policy for a cache: its own settings over the defaults. A cache that sets
+     * either bound (entry count or weight) replaces the default bound entirely.
+     */
+    public Policy policyFor(String cacheName) {
+        Policy own = caches.get(cacheName);
+        if (own == null) {
+            return defaults;
+        }
+        Policy merged = new Policy();
+        boolean ownBound = own.getMaximumSize() != null || own.getMaximumWeight() != null;
+        merged.setMaximumSize(ownBound ? own.getMaximumSize() : defaults.getMaximumSize());
+        merged.setMaximumWeight(ownBound ? own.getMaximumWeight() : defaults.getMaximumWeight());
+        merged.setExpireAfterWrite(own.getExpireAfterWrite() != null ? own.getExpireAfterWrite() : defaults.getExpireAfterWrite());
+        merged.setRefreshAfterWrite(own.getRefreshAfterWrite() != null ? own.getRefreshAfterWrite() : defaults.getRefreshAfterWrite());
+        return merged;
+    }
+
+    /**
+     * Caches preloaded once the application is ready (see
+     * {@link com.badminton.academy.cache.CacheWarmer}).
+     */
+    @Data
+    public static class WarmUp {
+
+        private boolean enabled = true;
+
+        /**
+         * Parameterless caches to preload, each through its refresh loader.
+         */
+        private List<String> caches = new ArrayList<>();
+
+        /**
+         * Warm-up stops waiting after this long and reports ready; unfinished loads are cancelled.
+         */
+        private Duration budget = Duration.ofSeconds(30);
+
+        private int parallelism = 3;
+    }
+
+    /**
+     * Shared second tier behind the Caffeine caches, backed by a {@code CacheManager} bean
+     * named {@code l2CacheManager} (for example a RedisCacheManager).
+     */
+    @Data
+    public static class L2 {
+
+        private boolean enabled = false;
+
+        /**
+         * Caches that read through to the shared tier on an L1 miss.
+         */
+        private List<String> caches = new ArrayList<>();
+    }
+
+    @Data
+    public static class Policy {
+
+        /**
+         * Entry-count bound. Mutually exclusive with {@link #maximumWeight}.
+         */
+        private Long maximumSize;
+
+        /**
+         * Estimated-bytes bound, weighed by {@link com.badminton.academy.cache.ResponseWeigher}.
+         */
+        private DataSize maximumWeight;
+
+        private Duration expireAfterWrite;
+
+        /**
+         * Reload entries in the background once they are this old, serving the old value
+         * meanwhile. Needs a loader in {@link com.badminton.academy.cache.CacheRefreshRegistry}.
+         */
+        private Duration refreshAfterWrite;
+    }
+}
@@ -0,0 +1,12 @@
+package com.badminton.academy.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables @Scheduled maintenance jobs (e.g. the nightly attendance summary verification).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,45 @@
+package com.badminton.academy.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Settings for the virtual-thread execution mode (profile {@code virtual}, Java 21).
+ *
+ * Spring Boot itself moves Tomcat request handling, {@code @Async} and scheduled tasks onto
+ * virtual threads when {@code spring.threads.virtual.enabled} is set, and
+ * {@link WorkerThreads} does the same for the dispatchers. What that leaves unbounded is
+ * database access, so the application DataSource is wrapped in a
+ * {@link ConnectionLimitingDataSource} sized to the Hikari pool.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+@Slf4j
+public class VirtualThreadsConfig {
+
+    @Bean
+    static BeanPostProcessor connectionLimitingDataSourcePostProcessor(Environment environment) {
+        int maxWaiting = environment.getProperty("app.virtual-threads.db.max-waiting", Integer.class, 200);
+        Duration acquireTimeout = environment.getProperty("app.virtual-threads.db.acquire-timeout", Duration.class, Duration.ofSeconds(10));
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof HikariDataSource hikari)) {
+                    return bean;
+                }
+                int permits = hikari.getMaximumPoolSize();
+                log.info("Virtual threads enabled; limiting {} to {} connections and {} waiters", beanName, permits, maxWaiting);
+                return new ConnectionLimitingDataSource((DataSource) bean, permits, maxWaiting, acquireTimeout);
+            }
+        };
+    }
+}
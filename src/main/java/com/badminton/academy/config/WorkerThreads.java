@@ -0,0 +1,66 @@
+package com.badminton.academy.config;
+
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates the background threads of the notification and audit dispatchers.
+ *
+ * With {@code spring.threads.virtual.enabled} on Java 21 they are virtual threads, like the
+ * request threads, so workers blocked on SMTP, SMS or JDBC hold no platform thread.
+ * Otherwise they are daemon platform threads. CPU-bound pools (password hashing) do not
+ * use this: virtual threads would not add capacity there.
+ */
+@Component
+public class WorkerThreads {
+
+    private final boolean virtual;
+
+    public WorkerThreads(Environment environment) {
+        this.virtual = Threading.VIRTUAL.isActive(environment);
+    }
+
+    public boolean isVirtual() {
+        return virtual;
+    }
+
+    /**
+     * Threads named {@code <prefix>-1}, {@code <prefix>-2}, ...
+     */
+    public ThreadFactory factory(String prefix) {
+        AtomicInteger count = new AtomicInteger();
+        if (virtual) {
+            ThreadFactory threads = new VirtualThreadTaskExecutor().getVirtualThreadFactory();
+            return runnable -> {
+                Thread thread = threads.newThread(runnable);
+                thread.setName(prefix + "-" + count.incrementAndGet());
+                return thread;
+            };
+        }
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Starts a single named worker.
+     */
+    public Thread start(String name, Runnable task) {
+        Thread thread = virtual
+                ? new VirtualThreadTaskExecutor().getVirtualThreadFactory().newThread(task)
+                : new Thread(task);
+        thread.setName(name);
+        if (!virtual) {
+            thread.setDaemon(true);
+        }
+        thread.start();
+        return thread;
+    }
+}
@@ -2,18 +2,22 @@ package com.badminton.academy.controller;
 
 import com.badminton.academy.dto.request.CreateAchievementRequest;
 import com.badminton.academy.dto.response.AchievementResponse;
+import com.badminton.academy.dto.response.CursorPage;
 import com.badminton.academy.dto.response.MessageResponse;
 import com.badminton.academy.model.User;
 import com.badminton.academy.model.enums.AchievementType;
 import com.badminton.academy.service.AchievementService;
 import com.badminton.academy.service.AuthService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -25,6 +29,7 @@ public class AchievementController {
 
     private final AchievementService achievementService;
     private final AuthService authService;
+    private final ObjectMapper objectMapper;
 
     @GetMapping
     @PreAuthorize("hasRole('ADMIN') or hasRole('COACH')")
@@ -32,6 +37,20 @@ public class AchievementController {
         return ResponseEntity.ok(achievementService.getAllAchievements());
     }
 
+    @GetMapping("/page")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('COACH')")
+    public ResponseEntity<CursorPage<AchievementResponse>> getAchievementPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(achievementService.getAchievementPage(cursor, limit));
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportAchievements() {
+        return NdjsonExport.of(achievementService.streamAllAchievements(), objectMapper, "achievements");
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN') or hasRole('COACH') or hasRole('STUDENT')")
     public ResponseEntity<AchievementResponse> getAchievementById(@PathVariable Long id) {
@@ -0,0 +1,30 @@
+package com.badminton.academy.controller;
+
+import com.badminton.academy.admission.AdmissionControlFilter;
+import com.badminton.academy.dto.response.BulkheadStatsResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/admission")
+@RequiredArgsConstructor
+public class AdmissionAdminController {
+
+    private final AdmissionControlFilter admissionControlFilter;
+
+    /**
+     * Per bulkhead: limits, requests in progress and waiting, admitted and rejected counts
+     * and queue wait times since startup
+     */
+    @GetMapping("/stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<BulkheadStatsResponse>> getStats() {
+        return ResponseEntity.ok(admissionControlFilter.stats());
+    }
+}
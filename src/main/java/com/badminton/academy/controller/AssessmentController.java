@@ -2,18 +2,22 @@ package com.badminton.academy.controller;
 
 import com.badminton.academy.dto.request.CreateAssessmentRequest;
 import com.badminton.academy.dto.response.AssessmentResponse;
+import com.badminton.academy.dto.response.CursorPage;
 import com.badminton.academy.dto.response.MessageResponse;
 import com.badminton.academy.model.User;
 import com.badminton.academy.model.enums.AssessmentType;
 import com.badminton.academy.service.AssessmentService;
 import com.badminton.academy.service.AuthService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -25,6 +29,7 @@ public class AssessmentController {
 
     private final AssessmentService assessmentService;
     private final AuthService authService;
+    private final ObjectMapper objectMapper;
 
     @GetMapping
     @PreAuthorize("hasRole('ADMIN') or hasRole('COACH')")
@@ -32,6 +37,20 @@ public class AssessmentController {
         return ResponseEntity.ok(assessmentService.getAllAssessments());
     }
 
+    @GetMapping("/page")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('COACH')")
+    public ResponseEntity<CursorPage<AssessmentResponse>> getAssessmentPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(assessmentService.getAssessmentPage(cursor, limit));
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportAssessments() {
+        return NdjsonExport.of(assessmentService.streamAllAssessments(), objectMapper, "assessments");
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN') or hasRole('COACH') or hasRole('STUDENT')")
     public ResponseEntity<AssessmentResponse> getAssessmentById(@PathVariable Long id) {
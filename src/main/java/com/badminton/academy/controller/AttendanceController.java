@@ -6,18 +6,24 @@ import com.badminton.academy.dto.response.AttendanceResponse;
 import com.badminton.academy.dto.response.AttendanceSummaryResponse;
 import com.badminton.academy.dto.response.AttendanceAuditLogResponse;
 import com.badminton.academy.dto.response.BatchAttendanceMatrixResponse;
+import com.badminton.academy.dto.response.CursorPage;
 import com.badminton.academy.dto.response.MessageResponse;
 import com.badminton.academy.model.User;
 import com.badminton.academy.model.enums.Role;
 import com.badminton.academy.service.AttendanceService;
 import com.badminton.academy.service.AuthService;
+import com.badminton.academy.service.ResourceVersionService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -29,6 +35,8 @@ public class AttendanceController {
 
     private final AttendanceService attendanceService;
     private final AuthService authService;
+    private final ObjectMapper objectMapper;
+    private final ResourceVersionService resourceVersionService;
 
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
@@ -36,6 +44,20 @@ public class AttendanceController {
         return ResponseEntity.ok(attendanceService.getAllAttendances());
     }
 
+    @GetMapping("/page")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CursorPage<AttendanceResponse>> getAttendancePage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(attendanceService.getAttendancePage(cursor, limit));
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportAttendances() {
+        return NdjsonExport.of(attendanceService.streamAllAttendances(), objectMapper, "attendance");
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN') or hasRole('COACH')")
     public ResponseEntity<AttendanceResponse> getAttendanceById(@PathVariable Long id) {
@@ -66,8 +88,10 @@ public class AttendanceController {
     public ResponseEntity<List<AttendanceResponse>> getAttendanceByStudentAndDateRange(
             @PathVariable Long studentId,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
-        return ResponseEntity.ok(attendanceService.getAttendanceByStudentAndDateRange(studentId, startDate, endDate));
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            WebRequest request) {
+        return ConditionalGet.of(request, resourceVersionService.attendanceForStudent(studentId, startDate, endDate),
+                () -> attendanceService.getAttendanceByStudentAndDateRange(studentId, startDate, endDate));
     }
 
     @GetMapping("/batch/{batchId}/range")
@@ -75,8 +99,10 @@ public class AttendanceController {
     public ResponseEntity<List<AttendanceResponse>> getAttendanceByBatchAndDateRange(
             @PathVariable Long batchId,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
-        return ResponseEntity.ok(attendanceService.getAttendanceByBatchAndDateRange(batchId, startDate, endDate));
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            WebRequest request) {
+        return ConditionalGet.of(request, resourceVersionService.attendanceForBatch(batchId, startDate, endDate),
+                () -> attendanceService.getAttendanceByBatchAndDateRange(batchId, startDate, endDate));
     }
 
     @GetMapping("/batch/{batchId}/weekly")
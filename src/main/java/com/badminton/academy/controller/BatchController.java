@@ -9,12 +9,14 @@ import com.badminton.academy.model.enums.Role;
 import com.badminton.academy.model.enums.SkillLevel;
 import com.badminton.academy.service.AuthService;
 import com.badminton.academy.service.BatchService;
+import com.badminton.academy.service.ResourceVersionService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -25,6 +27,7 @@ public class BatchController {
 
     private final BatchService batchService;
     private final AuthService authService;
+    private final ResourceVersionService resourceVersionService;
 
     @GetMapping
     @PreAuthorize("hasRole('ADMIN') or hasRole('COACH')")
@@ -40,8 +43,9 @@ public class BatchController {
 
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN') or hasRole('COACH') or hasRole('STUDENT')")
-    public ResponseEntity<BatchResponse> getBatchById(@PathVariable Long id) {
-        return ResponseEntity.ok(batchService.getBatchById(id));
+    public ResponseEntity<BatchResponse> getBatchById(@PathVariable Long id, WebRequest request) {
+        return ConditionalGet.of(request, resourceVersionService.batch(id),
+                () -> batchService.getBatchById(id));
     }
 
     @GetMapping("/coach/{coachId}")
@@ -0,0 +1,29 @@
+package com.badminton.academy.controller;
+
+import com.badminton.academy.cache.CacheInvalidator;
+import com.badminton.academy.dto.response.CacheStatsResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/caches")
+@RequiredArgsConstructor
+public class CacheAdminController {
+
+    private final CacheInvalidator cacheInvalidator;
+
+    /**
+     * Per-cache policy, hit ratio, size, load and invalidation counters since startup
+     */
+    @GetMapping("/stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<CacheStatsResponse>> getCacheStats() {
+        return ResponseEntity.ok(cacheInvalidator.stats());
+    }
+}
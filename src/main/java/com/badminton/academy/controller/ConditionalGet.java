@@ -0,0 +1,49 @@
+package com.badminton.academy.controller;
+
+import com.badminton.academy.repository.projection.ResourceVersion;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.util.function.Supplier;
+
+/**
+ * Answers conditional GETs from a {@link ResourceVersion} before the response body is built.
+ *
+ * The version becomes a strong ETag and a Last-Modified header. A request whose
+ * If-None-Match (or, without one, If-Modified-Since) still matches gets 304 and the body
+ * supplier never runs. A null version means there is nothing to validate against.
+ *
+ * Responses are marked {@code no-cache, private}: browsers keep them but revalidate every
+ * time, and Spring Security's default {@code no-store} would otherwise prevent that.
+ */
+final class ConditionalGet {
+
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private ConditionalGet() {
+    }
+
+    static <T> ResponseEntity<T> of(WebRequest request, ResourceVersion version, Supplier<T> body) {
+        if (version != null && request.checkNotModified(etag(version), lastModified(version))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDATE).build();
+        }
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(body.get());
+    }
+
+    static String etag(ResourceVersion version) {
+        String key = version.count() + "|" + version.revision() + "|" + version.lastModified();
+        return "\"" + DigestUtils.md5DigestAsHex(key.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    private static long lastModified(ResourceVersion version) {
+        if (version.lastModified() == null) {
+            return -1;
+        }
+        return version.lastModified().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -1,5 +1,7 @@
 package com.badminton.academy.controller;
 
+import com.badminton.academy.cache.CacheWarmer;
+import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -14,15 +16,21 @@ import java.util.Map;
  * 
  * Use with UptimeRobot or similar service to ping every 10 minutes:
  * https://sportsacademy-management-system.onrender.com/api/health
+ *
+ * "readiness" is "warming" while the startup cache warm-up runs and "ready" afterwards.
  */
 @RestController
 @RequestMapping("/api")
+@RequiredArgsConstructor
 public class HealthController {
 
+    private final CacheWarmer cacheWarmer;
+
     @GetMapping("/health")
     public ResponseEntity<Map<String, Object>> health() {
         return ResponseEntity.ok(Map.of(
             "status", "UP",
+            "readiness", cacheWarmer.isReady() ? "ready" : "warming",
             "timestamp", LocalDateTime.now().toString(),
             "service", "badminton-academy-backend"
         ));
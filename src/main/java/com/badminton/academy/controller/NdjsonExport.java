@@ -0,0 +1,45 @@
+package com.badminton.academy.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes admin exports as newline-delimited JSON, one object per line, straight from a
+ * lazily paged {@link Stream} so the full table is never held in memory.
+ */
+final class NdjsonExport {
+
+    private static final int FLUSH_EVERY = 500;
+
+    private NdjsonExport() {
+    }
+
+    static ResponseEntity<StreamingResponseBody> of(Stream<?> rows, ObjectMapper objectMapper, String filename) {
+        ObjectWriter writer = objectMapper.writer();
+        StreamingResponseBody body = out -> {
+            try (rows) {
+                Iterator<?> iterator = rows.iterator();
+                int written = 0;
+                while (iterator.hasNext()) {
+                    out.write(writer.writeValueAsBytes(iterator.next()));
+                    out.write('\n');
+                    if (++written % FLUSH_EVERY == 0) {
+                        out.flush();
+                    }
+                }
+                out.flush();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + ".ndjson\"")
+                .body(body);
+    }
+}
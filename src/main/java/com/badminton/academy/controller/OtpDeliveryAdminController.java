@@ -0,0 +1,27 @@
+package com.badminton.academy.controller;
+
+import com.badminton.academy.dto.response.OtpDeliveryStatsResponse;
+import com.badminton.academy.notification.OtpDeliveryDispatcher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/otp-delivery")
+@RequiredArgsConstructor
+public class OtpDeliveryAdminController {
+
+    private final OtpDeliveryDispatcher otpDeliveryDispatcher;
+
+    /**
+     * Delivery queue depth, outbox backlog, outcome counters and delivery latency since startup
+     */
+    @GetMapping("/stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<OtpDeliveryStatsResponse> getStats() {
+        return ResponseEntity.ok(otpDeliveryDispatcher.stats());
+    }
+}
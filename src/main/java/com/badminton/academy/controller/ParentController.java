@@ -1,14 +1,18 @@
 package com.badminton.academy.controller;
 
 import com.badminton.academy.dto.request.UpdateParentRequest;
+import com.badminton.academy.dto.response.CursorPage;
 import com.badminton.academy.dto.response.MessageResponse;
 import com.badminton.academy.dto.response.ParentResponse;
 import com.badminton.academy.service.ParentService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -18,6 +22,7 @@ import java.util.List;
 public class ParentController {
 
     private final ParentService parentService;
+    private final ObjectMapper objectMapper;
 
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
@@ -25,6 +30,20 @@ public class ParentController {
         return ResponseEntity.ok(parentService.getAllParents());
     }
 
+    @GetMapping("/page")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CursorPage<ParentResponse>> getParentPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(parentService.getParentPage(cursor, limit));
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportParents() {
+        return NdjsonExport.of(parentService.streamAllParents(), objectMapper, "parents");
+    }
+
     @GetMapping("/active")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<List<ParentResponse>> getActiveParents() {
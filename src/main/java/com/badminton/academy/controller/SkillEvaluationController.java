@@ -1,18 +1,22 @@
 package com.badminton.academy.controller;
 
 import com.badminton.academy.dto.request.CreateSkillEvaluationRequest;
+import com.badminton.academy.dto.response.CursorPage;
 import com.badminton.academy.dto.response.MessageResponse;
 import com.badminton.academy.dto.response.SkillEvaluationResponse;
 import com.badminton.academy.model.User;
 import com.badminton.academy.service.AuthService;
 import com.badminton.academy.service.SkillEvaluationService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -25,6 +29,7 @@ public class SkillEvaluationController {
 
     private final SkillEvaluationService skillEvaluationService;
     private final AuthService authService;
+    private final ObjectMapper objectMapper;
 
     @GetMapping
     @PreAuthorize("hasRole('ADMIN') or hasRole('COACH')")
@@ -32,6 +37,20 @@ public class SkillEvaluationController {
         return ResponseEntity.ok(skillEvaluationService.getAllSkillEvaluations());
     }
 
+    @GetMapping("/page")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('COACH')")
+    public ResponseEntity<CursorPage<SkillEvaluationResponse>> getSkillEvaluationPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(skillEvaluationService.getSkillEvaluationPage(cursor, limit));
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportSkillEvaluations() {
+        return NdjsonExport.of(skillEvaluationService.streamAllSkillEvaluations(), objectMapper, "skill-evaluations");
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN') or hasRole('COACH') or hasRole('STUDENT')")
     public ResponseEntity<SkillEvaluationResponse> getSkillEvaluationById(@PathVariable Long id) {
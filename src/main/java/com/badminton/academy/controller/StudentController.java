@@ -6,6 +6,7 @@ import com.badminton.academy.dto.response.FeePaymentHistoryResponse;
 import com.badminton.academy.dto.response.MessageResponse;
 import com.badminton.academy.dto.response.StudentResponse;
 import com.badminton.academy.model.enums.SkillLevel;
+import com.badminton.academy.service.ResourceVersionService;
 import com.badminton.academy.service.StudentService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -13,6 +14,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -22,6 +24,7 @@ import java.util.List;
 public class StudentController {
 
     private final StudentService studentService;
+    private final ResourceVersionService resourceVersionService;
 
     @GetMapping
     @PreAuthorize("hasRole('ADMIN') or hasRole('COACH')")
@@ -43,8 +46,9 @@ public class StudentController {
 
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN') or hasRole('COACH') or @securityService.isCurrentUser(#id) or @securityService.isParentOfStudent(#id)")
-    public ResponseEntity<StudentResponse> getStudentById(@PathVariable Long id) {
-        return ResponseEntity.ok(studentService.getStudentById(id));
+    public ResponseEntity<StudentResponse> getStudentById(@PathVariable Long id, WebRequest request) {
+        return ConditionalGet.of(request, resourceVersionService.student(id),
+                () -> studentService.getStudentById(id));
     }
 
     @GetMapping("/skill-level/{skillLevel}")
@@ -61,8 +65,9 @@ public class StudentController {
 
     @GetMapping("/batch/{batchId}")
     @PreAuthorize("hasRole('ADMIN') or hasRole('COACH')")
-    public ResponseEntity<List<StudentResponse>> getStudentsByBatch(@PathVariable Long batchId) {
-        return ResponseEntity.ok(studentService.getStudentsByBatch(batchId));
+    public ResponseEntity<List<StudentResponse>> getStudentsByBatch(@PathVariable Long batchId, WebRequest request) {
+        return ConditionalGet.of(request, resourceVersionService.studentsInBatch(batchId),
+                () -> studentService.getStudentsByBatch(batchId));
     }
 
     @GetMapping("/coach/{coachId}")
@@ -0,0 +1,60 @@
+package com.badminton.academy.dto.request;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursor: the sort key of the last row a client has seen.
+ *
+ * Id-ordered lists only carry the id; date-ordered lists (attendance) carry (date, id).
+ * Encoded as URL-safe base64 so clients treat it as a token rather than building it.
+ */
+public record KeysetCursor(LocalDate date, long id) {
+
+    private static final char SEPARATOR = '|';
+
+    public static KeysetCursor of(long id) {
+        return new KeysetCursor(null, id);
+    }
+
+    public static KeysetCursor of(LocalDate date, long id) {
+        return new KeysetCursor(date, id);
+    }
+
+    public String encode() {
+        String raw = date != null ? date.toString() + SEPARATOR + id : Long.toString(id);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor from a request parameter; returns null for the first page.
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                return of(Long.parseLong(raw));
+            }
+            return of(LocalDate.parse(raw.substring(0, separator)), Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+
+    /**
+     * Decodes a cursor for a date-ordered list, rejecting id-only cursors.
+     */
+    public static KeysetCursor decodeDated(String cursor) {
+        KeysetCursor decoded = decode(cursor);
+        if (decoded != null && decoded.date() == null) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+        return decoded;
+    }
+}
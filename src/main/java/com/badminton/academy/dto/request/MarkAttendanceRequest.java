@@ -47,4 +47,10 @@ public class MarkAttendanceRequest {
      * Mandatory for backdated entries for audit trail.
      */
     private String backdateReason;
+
+    /**
+     * Version from the response this edit is based on (updates only). When present, the
+     * update is rejected with 409 if the record has changed since.
+     */
+    private Long version;
 }
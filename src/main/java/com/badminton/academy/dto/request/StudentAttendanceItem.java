@@ -35,4 +35,10 @@ public class StudentAttendanceItem {
     private LocalDate compensatesForDate;
 
     private String notes;
+
+    /**
+     * Version of the existing record this row was edited from. When it no longer matches,
+     * the row is left unchanged and returned flagged as a conflict.
+     */
+    private Long version;
 }
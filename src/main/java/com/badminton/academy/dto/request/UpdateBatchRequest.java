@@ -20,4 +20,10 @@ public class UpdateBatchRequest {
     private LocalTime startTime;
     private LocalTime endTime;
     private Boolean isActive;
+
+    /**
+     * Version from the response this edit is based on. When present, the update is rejected
+     * with 409 if the record has changed since.
+     */
+    private Long version;
 }
@@ -36,4 +36,10 @@ public class UpdateStudentRequest {
     private Long parentId;
     private BigDecimal feePayable;
     private MonthlyFeeStatus monthlyFeeStatus;
+
+    /**
+     * Version from the response this edit is based on. When present, the update is rejected
+     * with 409 if the record has changed since.
+     */
+    private Long version;
 }
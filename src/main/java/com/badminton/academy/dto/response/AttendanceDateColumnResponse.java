@@ -1,19 +0,0 @@
-package com.badminton.academy.dto.response;
-
-import lombok.AllArgsConstructor;
-import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
-
-import java.time.LocalDate;
-
-@Data
-@Builder
-@NoArgsConstructor
-@AllArgsConstructor
-public class AttendanceDateColumnResponse {
-
-    private LocalDate date;
-    private String dayLabel;
-    private Boolean futureDate;
-}
@@ -2,6 +2,7 @@ package com.badminton.academy.dto.response;
 
 import com.badminton.academy.model.enums.AttendanceStatus;
 import com.badminton.academy.model.enums.AttendanceEntryType;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -43,4 +44,13 @@ public class AttendanceResponse {
      * True if this record was created/modified for a past date
      */
     private Boolean wasBackdated;
+
+    private Long version;
+
+    /**
+     * Bulk marking only: true when this row was changed by someone else since the submitted
+     * version, so it was not updated and shows the current record instead
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean conflict;
 }
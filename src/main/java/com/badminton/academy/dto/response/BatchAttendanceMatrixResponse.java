@@ -1,26 +1,201 @@
 package com.badminton.academy.dto.response;
 
-import lombok.AllArgsConstructor;
-import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import com.badminton.academy.model.enums.AttendanceEntryType;
+import com.badminton.academy.model.enums.AttendanceStatus;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import lombok.Getter;
 
+import java.io.IOException;
 import java.time.LocalDate;
-import java.util.List;
+import java.time.format.TextStyle;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
 
-@Data
-@Builder
-@NoArgsConstructor
-@AllArgsConstructor
+/**
+ * Batch attendance matrix (students x days) stored column-wise.
+ *
+ * Cells are addressed by (student ordinal, day offset) into flat arrays instead of one
+ * object per cell, and {@link Serializer} streams the JSON straight from those arrays.
+ * The wire format is unchanged: one object per date column and, per student, one
+ * attendance object per day with date, status, entryType, compensatesForDate, notes,
+ * marked and futureDate.
+ */
+@Getter
+@JsonSerialize(using = BatchAttendanceMatrixResponse.Serializer.class)
 public class BatchAttendanceMatrixResponse {
 
-    private Long batchId;
-    private String batchName;
-    private String periodType;
-    private LocalDate referenceDate;
-    private LocalDate startDate;
-    private LocalDate endDate;
-    private LocalDate displayUntil;
-    private List<AttendanceDateColumnResponse> dateColumns;
-    private List<StudentAttendanceMatrixRowResponse> students;
+    private static final AttendanceStatus[] STATUSES = AttendanceStatus.values();
+    private static final AttendanceEntryType[] ENTRY_TYPES = AttendanceEntryType.values();
+
+    private final Long batchId;
+    private final String batchName;
+    private final String periodType;
+    private final LocalDate referenceDate;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final LocalDate displayUntil;
+
+    private final int dayCount;
+    private final long[] studentIds;
+    private final String[] studentNames;
+
+    // Per cell, indexed by studentOrdinal * dayCount + dayOffset; 0 means unmarked
+    private final byte[] statusCodes;
+    private final byte[] entryTypeCodes;
+    private final LocalDate[] compensatesForDates;
+    private final String[] notes;
+
+    public BatchAttendanceMatrixResponse(
+            Long batchId,
+            String batchName,
+            String periodType,
+            LocalDate referenceDate,
+            LocalDate startDate,
+            LocalDate endDate,
+            LocalDate displayUntil,
+            long[] studentIds,
+            String[] studentNames
+    ) {
+        this.batchId = batchId;
+        this.batchName = batchName;
+        this.periodType = periodType;
+        this.referenceDate = referenceDate;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.displayUntil = displayUntil;
+        this.dayCount = (int) ChronoUnit.DAYS.between(startDate, endDate) + 1;
+        this.studentIds = studentIds;
+        this.studentNames = studentNames;
+
+        int cells = studentIds.length * dayCount;
+        this.statusCodes = new byte[cells];
+        this.entryTypeCodes = new byte[cells];
+        this.compensatesForDates = new LocalDate[cells];
+        this.notes = new String[cells];
+    }
+
+    /**
+     * Day offset of the last date whose attendance is shown; -1 when the whole period is in the future.
+     */
+    public int getDisplayUntilOffset() {
+        return (int) ChronoUnit.DAYS.between(startDate, displayUntil);
+    }
+
+    public int getStudentCount() {
+        return studentIds.length;
+    }
+
+    public void mark(
+            int studentOrdinal,
+            int dayOffset,
+            AttendanceStatus status,
+            AttendanceEntryType entryType,
+            LocalDate compensatesForDate,
+            String note
+    ) {
+        int cell = studentOrdinal * dayCount + dayOffset;
+        statusCodes[cell] = (byte) (status.ordinal() + 1);
+        entryTypeCodes[cell] = entryType != null ? (byte) (entryType.ordinal() + 1) : 0;
+        compensatesForDates[cell] = compensatesForDate;
+        notes[cell] = note;
+    }
+
+    public boolean isMarked(int studentOrdinal, int dayOffset) {
+        return statusCodes[studentOrdinal * dayCount + dayOffset] != 0;
+    }
+
+    public AttendanceStatus getStatus(int studentOrdinal, int dayOffset) {
+        int code = statusCodes[studentOrdinal * dayCount + dayOffset];
+        return code != 0 ? STATUSES[code - 1] : null;
+    }
+
+    public AttendanceEntryType getEntryType(int studentOrdinal, int dayOffset) {
+        int code = entryTypeCodes[studentOrdinal * dayCount + dayOffset];
+        return code != 0 ? ENTRY_TYPES[code - 1] : null;
+    }
+
+    /**
+     * Writes the matrix directly from the column arrays. Date and label strings are
+     * computed once per day rather than once per cell.
+     */
+    public static class Serializer extends StdSerializer<BatchAttendanceMatrixResponse> {
+
+        public Serializer() {
+            super(BatchAttendanceMatrixResponse.class);
+        }
+
+        @Override
+        public void serialize(BatchAttendanceMatrixResponse matrix, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            int dayCount = matrix.dayCount;
+            int displayUntilOffset = matrix.getDisplayUntilOffset();
+            String[] dates = new String[dayCount];
+            String[] dayLabels = new String[dayCount];
+            LocalDate cursor = matrix.startDate;
+            for (int day = 0; day < dayCount; day++) {
+                dates[day] = cursor.toString();
+                dayLabels[day] = cursor.getDayOfWeek().getDisplayName(TextStyle.SHORT, Locale.ENGLISH);
+                cursor = cursor.plusDays(1);
+            }
+
+            gen.writeStartObject();
+            if (matrix.batchId != null) {
+                gen.writeNumberField("batchId", matrix.batchId);
+            } else {
+                gen.writeNullField("batchId");
+            }
+            gen.writeStringField("batchName", matrix.batchName);
+            gen.writeStringField("periodType", matrix.periodType);
+            writeDateField(gen, "referenceDate", matrix.referenceDate);
+            writeDateField(gen, "startDate", matrix.startDate);
+            writeDateField(gen, "endDate", matrix.endDate);
+            writeDateField(gen, "displayUntil", matrix.displayUntil);
+
+            gen.writeArrayFieldStart("dateColumns");
+            for (int day = 0; day < dayCount; day++) {
+                gen.writeStartObject();
+                gen.writeStringField("date", dates[day]);
+                gen.writeStringField("dayLabel", dayLabels[day]);
+                gen.writeBooleanField("futureDate", day > displayUntilOffset);
+                gen.writeEndObject();
+            }
+            gen.writeEndArray();
+
+            gen.writeArrayFieldStart("students");
+            for (int student = 0; student < matrix.studentIds.length; student++) {
+                gen.writeStartObject();
+                gen.writeNumberField("studentId", matrix.studentIds[student]);
+                gen.writeStringField("studentName", matrix.studentNames[student]);
+                gen.writeArrayFieldStart("attendance");
+                int rowStart = student * dayCount;
+                for (int day = 0; day < dayCount; day++) {
+                    int cell = rowStart + day;
+                    int statusCode = matrix.statusCodes[cell];
+                    int entryTypeCode = matrix.entryTypeCodes[cell];
+                    LocalDate compensatesForDate = matrix.compensatesForDates[cell];
+
+                    gen.writeStartObject();
+                    gen.writeStringField("date", dates[day]);
+                    gen.writeStringField("status", statusCode != 0 ? STATUSES[statusCode - 1].name() : null);
+                    gen.writeStringField("entryType", entryTypeCode != 0 ? ENTRY_TYPES[entryTypeCode - 1].name() : null);
+                    gen.writeStringField("compensatesForDate", compensatesForDate != null ? compensatesForDate.toString() : null);
+                    gen.writeStringField("notes", matrix.notes[cell]);
+                    gen.writeBooleanField("marked", statusCode != 0);
+                    gen.writeBooleanField("futureDate", day > displayUntilOffset);
+                    gen.writeEndObject();
+                }
+                gen.writeEndArray();
+                gen.writeEndObject();
+            }
+            gen.writeEndArray();
+            gen.writeEndObject();
+        }
+
+        private static void writeDateField(JsonGenerator gen, String name, LocalDate date) throws IOException {
+            gen.writeStringField(name, date != null ? date.toString() : null);
+        }
+    }
 }
@@ -23,6 +23,7 @@ public class BatchResponse {
     private LocalTime startTime;
     private LocalTime endTime;
     private Boolean isActive;
+    private Long version;
     private Integer totalStudents;
     private Set<Long> studentIds;
 }
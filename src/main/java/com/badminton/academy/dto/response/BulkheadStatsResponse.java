@@ -0,0 +1,24 @@
+package com.badminton.academy.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkheadStatsResponse {
+
+    private String name;
+    private int maxConcurrent;
+    private int maxWaiting;
+    private long maxWaitMillis;
+    private int active;
+    private int waiting;
+    private long admitted;
+    private long rejected;
+    private double averageWaitMillis;
+    private long longestWaitMillis;
+}
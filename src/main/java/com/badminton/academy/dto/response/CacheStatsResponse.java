@@ -0,0 +1,29 @@
+package com.badminton.academy.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStatsResponse {
+
+    private String name;
+    private long size;
+    private Long weightedSize;
+    private Long maximum;
+    private Long expireAfterWriteSeconds;
+    private Long refreshAfterWriteSeconds;
+    private long hitCount;
+    private long missCount;
+    private double hitRatio;
+    private long loadCount;
+    private double averageLoadMillis;
+    private long evictionCount;
+    private long invalidatedKeys;
+    private long remoteInvalidations;
+    private long clears;
+}
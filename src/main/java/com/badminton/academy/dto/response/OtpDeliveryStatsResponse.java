@@ -0,0 +1,25 @@
+package com.badminton.academy.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OtpDeliveryStatsResponse {
+
+    private int queueDepth;
+    private int queueCapacity;
+    private int workers;
+    private long pending;
+    private long delivered;
+    private long retried;
+    private long failed;
+    private long expired;
+    private long overflowed;
+    private double averageLatencyMillis;
+    private long maxLatencyMillis;
+}
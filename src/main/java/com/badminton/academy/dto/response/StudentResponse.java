@@ -37,6 +37,7 @@ public class StudentResponse {
     private Boolean isActive;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 
     // Student-specific fields
     private SkillLevel skillLevel;
@@ -0,0 +1,21 @@
+package com.badminton.academy.exception;
+
+import java.time.Duration;
+
+/**
+ * The request was turned away because a bounded resource it needs is saturated. Handled as
+ * 503 Service Unavailable with a {@code Retry-After} header.
+ */
+public class ServiceOverloadedException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public ServiceOverloadedException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
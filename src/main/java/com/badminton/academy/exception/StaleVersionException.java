@@ -0,0 +1,25 @@
+package com.badminton.academy.exception;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+
+/**
+ * An update was based on an older version of the record than the one stored. Handled like
+ * the optimistic lock failures Hibernate raises on flush: 409 Conflict.
+ */
+public class StaleVersionException extends OptimisticLockingFailureException {
+
+    public StaleVersionException(String message) {
+        super(message);
+    }
+
+    /**
+     * Throws when the client sent a version and it differs from the stored one. A missing
+     * version skips the check; the UPDATE still guards against concurrent writers.
+     */
+    public static void check(String entity, Long id, Long expected, Long actual) {
+        if (expected != null && !expected.equals(actual)) {
+            throw new StaleVersionException(entity + " " + id + " was changed by someone else (version "
+                    + actual + ", expected " + expected + "). Reload and try again.");
+        }
+    }
+}
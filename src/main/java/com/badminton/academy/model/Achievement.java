@@ -7,6 +7,10 @@ import lombok.*;
 import java.time.LocalDate;
 
 @Entity
+@NamedEntityGraph(name = "Achievement.response", attributeNodes = {
+        @NamedAttributeNode("student"),
+        @NamedAttributeNode("verifiedBy")
+})
 @Table(name = "achievements")
 @Data
 @NoArgsConstructor
@@ -20,7 +24,7 @@ public class Achievement {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "student_id", nullable = false)
     private Student student;
 
@@ -52,7 +56,7 @@ public class Achievement {
     private Boolean isVerified = false;
 
     // Coach who verified this achievement
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "verified_by")
     private Coach verifiedBy;
 }
\ No newline at end of file
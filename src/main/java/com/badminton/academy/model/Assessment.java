@@ -8,6 +8,10 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
+@NamedEntityGraph(name = "Assessment.response", attributeNodes = {
+        @NamedAttributeNode("student"),
+        @NamedAttributeNode("conductedBy")
+})
 @Table(name = "assessments")
 @Data
 @NoArgsConstructor
@@ -18,14 +22,15 @@ import java.time.LocalDateTime;
 public class Assessment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "assessments_seq")
+    @SequenceGenerator(name = "assessments_seq", sequenceName = "assessments_seq", allocationSize = 50)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "student_id", nullable = false)
     private Student student;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "conducted_by", nullable = false)
     private Coach conductedBy;
 
@@ -9,6 +9,11 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
+@NamedEntityGraph(name = "Attendance.response", attributeNodes = {
+        @NamedAttributeNode("student"),
+        @NamedAttributeNode("batch"),
+        @NamedAttributeNode("markedBy")
+})
 @Table(name = "attendance", 
        uniqueConstraints = @UniqueConstraint(columnNames = {"student_id", "batch_id", "date"}))
 @Data
@@ -20,14 +25,15 @@ import java.time.LocalDateTime;
 public class Attendance {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "attendance_seq")
+    @SequenceGenerator(name = "attendance_seq", sequenceName = "attendance_seq", allocationSize = 50)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "student_id", nullable = false)
     private Student student;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "batch_id", nullable = false)
     private Batch batch;
 
@@ -56,7 +62,7 @@ public class Attendance {
 
     private String notes;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "marked_by")
     private Coach markedBy;
 
@@ -76,11 +82,26 @@ public class Attendance {
     @Column(length = 500)
     private String backdateReason;
 
+    private LocalDateTime updatedAt;
+
+    /**
+     * Checked and incremented by every UPDATE. Clients send back the version they read so
+     * an edit based on an older copy is rejected (or, in bulk, reported) as a conflict.
+     */
+    @Version
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
         markedAt = LocalDateTime.now();
+        updatedAt = markedAt;
         if (entryType == null) {
             entryType = AttendanceEntryType.REGULAR;
         }
     }
-}
\ No newline at end of file
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
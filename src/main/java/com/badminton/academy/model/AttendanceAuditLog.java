@@ -5,6 +5,7 @@ import com.badminton.academy.model.enums.AttendanceEntryType;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 /**
@@ -13,6 +14,15 @@ import java.time.LocalDateTime;
  * Essential for resolving parent disputes with evidence.
  */
 @Entity
+@NamedEntityGraph(name = "AttendanceAuditLog.response",
+        attributeNodes = {
+                @NamedAttributeNode(value = "attendance", subgraph = "attendance"),
+                @NamedAttributeNode("changedBy")
+        },
+        subgraphs = @NamedSubgraph(name = "attendance", attributeNodes = {
+                @NamedAttributeNode("student"),
+                @NamedAttributeNode("batch")
+        }))
 @Table(name = "attendance_audit_log")
 @Data
 @NoArgsConstructor
@@ -21,13 +31,19 @@ import java.time.LocalDateTime;
 public class AttendanceAuditLog {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "attendance_audit_log_seq")
+    @SequenceGenerator(name = "attendance_audit_log_seq", sequenceName = "attendance_audit_log_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "attendance_id", nullable = false)
     private Attendance attendance;
 
+    // Copy of attendance.date: the attendance table is partitioned by date, so the foreign
+    // key references (id, date)
+    @Column(name = "attendance_date", nullable = false)
+    private LocalDate attendanceDate;
+
     @Column(nullable = false)
     private String action; // CREATE, UPDATE, DELETE
 
@@ -70,5 +86,6 @@ public class AttendanceAuditLog {
     @PrePersist
     protected void onCreate() {
         changedAt = LocalDateTime.now();
+        attendanceDate = attendance.getDate();
     }
 }
@@ -0,0 +1,75 @@
+package com.badminton.academy.model;
+
+import com.badminton.academy.model.enums.AttendanceStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Per-status attendance counts for one student in one batch for one calendar month.
+ *
+ * Maintained incrementally by AttendanceService in the same transaction as the attendance
+ * write, and checked against the attendance table by AttendanceSummaryService.
+ */
+@Entity
+@Table(name = "attendance_summary")
+@IdClass(AttendanceSummaryId.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AttendanceSummary {
+
+    @Id
+    @Column(name = "student_id")
+    private Long studentId;
+
+    @Id
+    @Column(name = "batch_id")
+    private Long batchId;
+
+    @Id
+    @Column(name = "month_start")
+    private LocalDate monthStart;
+
+    @Column(name = "present_count", nullable = false)
+    private long presentCount;
+
+    @Column(name = "absent_count", nullable = false)
+    private long absentCount;
+
+    @Column(name = "late_count", nullable = false)
+    private long lateCount;
+
+    @Column(name = "excused_count", nullable = false)
+    private long excusedCount;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public long getCount(AttendanceStatus status) {
+        return switch (status) {
+            case PRESENT -> presentCount;
+            case ABSENT -> absentCount;
+            case LATE -> lateCount;
+            case EXCUSED -> excusedCount;
+        };
+    }
+
+    public void setCount(AttendanceStatus status, long count) {
+        switch (status) {
+            case PRESENT -> presentCount = count;
+            case ABSENT -> absentCount = count;
+            case LATE -> lateCount = count;
+            case EXCUSED -> excusedCount = count;
+        }
+    }
+
+    @PrePersist
+    @PreUpdate
+    protected void onWrite() {
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,27 @@
+package com.badminton.academy.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * Primary key of {@link AttendanceSummary}: one row per student, batch and calendar month.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendanceSummaryId implements Serializable {
+
+    private Long studentId;
+
+    private Long batchId;
+
+    private LocalDate monthStart;
+
+    public static AttendanceSummaryId of(Long studentId, Long batchId, LocalDate date) {
+        return new AttendanceSummaryId(studentId, batchId, date.withDayOfMonth(1));
+    }
+}
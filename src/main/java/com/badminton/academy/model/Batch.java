@@ -5,11 +5,16 @@ import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.DayOfWeek;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.HashSet;
 import java.util.Set;
 
 @Entity
+@NamedEntityGraph(name = "Batch.response", attributeNodes = {
+        @NamedAttributeNode("coach"),
+        @NamedAttributeNode("students")
+})
 @Table(name = "batches")
 @Data
 @NoArgsConstructor
@@ -29,7 +34,7 @@ public class Batch {
     @Enumerated(EnumType.STRING)
     private SkillLevel skillLevel;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "coach_id", nullable = false)
     private Coach coach;
 
@@ -47,4 +52,23 @@ public class Batch {
         inverseJoinColumns = @JoinColumn(name = "student_id")
     )
     private Set<Student> students = new HashSet<>();
-}
\ No newline at end of file
+
+    private LocalDateTime updatedAt;
+
+    @Version
+    private Long version;
+
+    /**
+     * Moves the watermark after a roster change. Changes to the student collection alone do
+     * not make the batch row dirty, so {@link #onUpdate()} would not run.
+     */
+    public void markRosterChanged() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
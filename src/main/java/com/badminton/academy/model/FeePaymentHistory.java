@@ -18,7 +18,8 @@ import java.time.LocalDateTime;
 public class FeePaymentHistory {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "fee_payment_history_seq")
+    @SequenceGenerator(name = "fee_payment_history_seq", sequenceName = "fee_payment_history_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -53,6 +54,9 @@ public class FeePaymentHistory {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    @Version
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
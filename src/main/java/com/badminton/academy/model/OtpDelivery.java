@@ -0,0 +1,62 @@
+package com.badminton.academy.model;
+
+import com.badminton.academy.model.enums.OtpChannel;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * An OTP message waiting to be sent (transactional outbox, see
+ * {@link com.badminton.academy.notification.OtpDeliveryDispatcher}).
+ * Holds the code, encrypted with {@link com.badminton.academy.otp.OtpCipher}, only until it
+ * is delivered, given up on or expired: the row is deleted then.
+ */
+@Entity
+@Table(name = "otp_deliveries")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OtpDelivery {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OtpChannel channel;
+
+    @Column(nullable = false)
+    private String destination;
+
+    @Column(name = "encrypted_otp", nullable = false)
+    private String encryptedOtp;
+
+    @Column(nullable = false, length = 50)
+    private String purpose;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private Integer attempts = 0;
+
+    // Retry time, and lease while a dispatcher holds the delivery
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(length = 500)
+    private String lastError;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        if (attempts == null) attempts = 0;
+    }
+}
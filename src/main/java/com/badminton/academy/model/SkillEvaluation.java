@@ -6,6 +6,10 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
+@NamedEntityGraph(name = "SkillEvaluation.response", attributeNodes = {
+        @NamedAttributeNode("student"),
+        @NamedAttributeNode("evaluatedBy")
+})
 @Table(name = "skill_evaluations")
 @Data
 @NoArgsConstructor
@@ -16,14 +20,15 @@ import java.time.LocalDateTime;
 public class SkillEvaluation {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "skill_evaluations_seq")
+    @SequenceGenerator(name = "skill_evaluations_seq", sequenceName = "skill_evaluations_seq", allocationSize = 50)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "student_id", nullable = false)
     private Student student;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "evaluated_by", nullable = false)
     private Coach evaluatedBy;
 
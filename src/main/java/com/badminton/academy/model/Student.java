@@ -5,6 +5,7 @@ import com.badminton.academy.model.enums.MonthlyFeeStatus;
 import com.badminton.academy.model.enums.Gender;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 import java.math.BigDecimal;
 import java.time.DayOfWeek;
@@ -14,17 +15,22 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
+@NamedEntityGraph(name = "Student.response", attributeNodes = {
+        @NamedAttributeNode("batches"),
+        @NamedAttributeNode("parent")
+})
 @Table(name = "students")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@EqualsAndHashCode(exclude = {"parent", "batches", "attendances", "achievements", "skillEvaluations", "assessments"})
+@EqualsAndHashCode(exclude = {"parent", "daysOfWeek", "batches", "attendances", "achievements", "skillEvaluations", "assessments"})
 @ToString(exclude = {"parent", "batches", "attendances", "achievements", "skillEvaluations", "assessments"})
 public class Student {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "students_seq")
+    @SequenceGenerator(name = "students_seq", sequenceName = "students_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -61,6 +67,9 @@ public class Student {
 
     private LocalDateTime updatedAt;
 
+    @Version
+    private Long version;
+
     @Enumerated(EnumType.STRING)
     @Builder.Default
     private SkillLevel skillLevel = SkillLevel.BEGINNER;
@@ -69,6 +78,7 @@ public class Student {
     @CollectionTable(name = "student_training_days", joinColumns = @JoinColumn(name = "student_id"))
     @Column(name = "day_of_week")
     @Enumerated(EnumType.STRING)
+    @BatchSize(size = 500)
     @Builder.Default
     private Set<DayOfWeek> daysOfWeek = new HashSet<>();
 
@@ -80,7 +90,7 @@ public class Student {
     @Builder.Default
     private MonthlyFeeStatus monthlyFeeStatus = MonthlyFeeStatus.UNPAID;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "parent_id")
     private Parent parent;
 
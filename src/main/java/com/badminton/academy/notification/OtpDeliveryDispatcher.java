@@ -0,0 +1,336 @@
+package com.badminton.academy.notification;
+
+import com.badminton.academy.config.WorkerThreads;
+import com.badminton.academy.dto.response.OtpDeliveryStatsResponse;
+import com.badminton.academy.model.OtpDelivery;
+import com.badminton.academy.model.enums.OtpChannel;
+import com.badminton.academy.otp.OtpCipher;
+import com.badminton.academy.repository.OtpDeliveryRepository;
+import com.badminton.academy.service.EmailService;
+import com.badminton.academy.service.SmsService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sends OTP messages after the requesting transaction commits (transactional outbox).
+ *
+ * {@link #dispatch} saves an otp_deliveries row next to the OTP, leased to this instance and
+ * with the code encrypted by {@link OtpCipher}, and
+ * hands the message to a bounded queue once the transaction has committed, so the request
+ * never holds a database connection while the SMTP server or SMS provider answers, and a
+ * rolled back request sends nothing. A small pool of worker threads drains the queue in
+ * batches: the emails of a batch go out over one SMTP connection, SMS messages one by one.
+ * Delivered rows are deleted; a failed attempt is retried with exponential backoff until
+ * {@code max-attempts} or the OTP's expiry.
+ *
+ * {@link #pollDue} re-queues rows whose retry time or lease has passed: retries, messages
+ * that did not fit in the full queue and messages of an instance that stopped before
+ * sending them. Delivery is at least once; a crash between sending and deleting the row can
+ * repeat a message.
+ */
+@Component
+@Slf4j
+public class OtpDeliveryDispatcher {
+
+    private final OtpDeliveryRepository deliveryRepository;
+    private final SmsService smsService;
+    private final EmailService emailService;
+    private final OtpCipher otpCipher;
+    private final WorkerThreads workerThreadFactory;
+    private final BlockingQueue<Job> queue;
+    private final int workers;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+    private final List<Thread> workerThreads = new ArrayList<>();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder retried = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder expired = new LongAdder();
+    private final LongAdder overflowed = new LongAdder();
+    private final LongAdder totalLatencyMillis = new LongAdder();
+    private final AtomicLong maxLatencyMillis = new AtomicLong();
+    private volatile boolean running;
+
+    public OtpDeliveryDispatcher(
+            OtpDeliveryRepository deliveryRepository,
+            SmsService smsService,
+            EmailService emailService,
+            OtpCipher otpCipher,
+            WorkerThreads workerThreadFactory,
+            @Value("${otp.delivery.queue-capacity:1000}") int queueCapacity,
+            @Value("${otp.delivery.workers:2}") int workers,
+            @Value("${otp.delivery.batch-size:20}") int batchSize,
+            @Value("${otp.delivery.max-attempts:5}") int maxAttempts,
+            @Value("${otp.delivery.initial-backoff:2s}") Duration initialBackoff,
+            @Value("${otp.delivery.max-backoff:1m}") Duration maxBackoff,
+            @Value("${otp.delivery.lease:2m}") Duration lease
+    ) {
+        if (queueCapacity < 1 || workers < 1 || batchSize < 1 || maxAttempts < 1) {
+            throw new IllegalArgumentException("OTP delivery queue capacity, workers, batch size and attempts must be positive");
+        }
+        this.deliveryRepository = deliveryRepository;
+        this.smsService = smsService;
+        this.emailService = emailService;
+        this.otpCipher = otpCipher;
+        this.workerThreadFactory = workerThreadFactory;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.workers = workers;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.lease = lease;
+    }
+
+    /**
+     * A message taken from the outbox, with what is needed to send and reschedule it.
+     */
+    record Job(Long id, OtpChannel channel, String destination, String otp, String purpose,
+               int attempts, LocalDateTime createdAt, LocalDateTime expiresAt) {
+
+        static Job of(OtpDelivery delivery, String otp) {
+            return new Job(delivery.getId(), delivery.getChannel(), delivery.getDestination(),
+                    otp, delivery.getPurpose(), delivery.getAttempts(),
+                    delivery.getCreatedAt(), delivery.getExpiresAt());
+        }
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        ThreadFactory threads = workerThreadFactory.factory("otp-delivery");
+        for (int i = 1; i <= workers; i++) {
+            Thread worker = threads.newThread(this::drainQueue);
+            worker.start();
+            workerThreads.add(worker);
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        workerThreads.forEach(Thread::interrupt);
+        if (!queue.isEmpty()) {
+            log.info("{} queued OTP deliveries are resent once their lease expires", queue.size());
+        }
+    }
+
+    /**
+     * Queues an OTP message for delivery when the current transaction commits (immediately
+     * when there is none).
+     *
+     * @param purpose   label used in the email text, e.g. "login"
+     * @param expiresAt the OTP's expiry; the message is not sent after it
+     */
+    public void dispatch(OtpChannel channel, String destination, String otp, String purpose, LocalDateTime expiresAt) {
+        OtpDelivery delivery = deliveryRepository.save(OtpDelivery.builder()
+                .channel(channel)
+                .destination(destination)
+                .encryptedOtp(otpCipher.encrypt(otp, destination))
+                .purpose(purpose)
+                .nextAttemptAt(LocalDateTime.now().plus(lease))
+                .expiresAt(expiresAt)
+                .build());
+        Job job = Job.of(delivery, otp);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(job);
+                }
+            });
+        } else {
+            submit(job);
+        }
+    }
+
+    /**
+     * Queues deliveries whose retry time or lease has passed and drops those whose OTP expired.
+     */
+    @Scheduled(fixedDelayString = "${otp.delivery.poll-interval-ms:5000}")
+    public void pollDue() {
+        LocalDateTime now = LocalDateTime.now();
+        int dropped = deliveryRepository.deleteExpired(now);
+        if (dropped > 0) {
+            expired.add(dropped);
+            log.warn("Dropped {} OTP deliveries whose OTP expired before they could be sent", dropped);
+        }
+        int room = queue.remainingCapacity();
+        if (room == 0) {
+            return;
+        }
+        List<Long> claimed = new ArrayList<>();
+        for (Long id : deliveryRepository.findDueIds(now, PageRequest.of(0, room))) {
+            if (deliveryRepository.claim(id, now, now.plus(lease)) == 1) {
+                claimed.add(id);
+            }
+        }
+        if (!claimed.isEmpty()) {
+            List<Long> unreadable = new ArrayList<>();
+            for (OtpDelivery delivery : deliveryRepository.findAllById(claimed)) {
+                String otp;
+                try {
+                    otp = otpCipher.decrypt(delivery.getEncryptedOtp(), delivery.getDestination());
+                } catch (IllegalArgumentException ex) {
+                    unreadable.add(delivery.getId());
+                    continue;
+                }
+                submit(Job.of(delivery, otp));
+            }
+            if (!unreadable.isEmpty()) {
+                // Encrypted under another instance's or a previous run's key
+                failed.add(unreadable.size());
+                log.warn("Dropped {} OTP deliveries that cannot be decrypted with this instance's key", unreadable.size());
+                deleteQuietly(unreadable);
+            }
+            log.debug("Re-queued {} due OTP deliveries", claimed.size() - unreadable.size());
+        }
+    }
+
+    /**
+     * Queue depth, outbox backlog, outcome counters and enqueue-to-delivery latency since startup.
+     */
+    public OtpDeliveryStatsResponse stats() {
+        long deliveredCount = delivered.sum();
+        return OtpDeliveryStatsResponse.builder()
+                .queueDepth(queue.size())
+                .queueCapacity(queue.size() + queue.remainingCapacity())
+                .workers(workers)
+                .pending(deliveryRepository.count())
+                .delivered(deliveredCount)
+                .retried(retried.sum())
+                .failed(failed.sum())
+                .expired(expired.sum())
+                .overflowed(overflowed.sum())
+                .averageLatencyMillis(deliveredCount > 0 ? (double) totalLatencyMillis.sum() / deliveredCount : 0)
+                .maxLatencyMillis(maxLatencyMillis.get())
+                .build();
+    }
+
+    private void submit(Job job) {
+        if (!queue.offer(job)) {
+            overflowed.increment();
+            log.warn("OTP delivery queue full; delivery {} waits for the poller", job.id());
+        }
+    }
+
+    private void drainQueue() {
+        List<Job> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            queue.drainTo(batch, batchSize - 1);
+            try {
+                deliver(batch);
+            } catch (RuntimeException ex) {
+                // Rows stay in the outbox and are picked up again when their lease expires
+                log.error("OTP delivery batch failed: {}", ex.getMessage(), ex);
+            }
+            batch.clear();
+        }
+    }
+
+    private void deliver(List<Job> batch) {
+        List<Job> emails = batch.stream().filter(job -> job.channel() == OtpChannel.EMAIL).toList();
+        List<Long> sent = new ArrayList<>(batch.size());
+
+        if (!emails.isEmpty()) {
+            Map<Integer, String> failures = emailService.sendOtps(emails.stream()
+                    .map(job -> new EmailService.OtpEmail(job.destination(), job.otp(), job.purpose()))
+                    .toList());
+            for (int i = 0; i < emails.size(); i++) {
+                outcome(emails.get(i), failures.get(i), sent);
+            }
+        }
+        for (Job job : batch) {
+            if (job.channel() != OtpChannel.PHONE) {
+                continue;
+            }
+            String error;
+            try {
+                error = smsService.sendOtp(job.destination(), job.otp()) ? null : "SMS provider rejected the message";
+            } catch (RuntimeException ex) {
+                error = ex.getMessage();
+            }
+            outcome(job, error, sent);
+        }
+
+        if (!sent.isEmpty()) {
+            deleteQuietly(sent);
+        }
+    }
+
+    private void outcome(Job job, String error, List<Long> sent) {
+        if (error == null) {
+            long latency = Duration.between(job.createdAt(), LocalDateTime.now()).toMillis();
+            delivered.increment();
+            totalLatencyMillis.add(latency);
+            maxLatencyMillis.accumulateAndGet(latency, Math::max);
+            sent.add(job.id());
+            return;
+        }
+
+        int attempts = job.attempts() + 1;
+        LocalDateTime nextAttemptAt = LocalDateTime.now().plus(backoff(attempts));
+        if (attempts >= maxAttempts || nextAttemptAt.isAfter(job.expiresAt())) {
+            failed.increment();
+            log.error("Giving up OTP delivery {} ({}) after {} attempts: {}", job.id(), job.channel(), attempts, error);
+            deleteQuietly(List.of(job.id()));
+            return;
+        }
+        retried.increment();
+        log.warn("OTP delivery {} ({}) failed, retrying at {}: {}", job.id(), job.channel(), nextAttemptAt, error);
+        try {
+            deliveryRepository.reschedule(job.id(), attempts, nextAttemptAt, truncate(error));
+        } catch (DataAccessException ex) {
+            log.warn("Could not reschedule OTP delivery {}; it is retried when its lease expires: {}", job.id(), ex.getMessage());
+        }
+    }
+
+    private Duration backoff(int attempts) {
+        Duration backoff = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+
+    private void deleteQuietly(List<Long> ids) {
+        try {
+            deliveryRepository.deleteByIdIn(ids);
+        } catch (DataAccessException ex) {
+            // The rows are sent again when their lease expires
+            log.warn("Could not remove {} finished OTP deliveries: {}", ids.size(), ex.getMessage());
+        }
+    }
+
+    private static String truncate(String error) {
+        if (error == null) {
+            return null;
+        }
+        return error.length() <= 500 ? error : error.substring(0, 500);
+    }
+}
@@ -0,0 +1,67 @@
+package com.badminton.academy.otp;
+
+import com.badminton.academy.repository.OtpVerificationRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * {@link OtpRateLimiter} over the OTP rows {@link DatabaseOtpStore} writes: every request
+ * saves one row, so the rows created within the window are the requests within it.
+ *
+ * Nothing is recorded here; the request counts once its OTP is saved, and
+ * {@link DatabaseOtpStore#purgeExpired()} keeps rows until their window has passed.
+ * Concurrent requests for the same key can both be admitted before either row commits.
+ */
+@Component
+@ConditionalOnProperty(prefix = "otp", name = "store", havingValue = "database")
+public class DatabaseOtpRateLimiter implements OtpRateLimiter {
+
+    private final OtpVerificationRepository otpRepository;
+    private final int limit;
+    private final Duration window;
+    private final Clock clock;
+
+    @Autowired
+    public DatabaseOtpRateLimiter(
+            OtpVerificationRepository otpRepository,
+            @Value("${otp.max-requests-per-hour:5}") int limit,
+            @Value("${otp.rate-limit-window:1h}") Duration window
+    ) {
+        this(otpRepository, limit, window, Clock.systemDefaultZone());
+    }
+
+    DatabaseOtpRateLimiter(OtpVerificationRepository otpRepository, int limit, Duration window, Clock clock) {
+        this.otpRepository = otpRepository;
+        this.limit = limit;
+        this.window = window;
+        this.clock = clock;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long tryAcquire(String key) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime windowStart = now.minus(window);
+        List<LocalDateTime> latest = otpRepository.findRequestTimesSince(key, windowStart, PageRequest.of(0, limit));
+        if (latest.size() < limit) {
+            return 0;
+        }
+        // The oldest of the latest requests leaves the window first
+        long retryAfterMillis = Duration.between(windowStart, latest.get(latest.size() - 1)).toMillis();
+        return Math.max(1, (retryAfterMillis + 999) / 1000);
+    }
+
+    @Override
+    public void purgeExpired() {
+        // Rows are purged with the OTPs by DatabaseOtpStore
+    }
+}
@@ -0,0 +1,77 @@
+package com.badminton.academy.otp;
+
+import com.badminton.academy.model.OtpVerification;
+import com.badminton.academy.repository.OtpVerificationRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * {@link OtpStore} in {@code otp_verifications}, for deployments where a user's requests
+ * may reach different instances or OTPs must survive a restart.
+ *
+ * Expired rows are kept until {@code otp.rate-limit-window} after their creation, since
+ * {@link DatabaseOtpRateLimiter} counts them as requests.
+ */
+@Component
+@ConditionalOnProperty(prefix = "otp", name = "store", havingValue = "database")
+public class DatabaseOtpStore implements OtpStore {
+
+    private final OtpVerificationRepository otpRepository;
+    private final Duration rateLimitWindow;
+
+    public DatabaseOtpStore(
+            OtpVerificationRepository otpRepository,
+            @Value("${otp.rate-limit-window:1h}") Duration rateLimitWindow
+    ) {
+        this.otpRepository = otpRepository;
+        this.rateLimitWindow = rateLimitWindow;
+    }
+
+    @Override
+    @Transactional
+    public void save(String key, String otpHash, LocalDateTime expiresAt) {
+        otpRepository.invalidateAllOtpsForPhoneNumber(key);
+        otpRepository.save(OtpVerification.builder()
+                .phoneNumber(key)
+                .otpHash(otpHash)
+                .expiresAt(expiresAt)
+                .isUsed(false)
+                .attemptCount(0)
+                .build());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<StoredOtp> findValid(String key) {
+        return otpRepository.findLatestValidOtp(key, LocalDateTime.now())
+                .map(otp -> new StoredOtp(otp.getId(), otp.getOtpHash(), otp.getExpiresAt(), otp.getAttemptCount()));
+    }
+
+    // The caller's transaction rolls back with the "Invalid OTP" error; the count must not
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int recordFailedAttempt(String key, StoredOtp otp) {
+        otpRepository.incrementAttemptCount(otp.id());
+        return otp.attemptCount() + 1;
+    }
+
+    @Override
+    @Transactional
+    public boolean consume(String key, StoredOtp otp) {
+        return otpRepository.markUsed(otp.id()) == 1;
+    }
+
+    @Override
+    @Transactional
+    public int purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        return otpRepository.deleteExpiredOtps(now, now.minus(rateLimitWindow));
+    }
+}
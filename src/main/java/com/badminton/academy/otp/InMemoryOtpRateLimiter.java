@@ -0,0 +1,72 @@
+package com.badminton.academy.otp;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * {@link OtpRateLimiter} kept in memory, alongside {@link InMemoryOtpStore}.
+ *
+ * Each key remembers the times of its requests within the window, so a burst is allowed
+ * again exactly one window after its first request rather than at a fixed boundary. The
+ * limit applies per instance; keys idle for a full window are dropped.
+ */
+@Component
+@ConditionalOnProperty(prefix = "otp", name = "store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryOtpRateLimiter implements OtpRateLimiter {
+
+    private final int limit;
+    private final Duration window;
+    private final Clock clock;
+    private final Cache<String, Deque<Long>> requests;
+
+    @Autowired
+    public InMemoryOtpRateLimiter(
+            @Value("${otp.max-requests-per-hour:5}") int limit,
+            @Value("${otp.rate-limit-window:1h}") Duration window,
+            @Value("${otp.memory.max-entries:100000}") long maxKeys
+    ) {
+        this(limit, window, maxKeys, Clock.systemUTC());
+    }
+
+    InMemoryOtpRateLimiter(int limit, Duration window, long maxKeys, Clock clock) {
+        this.limit = limit;
+        this.window = window;
+        this.clock = clock;
+        this.requests = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(window)
+                .build();
+    }
+
+    @Override
+    public long tryAcquire(String key) {
+        long now = clock.millis();
+        Deque<Long> times = requests.get(key, ignored -> new ArrayDeque<>(limit));
+        synchronized (times) {
+            long windowStart = now - window.toMillis();
+            while (!times.isEmpty() && times.peekFirst() <= windowStart) {
+                times.pollFirst();
+            }
+            if (times.size() >= limit) {
+                long retryAfterMillis = times.peekFirst() - windowStart;
+                return Math.max(1, (retryAfterMillis + 999) / 1000);
+            }
+            times.addLast(now);
+            return 0;
+        }
+    }
+
+    @Override
+    public void purgeExpired() {
+        requests.cleanUp();
+    }
+}
@@ -0,0 +1,104 @@
+package com.badminton.academy.otp;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link OtpStore} in a concurrent map whose entries expire with their OTP.
+ *
+ * Nothing touches the database, so OTPs are lost on restart and can only be verified on
+ * the instance that issued them: run a single instance or route by phone number/email
+ * when using this store. At most {@code otp.memory.max-entries} OTPs are kept; beyond that
+ * the least recently used are dropped.
+ */
+@Component
+@ConditionalOnProperty(prefix = "otp", name = "store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryOtpStore implements OtpStore {
+
+    private final Cache<String, Entry> entries;
+    private final AtomicLong ids = new AtomicLong();
+
+    public InMemoryOtpStore(@Value("${otp.memory.max-entries:100000}") long maxEntries) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfter(new UntilExpiresAt())
+                .build();
+    }
+
+    @Override
+    public void save(String key, String otpHash, LocalDateTime expiresAt) {
+        entries.put(key, new Entry(ids.incrementAndGet(), otpHash, expiresAt));
+    }
+
+    @Override
+    public Optional<StoredOtp> findValid(String key) {
+        Entry entry = entries.getIfPresent(key);
+        if (entry == null || !entry.expiresAt.isAfter(LocalDateTime.now())) {
+            return Optional.empty();
+        }
+        return Optional.of(new StoredOtp(entry.id, entry.otpHash, entry.expiresAt, entry.attempts.get()));
+    }
+
+    @Override
+    public int recordFailedAttempt(String key, StoredOtp otp) {
+        Entry entry = entries.getIfPresent(key);
+        if (entry == null || entry.id != otp.id()) {
+            return otp.attemptCount() + 1;
+        }
+        return entry.attempts.incrementAndGet();
+    }
+
+    @Override
+    public boolean consume(String key, StoredOtp otp) {
+        Entry entry = entries.getIfPresent(key);
+        return entry != null && entry.id == otp.id() && entries.asMap().remove(key, entry);
+    }
+
+    @Override
+    public int purgeExpired() {
+        long before = entries.estimatedSize();
+        entries.cleanUp();
+        return (int) Math.max(0, before - entries.estimatedSize());
+    }
+
+    private static final class Entry {
+        final long id;
+        final String otpHash;
+        final LocalDateTime expiresAt;
+        final AtomicInteger attempts = new AtomicInteger();
+
+        Entry(long id, String otpHash, LocalDateTime expiresAt) {
+            this.id = id;
+            this.otpHash = otpHash;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private static final class UntilExpiresAt implements Expiry<String, Entry> {
+
+        @Override
+        public long expireAfterCreate(String key, Entry entry, long currentTime) {
+            return Math.max(0, Duration.between(LocalDateTime.now(), entry.expiresAt).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, entry, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
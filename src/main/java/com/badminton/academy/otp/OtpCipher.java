@@ -0,0 +1,95 @@
+package com.badminton.academy.otp;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * Encrypts OTPs that have to be kept readable until they are sent (the otp_deliveries
+ * outbox) with AES-GCM under a server-side key.
+ *
+ * The destination is bound in as associated data, so a stored code only decrypts for the
+ * address it was issued to. Without {@code otp.delivery.encryption-key} a random key is
+ * generated at startup: deliveries are still sent by this instance, but a delivery left
+ * behind by a restart or by another instance cannot be decrypted and is dropped.
+ */
+@Component
+@Slf4j
+public class OtpCipher {
+
+    private static final String ALGORITHM = "AES/GCM/NoPadding";
+    private static final int IV_BYTES = 12;
+    private static final int TAG_BITS = 128;
+
+    private final SecretKeySpec key;
+    private final SecureRandom random = new SecureRandom();
+
+    public OtpCipher(@Value("${otp.delivery.encryption-key:}") String encodedKey) {
+        if (encodedKey == null || encodedKey.isBlank()) {
+            byte[] generated = new byte[32];
+            random.nextBytes(generated);
+            this.key = new SecretKeySpec(generated, "AES");
+            log.info("No otp.delivery.encryption-key configured; using a per-instance OTP delivery key");
+            return;
+        }
+        byte[] decoded;
+        try {
+            decoded = Base64.getDecoder().decode(encodedKey.trim());
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalStateException("otp.delivery.encryption-key must be Base64", ex);
+        }
+        if (decoded.length != 16 && decoded.length != 24 && decoded.length != 32) {
+            throw new IllegalStateException("otp.delivery.encryption-key must be a 128, 192 or 256-bit AES key");
+        }
+        this.key = new SecretKeySpec(decoded, "AES");
+    }
+
+    /**
+     * @return Base64 of the random IV followed by the ciphertext and tag
+     */
+    public String encrypt(String otp, String destination) {
+        byte[] iv = new byte[IV_BYTES];
+        random.nextBytes(iv);
+        try {
+            Cipher cipher = Cipher.getInstance(ALGORITHM);
+            cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, iv));
+            cipher.updateAAD(destination.getBytes(StandardCharsets.UTF_8));
+            byte[] sealed = cipher.doFinal(otp.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(ByteBuffer.allocate(iv.length + sealed.length)
+                    .put(iv)
+                    .put(sealed)
+                    .array());
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("AES-GCM is not available", ex);
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException when the value was not encrypted under this key for
+     *                                  this destination
+     */
+    public String decrypt(String encrypted, String destination) {
+        try {
+            byte[] bytes = Base64.getDecoder().decode(encrypted);
+            if (bytes.length <= IV_BYTES) {
+                throw new IllegalArgumentException("Encrypted OTP is truncated");
+            }
+            Cipher cipher = Cipher.getInstance(ALGORITHM);
+            cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, bytes, 0, IV_BYTES));
+            cipher.updateAAD(destination.getBytes(StandardCharsets.UTF_8));
+            byte[] otp = cipher.doFinal(bytes, IV_BYTES, bytes.length - IV_BYTES);
+            return new String(otp, StandardCharsets.UTF_8);
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalArgumentException("Encrypted OTP cannot be decrypted with this key", ex);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.badminton.academy.otp;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * Hashes OTPs with HMAC-SHA256 under a server-side key.
+ *
+ * An OTP is six digits and lives for minutes, so a slow password hash adds nothing: its
+ * protection against offline guessing comes from the key, which never leaves the
+ * application. The OTP key ({@code PURPOSE:CHANNEL:identifier}) is part of the MAC input,
+ * so a hash cannot be replayed against another key.
+ *
+ * Without {@code otp.hmac-secret} a random key is generated at startup, which is fine for
+ * the in-memory store; the database store needs a shared key so that every instance, and
+ * every restart, can verify the stored hashes.
+ */
+@Component
+@Slf4j
+public class OtpHasher {
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final SecretKeySpec key;
+
+    public OtpHasher(
+            @Value("${otp.hmac-secret:}") String secret,
+            @Value("${otp.store:memory}") String store
+    ) {
+        if (secret == null || secret.isBlank()) {
+            if ("database".equals(store)) {
+                throw new IllegalStateException("otp.hmac-secret must be set when otp.store=database");
+            }
+            byte[] random = new byte[32];
+            new SecureRandom().nextBytes(random);
+            this.key = new SecretKeySpec(random, ALGORITHM);
+            log.info("No otp.hmac-secret configured; using a per-instance OTP key");
+        } else {
+            this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        }
+    }
+
+    public String hash(String otpKey, String otp) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            mac.update(otpKey.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            return Base64.getEncoder().encodeToString(mac.doFinal(otp.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("HMAC-SHA256 is not available", ex);
+        }
+    }
+
+    public boolean matches(String otpKey, String otp, String hash) {
+        if (otp == null || hash == null) {
+            return false;
+        }
+        return MessageDigest.isEqual(
+                hash(otpKey, otp).getBytes(StandardCharsets.US_ASCII),
+                hash.getBytes(StandardCharsets.US_ASCII));
+    }
+}
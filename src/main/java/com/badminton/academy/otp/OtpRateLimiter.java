@@ -0,0 +1,24 @@
+package com.badminton.academy.otp;
+
+/**
+ * Sliding-window limit on OTP requests per key ({@code PURPOSE:CHANNEL:identifier}), at most
+ * {@code otp.max-requests-per-hour} requests per {@code otp.rate-limit-window}.
+ *
+ * Selected with {@code otp.store} together with the {@link OtpStore}: {@code memory} limits
+ * each instance on its own, {@code database} counts the requests recorded in
+ * {@code otp_verifications} so the limit holds across instances and restarts.
+ */
+public interface OtpRateLimiter {
+
+    /**
+     * Admits a request for the key if it is within the limit.
+     *
+     * @return 0 when the request is allowed, otherwise the seconds until it would be
+     */
+    long tryAcquire(String key);
+
+    /**
+     * Drops state for keys whose window has passed.
+     */
+    void purgeExpired();
+}
@@ -0,0 +1,46 @@
+package com.badminton.academy.otp;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Holds the outstanding OTP for each key ({@code PURPOSE:CHANNEL:identifier}).
+ *
+ * At most one OTP is outstanding per key: saving a new one replaces the previous one.
+ * Selected with {@code otp.store}: {@code memory} (default) keeps OTPs in this instance
+ * only, {@code database} keeps them in {@code otp_verifications} so they survive restarts
+ * and can be verified on any instance.
+ */
+public interface OtpStore {
+
+    /**
+     * Stores a new OTP for the key, replacing any outstanding one.
+     */
+    void save(String key, String otpHash, LocalDateTime expiresAt);
+
+    /**
+     * The outstanding OTP for the key, unless it has expired or been used.
+     */
+    Optional<StoredOtp> findValid(String key);
+
+    /**
+     * Counts a wrong guess against the OTP.
+     *
+     * @return the number of failed attempts so far
+     */
+    int recordFailedAttempt(String key, StoredOtp otp);
+
+    /**
+     * Marks the OTP as used.
+     *
+     * @return false when the OTP was already used or replaced, e.g. by a concurrent verify
+     */
+    boolean consume(String key, StoredOtp otp);
+
+    /**
+     * Removes expired OTPs.
+     *
+     * @return the number of OTPs removed
+     */
+    int purgeExpired();
+}
@@ -0,0 +1,10 @@
+package com.badminton.academy.otp;
+
+import java.time.LocalDateTime;
+
+/**
+ * A snapshot of an outstanding OTP. {@code id} identifies this particular OTP, so an
+ * update aimed at it does not touch an OTP that replaced it in the meantime.
+ */
+public record StoredOtp(long id, String otpHash, LocalDateTime expiresAt, int attemptCount) {
+}
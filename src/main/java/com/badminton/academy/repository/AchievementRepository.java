@@ -2,6 +2,9 @@ package com.badminton.academy.repository;
 
 import com.badminton.academy.model.Achievement;
 import com.badminton.academy.model.enums.AchievementType;
+import com.badminton.academy.repository.projection.StudentCountProjection;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -9,29 +12,49 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface AchievementRepository extends JpaRepository<Achievement, Long> {
 
+    @Override
+    @EntityGraph("Achievement.response")
+    List<Achievement> findAll();
+
+    @Override
+    @EntityGraph("Achievement.response")
+    Optional<Achievement> findById(Long id);
+
+    @EntityGraph("Achievement.response")
+    List<Achievement> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    @EntityGraph("Achievement.response")
     List<Achievement> findByStudentId(Long studentId);
 
+    @EntityGraph("Achievement.response")
     List<Achievement> findByType(AchievementType type);
 
+    @EntityGraph("Achievement.response")
     List<Achievement> findByIsVerified(Boolean isVerified);
 
+    @EntityGraph("Achievement.response")
     List<Achievement> findByVerifiedById(Long coachId);
 
     @Query("SELECT a FROM Achievement a WHERE a.student.id = :studentId AND a.isVerified = true")
+    @EntityGraph("Achievement.response")
     List<Achievement> findVerifiedAchievementsByStudentId(@Param("studentId") Long studentId);
 
     @Query("SELECT a FROM Achievement a WHERE a.achievedDate BETWEEN :startDate AND :endDate")
+    @EntityGraph("Achievement.response")
     List<Achievement> findByDateRange(
         @Param("startDate") LocalDate startDate,
         @Param("endDate") LocalDate endDate
     );
 
     @Query("SELECT a FROM Achievement a WHERE a.student.id = :studentId AND a.type = :type")
+    @EntityGraph("Achievement.response")
     List<Achievement> findByStudentIdAndType(
         @Param("studentId") Long studentId,
         @Param("type") AchievementType type
@@ -40,7 +63,12 @@ public interface AchievementRepository extends JpaRepository<Achievement, Long>
     @Query("SELECT COUNT(a) FROM Achievement a WHERE a.student.id = :studentId AND a.isVerified = true")
     Long countVerifiedAchievementsByStudentId(@Param("studentId") Long studentId);
 
+    @Query("SELECT a.student.id AS studentId, COUNT(a) AS total FROM Achievement a " +
+           "WHERE a.student.id IN :studentIds AND a.isVerified = true GROUP BY a.student.id")
+    List<StudentCountProjection> countVerifiedAchievementsByStudentIds(@Param("studentIds") Collection<Long> studentIds);
+
     @Query("SELECT a FROM Achievement a WHERE a.isVerified = false ORDER BY a.achievedDate DESC")
+    @EntityGraph("Achievement.response")
     List<Achievement> findPendingVerificationAchievements();
 
     @Modifying
@@ -2,6 +2,8 @@ package com.badminton.academy.repository;
 
 import com.badminton.academy.model.Assessment;
 import com.badminton.academy.model.enums.AssessmentType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -10,22 +12,40 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface AssessmentRepository extends JpaRepository<Assessment, Long> {
 
+    @Override
+    @EntityGraph("Assessment.response")
+    List<Assessment> findAll();
+
+    @Override
+    @EntityGraph("Assessment.response")
+    Optional<Assessment> findById(Long id);
+
+    @EntityGraph("Assessment.response")
+    List<Assessment> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    @EntityGraph("Assessment.response")
     List<Assessment> findByStudentId(Long studentId);
 
+    @EntityGraph("Assessment.response")
     List<Assessment> findByConductedById(Long coachId);
 
+    @EntityGraph("Assessment.response")
     List<Assessment> findByType(AssessmentType type);
 
+    @EntityGraph("Assessment.response")
     List<Assessment> findByStudentIdAndType(Long studentId, AssessmentType type);
 
     @Query("SELECT a FROM Assessment a WHERE a.student.id = :studentId ORDER BY a.assessmentDate DESC")
+    @EntityGraph("Assessment.response")
     List<Assessment> findByStudentIdOrderByDateDesc(@Param("studentId") Long studentId);
 
     @Query("SELECT a FROM Assessment a WHERE a.assessmentDate BETWEEN :startDate AND :endDate")
+    @EntityGraph("Assessment.response")
     List<Assessment> findByDateRange(
         @Param("startDate") LocalDate startDate,
         @Param("endDate") LocalDate endDate
@@ -33,6 +53,7 @@ public interface AssessmentRepository extends JpaRepository<Assessment, Long> {
 
     @Query("SELECT a FROM Assessment a WHERE a.student.id = :studentId " +
            "AND a.assessmentDate BETWEEN :startDate AND :endDate")
+    @EntityGraph("Assessment.response")
     List<Assessment> findByStudentIdAndDateRange(
         @Param("studentId") Long studentId,
         @Param("startDate") LocalDate startDate,
@@ -41,6 +62,7 @@ public interface AssessmentRepository extends JpaRepository<Assessment, Long> {
 
     @Query("SELECT a FROM Assessment a WHERE a.conductedBy.id = :coachId " +
            "AND a.assessmentDate = :date")
+    @EntityGraph("Assessment.response")
     List<Assessment> findByCoachIdAndDate(
         @Param("coachId") Long coachId,
         @Param("date") LocalDate date
@@ -48,6 +70,7 @@ public interface AssessmentRepository extends JpaRepository<Assessment, Long> {
 
     @Query("SELECT a FROM Assessment a WHERE a.student.id = :studentId AND a.name = :name " +
            "ORDER BY a.assessmentDate DESC")
+    @EntityGraph("Assessment.response")
     List<Assessment> findByStudentIdAndNameOrderByDateDesc(
         @Param("studentId") Long studentId,
         @Param("name") String name
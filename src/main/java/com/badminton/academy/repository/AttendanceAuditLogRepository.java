@@ -1,6 +1,7 @@
 package com.badminton.academy.repository;
 
 import com.badminton.academy.model.AttendanceAuditLog;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -12,21 +13,27 @@ import java.util.List;
 @Repository
 public interface AttendanceAuditLogRepository extends JpaRepository<AttendanceAuditLog, Long> {
 
+    @EntityGraph("AttendanceAuditLog.response")
     List<AttendanceAuditLog> findByAttendanceIdOrderByChangedAtDesc(Long attendanceId);
 
     @Query("SELECT a FROM AttendanceAuditLog a WHERE a.attendance.student.id = :studentId ORDER BY a.changedAt DESC")
+    @EntityGraph("AttendanceAuditLog.response")
     List<AttendanceAuditLog> findByStudentIdOrderByChangedAtDesc(@Param("studentId") Long studentId);
 
     @Query("SELECT a FROM AttendanceAuditLog a WHERE a.attendance.batch.id = :batchId ORDER BY a.changedAt DESC")
+    @EntityGraph("AttendanceAuditLog.response")
     List<AttendanceAuditLog> findByBatchIdOrderByChangedAtDesc(@Param("batchId") Long batchId);
 
     @Query("SELECT a FROM AttendanceAuditLog a WHERE a.changedBy.id = :coachId ORDER BY a.changedAt DESC")
+    @EntityGraph("AttendanceAuditLog.response")
     List<AttendanceAuditLog> findByChangedByIdOrderByChangedAtDesc(@Param("coachId") Long coachId);
 
     @Query("SELECT a FROM AttendanceAuditLog a WHERE a.wasBackdated = true ORDER BY a.changedAt DESC")
+    @EntityGraph("AttendanceAuditLog.response")
     List<AttendanceAuditLog> findAllBackdatedChanges();
 
     @Query("SELECT a FROM AttendanceAuditLog a WHERE a.changedAt BETWEEN :startDate AND :endDate ORDER BY a.changedAt DESC")
+    @EntityGraph("AttendanceAuditLog.response")
     List<AttendanceAuditLog> findByDateRange(
         @Param("startDate") LocalDateTime startDate,
         @Param("endDate") LocalDateTime endDate
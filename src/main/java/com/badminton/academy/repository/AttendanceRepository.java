@@ -2,6 +2,11 @@ package com.badminton.academy.repository;
 
 import com.badminton.academy.model.Attendance;
 import com.badminton.academy.model.enums.AttendanceStatus;
+import com.badminton.academy.repository.projection.AttendanceCellRow;
+import com.badminton.academy.repository.projection.AttendanceMonthlyCountRow;
+import com.badminton.academy.repository.projection.ResourceVersion;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -9,39 +14,92 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
+
+    @Override
+    @EntityGraph("Attendance.response")
+    List<Attendance> findAll();
+
+    @Override
+    @EntityGraph("Attendance.response")
+    Optional<Attendance> findById(Long id);
+
+    @Query("SELECT a FROM Attendance a ORDER BY a.date, a.id")
+    @EntityGraph("Attendance.response")
+    List<Attendance> findFirstPage(Pageable pageable);
+
+    @Query("SELECT a FROM Attendance a WHERE a.date > :date OR (a.date = :date AND a.id > :id) ORDER BY a.date, a.id")
+    @EntityGraph("Attendance.response")
+    List<Attendance> findPageAfter(@Param("date") LocalDate date, @Param("id") Long id, Pageable pageable);
     
+    @EntityGraph("Attendance.response")
     List<Attendance> findByStudentId(Long studentId);
     
+    @EntityGraph("Attendance.response")
     List<Attendance> findByBatchId(Long batchId);
     
+    @EntityGraph("Attendance.response")
     List<Attendance> findByDate(LocalDate date);
     
+    @EntityGraph("Attendance.response")
     List<Attendance> findByStatus(AttendanceStatus status);
     
+    @EntityGraph("Attendance.response")
     Optional<Attendance> findByStudentIdAndBatchIdAndDate(Long studentId, Long batchId, LocalDate date);
     
     boolean existsByStudentIdAndBatchIdAndDate(Long studentId, Long batchId, LocalDate date);
     
     @Query("SELECT a FROM Attendance a WHERE a.student.id = :studentId " +
            "AND a.date BETWEEN :startDate AND :endDate")
+    @EntityGraph("Attendance.response")
     List<Attendance> findByStudentAndDateRange(
         @Param("studentId") Long studentId,
         @Param("startDate") LocalDate startDate,
         @Param("endDate") LocalDate endDate
     );
     
+    @Query("SELECT new com.badminton.academy.repository.projection.ResourceVersion(COUNT(a), SUM(a.version), MAX(a.updatedAt), " +
+           "MAX(s.updatedAt), MAX(b.updatedAt), MAX(m.updatedAt)) " +
+           "FROM Attendance a JOIN a.student s JOIN a.batch b LEFT JOIN a.markedBy m " +
+           "WHERE a.student.id = :studentId AND a.date BETWEEN :startDate AND :endDate")
+    ResourceVersion findVersionByStudentAndDateRange(
+        @Param("studentId") Long studentId,
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate
+    );
+
     @Query("SELECT a FROM Attendance a WHERE a.batch.id = :batchId " +
            "AND a.date BETWEEN :startDate AND :endDate")
+    @EntityGraph("Attendance.response")
     List<Attendance> findByBatchAndDateRange(
         @Param("batchId") Long batchId,
         @Param("startDate") LocalDate startDate,
         @Param("endDate") LocalDate endDate
     );
+
+    @Query("SELECT new com.badminton.academy.repository.projection.ResourceVersion(COUNT(a), SUM(a.version), MAX(a.updatedAt), " +
+           "MAX(s.updatedAt), MAX(b.updatedAt), MAX(m.updatedAt)) " +
+           "FROM Attendance a JOIN a.student s JOIN a.batch b LEFT JOIN a.markedBy m " +
+           "WHERE a.batch.id = :batchId AND a.date BETWEEN :startDate AND :endDate")
+    ResourceVersion findVersionByBatchAndDateRange(
+        @Param("batchId") Long batchId,
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate
+    );
+    
+    @Query("SELECT new com.badminton.academy.repository.projection.AttendanceCellRow(" +
+           "a.student.id, a.date, a.status, a.entryType, a.compensatesForDate, a.notes) " +
+           "FROM Attendance a WHERE a.batch.id = :batchId AND a.date BETWEEN :startDate AND :endDate")
+    List<AttendanceCellRow> findCellsByBatchAndDateRange(
+        @Param("batchId") Long batchId,
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate
+    );
     
     @Query("SELECT COUNT(a) FROM Attendance a WHERE a.student.id = :studentId " +
            "AND a.status = :status")
@@ -49,6 +107,27 @@ public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
         @Param("studentId") Long studentId,
         @Param("status") AttendanceStatus status
     );
+
+    /**
+     * Per student, batch, month and status counts across the whole table; the source of truth
+     * the attendance_summary rows are verified against.
+     */
+    @Query("SELECT new com.badminton.academy.repository.projection.AttendanceMonthlyCountRow(" +
+           "a.student.id, a.batch.id, YEAR(a.date), MONTH(a.date), a.status, COUNT(a)) " +
+           "FROM Attendance a GROUP BY a.student.id, a.batch.id, YEAR(a.date), MONTH(a.date), a.status")
+    List<AttendanceMonthlyCountRow> countMonthlyByStatus();
+
+    @Query("SELECT new com.badminton.academy.repository.projection.AttendanceMonthlyCountRow(" +
+           "a.student.id, a.batch.id, YEAR(a.date), MONTH(a.date), a.status, COUNT(a)) " +
+           "FROM Attendance a WHERE a.student.id = :studentId AND a.batch.id = :batchId " +
+           "AND a.date BETWEEN :startDate AND :endDate " +
+           "GROUP BY a.student.id, a.batch.id, YEAR(a.date), MONTH(a.date), a.status")
+    List<AttendanceMonthlyCountRow> countMonthlyByStatus(
+        @Param("studentId") Long studentId,
+        @Param("batchId") Long batchId,
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate
+    );
     
     @Query("SELECT COUNT(a) FROM Attendance a WHERE a.student.id = :studentId " +
            "AND a.batch.id = :batchId AND a.status = 'PRESENT'")
@@ -74,12 +153,14 @@ public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
     
     @Query("SELECT a FROM Attendance a WHERE a.batch.coach.id = :coachId " +
            "AND a.date = :date")
+    @EntityGraph("Attendance.response")
     List<Attendance> findByCoachAndDate(
         @Param("coachId") Long coachId,
         @Param("date") LocalDate date
     );
     
     @Query("SELECT a FROM Attendance a WHERE a.batch.id = :batchId AND a.date = :date")
+    @EntityGraph("Attendance.response")
     List<Attendance> findByBatchAndDate(
         @Param("batchId") Long batchId,
         @Param("date") LocalDate date
@@ -97,4 +178,15 @@ public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
         @Param("studentId") Long studentId,
         @Param("compensatesForDate") LocalDate compensatesForDate
     );
+
+    /**
+     * Find makeup sessions for any of the given students compensating any of the given dates.
+     * Used to validate a whole bulk attendance sheet with a single query.
+     */
+    @Query("SELECT a FROM Attendance a WHERE a.student.id IN :studentIds " +
+           "AND a.compensatesForDate IN :compensatesForDates")
+    List<Attendance> findByStudentIdsAndCompensatesForDates(
+        @Param("studentIds") Collection<Long> studentIds,
+        @Param("compensatesForDates") Collection<LocalDate> compensatesForDates
+    );
 }
@@ -0,0 +1,52 @@
+package com.badminton.academy.repository;
+
+import com.badminton.academy.model.AttendanceSummary;
+import com.badminton.academy.model.AttendanceSummaryId;
+import com.badminton.academy.repository.projection.AttendanceCountsProjection;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface AttendanceSummaryRepository extends JpaRepository<AttendanceSummary, AttendanceSummaryId> {
+
+    @Query("SELECT s.studentId AS studentId, SUM(s.presentCount) AS presentCount, " +
+           "SUM(s.absentCount) AS absentCount, SUM(s.lateCount) AS lateCount, SUM(s.excusedCount) AS excusedCount " +
+           "FROM AttendanceSummary s WHERE s.studentId = :studentId GROUP BY s.studentId")
+    Optional<AttendanceCountsProjection> sumByStudentId(@Param("studentId") Long studentId);
+
+    @Query("SELECT s.studentId AS studentId, SUM(s.presentCount) AS presentCount, " +
+           "SUM(s.absentCount) AS absentCount, SUM(s.lateCount) AS lateCount, SUM(s.excusedCount) AS excusedCount " +
+           "FROM AttendanceSummary s WHERE s.studentId = :studentId AND s.batchId = :batchId GROUP BY s.studentId")
+    Optional<AttendanceCountsProjection> sumByStudentIdAndBatchId(
+        @Param("studentId") Long studentId,
+        @Param("batchId") Long batchId
+    );
+
+    @Query("SELECT s.studentId AS studentId, SUM(s.presentCount) AS presentCount, " +
+           "SUM(s.absentCount) AS absentCount, SUM(s.lateCount) AS lateCount, SUM(s.excusedCount) AS excusedCount " +
+           "FROM AttendanceSummary s WHERE s.studentId IN :studentIds GROUP BY s.studentId")
+    List<AttendanceCountsProjection> sumByStudentIds(@Param("studentIds") Collection<Long> studentIds);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM AttendanceSummary s WHERE s.studentId = :studentId " +
+           "AND s.batchId = :batchId AND s.monthStart = :monthStart")
+    Optional<AttendanceSummary> findForUpdate(
+        @Param("studentId") Long studentId,
+        @Param("batchId") Long batchId,
+        @Param("monthStart") LocalDate monthStart
+    );
+
+    @Modifying
+    @Query("DELETE FROM AttendanceSummary s WHERE s.studentId = :studentId")
+    int deleteByStudentId(@Param("studentId") Long studentId);
+}
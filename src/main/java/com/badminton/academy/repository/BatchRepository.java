@@ -2,15 +2,33 @@ package com.badminton.academy.repository;
 
 import com.badminton.academy.model.Batch;
 import com.badminton.academy.model.enums.SkillLevel;
+import com.badminton.academy.repository.projection.ResourceVersion;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface BatchRepository extends JpaRepository<Batch, Long> {
+
+    @Override
+    @EntityGraph("Batch.response")
+    List<Batch> findAll();
+
+    @EntityGraph("Batch.response")
+    Optional<Batch> findWithCoachAndStudentsById(Long id);
+
+    @Query("SELECT new com.badminton.academy.repository.projection.ResourceVersion(COUNT(b), SUM(b.version), MAX(b.updatedAt), MAX(c.updatedAt)) " +
+           "FROM Batch b JOIN b.coach c WHERE b.id = :id")
+    ResourceVersion findVersionById(@Param("id") Long id);
+
+    @EntityGraph("Batch.response")
+    List<Batch> findByIdIn(Collection<Long> ids);
     
     @Query("SELECT DISTINCT b FROM Batch b LEFT JOIN FETCH b.coach LEFT JOIN FETCH b.students WHERE b.coach.id = :coachId")
     List<Batch> findByCoachId(@Param("coachId") Long coachId);
@@ -21,14 +39,21 @@ public interface BatchRepository extends JpaRepository<Batch, Long> {
     @Query("SELECT DISTINCT b FROM Batch b LEFT JOIN FETCH b.coach LEFT JOIN FETCH b.students WHERE b.isActive = true")
     List<Batch> findByIsActiveTrue();
     
+    @EntityGraph("Batch.response")
     List<Batch> findByIsActiveFalse();
     
     @Query("SELECT DISTINCT b FROM Batch b LEFT JOIN FETCH b.coach LEFT JOIN FETCH b.students WHERE b.coach.id = :coachId AND b.isActive = true")
     List<Batch> findActiveByCoachId(@Param("coachId") Long coachId);
     
-    @Query("SELECT DISTINCT b FROM Batch b LEFT JOIN FETCH b.coach LEFT JOIN FETCH b.students s WHERE s.id = :studentId")
+    @Query("SELECT DISTINCT b FROM Batch b LEFT JOIN FETCH b.coach LEFT JOIN FETCH b.students " +
+           "WHERE b.id IN (SELECT sb.id FROM Batch sb JOIN sb.students s WHERE s.id = :studentId)")
     List<Batch> findByStudentId(@Param("studentId") Long studentId);
     
+    boolean existsByIdAndCoachId(Long id, Long coachId);
+
+    @Query("SELECT COUNT(b) > 0 FROM Batch b JOIN b.students s WHERE b.coach.id = :coachId AND s.id = :studentId")
+    boolean existsByCoachIdAndStudentId(@Param("coachId") Long coachId, @Param("studentId") Long studentId);
+    
     @Query("SELECT COUNT(s) FROM Batch b JOIN b.students s WHERE b.id = :batchId")
     Long countStudentsByBatchId(@Param("batchId") Long batchId);
     
@@ -36,5 +61,6 @@ public interface BatchRepository extends JpaRepository<Batch, Long> {
     List<Batch> findBatchesWithAvailableSlots();
     
     @Query("SELECT b FROM Batch b WHERE b.skillLevel = :skillLevel AND b.isActive = true")
+    @EntityGraph("Batch.response")
     List<Batch> findAvailableBatchesBySkillLevel(@Param("skillLevel") SkillLevel skillLevel);
 }
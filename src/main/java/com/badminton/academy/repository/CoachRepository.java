@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,6 +14,11 @@ import java.util.Optional;
 public interface CoachRepository extends JpaRepository<Coach, Long> {
     
     Optional<Coach> findByEmail(String email);
+
+    List<Coach> findByIdIn(Collection<Long> ids);
+
+    @Query("SELECT c.id FROM Coach c WHERE c.email = :email")
+    Optional<Long> findIdByEmail(@Param("email") String email);
     
     @Query("SELECT c FROM Coach c WHERE c.isActive = true")
     List<Coach> findAllActiveCoaches();
@@ -28,4 +34,7 @@ public interface CoachRepository extends JpaRepository<Coach, Long> {
     
     @Query("SELECT c FROM Coach c JOIN c.batches b WHERE b.id = :batchId")
     Optional<Coach> findByBatchId(@Param("batchId") Long batchId);
+
+    @Query("SELECT b.coach.id FROM Batch b WHERE b.id = :batchId")
+    Optional<Long> findIdByBatchId(@Param("batchId") Long batchId);
 }
\ No newline at end of file
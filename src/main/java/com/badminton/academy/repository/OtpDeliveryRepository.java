@@ -0,0 +1,57 @@
+package com.badminton.academy.repository;
+
+import com.badminton.academy.model.OtpDelivery;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OtpDeliveryRepository extends JpaRepository<OtpDelivery, Long> {
+
+    /**
+     * Deliveries whose retry time or lease has passed, oldest first
+     */
+    @Query("SELECT d.id FROM OtpDelivery d WHERE d.nextAttemptAt <= :now ORDER BY d.nextAttemptAt")
+    List<Long> findDueIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * Takes the lease on a due delivery; returns 0 when another dispatcher took it first
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE OtpDelivery d SET d.nextAttemptAt = :leaseUntil WHERE d.id = :id AND d.nextAttemptAt <= :now")
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * Records a failed attempt and when to try again
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE OtpDelivery d SET d.attempts = :attempts, d.nextAttemptAt = :nextAttemptAt, " +
+           "d.lastError = :lastError WHERE d.id = :id")
+    int reschedule(
+            @Param("id") Long id,
+            @Param("attempts") int attempts,
+            @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+            @Param("lastError") String lastError);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM OtpDelivery d WHERE d.id IN :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
+
+    /**
+     * Drops deliveries whose OTP can no longer be used
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM OtpDelivery d WHERE d.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
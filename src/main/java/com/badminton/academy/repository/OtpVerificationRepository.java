@@ -1,6 +1,7 @@
 package com.badminton.academy.repository;
 
 import com.badminton.academy.model.OtpVerification;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -8,6 +9,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -24,25 +26,40 @@ public interface OtpVerificationRepository extends JpaRepository<OtpVerification
             @Param("now") LocalDateTime now);
 
     /**
-     * Count OTPs sent to a phone number within a time window (rate limiting)
+     * Creation times of the OTPs for a key since a point in time, latest first (rate limiting)
      */
-    @Query("SELECT COUNT(o) FROM OtpVerification o WHERE o.phoneNumber = :phoneNumber " +
-           "AND o.createdAt > :since")
-    long countRecentOtpRequests(
-            @Param("phoneNumber") String phoneNumber, 
-            @Param("since") LocalDateTime since);
+    @Query("SELECT o.createdAt FROM OtpVerification o WHERE o.phoneNumber = :phoneNumber " +
+           "AND o.createdAt > :since ORDER BY o.createdAt DESC")
+    List<LocalDateTime> findRequestTimesSince(
+            @Param("phoneNumber") String phoneNumber,
+            @Param("since") LocalDateTime since,
+            Pageable pageable);
 
     /**
-     * Delete expired OTPs (cleanup)
+     * Delete expired OTPs created before a point in time (cleanup)
      */
     @Modifying
-    @Query("DELETE FROM OtpVerification o WHERE o.expiresAt < :now")
-    void deleteExpiredOtps(@Param("now") LocalDateTime now);
+    @Query("DELETE FROM OtpVerification o WHERE o.expiresAt < :now AND o.createdAt < :createdBefore")
+    int deleteExpiredOtps(@Param("now") LocalDateTime now, @Param("createdBefore") LocalDateTime createdBefore);
 
     /**
-     * Mark all previous OTPs for a phone number as used
+     * Mark the outstanding OTPs for a phone number as used
      */
     @Modifying
-    @Query("UPDATE OtpVerification o SET o.isUsed = true WHERE o.phoneNumber = :phoneNumber")
+    @Query("UPDATE OtpVerification o SET o.isUsed = true WHERE o.phoneNumber = :phoneNumber AND o.isUsed = false")
     void invalidateAllOtpsForPhoneNumber(@Param("phoneNumber") String phoneNumber);
+
+    /**
+     * Count a failed verification attempt
+     */
+    @Modifying
+    @Query("UPDATE OtpVerification o SET o.attemptCount = o.attemptCount + 1 WHERE o.id = :id")
+    void incrementAttemptCount(@Param("id") Long id);
+
+    /**
+     * Mark an OTP as used, unless it already is (returns the number of rows changed)
+     */
+    @Modifying
+    @Query("UPDATE OtpVerification o SET o.isUsed = true WHERE o.id = :id AND o.isUsed = false")
+    int markUsed(@Param("id") Long id);
 }
@@ -1,11 +1,14 @@
 package com.badminton.academy.repository;
 
 import com.badminton.academy.model.Parent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,6 +17,12 @@ public interface ParentRepository extends JpaRepository<Parent, Long> {
     
     Optional<Parent> findByEmail(String email);
     
+    @Query("SELECT p.id FROM Parent p WHERE p.id > :id ORDER BY p.id")
+    List<Long> findIdsAfter(@Param("id") Long id, Pageable pageable);
+
+    @EntityGraph(attributePaths = "children")
+    List<Parent> findByIdInOrderByIdAsc(Collection<Long> ids);
+    
     @Query("SELECT p FROM Parent p WHERE p.isActive = true")
     List<Parent> findAllActiveParents();
     
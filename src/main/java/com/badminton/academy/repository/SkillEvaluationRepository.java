@@ -1,6 +1,9 @@
 package com.badminton.academy.repository;
 
 import com.badminton.academy.model.SkillEvaluation;
+import com.badminton.academy.repository.projection.StudentAverageProjection;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -8,25 +11,42 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface SkillEvaluationRepository extends JpaRepository<SkillEvaluation, Long> {
 
+    @Override
+    @EntityGraph("SkillEvaluation.response")
+    List<SkillEvaluation> findAll();
+
+    @Override
+    @EntityGraph("SkillEvaluation.response")
+    Optional<SkillEvaluation> findById(Long id);
+
+    @EntityGraph("SkillEvaluation.response")
+    List<SkillEvaluation> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    @EntityGraph("SkillEvaluation.response")
     List<SkillEvaluation> findByStudentId(Long studentId);
 
+    @EntityGraph("SkillEvaluation.response")
     List<SkillEvaluation> findByEvaluatedById(Long coachId);
 
     @Query("SELECT se FROM SkillEvaluation se WHERE se.student.id = :studentId " +
            "ORDER BY se.evaluatedAt DESC")
+    @EntityGraph("SkillEvaluation.response")
     List<SkillEvaluation> findByStudentIdOrderByDateDesc(@Param("studentId") Long studentId);
 
     @Query("SELECT se FROM SkillEvaluation se WHERE se.student.id = :studentId " +
            "ORDER BY se.evaluatedAt DESC LIMIT 1")
+    @EntityGraph("SkillEvaluation.response")
     Optional<SkillEvaluation> findLatestByStudentId(@Param("studentId") Long studentId);
 
     @Query("SELECT se FROM SkillEvaluation se WHERE se.evaluatedAt BETWEEN :startDate AND :endDate")
+    @EntityGraph("SkillEvaluation.response")
     List<SkillEvaluation> findByDateRange(
         @Param("startDate") LocalDateTime startDate,
         @Param("endDate") LocalDateTime endDate
@@ -35,6 +55,7 @@ public interface SkillEvaluationRepository extends JpaRepository<SkillEvaluation
     @Query("SELECT se FROM SkillEvaluation se WHERE se.student.id = :studentId " +
            "AND se.evaluatedAt BETWEEN :startDate AND :endDate " +
            "ORDER BY se.evaluatedAt ASC")
+    @EntityGraph("SkillEvaluation.response")
     List<SkillEvaluation> findByStudentIdAndDateRange(
         @Param("studentId") Long studentId,
         @Param("startDate") LocalDateTime startDate,
@@ -43,6 +64,7 @@ public interface SkillEvaluationRepository extends JpaRepository<SkillEvaluation
 
     @Query("SELECT se FROM SkillEvaluation se WHERE se.evaluatedBy.id = :coachId " +
            "AND se.evaluatedAt >= :since")
+    @EntityGraph("SkillEvaluation.response")
     List<SkillEvaluation> findByCoachIdSince(
         @Param("coachId") Long coachId,
         @Param("since") LocalDateTime since
@@ -58,6 +80,11 @@ public interface SkillEvaluationRepository extends JpaRepository<SkillEvaluation
            "FROM SkillEvaluation se WHERE se.student.id = :studentId")
     Double getAverageOverallScoreByStudentId(@Param("studentId") Long studentId);
 
+    @Query("SELECT se.student.id AS studentId, " +
+           "AVG((se.footwork + se.strokes + se.stamina + se.attack + se.defence + se.agility + se.courtCoverage) / 7.0) AS average " +
+           "FROM SkillEvaluation se WHERE se.student.id IN :studentIds GROUP BY se.student.id")
+    List<StudentAverageProjection> getAverageOverallScoreByStudentIds(@Param("studentIds") Collection<Long> studentIds);
+
     @Modifying
     @Query("DELETE FROM SkillEvaluation se WHERE se.student.id = :studentId")
     int deleteByStudentId(@Param("studentId") Long studentId);
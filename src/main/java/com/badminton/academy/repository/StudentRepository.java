@@ -2,11 +2,15 @@ package com.badminton.academy.repository;
 
 import com.badminton.academy.model.Student;
 import com.badminton.academy.model.enums.SkillLevel;
+import com.badminton.academy.repository.projection.ResourceVersion;
+import com.badminton.academy.repository.projection.StudentNameRow;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,17 +19,45 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
     
     Optional<Student> findByNationalIdNumber(String nationalIdNumber);
     
+    @EntityGraph("Student.response")
     List<Student> findBySkillLevel(SkillLevel skillLevel);
     
+    @EntityGraph("Student.response")
     List<Student> findByParentId(Long parentId);
     
+    @EntityGraph("Student.response")
+    Optional<Student> findWithBatchesAndParentById(Long id);
+
+    @EntityGraph("Student.response")
+    List<Student> findByIdIn(Collection<Long> ids);
+    
+    @Query("SELECT DISTINCT s FROM Student s LEFT JOIN FETCH s.batches LEFT JOIN FETCH s.parent")
+    List<Student> findAllWithBatchesAndParent();
+
     @Query("SELECT DISTINCT s FROM Student s LEFT JOIN FETCH s.batches LEFT JOIN FETCH s.parent WHERE s.isActive = true")
     List<Student> findAllActiveStudents();
     
-    @Query("SELECT DISTINCT s FROM Student s LEFT JOIN FETCH s.batches b LEFT JOIN FETCH s.parent WHERE b.id = :batchId")
+    @Query("SELECT DISTINCT s FROM Student s LEFT JOIN FETCH s.batches LEFT JOIN FETCH s.parent " +
+           "WHERE s.id IN (SELECT bs.id FROM Batch b JOIN b.students bs WHERE b.id = :batchId)")
     List<Student> findByBatchId(@Param("batchId") Long batchId);
+
+    @Query("SELECT new com.badminton.academy.repository.projection.ResourceVersion(COUNT(DISTINCT s.id), SUM(s.version), MAX(s.updatedAt), " +
+           "MAX(p.updatedAt), MAX(b.updatedAt)) " +
+           "FROM Student s LEFT JOIN s.parent p LEFT JOIN s.batches b WHERE s.id = :id")
+    ResourceVersion findVersionById(@Param("id") Long id);
+
+    @Query("SELECT new com.badminton.academy.repository.projection.ResourceVersion(COUNT(DISTINCT s.id), SUM(s.version), MAX(s.updatedAt), " +
+           "MAX(p.updatedAt), MAX(b.updatedAt)) " +
+           "FROM Student s LEFT JOIN s.parent p LEFT JOIN s.batches b " +
+           "WHERE s.id IN (SELECT bs.id FROM Batch rb JOIN rb.students bs WHERE rb.id = :batchId)")
+    ResourceVersion findRosterVersionByBatchId(@Param("batchId") Long batchId);
+    
+    @Query("SELECT new com.badminton.academy.repository.projection.StudentNameRow(s.id, s.fullName) " +
+           "FROM Batch b JOIN b.students s WHERE b.id = :batchId")
+    List<StudentNameRow> findRosterByBatchId(@Param("batchId") Long batchId);
     
-    @Query("SELECT DISTINCT s FROM Student s LEFT JOIN FETCH s.batches b LEFT JOIN FETCH s.parent WHERE b.coach.id = :coachId")
+    @Query("SELECT DISTINCT s FROM Student s LEFT JOIN FETCH s.batches LEFT JOIN FETCH s.parent " +
+           "WHERE s.id IN (SELECT bs.id FROM Batch b JOIN b.students bs WHERE b.coach.id = :coachId)")
     List<Student> findByCoachId(@Param("coachId") Long coachId);
     
     @Query("SELECT COUNT(s) FROM Student s WHERE s.skillLevel = :skillLevel AND s.isActive = true")
@@ -36,6 +68,9 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
 
     boolean existsByNationalIdNumber(String nationalIdNumber);
 
+    boolean existsByIdAndParentId(Long id, Long parentId);
+
     @Query("SELECT s FROM Student s WHERE LOWER(s.firstName) LIKE LOWER(CONCAT('%', :query, '%')) OR LOWER(s.lastName) LIKE LOWER(CONCAT('%', :query, '%'))")
+    @EntityGraph("Student.response")
     List<Student> searchByName(@Param("query") String query);
 }
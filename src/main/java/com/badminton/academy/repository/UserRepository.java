@@ -2,6 +2,7 @@ package com.badminton.academy.repository;
 
 import com.badminton.academy.model.User;
 import com.badminton.academy.model.enums.Role;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -15,6 +16,8 @@ public interface UserRepository extends JpaRepository<User, Long> {
     
     Optional<User> findByEmail(String email);
     
+    List<User> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+    
     Optional<User> findByPhoneNumber(String phoneNumber);
     
     boolean existsByEmail(String email);
@@ -0,0 +1,20 @@
+package com.badminton.academy.repository.projection;
+
+import com.badminton.academy.model.enums.AttendanceEntryType;
+import com.badminton.academy.model.enums.AttendanceStatus;
+
+import java.time.LocalDate;
+
+/**
+ * The attendance columns needed to render one matrix cell, selected without
+ * loading the Attendance entity or its student/batch/coach associations.
+ */
+public record AttendanceCellRow(
+        Long studentId,
+        LocalDate date,
+        AttendanceStatus status,
+        AttendanceEntryType entryType,
+        LocalDate compensatesForDate,
+        String notes
+) {
+}
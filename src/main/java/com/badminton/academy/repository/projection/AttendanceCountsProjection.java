@@ -0,0 +1,17 @@
+package com.badminton.academy.repository.projection;
+
+/**
+ * Per-student attendance counts summed from attendance_summary rows.
+ */
+public interface AttendanceCountsProjection {
+
+    Long getStudentId();
+
+    Long getPresentCount();
+
+    Long getAbsentCount();
+
+    Long getLateCount();
+
+    Long getExcusedCount();
+}
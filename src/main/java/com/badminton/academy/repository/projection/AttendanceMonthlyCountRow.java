@@ -0,0 +1,17 @@
+package com.badminton.academy.repository.projection;
+
+import com.badminton.academy.model.enums.AttendanceStatus;
+
+/**
+ * Attendance count for one student, batch, calendar month and status, aggregated
+ * straight from the attendance table.
+ */
+public record AttendanceMonthlyCountRow(
+        Long studentId,
+        Long batchId,
+        Integer year,
+        Integer month,
+        AttendanceStatus status,
+        Long total
+) {
+}
@@ -0,0 +1,44 @@
+package com.badminton.academy.repository.projection;
+
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+/**
+ * Row count, sum of optimistic-lock versions and latest {@code updated_at} over the rows a
+ * response is built from.
+ *
+ * Every UPDATE increments a version, inserts and deletes change the count, and the
+ * watermark covers joined rows without a version (names shown in the response), so two
+ * equal versions describe the same response. The extra constructors take one MAX per
+ * joined table and keep the latest.
+ */
+public record ResourceVersion(long count, long revision, LocalDateTime lastModified) {
+
+    public ResourceVersion(Long count, Long revision, LocalDateTime first, LocalDateTime second) {
+        this(count, revision != null ? revision : 0, latest(first, second));
+    }
+
+    public ResourceVersion(Long count, Long revision, LocalDateTime first, LocalDateTime second,
+                           LocalDateTime third) {
+        this(count, revision != null ? revision : 0, latest(first, second, third));
+    }
+
+    public ResourceVersion(Long count, Long revision, LocalDateTime first, LocalDateTime second,
+                           LocalDateTime third, LocalDateTime fourth) {
+        this(count, revision != null ? revision : 0, latest(first, second, third, fourth));
+    }
+
+    /**
+     * This version with its watermark moved up to {@code floor} if it is older.
+     */
+    public ResourceVersion notBefore(LocalDateTime floor) {
+        return new ResourceVersion(count, revision, latest(lastModified, floor));
+    }
+
+    private static LocalDateTime latest(LocalDateTime... timestamps) {
+        return Stream.of(timestamps)
+                .filter(timestamp -> timestamp != null)
+                .max(LocalDateTime::compareTo)
+                .orElse(null);
+    }
+}
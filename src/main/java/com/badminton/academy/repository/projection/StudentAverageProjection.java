@@ -0,0 +1,11 @@
+package com.badminton.academy.repository.projection;
+
+/**
+ * Per-student average row returned by grouped aggregate queries.
+ */
+public interface StudentAverageProjection {
+
+    Long getStudentId();
+
+    Double getAverage();
+}
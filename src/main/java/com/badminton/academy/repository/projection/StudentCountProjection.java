@@ -0,0 +1,11 @@
+package com.badminton.academy.repository.projection;
+
+/**
+ * Per-student count row returned by grouped aggregate queries.
+ */
+public interface StudentCountProjection {
+
+    Long getStudentId();
+
+    Long getTotal();
+}
@@ -0,0 +1,7 @@
+package com.badminton.academy.repository.projection;
+
+/**
+ * Student ID and display name, for rosters that do not need the full entity.
+ */
+public record StudentNameRow(Long id, String fullName) {
+}
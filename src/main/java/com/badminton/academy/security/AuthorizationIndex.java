@@ -0,0 +1,161 @@
+package com.badminton.academy.security;
+
+import com.badminton.academy.repository.BatchRepository;
+import com.badminton.academy.repository.StudentRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Relationship lookups behind the {@code @securityService} authorization checks
+ * (parent of student, coach of student, coach of batch).
+ *
+ * Each decision is answered by a single existence query, memoized for the current request
+ * and shared across requests in a short-TTL cache. Services that change parent or batch
+ * membership call the matching invalidate method so the next check goes to the database.
+ */
+@Component
+@Slf4j
+public class AuthorizationIndex {
+
+    private static final String REQUEST_MEMO = AuthorizationIndex.class.getName() + ".memo";
+
+    private final StudentRepository studentRepository;
+    private final BatchRepository batchRepository;
+    private final Cache<Key, Boolean> decisions;
+
+    public AuthorizationIndex(
+            StudentRepository studentRepository,
+            BatchRepository batchRepository,
+            @Value("${security.authorization-cache.max-size:50000}") long maxSize,
+            @Value("${security.authorization-cache.ttl:30s}") Duration ttl
+    ) {
+        this.studentRepository = studentRepository;
+        this.batchRepository = batchRepository;
+        this.decisions = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    public boolean isParentOfStudent(Long parentId, Long studentId) {
+        return decide(new Key(Relation.PARENT_OF_STUDENT, parentId, studentId));
+    }
+
+    public boolean isCoachOfStudent(Long coachId, Long studentId) {
+        return decide(new Key(Relation.COACH_OF_STUDENT, coachId, studentId));
+    }
+
+    public boolean isCoachOfBatch(Long coachId, Long batchId) {
+        return decide(new Key(Relation.COACH_OF_BATCH, coachId, batchId));
+    }
+
+    /**
+     * Drops every decision made for the given parent or coach.
+     */
+    public void invalidateUser(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        invalidate(key -> key.principalId().equals(userId), "user " + userId);
+    }
+
+    /**
+     * Drops every decision that involves the given student.
+     */
+    public void invalidateStudent(Long studentId) {
+        invalidate(key -> key.relation() != Relation.COACH_OF_BATCH && key.targetId().equals(studentId),
+                "student " + studentId);
+    }
+
+    /**
+     * Drops every coach decision that involves the given batch.
+     */
+    public void invalidateBatch(Long batchId) {
+        invalidate(key -> key.relation() == Relation.COACH_OF_BATCH && key.targetId().equals(batchId),
+                "batch " + batchId);
+    }
+
+    public long size() {
+        return decisions.estimatedSize();
+    }
+
+    private boolean decide(Key key) {
+        if (key.principalId() == null || key.targetId() == null) {
+            return false;
+        }
+        Map<Key, Boolean> memo = requestMemo();
+        if (memo == null) {
+            return decisions.get(key, this::load);
+        }
+        return memo.computeIfAbsent(key, k -> decisions.get(k, this::load));
+    }
+
+    private boolean load(Key key) {
+        return switch (key.relation()) {
+            case PARENT_OF_STUDENT -> studentRepository.existsByIdAndParentId(key.targetId(), key.principalId());
+            case COACH_OF_STUDENT -> batchRepository.existsByCoachIdAndStudentId(key.principalId(), key.targetId());
+            case COACH_OF_BATCH -> batchRepository.existsByIdAndCoachId(key.targetId(), key.principalId());
+        };
+    }
+
+    /**
+     * Evicts now and again after the surrounding transaction commits, so a concurrent
+     * check cannot re-cache the pre-commit membership.
+     */
+    private void invalidate(Predicate<Key> affected, String description) {
+        evict(affected, description);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(affected, description);
+                }
+            });
+        }
+    }
+
+    private void evict(Predicate<Key> affected, String description) {
+        decisions.asMap().keySet().removeIf(affected);
+        Map<Key, Boolean> memo = requestMemo();
+        if (memo != null) {
+            memo.keySet().removeIf(affected);
+        }
+        log.debug("Authorization decisions invalidated for {}", description);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<Key, Boolean> requestMemo() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Object memo = attributes.getAttribute(REQUEST_MEMO, RequestAttributes.SCOPE_REQUEST);
+        if (memo == null) {
+            memo = new HashMap<Key, Boolean>();
+            attributes.setAttribute(REQUEST_MEMO, memo, RequestAttributes.SCOPE_REQUEST);
+        }
+        return (Map<Key, Boolean>) memo;
+    }
+
+    private enum Relation {
+        PARENT_OF_STUDENT,
+        COACH_OF_STUDENT,
+        COACH_OF_BATCH
+    }
+
+    private record Key(Relation relation, Long principalId, Long targetId) {
+    }
+}
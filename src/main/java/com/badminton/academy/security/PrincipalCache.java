@@ -0,0 +1,112 @@
+package com.badminton.academy.security;
+
+import com.badminton.academy.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Bounded cache of authenticated principals keyed by token subject and issue time, so the
+ * JWT filter does not query users on every request.
+ *
+ * Services that change anything a principal carries (active flag, role, email, password)
+ * call {@link #invalidate(String)}. That drops every cached entry for the subject and
+ * records the time, so tokens issued before the change are never trusted from their own
+ * claims again and are re-resolved from the database.
+ */
+@Component
+@Slf4j
+public class PrincipalCache {
+
+    private final UserRepository userRepository;
+    private final boolean trustTokenClaims;
+    private final Cache<Key, AuthenticatedUser> principals;
+    private final Cache<String, Instant> invalidatedAt;
+
+    public PrincipalCache(
+            UserRepository userRepository,
+            @Value("${security.principal-cache.max-size:10000}") long maxSize,
+            @Value("${security.principal-cache.ttl:5m}") Duration ttl,
+            @Value("${security.principal-cache.trust-token-claims:false}") boolean trustTokenClaims,
+            @Value("${jwt.expiration}") long jwtExpirationMs
+    ) {
+        this.userRepository = userRepository;
+        this.trustTokenClaims = trustTokenClaims;
+        this.principals = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        // An invalidation only matters while tokens issued before it can still be presented
+        this.invalidatedAt = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(jwtExpirationMs))
+                .build();
+    }
+
+    /**
+     * Resolves the principal for a verified access token.
+     *
+     * @param fromClaims principal built from the token's uid/role claims, or null when the
+     *                   token does not carry them; used only when trusting claims is enabled
+     *                   and the subject has not been invalidated since the token was issued
+     * @return the principal, or null when the subject no longer exists
+     */
+    public AuthenticatedUser resolve(String subject, Instant issuedAt, AuthenticatedUser fromClaims) {
+        if (trustTokenClaims && fromClaims != null && !issuedBeforeInvalidation(subject, issuedAt)) {
+            return fromClaims;
+        }
+        return principals.get(new Key(subject, issuedAt), key -> load(subject));
+    }
+
+    /**
+     * Evicts the subject now and again after the surrounding transaction commits, so a
+     * concurrent request cannot re-cache the pre-commit row.
+     */
+    public void invalidate(String subject) {
+        if (subject == null) {
+            return;
+        }
+        evict(subject);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(subject);
+                }
+            });
+        }
+    }
+
+    public long size() {
+        return principals.estimatedSize();
+    }
+
+    private void evict(String subject) {
+        invalidatedAt.put(subject, Instant.now());
+        principals.asMap().keySet().removeIf(key -> key.subject().equals(subject));
+        log.debug("Principal cache invalidated for {}", subject);
+    }
+
+    private boolean issuedBeforeInvalidation(String subject, Instant issuedAt) {
+        Instant invalidated = invalidatedAt.getIfPresent(subject);
+        // iat has second precision, so a token from the same second counts as stale
+        return invalidated != null && !issuedAt.isAfter(invalidated);
+    }
+
+    private AuthenticatedUser load(String subject) {
+        return userRepository.findByEmail(subject)
+                .map(AuthenticatedUser::from)
+                .orElse(null);
+    }
+
+    private record Key(String subject, Instant issuedAt) {
+    }
+}
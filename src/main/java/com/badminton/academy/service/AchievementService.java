@@ -1,7 +1,9 @@
 package com.badminton.academy.service;
 
 import com.badminton.academy.dto.request.CreateAchievementRequest;
+import com.badminton.academy.dto.request.KeysetCursor;
 import com.badminton.academy.dto.response.AchievementResponse;
+import com.badminton.academy.dto.response.CursorPage;
 import com.badminton.academy.exception.ResourceNotFoundException;
 import com.badminton.academy.model.Achievement;
 import com.badminton.academy.model.Coach;
@@ -12,12 +14,14 @@ import com.badminton.academy.repository.CoachRepository;
 import com.badminton.academy.repository.StudentRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -34,6 +38,18 @@ public class AchievementService {
                 .collect(Collectors.toList());
     }
 
+    public CursorPage<AchievementResponse> getAchievementPage(String cursor, Integer limit) {
+        int size = CursorPage.clampLimit(limit);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<Achievement> rows = achievementRepository.findByIdGreaterThanOrderByIdAsc(
+                after != null ? after.id() : 0L, PageRequest.ofSize(size + 1));
+        return CursorPage.of(rows, size, row -> KeysetCursor.of(row.getId()).encode(), this::mapToAchievementResponse);
+    }
+
+    public Stream<AchievementResponse> streamAllAchievements() {
+        return CursorPage.stream(cursor -> getAchievementPage(cursor, CursorPage.MAX_LIMIT));
+    }
+
     public AchievementResponse getAchievementById(Long id) {
         Achievement achievement = achievementRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Achievement not found with id: " + id));
@@ -1,7 +1,9 @@
 package com.badminton.academy.service;
 
 import com.badminton.academy.dto.request.CreateAssessmentRequest;
+import com.badminton.academy.dto.request.KeysetCursor;
 import com.badminton.academy.dto.response.AssessmentResponse;
+import com.badminton.academy.dto.response.CursorPage;
 import com.badminton.academy.exception.ResourceNotFoundException;
 import com.badminton.academy.model.Assessment;
 import com.badminton.academy.model.Coach;
@@ -12,12 +14,14 @@ import com.badminton.academy.repository.CoachRepository;
 import com.badminton.academy.repository.StudentRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -34,6 +38,18 @@ public class AssessmentService {
                 .collect(Collectors.toList());
     }
 
+    public CursorPage<AssessmentResponse> getAssessmentPage(String cursor, Integer limit) {
+        int size = CursorPage.clampLimit(limit);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<Assessment> rows = assessmentRepository.findByIdGreaterThanOrderByIdAsc(
+                after != null ? after.id() : 0L, PageRequest.ofSize(size + 1));
+        return CursorPage.of(rows, size, row -> KeysetCursor.of(row.getId()).encode(), this::mapToAssessmentResponse);
+    }
+
+    public Stream<AssessmentResponse> streamAllAssessments() {
+        return CursorPage.stream(cursor -> getAssessmentPage(cursor, CursorPage.MAX_LIMIT));
+    }
+
     public AssessmentResponse getAssessmentById(Long id) {
         Assessment assessment = assessmentRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Assessment not found with id: " + id));
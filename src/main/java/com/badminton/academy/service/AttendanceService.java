@@ -1,17 +1,18 @@
 package com.badminton.academy.service;
 
+import com.badminton.academy.audit.AttendanceAuditTrail;
 import com.badminton.academy.dto.request.BulkAttendanceRequest;
+import com.badminton.academy.dto.request.KeysetCursor;
 import com.badminton.academy.dto.request.MarkAttendanceRequest;
 import com.badminton.academy.dto.request.StudentAttendanceItem;
-import com.badminton.academy.dto.response.AttendanceCellResponse;
-import com.badminton.academy.dto.response.AttendanceDateColumnResponse;
 import com.badminton.academy.dto.response.BatchAttendanceMatrixResponse;
+import com.badminton.academy.dto.response.CursorPage;
 import com.badminton.academy.dto.response.AttendanceResponse;
 import com.badminton.academy.dto.response.AttendanceSummaryResponse;
-import com.badminton.academy.dto.response.StudentAttendanceMatrixRowResponse;
 import com.badminton.academy.dto.response.AttendanceAuditLogResponse;
 import com.badminton.academy.exception.DuplicateResourceException;
 import com.badminton.academy.exception.ResourceNotFoundException;
+import com.badminton.academy.exception.StaleVersionException;
 import com.badminton.academy.model.Attendance;
 import com.badminton.academy.model.AttendanceAuditLog;
 import com.badminton.academy.model.Batch;
@@ -23,25 +24,38 @@ import com.badminton.academy.repository.AttendanceRepository;
 import com.badminton.academy.repository.AttendanceAuditLogRepository;
 import com.badminton.academy.repository.BatchRepository;
 import com.badminton.academy.repository.CoachRepository;
+import com.badminton.academy.repository.AttendanceSummaryRepository;
 import com.badminton.academy.repository.StudentRepository;
+import com.badminton.academy.repository.projection.AttendanceCountsProjection;
+import com.badminton.academy.repository.projection.AttendanceCellRow;
+import com.badminton.academy.repository.projection.StudentNameRow;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.Month;
-import java.time.format.TextStyle;
+import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalAdjusters;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -50,9 +64,13 @@ public class AttendanceService {
 
     private final AttendanceRepository attendanceRepository;
     private final AttendanceAuditLogRepository auditLogRepository;
+    private final AttendanceAuditTrail auditTrail;
     private final StudentRepository studentRepository;
     private final BatchRepository batchRepository;
     private final CoachRepository coachRepository;
+    private final AttendanceSummaryRepository attendanceSummaryRepository;
+    private final AttendanceSummaryService attendanceSummaryService;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * Number of days coaches can backdate attendance (default: 7 days)
@@ -72,6 +90,23 @@ public class AttendanceService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Keyset page ordered by (date, id), matching idx_attendance_date_id.
+     */
+    public CursorPage<AttendanceResponse> getAttendancePage(String cursor, Integer limit) {
+        int size = CursorPage.clampLimit(limit);
+        KeysetCursor after = KeysetCursor.decodeDated(cursor);
+        List<Attendance> rows = after == null
+                ? attendanceRepository.findFirstPage(PageRequest.ofSize(size + 1))
+                : attendanceRepository.findPageAfter(after.date(), after.id(), PageRequest.ofSize(size + 1));
+        return CursorPage.of(rows, size, row -> KeysetCursor.of(row.getDate(), row.getId()).encode(),
+                this::mapToAttendanceResponse);
+    }
+
+    public Stream<AttendanceResponse> streamAllAttendances() {
+        return CursorPage.stream(cursor -> getAttendancePage(cursor, CursorPage.MAX_LIMIT));
+    }
+
     public AttendanceResponse getAttendanceById(Long id) {
         Attendance attendance = attendanceRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Attendance not found with id: " + id));
@@ -157,10 +192,11 @@ public class AttendanceService {
                 .build();
 
         Attendance savedAttendance = attendanceRepository.save(attendance);
+        attendanceSummaryService.apply(new AttendanceSummaryService.Changes().added(savedAttendance));
         
-        // Create audit log
-        createAuditLog(savedAttendance, "CREATE", null, null, null, 
-                coach, isAdmin ? "ADMIN" : "COACH", request.getBackdateReason(), isBackdated);
+        // Audit row is written with the rest of the transaction's audit rows at commit
+        auditTrail.record(buildAuditLog(savedAttendance, "CREATE", null, null, null,
+                coach, isAdmin ? "ADMIN" : "COACH", request.getBackdateReason(), isBackdated));
 
         log.info("Attendance marked for student {} in batch {} on {} (type: {}, backdated: {})", 
                 request.getStudentId(), request.getBatchId(), request.getDate(), entryType, isBackdated);
@@ -175,8 +211,31 @@ public class AttendanceService {
         return markAttendance(request, coachId, false);
     }
 
-    @Transactional
+    /**
+     * Upserts a whole attendance sheet for one batch and date.
+     *
+     * Students, existing rows for the batch/date and existing makeup compensations are
+     * prefetched with one query each; the sheet is then diffed in memory and the resulting
+     * inserts and updates are written with saveAll so Hibernate can send them as JDBC
+     * batches instead of four or five statements per student, and the audit rows go out
+     * as one multi-row insert at commit (see {@link AttendanceAuditTrail}).
+     *
+     * An existing row whose submitted version no longer matches is left unchanged and
+     * returned with {@code conflict = true}, while the rest of the sheet is applied. A write
+     * that lands between our read and our UPDATE fails the version check on flush; the
+     * sheet is then retried once, which reports those rows as conflicts too.
+     */
     public List<AttendanceResponse> markBulkAttendance(BulkAttendanceRequest request, Long coachId, boolean isAdmin) {
+        try {
+            return transactionTemplate.execute(status -> applyBulkAttendance(request, coachId, isAdmin));
+        } catch (OptimisticLockingFailureException ex) {
+            log.info("Attendance sheet for batch {} on {} raced another update, retrying: {}",
+                    request.getBatchId(), request.getDate(), ex.getMessage());
+            return transactionTemplate.execute(status -> applyBulkAttendance(request, coachId, isAdmin));
+        }
+    }
+
+    private List<AttendanceResponse> applyBulkAttendance(BulkAttendanceRequest request, Long coachId, boolean isAdmin) {
         boolean isBackdated = isBackdatedDate(request.getDate());
         
         // Validate backdating permissions and reason
@@ -188,23 +247,40 @@ public class AttendanceService {
         Coach coach = coachRepository.findById(coachId)
                 .orElseThrow(() -> new ResourceNotFoundException("Coach not found with id: " + coachId));
 
-        List<AttendanceResponse> responses = new ArrayList<>();
+        List<StudentAttendanceItem> items = request.getStudentAttendances();
+        Set<Long> studentIds = items.stream()
+                .map(StudentAttendanceItem::getStudentId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
 
-        int created = 0;
-        int updated = 0;
+        Map<Long, Student> studentsById = studentRepository.findAllById(studentIds).stream()
+                .collect(Collectors.toMap(Student::getId, Function.identity()));
 
-        for (StudentAttendanceItem item : request.getStudentAttendances()) {
-            Student student = studentRepository.findById(item.getStudentId())
-                    .orElseThrow(() -> new ResourceNotFoundException("Student not found with id: " + item.getStudentId()));
+        Map<Long, Attendance> attendanceByStudentId = new HashMap<>();
+        attendanceRepository.findByBatchAndDate(batch.getId(), request.getDate())
+                .forEach(attendance -> attendanceByStudentId.put(attendance.getStudent().getId(), attendance));
+
+        Set<String> compensatedKeys = loadCompensatedKeys(items);
+
+        String changedByRole = isAdmin ? "ADMIN" : "COACH";
+        List<Attendance> inserts = new ArrayList<>();
+        Set<Attendance> updates = Collections.newSetFromMap(new IdentityHashMap<>());
+        Set<Attendance> conflicts = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<AttendanceAuditLog> auditLogs = new ArrayList<>();
+        AttendanceSummaryService.Changes summaryChanges = new AttendanceSummaryService.Changes();
+        List<Attendance> results = new ArrayList<>();
+
+        for (StudentAttendanceItem item : items) {
+            Student student = studentsById.get(item.getStudentId());
+            if (student == null) {
+                throw new ResourceNotFoundException("Student not found with id: " + item.getStudentId());
+            }
 
             // Validate makeup if applicable
             if (item.getEntryType() == AttendanceEntryType.MAKEUP) {
-                validateMakeupItem(item, student.getId(), batch.getId());
+                validateMakeupItem(item, student.getId(), compensatedKeys);
             }
 
-            Attendance attendance = attendanceRepository.findByStudentIdAndBatchIdAndDate(
-                    item.getStudentId(), request.getBatchId(), request.getDate()
-            ).orElse(null);
+            Attendance attendance = attendanceByStudentId.get(student.getId());
 
             AttendanceEntryType entryType = item.getEntryType() != null 
                     ? item.getEntryType() 
@@ -223,12 +299,16 @@ public class AttendanceService {
                         .wasBackdated(isBackdated)
                         .backdateReason(isBackdated ? request.getBackdateReason() : null)
                         .build();
-                
-                Attendance savedAttendance = attendanceRepository.save(attendance);
-                createAuditLog(savedAttendance, "CREATE", null, null, null,
-                        coach, isAdmin ? "ADMIN" : "COACH", request.getBackdateReason(), isBackdated);
-                created++;
-                responses.add(mapToAttendanceResponse(savedAttendance));
+
+                attendanceByStudentId.put(student.getId(), attendance);
+                inserts.add(attendance);
+                summaryChanges.added(attendance);
+                auditLogs.add(buildAuditLog(attendance, "CREATE", null, null, null,
+                        coach, changedByRole, request.getBackdateReason(), isBackdated));
+            } else if (item.getVersion() != null && !item.getVersion().equals(attendance.getVersion())) {
+                conflicts.add(attendance);
+                results.add(attendance);
+                continue;
             } else {
                 // Store previous values for audit
                 AttendanceStatus prevStatus = attendance.getStatus();
@@ -246,23 +326,71 @@ public class AttendanceService {
                     attendance.setBackdateReason(request.getBackdateReason());
                 }
 
-                Attendance savedAttendance = attendanceRepository.save(attendance);
-                createAuditLog(savedAttendance, "UPDATE", prevStatus, prevEntryType, prevNotes,
-                        coach, isAdmin ? "ADMIN" : "COACH", request.getBackdateReason(), isBackdated);
-                updated++;
-                responses.add(mapToAttendanceResponse(savedAttendance));
+                if (attendance.getId() != null) {
+                    updates.add(attendance);
+                }
+                summaryChanges.statusChanged(attendance, prevStatus);
+                auditLogs.add(buildAuditLog(attendance, "UPDATE", prevStatus, prevEntryType, prevNotes,
+                        coach, changedByRole, request.getBackdateReason(), isBackdated));
+            }
+
+            if (item.getEntryType() == AttendanceEntryType.MAKEUP) {
+                compensatedKeys.add(compensationKey(student.getId(), item.getCompensatesForDate()));
             }
+            results.add(attendance);
         }
 
-        log.info("Bulk attendance processed for batch {} on {} - {} created, {} updated (backdated: {})",
-                request.getBatchId(), request.getDate(), created, updated, isBackdated);
-        return responses;
+        attendanceRepository.saveAll(inserts);
+        attendanceRepository.saveAll(updates);
+        auditTrail.recordAll(auditLogs);
+        // Flush here so a concurrent update fails this attempt, and responses carry new versions
+        attendanceRepository.flush();
+        attendanceSummaryService.apply(summaryChanges);
+
+        log.info("Bulk attendance processed for batch {} on {} - {} created, {} updated, {} conflicts (backdated: {})",
+                request.getBatchId(), request.getDate(), inserts.size(), updates.size(), conflicts.size(), isBackdated);
+        return results.stream()
+                .map(attendance -> {
+                    AttendanceResponse response = mapToAttendanceResponse(attendance);
+                    if (conflicts.contains(attendance)) {
+                        response.setConflict(true);
+                    }
+                    return response;
+                })
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Loads the (student, compensated date) pairs that already have a makeup session,
+     * restricted to the students and dates referenced by MAKEUP items in the sheet.
+     */
+    private Set<String> loadCompensatedKeys(List<StudentAttendanceItem> items) {
+        Set<Long> makeupStudentIds = new HashSet<>();
+        Set<LocalDate> compensatedDates = new HashSet<>();
+        for (StudentAttendanceItem item : items) {
+            if (item.getEntryType() == AttendanceEntryType.MAKEUP && item.getCompensatesForDate() != null) {
+                makeupStudentIds.add(item.getStudentId());
+                compensatedDates.add(item.getCompensatesForDate());
+            }
+        }
+
+        Set<String> compensatedKeys = new HashSet<>();
+        if (makeupStudentIds.isEmpty()) {
+            return compensatedKeys;
+        }
+        attendanceRepository.findByStudentIdsAndCompensatesForDates(makeupStudentIds, compensatedDates)
+                .forEach(attendance -> compensatedKeys.add(
+                        compensationKey(attendance.getStudent().getId(), attendance.getCompensatesForDate())));
+        return compensatedKeys;
+    }
+
+    private String compensationKey(Long studentId, LocalDate compensatesForDate) {
+        return studentId + "_" + compensatesForDate;
     }
 
     /**
      * Legacy method for backward compatibility - defaults to non-admin
      */
-    @Transactional
     public List<AttendanceResponse> markBulkAttendance(BulkAttendanceRequest request, Long coachId) {
         return markBulkAttendance(request, coachId, false);
     }
@@ -271,6 +399,7 @@ public class AttendanceService {
     public AttendanceResponse updateAttendance(Long id, MarkAttendanceRequest request, Long coachId, boolean isAdmin) {
         Attendance attendance = attendanceRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Attendance not found with id: " + id));
+        StaleVersionException.check("Attendance", id, request.getVersion(), attendance.getVersion());
 
         boolean isBackdated = isBackdatedDate(attendance.getDate());
         validateBackdatePermission(attendance.getDate(), isAdmin, request.getBackdateReason());
@@ -295,9 +424,11 @@ public class AttendanceService {
             attendance.setBackdateReason(request.getBackdateReason());
         }
 
-        Attendance updatedAttendance = attendanceRepository.save(attendance);
-        createAuditLog(updatedAttendance, "UPDATE", prevStatus, prevEntryType, prevNotes,
-                coach, isAdmin ? "ADMIN" : "COACH", request.getBackdateReason(), isBackdated);
+        // Flush so the response carries the incremented version
+        Attendance updatedAttendance = attendanceRepository.saveAndFlush(attendance);
+        attendanceSummaryService.apply(new AttendanceSummaryService.Changes().statusChanged(updatedAttendance, prevStatus));
+        auditTrail.record(buildAuditLog(updatedAttendance, "UPDATE", prevStatus, prevEntryType, prevNotes,
+                coach, isAdmin ? "ADMIN" : "COACH", request.getBackdateReason(), isBackdated));
         
         log.info("Attendance updated for id: {} (backdated: {})", id, isBackdated);
         return mapToAttendanceResponse(updatedAttendance);
@@ -313,10 +444,10 @@ public class AttendanceService {
 
     @Transactional
     public void deleteAttendance(Long id) {
-        if (!attendanceRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Attendance not found with id: " + id);
-        }
-        attendanceRepository.deleteById(id);
+        Attendance attendance = attendanceRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Attendance not found with id: " + id));
+        attendanceRepository.delete(attendance);
+        attendanceSummaryService.apply(new AttendanceSummaryService.Changes().removed(attendance));
         log.info("Attendance deleted with id: {}", id);
     }
 
@@ -324,10 +455,12 @@ public class AttendanceService {
         Student student = studentRepository.findById(studentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Student not found with id: " + studentId));
 
-        Long presentCount = attendanceRepository.countByStudentAndStatus(studentId, AttendanceStatus.PRESENT);
-        Long absentCount = attendanceRepository.countByStudentAndStatus(studentId, AttendanceStatus.ABSENT);
-        Long lateCount = attendanceRepository.countByStudentAndStatus(studentId, AttendanceStatus.LATE);
-        Long excusedCount = attendanceRepository.countByStudentAndStatus(studentId, AttendanceStatus.EXCUSED);
+        // One read of the student's monthly summary rows instead of counting attendance history
+        AttendanceCountsProjection counts = attendanceSummaryRepository.sumByStudentId(studentId).orElse(null);
+        Long presentCount = counts != null ? counts.getPresentCount() : 0L;
+        Long absentCount = counts != null ? counts.getAbsentCount() : 0L;
+        Long lateCount = counts != null ? counts.getLateCount() : 0L;
+        Long excusedCount = counts != null ? counts.getExcusedCount() : 0L;
 
         Long totalClasses = presentCount + absentCount + lateCount + excusedCount;
         Double attendancePercentage = totalClasses > 0 ? (presentCount * 100.0) / totalClasses : 0.0;
@@ -344,8 +477,18 @@ public class AttendanceService {
                 .build();
     }
 
+    /**
+     * Present share of all marked sessions for a student in a batch, read from the monthly
+     * summary rows; 0.0 when nothing has been marked yet.
+     */
     public Double calculateAttendancePercentage(Long studentId, Long batchId) {
-        return attendanceRepository.calculateAttendancePercentage(studentId, batchId);
+        return attendanceSummaryRepository.sumByStudentIdAndBatchId(studentId, batchId)
+                .map(counts -> {
+                    long total = counts.getPresentCount() + counts.getAbsentCount()
+                            + counts.getLateCount() + counts.getExcusedCount();
+                    return total > 0 ? (counts.getPresentCount() * 100.0) / total : 0.0;
+                })
+                .orElse(0.0);
     }
 
     public BatchAttendanceMatrixResponse getBatchWeeklyAttendance(Long batchId, LocalDate referenceDate) {
@@ -377,6 +520,10 @@ public class AttendanceService {
         return buildBatchAttendanceMatrix(batch, startDate, endDate, resolvedReferenceDate, "MONTHLY");
     }
 
+    /**
+     * Builds the students x days matrix from two narrow projection queries (roster and
+     * attendance cells) and indexes cells by (student ordinal, day offset).
+     */
     private BatchAttendanceMatrixResponse buildBatchAttendanceMatrix(
             Batch batch,
             LocalDate startDate,
@@ -386,74 +533,34 @@ public class AttendanceService {
     ) {
         LocalDate displayUntil = getDisplayUntil(startDate, endDate, referenceDate);
 
-        List<Student> students = studentRepository.findByBatchId(batch.getId()).stream()
-                .sorted(Comparator.comparing(
-                        student -> student.getFullName() != null ? student.getFullName().toLowerCase() : ""
-                ))
-                .toList();
-
-        Map<String, Attendance> attendanceByStudentAndDate = new HashMap<>();
-        attendanceRepository.findByBatchAndDateRange(batch.getId(), startDate, endDate)
-                .forEach(attendance -> attendanceByStudentAndDate.put(
-                        attendance.getStudent().getId() + "_" + attendance.getDate(), attendance
-                ));
-
-        List<AttendanceDateColumnResponse> dateColumns = new ArrayList<>();
-        List<LocalDate> datesInPeriod = new ArrayList<>();
-        LocalDate cursor = startDate;
-        while (!cursor.isAfter(endDate)) {
-            datesInPeriod.add(cursor);
-            dateColumns.add(AttendanceDateColumnResponse.builder()
-                    .date(cursor)
-                    .dayLabel(cursor.getDayOfWeek().getDisplayName(TextStyle.SHORT, Locale.ENGLISH))
-                    .futureDate(cursor.isAfter(displayUntil))
-                    .build());
-            cursor = cursor.plusDays(1);
+        List<StudentNameRow> roster = new ArrayList<>(studentRepository.findRosterByBatchId(batch.getId()));
+        roster.sort(Comparator.comparing(
+                student -> student.fullName() != null ? student.fullName().toLowerCase() : ""
+        ));
+
+        long[] studentIds = new long[roster.size()];
+        String[] studentNames = new String[roster.size()];
+        Map<Long, Integer> ordinalByStudentId = new HashMap<>();
+        for (int i = 0; i < roster.size(); i++) {
+            studentIds[i] = roster.get(i).id();
+            studentNames[i] = roster.get(i).fullName();
+            ordinalByStudentId.put(roster.get(i).id(), i);
         }
 
-        List<StudentAttendanceMatrixRowResponse> studentRows = students.stream()
-                .map(student -> StudentAttendanceMatrixRowResponse.builder()
-                        .studentId(student.getId())
-                        .studentName(student.getFullName())
-                        .attendance(buildAttendanceCells(student.getId(), datesInPeriod, attendanceByStudentAndDate, displayUntil))
-                        .build())
-                .toList();
-
-        return BatchAttendanceMatrixResponse.builder()
-                .batchId(batch.getId())
-                .batchName(batch.getName())
-                .periodType(periodType)
-                .referenceDate(referenceDate)
-                .startDate(startDate)
-                .endDate(endDate)
-                .displayUntil(displayUntil)
-                .dateColumns(dateColumns)
-                .students(studentRows)
-                .build();
-    }
+        BatchAttendanceMatrixResponse matrix = new BatchAttendanceMatrixResponse(
+                batch.getId(), batch.getName(), periodType, referenceDate,
+                startDate, endDate, displayUntil, studentIds, studentNames);
 
-    private List<AttendanceCellResponse> buildAttendanceCells(
-            Long studentId,
-            List<LocalDate> datesInPeriod,
-            Map<String, Attendance> attendanceByStudentAndDate,
-            LocalDate displayUntil
-    ) {
-        List<AttendanceCellResponse> cells = new ArrayList<>();
-        for (LocalDate date : datesInPeriod) {
-            boolean futureDate = date.isAfter(displayUntil);
-            Attendance attendance = futureDate ? null : attendanceByStudentAndDate.get(studentId + "_" + date);
-
-            cells.add(AttendanceCellResponse.builder()
-                    .date(date)
-                    .status(attendance != null ? attendance.getStatus() : null)
-                    .entryType(attendance != null ? attendance.getEntryType() : null)
-                    .compensatesForDate(attendance != null ? attendance.getCompensatesForDate() : null)
-                    .notes(attendance != null ? attendance.getNotes() : null)
-                    .marked(attendance != null)
-                    .futureDate(futureDate)
-                    .build());
+        int displayUntilOffset = matrix.getDisplayUntilOffset();
+        for (AttendanceCellRow row : attendanceRepository.findCellsByBatchAndDateRange(batch.getId(), startDate, endDate)) {
+            Integer ordinal = ordinalByStudentId.get(row.studentId());
+            int dayOffset = (int) ChronoUnit.DAYS.between(startDate, row.date());
+            if (ordinal == null || dayOffset > displayUntilOffset) {
+                continue;
+            }
+            matrix.mark(ordinal, dayOffset, row.status(), row.entryType(), row.compensatesForDate(), row.notes());
         }
-        return cells;
+        return matrix;
     }
 
     private LocalDate getDisplayUntil(LocalDate startDate, LocalDate endDate, LocalDate referenceDate) {
@@ -612,7 +719,7 @@ public class AttendanceService {
         }
     }
 
-    private void validateMakeupItem(StudentAttendanceItem item, Long studentId, Long batchId) {
+    private void validateMakeupItem(StudentAttendanceItem item, Long studentId, Set<String> compensatedKeys) {
         if (item.getCompensatesForDate() == null) {
             throw new IllegalArgumentException(
                     "compensatesForDate is required for MAKEUP attendance entries (student: " + studentId + ")"
@@ -626,11 +733,7 @@ public class AttendanceService {
         }
 
         // Check if already compensated
-        boolean alreadyCompensated = attendanceRepository
-                .findByStudentIdAndCompensatesForDate(studentId, item.getCompensatesForDate())
-                .isPresent();
-        
-        if (alreadyCompensated) {
+        if (compensatedKeys.contains(compensationKey(studentId, item.getCompensatesForDate()))) {
             throw new DuplicateResourceException(
                     "Absence on " + item.getCompensatesForDate() + " already compensated (student: " + studentId + ")"
             );
@@ -639,7 +742,7 @@ public class AttendanceService {
 
     // ==================== AUDIT LOG HELPER ====================
 
-    private void createAuditLog(
+    private AttendanceAuditLog buildAuditLog(
             Attendance attendance,
             String action,
             AttendanceStatus prevStatus,
@@ -650,7 +753,7 @@ public class AttendanceService {
             String reason,
             boolean wasBackdated
     ) {
-        AttendanceAuditLog auditLog = AttendanceAuditLog.builder()
+        return AttendanceAuditLog.builder()
                 .attendance(attendance)
                 .action(action)
                 .previousStatus(prevStatus)
@@ -664,8 +767,6 @@ public class AttendanceService {
                 .reason(reason)
                 .wasBackdated(wasBackdated)
                 .build();
-        
-        auditLogRepository.save(auditLog);
     }
 
     // ==================== MAPPING METHODS ====================
@@ -686,6 +787,7 @@ public class AttendanceService {
                 .markedByName(attendance.getMarkedBy() != null ? attendance.getMarkedBy().getFullName() : null)
                 .markedAt(attendance.getMarkedAt())
                 .wasBackdated(attendance.getWasBackdated())
+                .version(attendance.getVersion())
                 .build();
     }
 
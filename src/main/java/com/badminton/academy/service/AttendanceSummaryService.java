@@ -0,0 +1,245 @@
+package com.badminton.academy.service;
+
+import com.badminton.academy.model.Attendance;
+import com.badminton.academy.model.AttendanceSummary;
+import com.badminton.academy.model.AttendanceSummaryId;
+import com.badminton.academy.model.enums.AttendanceStatus;
+import com.badminton.academy.repository.AttendanceRepository;
+import com.badminton.academy.repository.AttendanceSummaryRepository;
+import com.badminton.academy.repository.projection.AttendanceMonthlyCountRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Maintains the attendance_summary table (per student, batch and month status counts).
+ *
+ * Attendance writes collect their status changes into {@link Changes} and {@link #apply}
+ * turns them into relative counter updates inside the caller's transaction, so the summary
+ * commits or rolls back together with the attendance rows. {@link #verifyAndRepair} runs on
+ * a schedule, compares every summary row with a fresh aggregate of the attendance table and
+ * recounts the rows that drifted (e.g. after manual SQL or a batch delete).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AttendanceSummaryService {
+
+    private static final AttendanceStatus[] STATUSES = AttendanceStatus.values();
+
+    private static final Comparator<AttendanceSummaryId> KEY_ORDER = Comparator
+            .comparing(AttendanceSummaryId::getStudentId)
+            .thenComparing(AttendanceSummaryId::getBatchId)
+            .thenComparing(AttendanceSummaryId::getMonthStart);
+
+    // Postgres: a concurrent insert of the same key is skipped instead of failing
+    private static final String ENSURE_ROW_UPSERT_SQL =
+            "INSERT INTO attendance_summary (student_id, batch_id, month_start, " +
+            "present_count, absent_count, late_count, excused_count, updated_at) " +
+            "VALUES (?, ?, ?, 0, 0, 0, 0, CURRENT_TIMESTAMP) ON CONFLICT DO NOTHING";
+
+    // Other databases (H2 in tests): same effect for a single writer
+    private static final String ENSURE_ROW_PORTABLE_SQL =
+            "INSERT INTO attendance_summary (student_id, batch_id, month_start, " +
+            "present_count, absent_count, late_count, excused_count, updated_at) " +
+            "SELECT ?, ?, ?, 0, 0, 0, 0, CURRENT_TIMESTAMP WHERE NOT EXISTS (" +
+            "SELECT 1 FROM attendance_summary WHERE student_id = ? AND batch_id = ? AND month_start = ?)";
+
+    private static final String APPLY_DELTA_SQL =
+            "UPDATE attendance_summary SET present_count = present_count + ?, " +
+            "absent_count = absent_count + ?, late_count = late_count + ?, " +
+            "excused_count = excused_count + ?, updated_at = CURRENT_TIMESTAMP " +
+            "WHERE student_id = ? AND batch_id = ? AND month_start = ?";
+
+    private final AttendanceRepository attendanceRepository;
+    private final AttendanceSummaryRepository attendanceSummaryRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Attendance months older than this are archived out of the attendance table (see
+     * {@link PartitionMaintenanceService}); their summary rows are kept and not verified.
+     * 0 keeps every month.
+     */
+    @Value("${app.partitioning.attendance-retention-months:0}")
+    private int attendanceRetentionMonths;
+
+    private volatile Boolean upsertSupported;
+
+    /**
+     * Applies the collected changes as two JDBC batches (create missing rows, then add the
+     * deltas). Rows are updated in key order so concurrent sheets cannot deadlock each other.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void apply(Changes changes) {
+        List<Object[]> keys = new ArrayList<>();
+        List<Object[]> deltas = new ArrayList<>();
+        changes.deltas.forEach((key, delta) -> {
+            if (Arrays.stream(delta).allMatch(count -> count == 0)) {
+                return;
+            }
+            keys.add(ensureRowArgs(key));
+            deltas.add(new Object[]{
+                    delta[AttendanceStatus.PRESENT.ordinal()],
+                    delta[AttendanceStatus.ABSENT.ordinal()],
+                    delta[AttendanceStatus.LATE.ordinal()],
+                    delta[AttendanceStatus.EXCUSED.ordinal()],
+                    key.getStudentId(), key.getBatchId(), key.getMonthStart()});
+        });
+        if (keys.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(ensureRowSql(), keys);
+        jdbcTemplate.batchUpdate(APPLY_DELTA_SQL, deltas);
+    }
+
+    /**
+     * Recounts every summary row that disagrees with the attendance table.
+     *
+     * @return number of rows repaired
+     */
+    @Scheduled(cron = "${attendance.summary.verify-cron:0 30 3 * * *}")
+    @Transactional
+    public int verifyAndRepair() {
+        Map<AttendanceSummaryId, long[]> expected = new HashMap<>();
+        for (AttendanceMonthlyCountRow row : attendanceRepository.countMonthlyByStatus()) {
+            countsFor(expected, row)[row.status().ordinal()] += row.total();
+        }
+
+        LocalDate archivedBefore = attendanceRetentionMonths > 0
+                ? LocalDate.now().withDayOfMonth(1).minusMonths(attendanceRetentionMonths)
+                : LocalDate.MIN;
+        expected.keySet().removeIf(key -> key.getMonthStart().isBefore(archivedBefore));
+
+        Set<AttendanceSummaryId> drifted = new LinkedHashSet<>();
+        Set<AttendanceSummaryId> seen = new LinkedHashSet<>();
+        for (AttendanceSummary summary : attendanceSummaryRepository.findAll()) {
+            AttendanceSummaryId key = keyOf(summary);
+            if (key.getMonthStart().isBefore(archivedBefore)) {
+                continue;
+            }
+            seen.add(key);
+            long[] counts = expected.getOrDefault(key, new long[STATUSES.length]);
+            for (AttendanceStatus status : STATUSES) {
+                if (summary.getCount(status) != counts[status.ordinal()]) {
+                    drifted.add(key);
+                    break;
+                }
+            }
+        }
+        for (AttendanceSummaryId key : expected.keySet()) {
+            if (!seen.contains(key)) {
+                drifted.add(key);
+            }
+        }
+
+        drifted.stream().sorted(KEY_ORDER).forEach(this::repair);
+        if (drifted.isEmpty()) {
+            log.debug("Attendance summary verified: {} rows consistent", seen.size());
+        } else {
+            log.warn("Attendance summary drift repaired for {} rows ({} summary rows checked)", drifted.size(), seen.size());
+        }
+        return drifted.size();
+    }
+
+    /**
+     * Locks the summary row before recounting, so a concurrent incremental update either
+     * committed before the recount (and is included) or waits and applies on top of it.
+     */
+    private void repair(AttendanceSummaryId key) {
+        jdbcTemplate.update(ensureRowSql(), ensureRowArgs(key));
+        AttendanceSummary summary = attendanceSummaryRepository
+                .findForUpdate(key.getStudentId(), key.getBatchId(), key.getMonthStart())
+                .orElseThrow(() -> new IllegalStateException("Attendance summary row missing for " + key));
+
+        LocalDate monthEnd = key.getMonthStart().with(TemporalAdjusters.lastDayOfMonth());
+        long[] counts = new long[STATUSES.length];
+        for (AttendanceMonthlyCountRow row : attendanceRepository.countMonthlyByStatus(
+                key.getStudentId(), key.getBatchId(), key.getMonthStart(), monthEnd)) {
+            counts[row.status().ordinal()] += row.total();
+        }
+        for (AttendanceStatus status : STATUSES) {
+            summary.setCount(status, counts[status.ordinal()]);
+        }
+        attendanceSummaryRepository.save(summary);
+    }
+
+    private String ensureRowSql() {
+        return isUpsertSupported() ? ENSURE_ROW_UPSERT_SQL : ENSURE_ROW_PORTABLE_SQL;
+    }
+
+    private Object[] ensureRowArgs(AttendanceSummaryId key) {
+        return isUpsertSupported()
+                ? new Object[]{key.getStudentId(), key.getBatchId(), key.getMonthStart()}
+                : new Object[]{key.getStudentId(), key.getBatchId(), key.getMonthStart(),
+                        key.getStudentId(), key.getBatchId(), key.getMonthStart()};
+    }
+
+    private boolean isUpsertSupported() {
+        if (upsertSupported == null) {
+            String database = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            upsertSupported = "PostgreSQL".equals(database);
+        }
+        return upsertSupported;
+    }
+
+    private static long[] countsFor(Map<AttendanceSummaryId, long[]> counts, AttendanceMonthlyCountRow row) {
+        AttendanceSummaryId key = new AttendanceSummaryId(
+                row.studentId(), row.batchId(), LocalDate.of(row.year(), row.month(), 1));
+        return counts.computeIfAbsent(key, k -> new long[STATUSES.length]);
+    }
+
+    private static AttendanceSummaryId keyOf(AttendanceSummary summary) {
+        return new AttendanceSummaryId(summary.getStudentId(), summary.getBatchId(), summary.getMonthStart());
+    }
+
+    /**
+     * Net per-status count changes collected during one attendance write, keyed by summary row.
+     */
+    public static class Changes {
+
+        private final Map<AttendanceSummaryId, long[]> deltas = new TreeMap<>(KEY_ORDER);
+
+        public Changes added(Attendance attendance) {
+            adjust(attendance, attendance.getStatus(), 1);
+            return this;
+        }
+
+        public Changes removed(Attendance attendance) {
+            adjust(attendance, attendance.getStatus(), -1);
+            return this;
+        }
+
+        public Changes statusChanged(Attendance attendance, AttendanceStatus previousStatus) {
+            if (previousStatus != attendance.getStatus()) {
+                adjust(attendance, previousStatus, -1);
+                adjust(attendance, attendance.getStatus(), 1);
+            }
+            return this;
+        }
+
+        private void adjust(Attendance attendance, AttendanceStatus status, int delta) {
+            AttendanceSummaryId key = AttendanceSummaryId.of(
+                    attendance.getStudent().getId(), attendance.getBatch().getId(), attendance.getDate());
+            deltas.computeIfAbsent(key, k -> new long[STATUSES.length])[status.ordinal()] += delta;
+        }
+    }
+}
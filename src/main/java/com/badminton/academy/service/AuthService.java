@@ -1,5 +1,7 @@
 package com.badminton.academy.service;
 
+import com.badminton.academy.cache.CacheInvalidator;
+import com.badminton.academy.cache.CoachFootprint;
 import com.badminton.academy.dto.request.LoginRequest;
 import com.badminton.academy.dto.request.PasswordOtpRequest;
 import com.badminton.academy.dto.request.PasswordOtpVerifyRequest;
@@ -20,7 +22,9 @@ import com.badminton.academy.model.enums.Role;
 import com.badminton.academy.repository.CoachRepository;
 import com.badminton.academy.repository.ParentRepository;
 import com.badminton.academy.repository.UserRepository;
+import com.badminton.academy.security.PrincipalCache;
 import com.badminton.academy.security.jwt.JwtUtils;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AnonymousAuthenticationToken;
@@ -48,6 +52,8 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtUtils jwtUtils;
     private final OtpService otpService;
+    private final PrincipalCache principalCache;
+    private final CacheInvalidator cacheInvalidator;
 
     @Transactional
     public AuthResponse register(RegisterRequest request) {
@@ -89,6 +95,7 @@ public class AuthService {
                 coach.setBio(request.getBio());
                 coach.setCertifications(request.getCertifications());
                 user = coachRepository.save(coach);
+                cacheInvalidator.coachChanged(null, CoachFootprint.of(coach));
             }
             case PARENT -> {
                 Parent parent = new Parent();
@@ -103,7 +110,7 @@ public class AuthService {
             default -> throw new IllegalArgumentException("Invalid role: " + targetRole);
         }
 
-        String accessToken = jwtUtils.generateTokenFromUsername(user.getEmail());
+        String accessToken = jwtUtils.generateTokenForUser(user);
         String refreshToken = jwtUtils.generateRefreshToken(user.getEmail());
 
         log.info("User registered successfully: {}", user.getEmail());
@@ -139,6 +146,7 @@ public class AuthService {
         otpService.consumePasswordResetOtp(request.getEmail(), request.getOtp());
         user.setPassword(passwordEncoder.encode(request.getNewPassword()));
         userRepository.save(user);
+        principalCache.invalidate(user.getEmail());
         log.info("Password reset successful for user: {}", user.getEmail());
     }
 
@@ -169,15 +177,13 @@ public class AuthService {
     public AuthResponse refreshToken(RefreshTokenRequest request) {
         String refreshToken = request.getRefreshToken();
 
-        if (!jwtUtils.validateJwtToken(refreshToken)) {
-            throw new IllegalArgumentException("Invalid refresh token");
-        }
-
-        String email = jwtUtils.getUsernameFromJwtToken(refreshToken);
+        String email = jwtUtils.verify(refreshToken)
+                .map(Claims::getSubject)
+                .orElseThrow(() -> new IllegalArgumentException("Invalid refresh token"));
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
-        String newAccessToken = jwtUtils.generateTokenFromUsername(email);
+        String newAccessToken = jwtUtils.generateTokenForUser(user);
         String newRefreshToken = jwtUtils.generateRefreshToken(email);
 
         return AuthResponse.builder()
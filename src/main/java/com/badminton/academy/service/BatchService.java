@@ -1,9 +1,14 @@
 package com.badminton.academy.service;
 
+import com.badminton.academy.cache.BatchFootprint;
+import com.badminton.academy.cache.CacheInvalidator;
+import com.badminton.academy.cache.NormalizedCache;
+import com.badminton.academy.cache.StudentFootprint;
 import com.badminton.academy.dto.request.CreateBatchRequest;
 import com.badminton.academy.dto.request.UpdateBatchRequest;
 import com.badminton.academy.dto.response.BatchResponse;
 import com.badminton.academy.exception.ResourceNotFoundException;
+import com.badminton.academy.exception.StaleVersionException;
 import com.badminton.academy.model.Batch;
 import com.badminton.academy.model.Coach;
 import com.badminton.academy.model.Student;
@@ -11,11 +16,10 @@ import com.badminton.academy.model.enums.SkillLevel;
 import com.badminton.academy.repository.BatchRepository;
 import com.badminton.academy.repository.CoachRepository;
 import com.badminton.academy.repository.StudentRepository;
+import com.badminton.academy.security.AuthorizationIndex;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,87 +35,66 @@ public class BatchService {
     private final BatchRepository batchRepository;
     private final CoachRepository coachRepository;
     private final StudentRepository studentRepository;
+    private final AuthorizationIndex authorizationIndex;
+    private final CacheInvalidator cacheInvalidator;
+    private final NormalizedCache normalizedCache;
+
+    private final NormalizedCache.Entities<BatchResponse> batches = new NormalizedCache.Entities<>(
+            "batches:byId", BatchResponse::getId, this::loadBatchResponses);
+
+    @PostConstruct
+    void registerRefreshLoaders() {
+        normalizedCache.refreshWith("batches:all", batches, key -> mapToBatchResponses(batchRepository.findAll()));
+        normalizedCache.refreshWith("batches:active", batches,
+                key -> mapToBatchResponses(batchRepository.findByIsActiveTrue()));
+        normalizedCache.refreshWith("batches:withSlots", batches,
+                key -> mapToBatchResponses(batchRepository.findBatchesWithAvailableSlots()));
+    }
 
-    @Transactional(readOnly = true)
-    @Cacheable(value = "batches:all")
     public List<BatchResponse> getAllBatches() {
-        log.debug("Cache miss: fetching all batches from database");
-        return batchRepository.findAll().stream()
-                .map(this::mapToBatchResponse)
-                .collect(Collectors.toList());
+        return normalizedCache.list("batches:all", NormalizedCache.ALL, batches,
+                () -> mapToBatchResponses(batchRepository.findAll()));
     }
 
-    @Transactional(readOnly = true)
-    @Cacheable(value = "batches:active")
     public List<BatchResponse> getActiveBatches() {
-        log.debug("Cache miss: fetching active batches from database");
-        return batchRepository.findByIsActiveTrue().stream()
-                .map(this::mapToBatchResponse)
-                .collect(Collectors.toList());
+        return normalizedCache.list("batches:active", NormalizedCache.ALL, batches,
+                () -> mapToBatchResponses(batchRepository.findByIsActiveTrue()));
     }
 
-    @Transactional(readOnly = true)
-    @Cacheable(value = "batches:byId", key = "#id")
     public BatchResponse getBatchById(Long id) {
-        log.debug("Cache miss: fetching batch {} from database", id);
-        Batch batch = batchRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Batch not found with id: " + id));
-        return mapToBatchResponse(batch);
+        BatchResponse response = normalizedCache.get(batches, id);
+        if (response == null) {
+            throw new ResourceNotFoundException("Batch not found with id: " + id);
+        }
+        return response;
     }
 
-    @Transactional(readOnly = true)
-    @Cacheable(value = "batches:byCoach", key = "#coachId")
     public List<BatchResponse> getBatchesByCoach(Long coachId) {
-        log.debug("Cache miss: fetching batches by coach {} from database", coachId);
-        return batchRepository.findByCoachId(coachId).stream()
-                .map(this::mapToBatchResponse)
-                .collect(Collectors.toList());
+        return normalizedCache.list("batches:byCoach", coachId, batches,
+                () -> mapToBatchResponses(batchRepository.findByCoachId(coachId)));
     }
 
-    @Transactional(readOnly = true)
-    @Cacheable(value = "batches:byCoach", key = "'active:' + #coachId")
     public List<BatchResponse> getActiveBatchesByCoach(Long coachId) {
-        log.debug("Cache miss: fetching active batches by coach {} from database", coachId);
-        return batchRepository.findActiveByCoachId(coachId).stream()
-                .map(this::mapToBatchResponse)
-                .collect(Collectors.toList());
+        return normalizedCache.list("batches:byCoach", "active:" + coachId, batches,
+                () -> mapToBatchResponses(batchRepository.findActiveByCoachId(coachId)));
     }
 
-    @Transactional(readOnly = true)
-    @Cacheable(value = "batches:bySkillLevel", key = "#skillLevel")
     public List<BatchResponse> getBatchesBySkillLevel(SkillLevel skillLevel) {
-        log.debug("Cache miss: fetching batches by skill level {} from database", skillLevel);
-        return batchRepository.findBySkillLevel(skillLevel).stream()
-                .map(this::mapToBatchResponse)
-                .collect(Collectors.toList());
+        return normalizedCache.list("batches:bySkillLevel", skillLevel, batches,
+                () -> mapToBatchResponses(batchRepository.findBySkillLevel(skillLevel)));
     }
 
-    @Transactional(readOnly = true)
-    @Cacheable(value = "batches:byStudent", key = "#studentId")
     public List<BatchResponse> getBatchesByStudent(Long studentId) {
-        log.debug("Cache miss: fetching batches by student {} from database", studentId);
-        return batchRepository.findByStudentId(studentId).stream()
-                .map(this::mapToBatchResponse)
-                .collect(Collectors.toList());
+        return normalizedCache.list("batches:byStudent", studentId, batches,
+                () -> mapToBatchResponses(batchRepository.findByStudentId(studentId)));
     }
 
-    @Transactional(readOnly = true)
-    @Cacheable(value = "batches:withSlots")
     public List<BatchResponse> getBatchesWithAvailableSlots() {
-        log.debug("Cache miss: fetching batches with available slots from database");
-        return batchRepository.findBatchesWithAvailableSlots().stream()
-                .map(this::mapToBatchResponse)
-                .collect(Collectors.toList());
+        return normalizedCache.list("batches:withSlots", NormalizedCache.ALL, batches,
+                () -> mapToBatchResponses(batchRepository.findBatchesWithAvailableSlots()));
     }
 
     @Transactional
-    @Caching(evict = {
-        @CacheEvict(value = "batches:all", allEntries = true),
-        @CacheEvict(value = "batches:active", allEntries = true),
-        @CacheEvict(value = "batches:byCoach", allEntries = true),
-        @CacheEvict(value = "batches:bySkillLevel", allEntries = true),
-        @CacheEvict(value = "batches:withSlots", allEntries = true)
-    })
     public BatchResponse createBatch(CreateBatchRequest request) {
         Coach coach = coachRepository.findById(request.getCoachId())
                 .orElseThrow(() -> new ResourceNotFoundException("Coach not found with id: " + request.getCoachId()));
@@ -127,22 +110,17 @@ public class BatchService {
                 .build();
 
         Batch savedBatch = batchRepository.save(batch);
+        cacheInvalidator.batchChanged(null, BatchFootprint.of(savedBatch));
         log.info("Batch created successfully: {}", savedBatch.getName());
         return mapToBatchResponse(savedBatch);
     }
 
     @Transactional
-    @Caching(evict = {
-        @CacheEvict(value = "batches:all", allEntries = true),
-        @CacheEvict(value = "batches:active", allEntries = true),
-        @CacheEvict(value = "batches:byId", key = "#id"),
-        @CacheEvict(value = "batches:byCoach", allEntries = true),
-        @CacheEvict(value = "batches:bySkillLevel", allEntries = true),
-        @CacheEvict(value = "batches:withSlots", allEntries = true)
-    })
     public BatchResponse updateBatch(Long id, UpdateBatchRequest request) {
         Batch batch = batchRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Batch not found with id: " + id));
+        StaleVersionException.check("Batch", id, request.getVersion(), batch.getVersion());
+        BatchFootprint before = BatchFootprint.of(batch);
 
         if (request.getName() != null) batch.setName(request.getName());
         if (request.getSkillLevel() != null) batch.setSkillLevel(request.getSkillLevel());
@@ -153,109 +131,91 @@ public class BatchService {
         if (request.getCoachId() != null) {
             Coach coach = coachRepository.findById(request.getCoachId())
                     .orElseThrow(() -> new ResourceNotFoundException("Coach not found with id: " + request.getCoachId()));
+            Long previousCoachId = batch.getCoach() != null ? batch.getCoach().getId() : null;
             batch.setCoach(coach);
+            authorizationIndex.invalidateBatch(id);
+            authorizationIndex.invalidateUser(previousCoachId);
+            authorizationIndex.invalidateUser(coach.getId());
         }
 
-        Batch updatedBatch = batchRepository.save(batch);
+        // Flush so the response carries the incremented version
+        Batch updatedBatch = batchRepository.saveAndFlush(batch);
+        cacheInvalidator.batchChanged(before, BatchFootprint.of(updatedBatch));
         log.info("Batch updated successfully: {}", updatedBatch.getName());
         return mapToBatchResponse(updatedBatch);
     }
 
     @Transactional
-    @Caching(evict = {
-        @CacheEvict(value = "batches:all", allEntries = true),
-        @CacheEvict(value = "batches:byId", key = "#batchId"),
-        @CacheEvict(value = "batches:byStudent", allEntries = true),
-        @CacheEvict(value = "batches:withSlots", allEntries = true),
-        @CacheEvict(value = "students:all", allEntries = true),
-        @CacheEvict(value = "students:byId", key = "#studentId"),
-        @CacheEvict(value = "students:byBatch", allEntries = true)
-    })
     public BatchResponse addStudentToBatch(Long batchId, Long studentId) {
         Batch batch = batchRepository.findById(batchId)
                 .orElseThrow(() -> new ResourceNotFoundException("Batch not found with id: " + batchId));
 
         Student student = studentRepository.findById(studentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Student not found with id: " + studentId));
+        StudentFootprint before = StudentFootprint.of(student);
 
         batch.getStudents().add(student);
         student.getBatches().add(batch);
+        batch.markRosterChanged();
 
         Batch updatedBatch = batchRepository.save(batch);
+        authorizationIndex.invalidateStudent(studentId);
+        cacheInvalidator.studentChanged(before, StudentFootprint.of(student));
         log.info("Student {} added to batch {}", studentId, batchId);
         return mapToBatchResponse(updatedBatch);
     }
 
     @Transactional
-    @Caching(evict = {
-        @CacheEvict(value = "batches:all", allEntries = true),
-        @CacheEvict(value = "batches:byId", key = "#batchId"),
-        @CacheEvict(value = "batches:byStudent", allEntries = true),
-        @CacheEvict(value = "batches:withSlots", allEntries = true),
-        @CacheEvict(value = "students:all", allEntries = true),
-        @CacheEvict(value = "students:byId", key = "#studentId"),
-        @CacheEvict(value = "students:byBatch", allEntries = true)
-    })
     public BatchResponse removeStudentFromBatch(Long batchId, Long studentId) {
         Batch batch = batchRepository.findById(batchId)
                 .orElseThrow(() -> new ResourceNotFoundException("Batch not found with id: " + batchId));
 
         Student student = studentRepository.findById(studentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Student not found with id: " + studentId));
+        StudentFootprint before = StudentFootprint.of(student);
 
         batch.getStudents().remove(student);
         student.getBatches().remove(batch);
+        batch.markRosterChanged();
 
         Batch updatedBatch = batchRepository.save(batch);
+        authorizationIndex.invalidateStudent(studentId);
+        cacheInvalidator.studentChanged(before, StudentFootprint.of(student));
         log.info("Student {} removed from batch {}", studentId, batchId);
         return mapToBatchResponse(updatedBatch);
     }
 
     @Transactional
-    @Caching(evict = {
-        @CacheEvict(value = "batches:all", allEntries = true),
-        @CacheEvict(value = "batches:active", allEntries = true),
-        @CacheEvict(value = "batches:byId", key = "#id"),
-        @CacheEvict(value = "batches:withSlots", allEntries = true)
-    })
     public void deactivateBatch(Long id) {
         Batch batch = batchRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Batch not found with id: " + id));
+        BatchFootprint before = BatchFootprint.of(batch);
         batch.setIsActive(false);
         batchRepository.save(batch);
+        cacheInvalidator.batchChanged(before, BatchFootprint.of(batch));
         log.info("Batch deactivated: {}", batch.getName());
     }
 
     @Transactional
-    @Caching(evict = {
-        @CacheEvict(value = "batches:all", allEntries = true),
-        @CacheEvict(value = "batches:active", allEntries = true),
-        @CacheEvict(value = "batches:byId", key = "#id"),
-        @CacheEvict(value = "batches:withSlots", allEntries = true)
-    })
     public void activateBatch(Long id) {
         Batch batch = batchRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Batch not found with id: " + id));
+        BatchFootprint before = BatchFootprint.of(batch);
         batch.setIsActive(true);
         batchRepository.save(batch);
+        cacheInvalidator.batchChanged(before, BatchFootprint.of(batch));
         log.info("Batch activated: {}", batch.getName());
     }
 
     @Transactional
-    @Caching(evict = {
-        @CacheEvict(value = "batches:all", allEntries = true),
-        @CacheEvict(value = "batches:active", allEntries = true),
-        @CacheEvict(value = "batches:byId", key = "#id"),
-        @CacheEvict(value = "batches:byCoach", allEntries = true),
-        @CacheEvict(value = "batches:bySkillLevel", allEntries = true),
-        @CacheEvict(value = "batches:byStudent", allEntries = true),
-        @CacheEvict(value = "batches:withSlots", allEntries = true)
-    })
     public void deleteBatch(Long id) {
-        if (!batchRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Batch not found with id: " + id);
-        }
-        batchRepository.deleteById(id);
+        Batch batch = batchRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Batch not found with id: " + id));
+        BatchFootprint before = BatchFootprint.of(batch);
+        batchRepository.delete(batch);
+        cacheInvalidator.batchChanged(before, null);
+        authorizationIndex.invalidateBatch(id);
+        authorizationIndex.invalidateUser(batch.getCoach().getId());
         log.info("Batch deleted with id: {}", id);
     }
 
@@ -263,6 +223,16 @@ public class BatchService {
         return batchRepository.countStudentsByBatchId(batchId);
     }
 
+    private List<BatchResponse> loadBatchResponses(List<Long> ids) {
+        return mapToBatchResponses(batchRepository.findByIdIn(ids));
+    }
+
+    private List<BatchResponse> mapToBatchResponses(List<Batch> batches) {
+        return batches.stream()
+                .map(this::mapToBatchResponse)
+                .collect(Collectors.toList());
+    }
+
     private BatchResponse mapToBatchResponse(Batch batch) {
         return BatchResponse.builder()
                 .id(batch.getId())
@@ -273,6 +243,7 @@ public class BatchService {
                 .startTime(batch.getStartTime())
                 .endTime(batch.getEndTime())
                 .isActive(batch.getIsActive())
+                .version(batch.getVersion())
                 .totalStudents(batch.getStudents() != null ? batch.getStudents().size() : 0)
                 .studentIds(batch.getStudents() != null ?
                         batch.getStudents().stream().map(Student::getId).collect(Collectors.toSet()) : null)
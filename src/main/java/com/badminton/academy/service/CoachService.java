@@ -1,16 +1,20 @@
 package com.badminton.academy.service;
 
+import com.badminton.academy.cache.CacheInvalidator;
+import com.badminton.academy.cache.CacheRefreshRegistry;
+import com.badminton.academy.cache.NormalizedCache;
+import com.badminton.academy.cache.CoachFootprint;
 import com.badminton.academy.dto.request.UpdateCoachRequest;
 import com.badminton.academy.dto.response.CoachResponse;
 import com.badminton.academy.exception.ResourceNotFoundException;
 import com.badminton.academy.model.Batch;
 import com.badminton.academy.model.Coach;
 import com.badminton.academy.repository.CoachRepository;
+import com.badminton.academy.security.PrincipalCache;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,83 +26,84 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 @Slf4j
-@Transactional(readOnly = true)
 public class CoachService {
 
     private final CoachRepository coachRepository;
+    private final PrincipalCache principalCache;
+    private final CacheInvalidator cacheInvalidator;
+    private final NormalizedCache normalizedCache;
+    private final CacheRefreshRegistry cacheRefreshRegistry;
+
+    private final NormalizedCache.Entities<CoachResponse> coaches = new NormalizedCache.Entities<>(
+            "coaches:byId", CoachResponse::getId, this::loadCoachResponses);
+
+    @PostConstruct
+    void registerRefreshLoaders() {
+        cacheRefreshRegistry.register("coaches:count", key -> coachRepository.countActiveCoaches());
+        normalizedCache.refreshWith("coaches:all", coaches, key -> mapToCoachResponses(coachRepository.findAll()));
+        normalizedCache.refreshWith("coaches:active", coaches,
+                key -> mapToCoachResponses(coachRepository.findAllActiveCoaches()));
+    }
 
-    @Cacheable(value = "coaches:all")
     public List<CoachResponse> getAllCoaches() {
-        log.debug("Cache miss: fetching all coaches from database");
-        return coachRepository.findAll().stream()
-                .map(this::mapToCoachResponse)
-                .collect(Collectors.toList());
+        return normalizedCache.list("coaches:all", NormalizedCache.ALL, coaches,
+                () -> mapToCoachResponses(coachRepository.findAll()));
     }
 
-    @Cacheable(value = "coaches:active")
     public List<CoachResponse> getActiveCoaches() {
-        log.debug("Cache miss: fetching active coaches from database");
-        return coachRepository.findAllActiveCoaches().stream()
-                .map(this::mapToCoachResponse)
-                .collect(Collectors.toList());
+        return normalizedCache.list("coaches:active", NormalizedCache.ALL, coaches,
+                () -> mapToCoachResponses(coachRepository.findAllActiveCoaches()));
     }
 
-    @Cacheable(value = "coaches:byId", key = "#id")
     public CoachResponse getCoachById(Long id) {
-        log.debug("Cache miss: fetching coach {} from database", id);
-        Coach coach = coachRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Coach not found with id: " + id));
-        return mapToCoachResponse(coach);
+        CoachResponse response = normalizedCache.get(coaches, id);
+        if (response == null) {
+            throw new ResourceNotFoundException("Coach not found with id: " + id);
+        }
+        return response;
     }
 
-    @Cacheable(value = "coaches:byEmail", key = "#email")
     public CoachResponse getCoachByEmail(String email) {
-        log.debug("Cache miss: fetching coach by email {} from database", email);
-        Coach coach = coachRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException("Coach not found with email: " + email));
-        return mapToCoachResponse(coach);
+        Long id = normalizedCache.pointer("coaches:byEmail", email,
+                () -> coachRepository.findIdByEmail(email).orElse(null));
+        CoachResponse response = id != null ? normalizedCache.get(coaches, id) : null;
+        if (response == null) {
+            throw new ResourceNotFoundException("Coach not found with email: " + email);
+        }
+        return response;
     }
 
-    @Cacheable(value = "coaches:bySpecialization", key = "#specialization")
     public List<CoachResponse> getCoachesBySpecialization(String specialization) {
-        log.debug("Cache miss: fetching coaches by specialization {} from database", specialization);
-        return coachRepository.findBySpecialization(specialization).stream()
-                .map(this::mapToCoachResponse)
-                .collect(Collectors.toList());
+        return normalizedCache.list("coaches:bySpecialization", specialization, coaches,
+                () -> mapToCoachResponses(coachRepository.findBySpecialization(specialization)));
     }
 
-    @Cacheable(value = "coaches:byExperience", key = "#years")
     public List<CoachResponse> getCoachesByMinimumExperience(Integer years) {
-        log.debug("Cache miss: fetching coaches by min experience {} from database", years);
-        return coachRepository.findByMinimumExperience(years).stream()
-                .map(this::mapToCoachResponse)
-                .collect(Collectors.toList());
+        return normalizedCache.list("coaches:byExperience", years, coaches,
+                () -> mapToCoachResponses(coachRepository.findByMinimumExperience(years)));
     }
 
-    @Cacheable(value = "coaches:byBatch", key = "#batchId")
     public CoachResponse getCoachByBatch(Long batchId) {
-        log.debug("Cache miss: fetching coach by batch {} from database", batchId);
-        Coach coach = coachRepository.findByBatchId(batchId)
-                .orElseThrow(() -> new ResourceNotFoundException("Coach not found for batch id: " + batchId));
-        return mapToCoachResponse(coach);
+        Long id = normalizedCache.pointer("coaches:byBatch", batchId,
+                () -> coachRepository.findIdByBatchId(batchId).orElse(null));
+        CoachResponse response = id != null ? normalizedCache.get(coaches, id) : null;
+        if (response == null) {
+            throw new ResourceNotFoundException("Coach not found for batch id: " + batchId);
+        }
+        return response;
     }
 
     @Transactional
-    @Caching(evict = {
-        @CacheEvict(value = "coaches:all", allEntries = true),
-        @CacheEvict(value = "coaches:active", allEntries = true),
-        @CacheEvict(value = "coaches:byId", key = "#id"),
-        @CacheEvict(value = "coaches:byEmail", allEntries = true),
-        @CacheEvict(value = "coaches:bySpecialization", allEntries = true),
-        @CacheEvict(value = "coaches:byExperience", allEntries = true),
-        @CacheEvict(value = "coaches:byBatch", allEntries = true)
-    })
     public CoachResponse updateCoach(Long id, UpdateCoachRequest request) {
         Coach coach = coachRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Coach not found with id: " + id));
+        CoachFootprint before = CoachFootprint.of(coach);
 
         // Update common user fields
-        if (request.getEmail() != null) coach.setEmail(request.getEmail());
+        if (request.getEmail() != null && !request.getEmail().equals(coach.getEmail())) {
+            principalCache.invalidate(coach.getEmail());
+            coach.setEmail(request.getEmail());
+        }
         if (request.getFirstName() != null) coach.setFirstName(request.getFirstName());
         if (request.getLastName() != null) coach.setLastName(request.getLastName());
         if (request.getFirstName() != null || request.getLastName() != null) {
@@ -119,51 +124,36 @@ public class CoachService {
         if (request.getCertifications() != null) coach.setCertifications(request.getCertifications());
 
         Coach updatedCoach = coachRepository.save(coach);
+        cacheInvalidator.coachChanged(before, CoachFootprint.of(updatedCoach));
         log.info("Coach updated successfully: {}", updatedCoach.getEmail());
         return mapToCoachResponse(updatedCoach);
     }
 
     @Transactional
-    @Caching(evict = {
-        @CacheEvict(value = "coaches:all", allEntries = true),
-        @CacheEvict(value = "coaches:active", allEntries = true),
-        @CacheEvict(value = "coaches:byId", key = "#id"),
-        @CacheEvict(value = "coaches:count", allEntries = true)
-    })
     public void deactivateCoach(Long id) {
         Coach coach = coachRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Coach not found with id: " + id));
+        CoachFootprint before = CoachFootprint.of(coach);
         coach.setIsActive(false);
         coachRepository.save(coach);
+        cacheInvalidator.coachChanged(before, CoachFootprint.of(coach));
+        principalCache.invalidate(coach.getEmail());
         log.info("Coach deactivated: {}", coach.getEmail());
     }
 
     @Transactional
-    @Caching(evict = {
-        @CacheEvict(value = "coaches:all", allEntries = true),
-        @CacheEvict(value = "coaches:active", allEntries = true),
-        @CacheEvict(value = "coaches:byId", key = "#id"),
-        @CacheEvict(value = "coaches:count", allEntries = true)
-    })
     public void activateCoach(Long id) {
         Coach coach = coachRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Coach not found with id: " + id));
+        CoachFootprint before = CoachFootprint.of(coach);
         coach.setIsActive(true);
         coachRepository.save(coach);
+        cacheInvalidator.coachChanged(before, CoachFootprint.of(coach));
+        principalCache.invalidate(coach.getEmail());
         log.info("Coach activated: {}", coach.getEmail());
     }
 
     @Transactional
-    @Caching(evict = {
-        @CacheEvict(value = "coaches:all", allEntries = true),
-        @CacheEvict(value = "coaches:active", allEntries = true),
-        @CacheEvict(value = "coaches:byId", key = "#id"),
-        @CacheEvict(value = "coaches:byEmail", allEntries = true),
-        @CacheEvict(value = "coaches:bySpecialization", allEntries = true),
-        @CacheEvict(value = "coaches:byExperience", allEntries = true),
-        @CacheEvict(value = "coaches:byBatch", allEntries = true),
-        @CacheEvict(value = "coaches:count", allEntries = true)
-    })
     public void deleteCoach(Long id) {
         Coach coach = coachRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Coach not found with id: " + id));
@@ -173,15 +163,28 @@ public class CoachService {
         }
 
         coachRepository.delete(coach);
+        cacheInvalidator.coachChanged(CoachFootprint.of(coach), null);
+        principalCache.invalidate(coach.getEmail());
         log.info("Coach deleted: {}", coach.getEmail());
     }
 
-    @Cacheable(value = "coaches:count")
+    @Transactional(readOnly = true)
+    @Cacheable(value = "coaches:count", sync = true)
     public Long countActiveCoaches() {
         log.debug("Cache miss: counting active coaches from database");
         return coachRepository.countActiveCoaches();
     }
 
+    private List<CoachResponse> loadCoachResponses(List<Long> ids) {
+        return mapToCoachResponses(coachRepository.findByIdIn(ids));
+    }
+
+    private List<CoachResponse> mapToCoachResponses(List<Coach> coaches) {
+        return coaches.stream()
+                .map(this::mapToCoachResponse)
+                .collect(Collectors.toList());
+    }
+
     private CoachResponse mapToCoachResponse(Coach coach) {
         CoachResponse response = new CoachResponse();
         response.setId(coach.getId());
@@ -3,10 +3,16 @@ package com.badminton.academy.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -17,14 +23,12 @@ public class EmailService {
     @Value("${app.mail.from:adhnanjeff26@gmail.com}")
     private String fromAddress;
 
+    public record OtpEmail(String email, String otp, String purposeLabel) {
+    }
+
     public boolean sendOtp(String email, String otp, String purposeLabel) {
         try {
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setFrom(fromAddress);
-            message.setTo(email);
-            message.setSubject("Badminton Academy OTP Verification");
-            message.setText(buildOtpBody(otp, purposeLabel));
-            mailSender.send(message);
+            mailSender.send(buildOtpMessage(new OtpEmail(email, otp, purposeLabel)));
             return true;
         } catch (Exception ex) {
             log.error("Failed to send OTP email to {}: {}", email, ex.getMessage());
@@ -32,6 +36,50 @@ public class EmailService {
         }
     }
 
+    /**
+     * Sends a batch of OTP emails over a single SMTP connection.
+     *
+     * @return error message per index of every email that was not sent (empty when all were)
+     */
+    public Map<Integer, String> sendOtps(List<OtpEmail> emails) {
+        SimpleMailMessage[] messages = emails.stream().map(this::buildOtpMessage).toArray(SimpleMailMessage[]::new);
+        Map<Integer, String> failures = new LinkedHashMap<>();
+        try {
+            mailSender.send(messages);
+        } catch (MailSendException ex) {
+            Map<Object, Exception> failed = ex.getFailedMessages();
+            for (int i = 0; i < messages.length; i++) {
+                if (failed.isEmpty()) {
+                    failures.put(i, ex.getMessage());
+                    continue;
+                }
+                for (Map.Entry<Object, Exception> entry : failed.entrySet()) {
+                    if (entry.getKey() == messages[i]) {
+                        failures.put(i, entry.getValue().getMessage());
+                    }
+                }
+            }
+        } catch (MailException ex) {
+            for (int i = 0; i < messages.length; i++) {
+                failures.put(i, ex.getMessage());
+            }
+        }
+        if (!failures.isEmpty()) {
+            log.error("Failed to send {} of {} OTP emails: {}", failures.size(), messages.length,
+                    failures.values().iterator().next());
+        }
+        return failures;
+    }
+
+    private SimpleMailMessage buildOtpMessage(OtpEmail email) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setFrom(fromAddress);
+        message.setTo(email.email());
+        message.setSubject("Badminton Academy OTP Verification");
+        message.setText(buildOtpBody(email.otp(), email.purposeLabel()));
+        return message;
+    }
+
     private String buildOtpBody(String otp, String purposeLabel) {
         return "Your Badminton Academy OTP for " + purposeLabel + " is: " + otp + "\n\n"
 +                "This code is valid for 5 minutes. Do not share this code with anyone.";
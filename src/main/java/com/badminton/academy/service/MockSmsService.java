@@ -4,9 +4,14 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
 /**
  * Mock SMS Service for development/testing.
- * Logs OTP to console instead of sending actual SMS.
+ * Logs OTP to console instead of sending actual SMS, and keeps the last
+ * {@value #KEPT_MESSAGES} messages so tests can read what was delivered.
  * 
  * To use a real SMS provider, implement SmsService and replace this bean.
  */
@@ -15,12 +20,20 @@ import org.springframework.stereotype.Service;
 @ConditionalOnProperty(name = "sms.provider", havingValue = "mock", matchIfMissing = true)
 public class MockSmsService implements SmsService {
 
+    static final int KEPT_MESSAGES = 100;
+
+    private final Deque<SentSms> sentMessages = new ConcurrentLinkedDeque<>();
+
+    public record SentSms(String phoneNumber, String message) {
+    }
+
     @Override
     public boolean sendSms(String phoneNumber, String message) {
         log.info("========================================");
         log.info("MOCK SMS SERVICE - Message sent to: {}", phoneNumber);
         log.info("Message: {}", message);
         log.info("========================================");
+        keep(new SentSms(phoneNumber, message));
         return true;
     }
 
@@ -30,6 +43,25 @@ public class MockSmsService implements SmsService {
         log.info("MOCK SMS SERVICE - OTP sent to: {}", phoneNumber);
         log.info("OTP Code: {}", otp);
         log.info("========================================");
+        keep(new SentSms(phoneNumber, otp));
         return true;
     }
+
+    /**
+     * Messages sent so far, oldest first (OTP messages hold just the code)
+     */
+    public List<SentSms> getSentMessages() {
+        return List.copyOf(sentMessages);
+    }
+
+    public void clearSentMessages() {
+        sentMessages.clear();
+    }
+
+    private void keep(SentSms sms) {
+        sentMessages.addLast(sms);
+        while (sentMessages.size() > KEPT_MESSAGES) {
+            sentMessages.pollFirst();
+        }
+    }
 }
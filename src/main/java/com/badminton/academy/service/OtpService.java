@@ -6,18 +6,22 @@ import com.badminton.academy.dto.request.SignupOtpRequest;
 import com.badminton.academy.dto.response.AuthResponse;
 import com.badminton.academy.dto.response.OtpResponse;
 import com.badminton.academy.dto.response.UserResponse;
-import com.badminton.academy.model.OtpVerification;
 import com.badminton.academy.model.Parent;
 import com.badminton.academy.model.User;
 import com.badminton.academy.model.enums.OtpChannel;
 import com.badminton.academy.model.enums.Role;
-import com.badminton.academy.repository.OtpVerificationRepository;
+import com.badminton.academy.notification.OtpDeliveryDispatcher;
+import com.badminton.academy.otp.OtpHasher;
+import com.badminton.academy.otp.OtpRateLimiter;
+import com.badminton.academy.otp.OtpStore;
+import com.badminton.academy.otp.StoredOtp;
 import com.badminton.academy.repository.ParentRepository;
 import com.badminton.academy.repository.UserRepository;
 import com.badminton.academy.security.jwt.JwtUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -33,12 +37,13 @@ import java.util.Optional;
 @Slf4j
 public class OtpService {
 
-    private final OtpVerificationRepository otpRepository;
+    private final OtpStore otpStore;
+    private final OtpRateLimiter otpRateLimiter;
+    private final OtpHasher otpHasher;
     private final UserRepository userRepository;
     private final ParentRepository parentRepository;
     private final PasswordEncoder passwordEncoder;
-    private final SmsService smsService;
-    private final EmailService emailService;
+    private final OtpDeliveryDispatcher otpDeliveryDispatcher;
     private final JwtUtils jwtUtils;
 
     private static final SecureRandom SECURE_RANDOM = new SecureRandom();
@@ -46,9 +51,6 @@ public class OtpService {
     @Value("${otp.expiry-minutes:5}")
     private int otpExpiryMinutes;
 
-    @Value("${otp.max-requests-per-hour:5}")
-    private int maxRequestsPerHour;
-
     @Value("${otp.max-verify-attempts:5}")
     private int maxVerifyAttempts;
 
@@ -118,32 +120,20 @@ public class OtpService {
     private OtpResponse requestOtpInternal(String identifier, OtpChannel channel, OtpPurpose purpose) {
         String otpKey = buildOtpKey(identifier, channel, purpose);
 
-        LocalDateTime oneHourAgo = LocalDateTime.now().minusHours(1);
-        long recentRequests = otpRepository.countRecentOtpRequests(otpKey, oneHourAgo);
-        if (recentRequests >= maxRequestsPerHour) {
+        long retryAfterSeconds = otpRateLimiter.tryAcquire(otpKey);
+        if (retryAfterSeconds > 0) {
             log.warn("Rate limit exceeded for OTP key: {}", maskKeyForLog(otpKey));
-            return OtpResponse.rateLimited(3600);
+            return OtpResponse.rateLimited((int) retryAfterSeconds);
         }
 
-        otpRepository.invalidateAllOtpsForPhoneNumber(otpKey);
-
         String otp = generateOtp();
-        OtpVerification otpVerification = OtpVerification.builder()
-                .phoneNumber(otpKey)
-                .otpHash(passwordEncoder.encode(otp))
-                .expiresAt(LocalDateTime.now().plusMinutes(otpExpiryMinutes))
-                .isUsed(false)
-                .attemptCount(0)
-                .build();
-        otpRepository.save(otpVerification);
+        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(otpExpiryMinutes);
+        otpStore.save(otpKey, otpHasher.hash(otpKey, otp), expiresAt);
 
-        boolean sent = sendOtp(channel, identifier, otp, purpose);
-        if (!sent) {
-            log.error("Failed to send OTP to destination: {}", maskDestination(channel, identifier));
-            return OtpResponse.error("Failed to send OTP. Please try again.");
-        }
+        // Sent by the dispatcher once this transaction has committed
+        otpDeliveryDispatcher.dispatch(channel, identifier, otp, purposeLabel(purpose), expiresAt);
 
-        log.info("OTP sent successfully to destination: {}", maskDestination(channel, identifier));
+        log.info("OTP queued for destination: {}", maskDestination(channel, identifier));
         return OtpResponse.builder()
                 .success(true)
                 .message("OTP sent successfully")
@@ -152,43 +142,36 @@ public class OtpService {
                 .build();
     }
 
-    private boolean sendOtp(OtpChannel channel, String destination, String otp, OtpPurpose purpose) {
-        if (channel == OtpChannel.PHONE) {
-            return smsService.sendOtp(destination, otp);
-        }
-
-        String purposeLabel = switch (purpose) {
+    private String purposeLabel(OtpPurpose purpose) {
+        return switch (purpose) {
             case LOGIN -> "login";
             case SIGNUP -> "signup";
             case PASSWORD_RESET -> "password reset";
         };
-        return emailService.sendOtp(destination, otp, purposeLabel);
     }
 
     private void verifyOtpInternal(String otpKey, String otp, boolean consume) {
-        Optional<OtpVerification> otpOpt = otpRepository.findLatestValidOtp(otpKey, LocalDateTime.now());
-        if (otpOpt.isEmpty()) {
+        Optional<StoredOtp> storedOtp = otpStore.findValid(otpKey);
+        if (storedOtp.isEmpty()) {
             throw new IllegalArgumentException("Invalid or expired OTP. Please request a new one.");
         }
 
-        OtpVerification otpVerification = otpOpt.get();
-        if (otpVerification.getAttemptCount() >= maxVerifyAttempts) {
-            otpVerification.setIsUsed(true);
-            otpRepository.save(otpVerification);
+        StoredOtp otpVerification = storedOtp.get();
+        if (otpVerification.attemptCount() >= maxVerifyAttempts) {
+            otpStore.consume(otpKey, otpVerification);
             throw new IllegalArgumentException("Too many failed attempts. Please request a new OTP.");
         }
 
-        if (!passwordEncoder.matches(otp, otpVerification.getOtpHash())) {
-            otpVerification.setAttemptCount(otpVerification.getAttemptCount() + 1);
-            otpRepository.save(otpVerification);
+        if (!otpHasher.matches(otpKey, otp, otpVerification.otpHash())) {
+            int attempts = otpStore.recordFailedAttempt(otpKey, otpVerification);
 
-            int remainingAttempts = maxVerifyAttempts - otpVerification.getAttemptCount();
+            int remainingAttempts = maxVerifyAttempts - attempts;
             throw new IllegalArgumentException(String.format("Invalid OTP. %d attempts remaining.", remainingAttempts));
         }
 
-        if (consume) {
-            otpVerification.setIsUsed(true);
-            otpRepository.save(otpVerification);
+        // Only one of two concurrent verifies of the same OTP may use it
+        if (consume && !otpStore.consume(otpKey, otpVerification)) {
+            throw new IllegalArgumentException("Invalid or expired OTP. Please request a new one.");
         }
     }
 
@@ -286,10 +269,13 @@ public class OtpService {
         return key.length() <= 10 ? "********" : key.substring(0, 10) + "********";
     }
 
-    @Transactional
+    @Scheduled(fixedDelayString = "${otp.purge-interval-ms:300000}")
     public void cleanupExpiredOtps() {
-        otpRepository.deleteExpiredOtps(LocalDateTime.now());
-        log.info("Cleaned up expired OTPs");
+        int removed = otpStore.purgeExpired();
+        otpRateLimiter.purgeExpired();
+        if (removed > 0) {
+            log.info("Cleaned up {} expired OTPs", removed);
+        }
     }
 
     private UserResponse mapToUserResponse(User user) {
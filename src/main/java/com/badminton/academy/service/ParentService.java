@@ -1,14 +1,22 @@
 package com.badminton.academy.service;
 
+import com.badminton.academy.cache.CacheInvalidator;
+import com.badminton.academy.cache.ParentFootprint;
+import com.badminton.academy.cache.StudentFootprint;
 import com.badminton.academy.dto.request.UpdateParentRequest;
+import com.badminton.academy.dto.request.KeysetCursor;
+import com.badminton.academy.dto.response.CursorPage;
 import com.badminton.academy.dto.response.ParentResponse;
 import com.badminton.academy.exception.ResourceNotFoundException;
 import com.badminton.academy.model.Parent;
 import com.badminton.academy.model.Student;
 import com.badminton.academy.repository.ParentRepository;
 import com.badminton.academy.repository.StudentRepository;
+import com.badminton.academy.security.AuthorizationIndex;
+import com.badminton.academy.security.PrincipalCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,6 +24,7 @@ import java.time.LocalDate;
 import java.time.Period;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -24,6 +33,9 @@ public class ParentService {
 
     private final ParentRepository parentRepository;
     private final StudentRepository studentRepository;
+    private final PrincipalCache principalCache;
+    private final AuthorizationIndex authorizationIndex;
+    private final CacheInvalidator cacheInvalidator;
 
     public List<ParentResponse> getAllParents() {
         return parentRepository.findAll().stream()
@@ -31,6 +43,20 @@ public class ParentService {
                 .collect(Collectors.toList());
     }
 
+    public CursorPage<ParentResponse> getParentPage(String cursor, Integer limit) {
+        int size = CursorPage.clampLimit(limit);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        // Page over ids first: fetching the children collection in the limited query would
+        // make Hibernate paginate in memory
+        List<Long> ids = parentRepository.findIdsAfter(after != null ? after.id() : 0L, PageRequest.ofSize(size + 1));
+        List<Parent> rows = ids.isEmpty() ? List.of() : parentRepository.findByIdInOrderByIdAsc(ids);
+        return CursorPage.of(rows, size, row -> KeysetCursor.of(row.getId()).encode(), this::mapToParentResponse);
+    }
+
+    public Stream<ParentResponse> streamAllParents() {
+        return CursorPage.stream(cursor -> getParentPage(cursor, CursorPage.MAX_LIMIT));
+    }
+
     public List<ParentResponse> getActiveParents() {
         return parentRepository.findAllActiveParents().stream()
                 .map(this::mapToParentResponse)
@@ -59,9 +85,13 @@ public class ParentService {
     public ParentResponse updateParent(Long id, UpdateParentRequest request) {
         Parent parent = parentRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Parent not found with id: " + id));
+        ParentFootprint before = ParentFootprint.of(parent);
 
         // Update common user fields
-        if (request.getEmail() != null) parent.setEmail(request.getEmail());
+        if (request.getEmail() != null && !request.getEmail().equals(parent.getEmail())) {
+            principalCache.invalidate(parent.getEmail());
+            parent.setEmail(request.getEmail());
+        }
         if (request.getFirstName() != null) parent.setFirstName(request.getFirstName());
         if (request.getLastName() != null) parent.setLastName(request.getLastName());
         if (request.getFirstName() != null || request.getLastName() != null) {
@@ -79,6 +109,7 @@ public class ParentService {
         if (request.getParentPhoneNumber() != null) parent.setPhoneNumber(request.getParentPhoneNumber());
 
         Parent updatedParent = parentRepository.save(parent);
+        cacheInvalidator.parentChanged(before, ParentFootprint.of(updatedParent));
         log.info("Parent updated successfully: {}", updatedParent.getEmail());
         return mapToParentResponse(updatedParent);
     }
@@ -90,11 +121,14 @@ public class ParentService {
 
         Student student = studentRepository.findById(studentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Student not found with id: " + studentId));
+        StudentFootprint before = StudentFootprint.of(student);
 
         student.setParent(parent);
         parent.getChildren().add(student);
 
         Parent updatedParent = parentRepository.save(parent);
+        authorizationIndex.invalidateStudent(studentId);
+        cacheInvalidator.studentChanged(before, StudentFootprint.of(student));
         log.info("Child {} added to parent {}", studentId, parentId);
         return mapToParentResponse(updatedParent);
     }
@@ -106,12 +140,15 @@ public class ParentService {
 
         Student student = studentRepository.findById(studentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Student not found with id: " + studentId));
+        StudentFootprint before = StudentFootprint.of(student);
 
         student.setParent(null);
         parent.getChildren().remove(student);
 
         studentRepository.save(student);
         Parent updatedParent = parentRepository.save(parent);
+        authorizationIndex.invalidateStudent(studentId);
+        cacheInvalidator.studentChanged(before, StudentFootprint.of(student));
         log.info("Child {} removed from parent {}", studentId, parentId);
         return mapToParentResponse(updatedParent);
     }
@@ -122,6 +159,7 @@ public class ParentService {
                 .orElseThrow(() -> new ResourceNotFoundException("Parent not found with id: " + id));
         parent.setIsActive(false);
         parentRepository.save(parent);
+        principalCache.invalidate(parent.getEmail());
         log.info("Parent deactivated: {}", parent.getEmail());
     }
 
@@ -0,0 +1,170 @@
+package com.badminton.academy.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Keeps the monthly partitions of attendance and attendance_audit_log (see V12) in step with
+ * the calendar.
+ *
+ * At startup and nightly it creates the partitions for the current month and the next
+ * {@code months-ahead} months, so inserts never reach a month without a partition. Attendance
+ * also gets every month still reachable by backdating ({@code attendance.backdate.admin-window-days},
+ * the longer of the two windows), so marking last month works on a database without rows there.
+ * A table with a retention detaches every partition whose month ended more than that many
+ * months ago, never one still open for backdating, and moves it to the archive schema, where it stays queryable (or can be dumped and dropped)
+ * without weighing on the live table. Audit partitions are archived first: an attendance
+ * month that audit rows still reference cannot be detached and is retried on the next run.
+ *
+ * Does nothing unless the database is PostgreSQL with the partitioned tables, so H2 (tests)
+ * and schemas created by Hibernate keep working unpartitioned.
+ */
+@Service
+@Slf4j
+public class PartitionMaintenanceService {
+
+    private static final Pattern PARTITION_NAME = Pattern.compile("^[a-z_]+_p(\\d{4})_(\\d{2})$");
+    private static final Pattern SCHEMA_NAME = Pattern.compile("[a-z_][a-z0-9_]{0,62}");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int monthsAhead;
+    private final int backdateWindowDays;
+    private final String archiveSchema;
+    // Archive order: audit rows reference attendance
+    private final Map<String, Integer> retentionMonths = new LinkedHashMap<>();
+    private volatile Boolean partitioned;
+
+    public PartitionMaintenanceService(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            @Value("${app.partitioning.enabled:true}") boolean enabled,
+            @Value("${app.partitioning.months-ahead:3}") int monthsAhead,
+            @Value("${app.partitioning.archive-schema:archive}") String archiveSchema,
+            @Value("${app.partitioning.audit-retention-months:0}") int auditRetentionMonths,
+            @Value("${app.partitioning.attendance-retention-months:0}") int attendanceRetentionMonths,
+            @Value("${attendance.backdate.admin-window-days:30}") int backdateWindowDays
+    ) {
+        if (!SCHEMA_NAME.matcher(archiveSchema).matches()) {
+            throw new IllegalArgumentException("Invalid archive schema name: " + archiveSchema);
+        }
+        if (monthsAhead < 0 || auditRetentionMonths < 0 || attendanceRetentionMonths < 0 || backdateWindowDays < 0) {
+            throw new IllegalArgumentException("Partition months ahead, retentions and backdate window cannot be negative");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.monthsAhead = monthsAhead;
+        this.backdateWindowDays = backdateWindowDays;
+        this.archiveSchema = archiveSchema;
+        retentionMonths.put("attendance_audit_log", auditRetentionMonths);
+        retentionMonths.put("attendance", attendanceRetentionMonths);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        maintain();
+    }
+
+    /**
+     * Creates backdatable and upcoming partitions and archives expired ones for both tables.
+     */
+    @Scheduled(cron = "${app.partitioning.maintenance-cron:0 15 3 * * *}")
+    public void maintain() {
+        if (!enabled || !isPartitioned()) {
+            return;
+        }
+        LocalDate today = LocalDate.now();
+        LocalDate currentMonth = today.withDayOfMonth(1);
+        LocalDate lastMonth = currentMonth.plusMonths(monthsAhead);
+        retentionMonths.forEach((table, retention) -> {
+            // Audit rows are stamped with the time of the change, only attendance can be backdated
+            LocalDate firstWritable = "attendance".equals(table)
+                    ? today.minusDays(backdateWindowDays).withDayOfMonth(1)
+                    : currentMonth;
+            int created = 0;
+            for (LocalDate month = firstWritable; !month.isAfter(lastMonth); month = month.plusMonths(1)) {
+                Boolean added = jdbcTemplate.queryForObject("SELECT create_monthly_partition(?, ?)",
+                        Boolean.class, table, Date.valueOf(month));
+                if (Boolean.TRUE.equals(added)) {
+                    created++;
+                }
+            }
+            LocalDate keepFrom = currentMonth.minusMonths(retention);
+            int archived = retention > 0
+                    ? archive(table, keepFrom.isBefore(firstWritable) ? keepFrom : firstWritable)
+                    : 0;
+            if (created > 0 || archived > 0) {
+                log.info("Partitions of {}: {} created, {} archived to schema {}", table, created, archived, archiveSchema);
+            }
+        });
+    }
+
+    /**
+     * Detaches the partitions for months before {@code keepFrom} and moves them to the archive
+     * schema, each in its own transaction.
+     *
+     * @return number of partitions archived
+     */
+    private int archive(String table, LocalDate keepFrom) {
+        List<String> partitions = jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i " +
+                "JOIN pg_class c ON c.oid = i.inhrelid " +
+                "JOIN pg_class p ON p.oid = i.inhparent " +
+                "WHERE p.relname = ? ORDER BY c.relname",
+                String.class, table);
+        int archived = 0;
+        for (String partition : partitions) {
+            Matcher matcher = PARTITION_NAME.matcher(partition);
+            if (!matcher.matches()) {
+                continue;
+            }
+            LocalDate month = LocalDate.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)), 1);
+            if (!month.isBefore(keepFrom)) {
+                continue;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    jdbcTemplate.execute("CREATE SCHEMA IF NOT EXISTS " + archiveSchema);
+                    jdbcTemplate.execute("ALTER TABLE " + table + " DETACH PARTITION " + partition);
+                    jdbcTemplate.execute("ALTER TABLE " + partition + " SET SCHEMA " + archiveSchema);
+                });
+                archived++;
+            } catch (DataAccessException ex) {
+                log.warn("Could not archive partition {} of {}: {}", partition, table, ex.getMostSpecificCause().getMessage());
+            }
+        }
+        return archived;
+    }
+
+    private boolean isPartitioned() {
+        if (partitioned == null) {
+            String database = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            partitioned = "PostgreSQL".equals(database) && Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                    "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table t JOIN pg_class c ON c.oid = t.partrelid " +
+                    "WHERE c.relname = 'attendance')", Boolean.class));
+            if (!partitioned) {
+                log.info("Attendance tables are not partitioned on {}; partition maintenance disabled", database);
+            }
+        }
+        return partitioned;
+    }
+}
@@ -0,0 +1,74 @@
+package com.badminton.academy.service;
+
+import com.badminton.academy.config.CachePolicyProperties;
+import com.badminton.academy.repository.AttendanceRepository;
+import com.badminton.academy.repository.BatchRepository;
+import com.badminton.academy.repository.StudentRepository;
+import com.badminton.academy.repository.projection.ResourceVersion;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Versions of read responses for conditional GET, from one COUNT/SUM(version)/MAX(updated_at)
+ * query each, so a matching If-None-Match is answered without loading any entity.
+ *
+ * Student and batch responses come from caches that may hold a copy older than the
+ * database (statistics are only recomputed on expiry). Their versions also move at every
+ * expiry period of that cache, so a client never keeps a stale copy for more than two
+ * periods. Attendance responses are read straight from the database.
+ *
+ * Single-entity lookups return null when the entity does not exist, leaving the 404 to
+ * the regular read.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ResourceVersionService {
+
+    private final StudentRepository studentRepository;
+    private final BatchRepository batchRepository;
+    private final AttendanceRepository attendanceRepository;
+    private final CachePolicyProperties cachePolicyProperties;
+
+    public ResourceVersion student(Long id) {
+        return cached("students:byId", existing(studentRepository.findVersionById(id)));
+    }
+
+    public ResourceVersion studentsInBatch(Long batchId) {
+        return cached("students:byId", studentRepository.findRosterVersionByBatchId(batchId));
+    }
+
+    public ResourceVersion batch(Long id) {
+        return cached("batches:byId", existing(batchRepository.findVersionById(id)));
+    }
+
+    public ResourceVersion attendanceForStudent(Long studentId, LocalDate startDate, LocalDate endDate) {
+        return attendanceRepository.findVersionByStudentAndDateRange(studentId, startDate, endDate);
+    }
+
+    public ResourceVersion attendanceForBatch(Long batchId, LocalDate startDate, LocalDate endDate) {
+        return attendanceRepository.findVersionByBatchAndDateRange(batchId, startDate, endDate);
+    }
+
+    private static ResourceVersion existing(ResourceVersion version) {
+        return version != null && version.count() > 0 ? version : null;
+    }
+
+    private ResourceVersion cached(String cacheName, ResourceVersion version) {
+        Duration expiry = cachePolicyProperties.policyFor(cacheName).getExpireAfterWrite();
+        if (version == null || expiry == null || expiry.isZero()) {
+            return version;
+        }
+        long period = expiry.toMillis();
+        long now = System.currentTimeMillis();
+        Instant periodStart = Instant.ofEpochMilli(now - now % period);
+        return version.notBefore(LocalDateTime.ofInstant(periodStart, ZoneId.systemDefault()));
+    }
+}
@@ -1,6 +1,8 @@
 package com.badminton.academy.service;
 
 import com.badminton.academy.dto.request.CreateSkillEvaluationRequest;
+import com.badminton.academy.dto.request.KeysetCursor;
+import com.badminton.academy.dto.response.CursorPage;
 import com.badminton.academy.dto.response.SkillEvaluationResponse;
 import com.badminton.academy.exception.ResourceNotFoundException;
 import com.badminton.academy.model.Coach;
@@ -11,6 +13,7 @@ import com.badminton.academy.repository.SkillEvaluationRepository;
 import com.badminton.academy.repository.StudentRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,6 +21,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -34,6 +38,18 @@ public class SkillEvaluationService {
                 .collect(Collectors.toList());
     }
 
+    public CursorPage<SkillEvaluationResponse> getSkillEvaluationPage(String cursor, Integer limit) {
+        int size = CursorPage.clampLimit(limit);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<SkillEvaluation> rows = skillEvaluationRepository.findByIdGreaterThanOrderByIdAsc(
+                after != null ? after.id() : 0L, PageRequest.ofSize(size + 1));
+        return CursorPage.of(rows, size, row -> KeysetCursor.of(row.getId()).encode(), this::mapToSkillEvaluationResponse);
+    }
+
+    public Stream<SkillEvaluationResponse> streamAllSkillEvaluations() {
+        return CursorPage.stream(cursor -> getSkillEvaluationPage(cursor, CursorPage.MAX_LIMIT));
+    }
+
     public SkillEvaluationResponse getSkillEvaluationById(Long id) {
         SkillEvaluation evaluation = skillEvaluationRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Skill evaluation not found with id: " + id));
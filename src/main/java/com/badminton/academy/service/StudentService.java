@@ -1,24 +1,29 @@
 package com.badminton.academy.service;
 
+import com.badminton.academy.cache.CacheInvalidator;
+import com.badminton.academy.cache.CacheRefreshRegistry;
+import com.badminton.academy.cache.NormalizedCache;
+import com.badminton.academy.cache.StudentFootprint;
 import com.badminton.academy.dto.request.CreateStudentRequest;
 import com.badminton.academy.dto.request.UpdateStudentRequest;
 import com.badminton.academy.dto.response.FeePaymentHistoryResponse;
 import com.badminton.academy.dto.response.StudentResponse;
 import com.badminton.academy.exception.DuplicateResourceException;
 import com.badminton.academy.exception.ResourceNotFoundException;
+import com.badminton.academy.exception.StaleVersionException;
 import com.badminton.academy.model.Batch;
 import com.badminton.academy.model.FeePaymentHistory;
 import com.badminton.academy.model.Parent;
 import com.badminton.academy.model.Student;
-import com.badminton.academy.model.enums.AttendanceStatus;
 import com.badminton.academy.model.enums.MonthlyFeeStatus;
 import com.badminton.academy.model.enums.SkillLevel;
 import com.badminton.academy.repository.*;
+import com.badminton.academy.security.AuthorizationIndex;
+import com.badminton.academy.service.StudentStatisticsService.StudentStatistics;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,6 +32,7 @@ import java.time.Period;
 import java.math.BigDecimal;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
@@ -39,90 +45,69 @@ public class StudentService {
     private final ParentRepository parentRepository;
     private final BatchRepository batchRepository;
     private final AttendanceRepository attendanceRepository;
+    private final AttendanceSummaryRepository attendanceSummaryRepository;
     private final AchievementRepository achievementRepository;
     private final SkillEvaluationRepository skillEvaluationRepository;
     private final AssessmentRepository assessmentRepository;
     private final FeePaymentHistoryRepository feePaymentHistoryRepository;
+    private final StudentStatisticsService studentStatisticsService;
+    private final AuthorizationIndex authorizationIndex;
+    private final CacheInvalidator cacheInvalidator;
+    private final NormalizedCache normalizedCache;
+    private final CacheRefreshRegistry cacheRefreshRegistry;
+
+    private final NormalizedCache.Entities<StudentResponse> students = new NormalizedCache.Entities<>(
+            "students:byId", StudentResponse::getId, this::loadStudentResponses);
+
+    @PostConstruct
+    void registerRefreshLoaders() {
+        cacheRefreshRegistry.register("students:countBySkillLevel",
+                key -> studentRepository.countBySkillLevel((SkillLevel) key));
+        normalizedCache.refreshWith("students:all", students,
+                key -> mapToStudentResponses(studentRepository.findAllWithBatchesAndParent()));
+        normalizedCache.refreshWith("students:active", students,
+                key -> mapToStudentResponses(studentRepository.findAllActiveStudents()));
+    }
 
-    @Transactional(readOnly = true)
-    @Cacheable(value = "students:all")
     public List<StudentResponse> getAllStudents() {
-        log.debug("Cache miss: fetching all students from database");
-        return studentRepository.findAll().stream()
-                .map(this::safeMapToStudentResponse)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
+        return normalizedCache.list("students:all", NormalizedCache.ALL, students,
+                () -> mapToStudentResponses(studentRepository.findAllWithBatchesAndParent()));
     }
 
-    @Transactional(readOnly = true)
-    @Cacheable(value = "students:active")
     public List<StudentResponse> getActiveStudents() {
-        log.debug("Cache miss: fetching active students from database");
-        return studentRepository.findAllActiveStudents().stream()
-                .map(this::safeMapToStudentResponse)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
+        return normalizedCache.list("students:active", NormalizedCache.ALL, students,
+                () -> mapToStudentResponses(studentRepository.findAllActiveStudents()));
     }
 
-    @Transactional(readOnly = true)
-    @Cacheable(value = "students:byId", key = "#id")
     public StudentResponse getStudentById(Long id) {
-        log.debug("Cache miss: fetching student {} from database", id);
-        Student student = studentRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Student not found with id: " + id));
-        return mapToStudentResponse(student);
+        StudentResponse response = normalizedCache.get(students, id);
+        if (response == null) {
+            throw new ResourceNotFoundException("Student not found with id: " + id);
+        }
+        return response;
     }
 
-    @Transactional(readOnly = true)
-    @Cacheable(value = "students:bySkillLevel", key = "#skillLevel")
     public List<StudentResponse> getStudentsBySkillLevel(SkillLevel skillLevel) {
-        log.debug("Cache miss: fetching students by skill level {} from database", skillLevel);
-        return studentRepository.findBySkillLevel(skillLevel).stream()
-                .map(this::safeMapToStudentResponse)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
+        return normalizedCache.list("students:bySkillLevel", skillLevel, students,
+                () -> mapToStudentResponses(studentRepository.findBySkillLevel(skillLevel)));
     }
 
-    @Transactional(readOnly = true)
-    @Cacheable(value = "students:byParent", key = "#parentId")
     public List<StudentResponse> getStudentsByParent(Long parentId) {
-        log.debug("Cache miss: fetching students by parent {} from database", parentId);
-        return studentRepository.findByParentId(parentId).stream()
-                .map(this::safeMapToStudentResponse)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
+        return normalizedCache.list("students:byParent", parentId, students,
+                () -> mapToStudentResponses(studentRepository.findByParentId(parentId)));
     }
 
-    @Transactional(readOnly = true)
-    @Cacheable(value = "students:byBatch", key = "#batchId")
     public List<StudentResponse> getStudentsByBatch(Long batchId) {
-        log.debug("Cache miss: fetching students by batch {} from database", batchId);
-        return studentRepository.findByBatchId(batchId).stream()
-                .map(this::safeMapToStudentResponse)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
+        return normalizedCache.list("students:byBatch", batchId, students,
+                () -> mapToStudentResponses(studentRepository.findByBatchId(batchId)));
     }
 
-    @Transactional(readOnly = true)
-    @Cacheable(value = "students:byCoach", key = "#coachId")
     public List<StudentResponse> getStudentsByCoach(Long coachId) {
-        log.debug("Cache miss: fetching students by coach {} from database", coachId);
-        return studentRepository.findByCoachId(coachId).stream()
-                .map(this::safeMapToStudentResponse)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
+        return normalizedCache.list("students:byCoach", coachId, students,
+                () -> mapToStudentResponses(studentRepository.findByCoachId(coachId)));
     }
 
     @Transactional
-    @Caching(evict = {
-        @CacheEvict(value = "students:all", allEntries = true),
-        @CacheEvict(value = "students:active", allEntries = true),
-        @CacheEvict(value = "students:bySkillLevel", allEntries = true),
-        @CacheEvict(value = "students:byParent", allEntries = true),
-        @CacheEvict(value = "students:byBatch", allEntries = true),
-        @CacheEvict(value = "students:byCoach", allEntries = true),
-        @CacheEvict(value = "students:countBySkillLevel", allEntries = true)
-    })
     public StudentResponse createStudent(CreateStudentRequest request) {
         // Check for duplicate national ID if provided
         if (request.getNationalIdNumber() != null && !request.getNationalIdNumber().isBlank()) {
@@ -159,34 +144,30 @@ public class StudentService {
         }
 
         Student savedStudent = studentRepository.save(student);
+        authorizationIndex.invalidateStudent(savedStudent.getId());
 
         // Assign to batch if provided
         if (request.getBatchId() != null) {
             Batch batch = batchRepository.findById(request.getBatchId())
                     .orElseThrow(() -> new ResourceNotFoundException("Batch not found with id: " + request.getBatchId()));
             batch.getStudents().add(savedStudent);
+            batch.markRosterChanged();
+            savedStudent.getBatches().add(batch);
             batchRepository.save(batch);
             savedStudent = studentRepository.findById(savedStudent.getId()).orElse(savedStudent);
         }
+        cacheInvalidator.studentChanged(null, StudentFootprint.of(savedStudent));
 
         log.info("Student created successfully: {} {}", savedStudent.getFirstName(), savedStudent.getLastName());
         return mapToStudentResponse(savedStudent);
     }
 
     @Transactional
-    @Caching(evict = {
-        @CacheEvict(value = "students:all", allEntries = true),
-        @CacheEvict(value = "students:active", allEntries = true),
-        @CacheEvict(value = "students:byId", key = "#id"),
-        @CacheEvict(value = "students:bySkillLevel", allEntries = true),
-        @CacheEvict(value = "students:byParent", allEntries = true),
-        @CacheEvict(value = "students:byBatch", allEntries = true),
-        @CacheEvict(value = "students:byCoach", allEntries = true),
-        @CacheEvict(value = "students:countBySkillLevel", allEntries = true)
-    })
     public StudentResponse updateStudent(Long id, UpdateStudentRequest request) {
         Student student = studentRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Student not found with id: " + id));
+        StaleVersionException.check("Student", id, request.getVersion(), student.getVersion());
+        StudentFootprint before = StudentFootprint.of(student);
 
         // Check for duplicate national ID if changing
         if (request.getNationalIdNumber() != null && !request.getNationalIdNumber().equals(student.getNationalIdNumber())) {
@@ -221,33 +202,32 @@ public class StudentService {
             Parent parent = parentRepository.findById(request.getParentId())
                     .orElseThrow(() -> new ResourceNotFoundException("Parent not found with id: " + request.getParentId()));
             student.setParent(parent);
+            authorizationIndex.invalidateStudent(id);
         }
 
-        Student updatedStudent = studentRepository.save(student);
+        // Flush so the response carries the incremented version
+        Student updatedStudent = studentRepository.saveAndFlush(student);
+        cacheInvalidator.studentChanged(before, StudentFootprint.of(updatedStudent));
         log.info("Student updated successfully: {} {}", updatedStudent.getFirstName(), updatedStudent.getLastName());
         return mapToStudentResponse(updatedStudent);
     }
 
     @Transactional
-    @Caching(evict = {
-        @CacheEvict(value = "students:all", allEntries = true),
-        @CacheEvict(value = "students:active", allEntries = true),
-        @CacheEvict(value = "students:byId", key = "#studentId"),
-        @CacheEvict(value = "students:byBatch", allEntries = true),
-        @CacheEvict(value = "batches:all", allEntries = true),
-        @CacheEvict(value = "batches:byId", key = "#batchId")
-    })
     public StudentResponse assignToBatch(Long studentId, Long batchId) {
         Student student = studentRepository.findById(studentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Student not found with id: " + studentId));
 
         Batch batch = batchRepository.findById(batchId)
                 .orElseThrow(() -> new ResourceNotFoundException("Batch not found with id: " + batchId));
+        StudentFootprint before = StudentFootprint.of(student);
 
         student.getBatches().add(batch);
         batch.getStudents().add(student);
+        batch.markRosterChanged();
 
         batchRepository.save(batch);
+        authorizationIndex.invalidateStudent(studentId);
+        cacheInvalidator.studentChanged(before, StudentFootprint.of(student));
         Student updatedStudent = studentRepository.findById(studentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Student not found with id: " + studentId));
         log.info("Student {} assigned to batch {}", studentId, batchId);
@@ -255,25 +235,21 @@ public class StudentService {
     }
 
     @Transactional
-    @Caching(evict = {
-        @CacheEvict(value = "students:all", allEntries = true),
-        @CacheEvict(value = "students:active", allEntries = true),
-        @CacheEvict(value = "students:byId", key = "#studentId"),
-        @CacheEvict(value = "students:byBatch", allEntries = true),
-        @CacheEvict(value = "batches:all", allEntries = true),
-        @CacheEvict(value = "batches:byId", key = "#batchId")
-    })
     public StudentResponse removeFromBatch(Long studentId, Long batchId) {
         Student student = studentRepository.findById(studentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Student not found with id: " + studentId));
 
         Batch batch = batchRepository.findById(batchId)
                 .orElseThrow(() -> new ResourceNotFoundException("Batch not found with id: " + batchId));
+        StudentFootprint before = StudentFootprint.of(student);
 
         student.getBatches().remove(batch);
         batch.getStudents().remove(student);
+        batch.markRosterChanged();
 
         batchRepository.save(batch);
+        authorizationIndex.invalidateStudent(studentId);
+        cacheInvalidator.studentChanged(before, StudentFootprint.of(student));
         Student updatedStudent = studentRepository.findById(studentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Student not found with id: " + studentId));
         log.info("Student {} removed from batch {}", studentId, batchId);
@@ -281,64 +257,74 @@ public class StudentService {
     }
 
     @Transactional
-    @Caching(evict = {
-        @CacheEvict(value = "students:all", allEntries = true),
-        @CacheEvict(value = "students:active", allEntries = true),
-        @CacheEvict(value = "students:byId", key = "#id"),
-        @CacheEvict(value = "students:bySkillLevel", allEntries = true),
-        @CacheEvict(value = "students:countBySkillLevel", allEntries = true)
-    })
     public void deactivateStudent(Long id) {
         Student student = studentRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Student not found with id: " + id));
+        StudentFootprint before = StudentFootprint.of(student);
         student.setIsActive(false);
         studentRepository.save(student);
+        cacheInvalidator.studentChanged(before, StudentFootprint.of(student));
         log.info("Student deactivated: {} {}", student.getFirstName(), student.getLastName());
     }
 
     @Transactional
-    @Caching(evict = {
-        @CacheEvict(value = "students:all", allEntries = true),
-        @CacheEvict(value = "students:active", allEntries = true),
-        @CacheEvict(value = "students:byId", key = "#id"),
-        @CacheEvict(value = "students:bySkillLevel", allEntries = true),
-        @CacheEvict(value = "students:byParent", allEntries = true),
-        @CacheEvict(value = "students:byBatch", allEntries = true),
-        @CacheEvict(value = "students:byCoach", allEntries = true),
-        @CacheEvict(value = "students:countBySkillLevel", allEntries = true),
-        @CacheEvict(value = "students:feeHistory", key = "#id"),
-        @CacheEvict(value = "batches:all", allEntries = true)
-    })
     public void deleteStudent(Long id) {
         Student student = studentRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Student not found with id: " + id));
+        StudentFootprint before = StudentFootprint.of(student);
 
         // Remove student from batch join table associations first.
         // This avoids FK failures in environments with strict relational constraints.
         for (Batch batch : batchRepository.findByStudentId(id)) {
             batch.getStudents().removeIf(batchStudent -> id.equals(batchStudent.getId()));
+            batch.markRosterChanged();
             batchRepository.save(batch);
         }
 
         // Explicitly delete dependent student records before deleting the student.
         // This provides predictable behavior even when DB-level cascade differs by environment.
         attendanceRepository.deleteByStudentId(id);
+        attendanceSummaryRepository.deleteByStudentId(id);
         achievementRepository.deleteByStudentId(id);
         skillEvaluationRepository.deleteByStudentId(id);
         assessmentRepository.deleteByStudentId(id);
         feePaymentHistoryRepository.deleteByStudentId(id);
 
         studentRepository.delete(student);
+        authorizationIndex.invalidateStudent(id);
+        cacheInvalidator.studentChanged(before, null);
         log.info("Student deleted: {} {}", student.getFirstName(), student.getLastName());
     }
 
-    @Cacheable(value = "students:countBySkillLevel", key = "#skillLevel")
+    @Cacheable(value = "students:countBySkillLevel", key = "#skillLevel", sync = true)
     public Long countBySkillLevel(SkillLevel skillLevel) {
         log.debug("Cache miss: counting students by skill level {} from database", skillLevel);
         return studentRepository.countBySkillLevel(skillLevel);
     }
 
+    /**
+     * Maps a list of students, loading their statistics with grouped queries
+     * rather than per student. Students that fail to map are skipped.
+     */
+    private List<StudentResponse> loadStudentResponses(List<Long> ids) {
+        return mapToStudentResponses(studentRepository.findByIdIn(ids));
+    }
+
+    private List<StudentResponse> mapToStudentResponses(List<Student> students) {
+        Map<Long, StudentStatistics> statistics = studentStatisticsService.loadStatistics(
+                students.stream().map(Student::getId).collect(Collectors.toList()));
+        return students.stream()
+                .map(student -> safeMapToStudentResponse(student, statistics))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
     private StudentResponse mapToStudentResponse(Student student) {
+        Map<Long, StudentStatistics> statistics = studentStatisticsService.loadStatistics(List.of(student.getId()));
+        return mapToStudentResponse(student, StudentStatisticsService.statisticsFor(statistics, student.getId()));
+    }
+
+    private StudentResponse mapToStudentResponse(Student student, StudentStatistics statistics) {
         StudentResponse response = StudentResponse.builder()
                 .id(student.getId())
                 .firstName(student.getFirstName())
@@ -357,6 +343,7 @@ public class StudentService {
                 .isActive(student.getIsActive())
                 .createdAt(student.getCreatedAt())
                 .updatedAt(student.getUpdatedAt())
+                .version(student.getVersion())
                 .skillLevel(student.getSkillLevel())
                 .daysOfWeek(student.getDaysOfWeek() != null ? new HashSet<>(student.getDaysOfWeek()) : null)
                 .feePayable(student.getFeePayable())
@@ -374,61 +361,29 @@ public class StudentService {
             response.setTotalBatches(student.getBatches().size());
         }
 
-        // Calculate statistics
-        try {
-            Long verifiedAchievements = achievementRepository.countVerifiedAchievementsByStudentId(student.getId());
-            response.setTotalAchievements(verifiedAchievements != null ? verifiedAchievements.intValue() : 0);
-        } catch (Exception ex) {
-            log.warn("Failed to calculate achievements for student {}: {}", student.getId(), ex.getMessage());
-            response.setTotalAchievements(0);
-        }
-
-        try {
-            Long presentCount = defaultLong(attendanceRepository.countByStudentAndStatus(student.getId(), AttendanceStatus.PRESENT));
-            Long absentCount = defaultLong(attendanceRepository.countByStudentAndStatus(student.getId(), AttendanceStatus.ABSENT));
-            Long lateCount = defaultLong(attendanceRepository.countByStudentAndStatus(student.getId(), AttendanceStatus.LATE));
-            Long totalAttendance = presentCount + absentCount + lateCount;
-            if (totalAttendance > 0) {
-                response.setAttendancePercentage((presentCount * 100.0) / totalAttendance);
-            } else {
-                response.setAttendancePercentage(0.0);
-            }
-        } catch (Exception ex) {
-            log.warn("Failed to calculate attendance for student {}: {}", student.getId(), ex.getMessage());
-            response.setAttendancePercentage(0.0);
-        }
-
-        try {
-            Double averageSkillRating = skillEvaluationRepository.getAverageOverallScoreByStudentId(student.getId());
-            response.setAverageSkillRating(averageSkillRating != null ? averageSkillRating : 0.0);
-        } catch (Exception ex) {
-            log.warn("Failed to calculate skill rating for student {}: {}", student.getId(), ex.getMessage());
-            response.setAverageSkillRating(0.0);
-        }
+        response.setTotalAchievements((int) statistics.getVerifiedAchievements());
+        response.setAttendancePercentage(statistics.getAttendancePercentage());
+        response.setAverageSkillRating(statistics.getAverageSkillRating());
 
         return response;
     }
 
-    private StudentResponse safeMapToStudentResponse(Student student) {
+    private StudentResponse safeMapToStudentResponse(Student student, Map<Long, StudentStatistics> statistics) {
         try {
-            return mapToStudentResponse(student);
+            return mapToStudentResponse(student, StudentStatisticsService.statisticsFor(statistics, student.getId()));
         } catch (Exception ex) {
             log.error("Failed to map student {} to response: {}", student != null ? student.getId() : null, ex.getMessage(), ex);
             return null;
         }
     }
 
-    private Long defaultLong(Long value) {
-        return value != null ? value : 0L;
-    }
-
     private Integer calculateAge(LocalDate dateOfBirth) {
         if (dateOfBirth == null) return null;
         return Period.between(dateOfBirth, LocalDate.now()).getYears();
     }
 
     @Transactional(readOnly = true)
-    @Cacheable(value = "students:feeHistory", key = "#studentId")
+    @Cacheable(value = "students:feeHistory", key = "#studentId", sync = true)
     public List<FeePaymentHistoryResponse> getFeePaymentHistory(Long studentId) {
         log.debug("Cache miss: fetching fee payment history for student {} from database", studentId);
         studentRepository.findById(studentId)
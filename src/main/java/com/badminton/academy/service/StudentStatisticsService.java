@@ -0,0 +1,136 @@
+package com.badminton.academy.service;
+
+import com.badminton.academy.repository.AchievementRepository;
+import com.badminton.academy.repository.AttendanceSummaryRepository;
+import com.badminton.academy.repository.SkillEvaluationRepository;
+import com.badminton.academy.repository.projection.AttendanceCountsProjection;
+import com.badminton.academy.repository.projection.StudentAverageProjection;
+import com.badminton.academy.repository.projection.StudentCountProjection;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Computes the derived statistics shown on student responses (verified achievements,
+ * attendance percentage and average skill rating) for a whole list of students at once.
+ *
+ * Each statistic is one grouped query per chunk of student IDs, so mapping N students
+ * costs a constant number of round trips instead of five queries per student.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StudentStatisticsService {
+
+    /**
+     * Upper bound on IN-list size per grouped query
+     */
+    static final int ID_CHUNK_SIZE = 1000;
+
+    private final AchievementRepository achievementRepository;
+    private final AttendanceSummaryRepository attendanceSummaryRepository;
+    private final SkillEvaluationRepository skillEvaluationRepository;
+
+    @Transactional(readOnly = true)
+    public Map<Long, StudentStatistics> loadStatistics(Collection<Long> studentIds) {
+        Map<Long, StudentStatistics> statistics = new HashMap<>();
+        if (studentIds == null || studentIds.isEmpty()) {
+            return statistics;
+        }
+
+        List<Long> distinctIds = new ArrayList<>(new LinkedHashSet<>(studentIds));
+        distinctIds.forEach(id -> statistics.put(id, new StudentStatistics()));
+
+        for (int from = 0; from < distinctIds.size(); from += ID_CHUNK_SIZE) {
+            List<Long> chunk = distinctIds.subList(from, Math.min(from + ID_CHUNK_SIZE, distinctIds.size()));
+            loadAchievementCounts(chunk, statistics);
+            loadAttendanceCounts(chunk, statistics);
+            loadAverageSkillRatings(chunk, statistics);
+        }
+        return statistics;
+    }
+
+    private void loadAchievementCounts(List<Long> studentIds, Map<Long, StudentStatistics> statistics) {
+        try {
+            for (StudentCountProjection row : achievementRepository.countVerifiedAchievementsByStudentIds(studentIds)) {
+                StudentStatistics stats = statistics.get(row.getStudentId());
+                if (stats != null && row.getTotal() != null) {
+                    stats.verifiedAchievements = row.getTotal();
+                }
+            }
+        } catch (Exception ex) {
+            log.warn("Failed to calculate achievements for {} students: {}", studentIds.size(), ex.getMessage());
+        }
+    }
+
+    private void loadAttendanceCounts(List<Long> studentIds, Map<Long, StudentStatistics> statistics) {
+        try {
+            for (AttendanceCountsProjection row : attendanceSummaryRepository.sumByStudentIds(studentIds)) {
+                StudentStatistics stats = statistics.get(row.getStudentId());
+                if (stats == null) {
+                    continue;
+                }
+                stats.presentCount = row.getPresentCount();
+                stats.absentCount = row.getAbsentCount();
+                stats.lateCount = row.getLateCount();
+                stats.excusedCount = row.getExcusedCount();
+            }
+        } catch (Exception ex) {
+            log.warn("Failed to calculate attendance for {} students: {}", studentIds.size(), ex.getMessage());
+        }
+    }
+
+    private void loadAverageSkillRatings(List<Long> studentIds, Map<Long, StudentStatistics> statistics) {
+        try {
+            for (StudentAverageProjection row : skillEvaluationRepository.getAverageOverallScoreByStudentIds(studentIds)) {
+                StudentStatistics stats = statistics.get(row.getStudentId());
+                if (stats != null && row.getAverage() != null) {
+                    stats.averageSkillRating = row.getAverage();
+                }
+            }
+        } catch (Exception ex) {
+            log.warn("Failed to calculate skill rating for {} students: {}", studentIds.size(), ex.getMessage());
+        }
+    }
+
+    /**
+     * Statistics for one student, or zeroes when the student was not part of the loaded map.
+     */
+    public static StudentStatistics statisticsFor(Map<Long, StudentStatistics> statistics, Long studentId) {
+        StudentStatistics stats = statistics.get(studentId);
+        return stats != null ? stats : StudentStatistics.EMPTY;
+    }
+
+    /**
+     * Aggregated statistics for a single student. Missing rows default to zero.
+     */
+    @Getter
+    public static class StudentStatistics {
+
+        public static final StudentStatistics EMPTY = new StudentStatistics();
+
+        private long verifiedAchievements;
+        private long presentCount;
+        private long absentCount;
+        private long lateCount;
+        private long excusedCount;
+        private double averageSkillRating;
+
+        /**
+         * Present share of PRESENT/ABSENT/LATE sessions; EXCUSED sessions are not counted.
+         */
+        public double getAttendancePercentage() {
+            long total = presentCount + absentCount + lateCount;
+            return total > 0 ? (presentCount * 100.0) / total : 0.0;
+        }
+    }
+}
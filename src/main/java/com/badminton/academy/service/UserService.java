@@ -1,15 +1,24 @@
 package com.badminton.academy.service;
 
+import com.badminton.academy.cache.CacheInvalidator;
+import com.badminton.academy.cache.CoachFootprint;
+import com.badminton.academy.cache.ParentFootprint;
 import com.badminton.academy.dto.request.ChangePasswordRequest;
+import com.badminton.academy.dto.request.KeysetCursor;
 import com.badminton.academy.dto.request.UpdateUserRequest;
+import com.badminton.academy.dto.response.CursorPage;
 import com.badminton.academy.dto.response.UserResponse;
 import com.badminton.academy.exception.DuplicateResourceException;
 import com.badminton.academy.exception.ResourceNotFoundException;
+import com.badminton.academy.model.Coach;
+import com.badminton.academy.model.Parent;
 import com.badminton.academy.model.User;
 import com.badminton.academy.model.enums.Role;
 import com.badminton.academy.repository.UserRepository;
+import com.badminton.academy.security.PrincipalCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,6 +27,7 @@ import java.time.LocalDate;
 import java.time.Period;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -26,6 +36,8 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PrincipalCache principalCache;
+    private final CacheInvalidator cacheInvalidator;
 
     public List<UserResponse> getAllUsers() {
         return userRepository.findAll().stream()
@@ -33,6 +45,18 @@ public class UserService {
                 .collect(Collectors.toList());
     }
 
+    public CursorPage<UserResponse> getUserPage(String cursor, Integer limit) {
+        int size = CursorPage.clampLimit(limit);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<User> rows = userRepository.findByIdGreaterThanOrderByIdAsc(
+                after != null ? after.id() : 0L, PageRequest.ofSize(size + 1));
+        return CursorPage.of(rows, size, row -> KeysetCursor.of(row.getId()).encode(), this::mapToUserResponse);
+    }
+
+    public Stream<UserResponse> streamAllUsers() {
+        return CursorPage.stream(cursor -> getUserPage(cursor, CursorPage.MAX_LIMIT));
+    }
+
     public UserResponse getUserById(Long id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
@@ -67,12 +91,15 @@ public class UserService {
     public UserResponse updateUser(Long id, UpdateUserRequest request) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
+        ParentFootprint parentBefore = user instanceof Parent parent ? ParentFootprint.of(parent) : null;
+        CoachFootprint coachBefore = user instanceof Coach coach ? CoachFootprint.of(coach) : null;
 
         // Check for email uniqueness if changed
         if (request.getEmail() != null && !request.getEmail().equals(user.getEmail())) {
             if (userRepository.existsByEmail(request.getEmail())) {
                 throw new DuplicateResourceException("Email already in use: " + request.getEmail());
             }
+            principalCache.invalidate(user.getEmail());
             user.setEmail(request.getEmail());
         }
 
@@ -97,6 +124,12 @@ public class UserService {
         if (request.getPhotoUrl() != null) user.setPhotoUrl(request.getPhotoUrl());
 
         User updatedUser = userRepository.save(user);
+        // Student and batch responses embed parent and coach names
+        if (updatedUser instanceof Parent parent) {
+            cacheInvalidator.parentChanged(parentBefore, ParentFootprint.of(parent));
+        } else if (updatedUser instanceof Coach coach) {
+            cacheInvalidator.coachChanged(coachBefore, CoachFootprint.of(coach));
+        }
         log.info("User updated successfully: {}", updatedUser.getEmail());
         return mapToUserResponse(updatedUser);
     }
@@ -112,6 +145,7 @@ public class UserService {
 
         user.setPassword(passwordEncoder.encode(request.getNewPassword()));
         userRepository.save(user);
+        principalCache.invalidate(user.getEmail());
         log.info("Password changed for user: {}", user.getEmail());
     }
 
@@ -121,6 +155,7 @@ public class UserService {
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
         user.setIsActive(false);
         userRepository.save(user);
+        principalCache.invalidate(user.getEmail());
         log.info("User deactivated: {}", user.getEmail());
     }
 
@@ -130,15 +165,16 @@ public class UserService {
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
         user.setIsActive(true);
         userRepository.save(user);
+        principalCache.invalidate(user.getEmail());
         log.info("User activated: {}", user.getEmail());
     }
 
     @Transactional
     public void deleteUser(Long id) {
-        if (!userRepository.existsById(id)) {
-            throw new ResourceNotFoundException("User not found with id: " + id);
-        }
-        userRepository.deleteById(id);
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
+        userRepository.delete(user);
+        principalCache.invalidate(user.getEmail());
         log.info("User deleted with id: {}", id);
     }
 
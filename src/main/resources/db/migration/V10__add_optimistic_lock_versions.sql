@@ -0,0 +1,16 @@
+-- Migration: optimistic locking
+-- Hibernate adds "AND version = ?" to every UPDATE of these tables and increments the
+-- column, so of two concurrent edits from the same starting point the second one fails
+-- instead of silently overwriting the first. Existing rows start at version 0.
+
+ALTER TABLE attendance
+ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE students
+ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE batches
+ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE fee_payment_history
+ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,18 @@
+-- Migration: Outbox for asynchronous attendance audit writes
+-- With app.audit.mode=async each attendance transaction stages its audit entries here as one
+-- JSON row, committed together with the attendance change. AsyncAuditDispatcher copies them
+-- into attendance_audit_log in batches and deletes the staged row in the same transaction;
+-- rows left behind by a crash or a full queue are picked up by its periodic sweep.
+
+CREATE TABLE IF NOT EXISTS attendance_audit_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    payload TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_audit_outbox_created_at ON attendance_audit_outbox(created_at);
+
+ALTER TABLE attendance_audit_outbox ENABLE ROW LEVEL SECURITY;
+
+CREATE POLICY "Service role has full access to attendance_audit_outbox" ON attendance_audit_outbox
+    FOR ALL USING (true) WITH CHECK (true);
@@ -0,0 +1,128 @@
+-- Migration: Monthly range partitions for attendance and attendance_audit_log
+-- attendance is partitioned by date and attendance_audit_log by changed_at, one partition per
+-- calendar month named <table>_pYYYY_MM. Date range queries (batch/student ranges, the audit
+-- date range) only touch the partitions of the months they cover, and old months can be
+-- detached without rewriting the live tables. PartitionMaintenanceService creates upcoming and
+-- backdatable months through create_monthly_partition and archives months past their retention.
+--
+-- Primary keys and unique constraints of a partitioned table must contain the partition key,
+-- so the keys become (id, date) and (id, changed_at). Lookups by ID alone probe the key index
+-- of each partition. Audit rows carry their attendance's date so the audit -> attendance
+-- foreign key (and its ON DELETE CASCADE) can reference the composite key.
+
+CREATE OR REPLACE FUNCTION create_monthly_partition(parent_table TEXT, month_start DATE)
+RETURNS BOOLEAN
+LANGUAGE plpgsql AS $$
+DECLARE
+    first_day DATE := date_trunc('month', month_start)::date;
+    partition_name TEXT := parent_table || '_p' || to_char(first_day, 'YYYY_MM');
+BEGIN
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+    EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                   partition_name, parent_table, first_day, (first_day + INTERVAL '1 month')::date);
+    -- Partitions are reachable by name; without policies only the service role can use them
+    EXECUTE format('ALTER TABLE %I ENABLE ROW LEVEL SECURITY', partition_name);
+    RETURN TRUE;
+END $$;
+
+-- ==================== ATTENDANCE ====================
+
+ALTER TABLE attendance_audit_log DROP CONSTRAINT IF EXISTS fk_audit_attendance;
+ALTER TABLE attendance RENAME TO attendance_unpartitioned;
+
+CREATE TABLE attendance (LIKE attendance_unpartitioned INCLUDING DEFAULTS INCLUDING COMMENTS)
+PARTITION BY RANGE (date);
+
+-- Every month from the oldest row, or from the start of the default 30-day admin backdate
+-- window (attendance.backdate.admin-window-days) if that is earlier, up to three months ahead
+-- (future dates cannot be marked). PartitionMaintenanceService widens this at startup when a
+-- longer window is configured.
+DO $$
+DECLARE
+    month DATE;
+BEGIN
+    FOR month IN
+        SELECT generate_series(
+                   date_trunc('month', LEAST(COALESCE((SELECT MIN(date) FROM attendance_unpartitioned), CURRENT_DATE), CURRENT_DATE - 30)),
+                   date_trunc('month', CURRENT_DATE) + INTERVAL '3 months',
+                   INTERVAL '1 month')::date
+    LOOP
+        PERFORM create_monthly_partition('attendance', month);
+    END LOOP;
+END $$;
+
+INSERT INTO attendance SELECT * FROM attendance_unpartitioned;
+
+-- ==================== ATTENDANCE AUDIT LOG ====================
+
+ALTER TABLE attendance_audit_log RENAME TO attendance_audit_log_unpartitioned;
+
+CREATE TABLE attendance_audit_log (
+    LIKE attendance_audit_log_unpartitioned INCLUDING DEFAULTS INCLUDING COMMENTS,
+    attendance_date DATE NOT NULL
+)
+PARTITION BY RANGE (changed_at);
+
+DO $$
+DECLARE
+    month DATE;
+BEGIN
+    FOR month IN
+        SELECT generate_series(
+                   date_trunc('month', LEAST(COALESCE((SELECT MIN(changed_at) FROM attendance_audit_log_unpartitioned), CURRENT_TIMESTAMP), CURRENT_TIMESTAMP)),
+                   date_trunc('month', CURRENT_TIMESTAMP) + INTERVAL '3 months',
+                   INTERVAL '1 month')::date
+    LOOP
+        PERFORM create_monthly_partition('attendance_audit_log', month);
+    END LOOP;
+END $$;
+
+INSERT INTO attendance_audit_log
+SELECT l.*, a.date
+FROM attendance_audit_log_unpartitioned l
+JOIN attendance a ON a.id = l.attendance_id;
+
+DROP TABLE attendance_audit_log_unpartitioned;
+DROP TABLE attendance_unpartitioned;
+
+-- ==================== KEYS, INDEXES AND POLICIES ====================
+
+ALTER TABLE attendance ADD CONSTRAINT pk_attendance PRIMARY KEY (id, date);
+ALTER TABLE attendance ADD CONSTRAINT uk_attendance_student_batch_date UNIQUE (student_id, batch_id, date);
+ALTER TABLE attendance ADD CONSTRAINT fk_attendance_student
+    FOREIGN KEY (student_id) REFERENCES students(id) ON DELETE CASCADE;
+ALTER TABLE attendance ADD CONSTRAINT fk_attendance_batch
+    FOREIGN KEY (batch_id) REFERENCES batches(id) ON DELETE CASCADE;
+ALTER TABLE attendance ADD CONSTRAINT fk_attendance_marked_by
+    FOREIGN KEY (marked_by) REFERENCES coaches(user_id);
+
+CREATE INDEX IF NOT EXISTS idx_attendance_compensates_for_date
+ON attendance(compensates_for_date) WHERE compensates_for_date IS NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_attendance_was_backdated
+ON attendance(was_backdated) WHERE was_backdated = TRUE;
+CREATE INDEX IF NOT EXISTS idx_attendance_date_id ON attendance(date, id);
+
+ALTER TABLE attendance_audit_log ADD CONSTRAINT pk_attendance_audit_log PRIMARY KEY (id, changed_at);
+ALTER TABLE attendance_audit_log ADD CONSTRAINT fk_audit_attendance
+    FOREIGN KEY (attendance_id, attendance_date) REFERENCES attendance(id, date)
+    ON DELETE CASCADE ON UPDATE CASCADE;
+ALTER TABLE attendance_audit_log ADD CONSTRAINT fk_audit_changed_by
+    FOREIGN KEY (changed_by_id) REFERENCES coaches(user_id);
+
+CREATE INDEX IF NOT EXISTS idx_audit_attendance_id ON attendance_audit_log(attendance_id);
+CREATE INDEX IF NOT EXISTS idx_audit_changed_by_id ON attendance_audit_log(changed_by_id);
+CREATE INDEX IF NOT EXISTS idx_audit_changed_at ON attendance_audit_log(changed_at DESC);
+CREATE INDEX IF NOT EXISTS idx_audit_was_backdated ON attendance_audit_log(was_backdated) WHERE was_backdated = TRUE;
+
+ALTER TABLE attendance ENABLE ROW LEVEL SECURITY;
+ALTER TABLE attendance_audit_log ENABLE ROW LEVEL SECURITY;
+
+CREATE POLICY "Service role has full access to attendance" ON attendance
+    FOR ALL USING (true) WITH CHECK (true);
+
+CREATE POLICY "Service role has full access to attendance_audit_log" ON attendance_audit_log
+    FOR ALL USING (true) WITH CHECK (true);
+
+COMMENT ON TABLE attendance_audit_log IS 'Complete audit trail for all attendance changes including backdated modifications';
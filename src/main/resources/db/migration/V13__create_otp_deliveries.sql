@@ -0,0 +1,27 @@
+-- Migration: Outbox for asynchronous OTP delivery
+-- OtpService saves the OTP and one otp_deliveries row in the same transaction; the message
+-- is sent by OtpDeliveryDispatcher after the commit, so no database connection is held
+-- while talking to the SMTP server or SMS provider. A row is deleted as soon as its message
+-- is delivered, or when it runs out of attempts or its OTP expires. next_attempt_at is both
+-- the retry time and a lease: rows whose lease ran out (e.g. after a crash) are picked up
+-- again by the dispatcher's poller.
+
+CREATE TABLE IF NOT EXISTS otp_deliveries (
+    id BIGSERIAL PRIMARY KEY,
+    channel VARCHAR(20) NOT NULL,
+    destination VARCHAR(255) NOT NULL,
+    otp_code VARCHAR(20) NOT NULL,
+    purpose VARCHAR(50) NOT NULL,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL,
+    expires_at TIMESTAMP NOT NULL,
+    last_error VARCHAR(500),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_otp_deliveries_next_attempt_at ON otp_deliveries(next_attempt_at);
+
+ALTER TABLE otp_deliveries ENABLE ROW LEVEL SECURITY;
+
+CREATE POLICY "Service role has full access to otp_deliveries" ON otp_deliveries
+    FOR ALL USING (true) WITH CHECK (true);
@@ -0,0 +1,10 @@
+-- Migration: Keep queued OTP codes encrypted
+-- OtpDeliveryDispatcher now stores the code AES-GCM encrypted (otp.delivery.encryption-key)
+-- instead of in plain text. Pending rows hold plain codes that are valid for minutes at
+-- most; they are dropped rather than converted, and the affected users request a new OTP.
+
+DELETE FROM otp_deliveries;
+
+ALTER TABLE otp_deliveries RENAME COLUMN otp_code TO encrypted_otp;
+
+ALTER TABLE otp_deliveries ALTER COLUMN encrypted_otp TYPE VARCHAR(255);
@@ -0,0 +1,6 @@
+-- Migration: Rate limit index for otp_verifications
+-- With otp.store=database, DatabaseOtpRateLimiter reads the latest OTP requests of a key
+-- within the rate-limit window on every OTP request. This index answers that (and the
+-- latest-valid-OTP lookup) from the key's most recent rows.
+
+CREATE INDEX IF NOT EXISTS idx_otp_verifications_phone_created ON otp_verifications(phone_number, created_at DESC);
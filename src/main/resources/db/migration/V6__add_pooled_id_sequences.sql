@@ -0,0 +1,45 @@
+-- Migration: Pooled sequences for high-volume entity IDs
+-- GenerationType.IDENTITY forces Hibernate to execute every INSERT immediately to read the
+-- generated key, which disables JDBC insert batching. These entities now use pooled
+-- sequences with INCREMENT BY 50 (matching allocationSize on the @SequenceGenerator), so
+-- Hibernate reserves 50 IDs per round trip and can batch the inserts.
+--
+-- Each sequence is positioned past the current MAX(id) so the first pooled block
+-- (nextval - 49 .. nextval) never overlaps existing rows. Column defaults are pointed at the
+-- new sequences so raw SQL inserts keep drawing from the same ID space.
+
+-- ==================== ATTENDANCE ====================
+
+CREATE SEQUENCE IF NOT EXISTS attendance_seq INCREMENT BY 50 MINVALUE 1;
+SELECT setval('attendance_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM attendance), false);
+ALTER TABLE attendance ALTER COLUMN id SET DEFAULT nextval('attendance_seq');
+
+-- ==================== ATTENDANCE AUDIT LOG ====================
+
+CREATE SEQUENCE IF NOT EXISTS attendance_audit_log_seq INCREMENT BY 50 MINVALUE 1;
+SELECT setval('attendance_audit_log_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM attendance_audit_log), false);
+ALTER TABLE attendance_audit_log ALTER COLUMN id SET DEFAULT nextval('attendance_audit_log_seq');
+
+-- ==================== SKILL EVALUATIONS ====================
+
+CREATE SEQUENCE IF NOT EXISTS skill_evaluations_seq INCREMENT BY 50 MINVALUE 1;
+SELECT setval('skill_evaluations_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM skill_evaluations), false);
+ALTER TABLE skill_evaluations ALTER COLUMN id SET DEFAULT nextval('skill_evaluations_seq');
+
+-- ==================== ASSESSMENTS ====================
+
+CREATE SEQUENCE IF NOT EXISTS assessments_seq INCREMENT BY 50 MINVALUE 1;
+SELECT setval('assessments_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM assessments), false);
+ALTER TABLE assessments ALTER COLUMN id SET DEFAULT nextval('assessments_seq');
+
+-- ==================== FEE PAYMENT HISTORY ====================
+
+CREATE SEQUENCE IF NOT EXISTS fee_payment_history_seq INCREMENT BY 50 MINVALUE 1;
+SELECT setval('fee_payment_history_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM fee_payment_history), false);
+ALTER TABLE fee_payment_history ALTER COLUMN id SET DEFAULT nextval('fee_payment_history_seq');
+
+-- ==================== STUDENTS ====================
+
+CREATE SEQUENCE IF NOT EXISTS students_seq INCREMENT BY 50 MINVALUE 1;
+SELECT setval('students_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM students), false);
+ALTER TABLE students ALTER COLUMN id SET DEFAULT nextval('students_seq');
@@ -0,0 +1,38 @@
+-- Migration: Incrementally maintained attendance summary
+-- One row per student, batch and calendar month holding per-status counts. Attendance writes
+-- add relative deltas to these rows in the same transaction, so summary and percentage reads
+-- touch a handful of summary rows instead of the student's whole attendance history.
+-- AttendanceSummaryService.verifyAndRepair recounts any row that drifts from attendance.
+
+CREATE TABLE IF NOT EXISTS attendance_summary (
+    student_id BIGINT NOT NULL,
+    batch_id BIGINT NOT NULL,
+    month_start DATE NOT NULL,
+    present_count BIGINT NOT NULL DEFAULT 0,
+    absent_count BIGINT NOT NULL DEFAULT 0,
+    late_count BIGINT NOT NULL DEFAULT 0,
+    excused_count BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT pk_attendance_summary PRIMARY KEY (student_id, batch_id, month_start),
+    CONSTRAINT fk_attendance_summary_student FOREIGN KEY (student_id) REFERENCES students(id) ON DELETE CASCADE,
+    CONSTRAINT fk_attendance_summary_batch FOREIGN KEY (batch_id) REFERENCES batches(id) ON DELETE CASCADE
+);
+
+-- Backfill from existing attendance
+INSERT INTO attendance_summary (student_id, batch_id, month_start,
+                                present_count, absent_count, late_count, excused_count)
+SELECT student_id,
+       batch_id,
+       DATE_TRUNC('month', date)::date,
+       COUNT(*) FILTER (WHERE status = 'PRESENT'),
+       COUNT(*) FILTER (WHERE status = 'ABSENT'),
+       COUNT(*) FILTER (WHERE status = 'LATE'),
+       COUNT(*) FILTER (WHERE status = 'EXCUSED')
+FROM attendance
+GROUP BY student_id, batch_id, DATE_TRUNC('month', date)
+ON CONFLICT (student_id, batch_id, month_start) DO NOTHING;
+
+ALTER TABLE attendance_summary ENABLE ROW LEVEL SECURITY;
+
+CREATE POLICY "Service role has full access to attendance_summary" ON attendance_summary
+    FOR ALL USING (true) WITH CHECK (true);
@@ -0,0 +1,6 @@
+-- Migration: Keyset pagination index for attendance
+-- GET /api/attendance/page and /api/attendance/export walk the table in (date, id) order,
+-- resuming after the last row of the previous page. This index lets each page start with an
+-- index seek instead of sorting the whole table.
+
+CREATE INDEX IF NOT EXISTS idx_attendance_date_id ON attendance(date, id);
@@ -0,0 +1,13 @@
+-- Migration: updated_at watermarks for conditional GET
+-- Batch and attendance read endpoints answer If-None-Match / If-Modified-Since from
+-- COUNT and MAX(updated_at) over the rows a response is built from, so both tables need a
+-- modification timestamp like users and students already have. Roster changes move the
+-- batch's updated_at as well.
+
+ALTER TABLE batches
+ADD COLUMN IF NOT EXISTS updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP;
+
+ALTER TABLE attendance
+ADD COLUMN IF NOT EXISTS updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP;
+
+UPDATE attendance SET updated_at = COALESCE(marked_at, updated_at);
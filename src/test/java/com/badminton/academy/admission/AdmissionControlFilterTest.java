@@ -0,0 +1,157 @@
+package com.badminton.academy.admission;
+
+import com.badminton.academy.config.AdmissionProperties;
+import com.badminton.academy.dto.response.BulkheadStatsResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("AdmissionControlFilter Tests")
+class AdmissionControlFilterTest {
+
+    private static final String MONTHLY = "/api/attendance/batch/7/monthly";
+
+    private Map<String, Bulkhead> bulkheads;
+    private AdmissionControlFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        bulkheads = new LinkedHashMap<>();
+        bulkheads.put("auth", new Bulkhead("auth", 2, 10, Duration.ofSeconds(1)));
+        bulkheads.put("report", new Bulkhead("report", 1, 0, Duration.ofMillis(50)));
+        bulkheads.put("read", new Bulkhead("read", 4, 10, Duration.ofSeconds(1)));
+        bulkheads.put("write", new Bulkhead("write", 2, 10, Duration.ofSeconds(1)));
+        filter = new AdmissionControlFilter(bulkheads, List.of("/api/attendance/batch/*/monthly"),
+                List.of("/api/health"), Duration.ofSeconds(3), new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("Should map requests to the auth, report, read and write bulkheads")
+    void classify_ByPathAndMethod() {
+        assertThat(filter.classify(new MockHttpServletRequest("POST", "/api/auth/login"))).isEqualTo("auth");
+        assertThat(filter.classify(new MockHttpServletRequest("GET", MONTHLY))).isEqualTo("report");
+        assertThat(filter.classify(new MockHttpServletRequest("GET", "/api/students/3"))).isEqualTo("read");
+        assertThat(filter.classify(new MockHttpServletRequest("PUT", "/api/students/3"))).isEqualTo("write");
+        assertThat(filter.classify(new MockHttpServletRequest("GET", "/api/health"))).isNull();
+        assertThat(filter.classify(new MockHttpServletRequest("GET", "/swagger-ui/index.html"))).isNull();
+    }
+
+    @Test
+    @DisplayName("Should send exports and other long reads configured in application.yml to the report bulkhead")
+    void classify_ConfiguredReportPaths() throws Exception {
+        // Given
+        AdmissionControlFilter configured = new AdmissionControlFilter(bulkheads, configuredReportPaths(),
+                List.of("/api/health"), Duration.ofSeconds(3), new ObjectMapper());
+
+        // Then
+        for (String export : List.of("/api/attendance/export", "/api/users/export", "/api/parents/export",
+                "/api/achievements/export", "/api/assessments/export", "/api/skill-evaluations/export")) {
+            assertThat(configured.classify(new MockHttpServletRequest("GET", export))).as(export).isEqualTo("report");
+        }
+        assertThat(configured.classify(new MockHttpServletRequest("GET", "/api/attendance/student/3/range"))).isEqualTo("report");
+        assertThat(configured.classify(new MockHttpServletRequest("GET", "/api/attendance/student/3"))).isEqualTo("read");
+        assertThat(configured.classify(new MockHttpServletRequest("GET", "/api/parents/3"))).isEqualTo("read");
+    }
+
+    @Test
+    @DisplayName("Should turn away reports with 503 while a report runs, without blocking login")
+    void saturatedReports_Rejected_LoginStillAdmitted() throws Exception {
+        // Given
+        CountDownLatch reportRunning = new CountDownLatch(1);
+        CountDownLatch finishReport = new CountDownLatch(1);
+        FilterChain slowReport = (request, response) -> {
+            reportRunning.countDown();
+            try {
+                finishReport.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        CompletableFuture<Void> running = CompletableFuture.runAsync(() -> {
+            try {
+                filter.doFilter(new MockHttpServletRequest("GET", MONTHLY), new MockHttpServletResponse(), slowReport);
+            } catch (Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+        assertThat(reportRunning.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", MONTHLY), rejected, new MockFilterChain());
+        MockHttpServletResponse login = new MockHttpServletResponse();
+        MockFilterChain loginChain = new MockFilterChain();
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/auth/login"), login, loginChain);
+
+        // Then
+        assertThat(rejected.getStatus()).isEqualTo(503);
+        assertThat(rejected.getHeader("Retry-After")).isEqualTo("3");
+        assertThat(rejected.getContentAsString()).contains("\"success\":false");
+        assertThat(login.getStatus()).isEqualTo(200);
+        assertThat(loginChain.getRequest()).isNotNull();
+
+        finishReport.countDown();
+        running.get(5, TimeUnit.SECONDS);
+        MockFilterChain afterwards = new MockFilterChain();
+        filter.doFilter(new MockHttpServletRequest("GET", MONTHLY), new MockHttpServletResponse(), afterwards);
+        assertThat(afterwards.getRequest()).isNotNull();
+
+        assertThat(filter.stats()).filteredOn(stats -> stats.getName().equals("report")).singleElement()
+                .satisfies(stats -> {
+                    assertThat(stats.getAdmitted()).isEqualTo(2);
+                    assertThat(stats.getRejected()).isEqualTo(1);
+                    assertThat(stats.getActive()).isZero();
+                });
+    }
+
+    @Test
+    @DisplayName("Should hold the slot of an asynchronous response until it completes")
+    void asyncResponse_ReleasesOnComplete() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", MONTHLY);
+        request.setAsyncSupported(true);
+        FilterChain startsAsync = (req, res) -> req.startAsync();
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), startsAsync);
+        int activeWhileStreaming = reportStats().getActive();
+        request.getAsyncContext().complete();
+
+        // Then
+        assertThat(activeWhileStreaming).isEqualTo(1);
+        assertThat(reportStats().getActive()).isZero();
+    }
+
+    private BulkheadStatsResponse reportStats() {
+        return filter.stats().stream().filter(stats -> stats.getName().equals("report")).findFirst().orElseThrow();
+    }
+
+    private static List<String> configuredReportPaths() throws Exception {
+        List<PropertySource<?>> sources = new YamlPropertySourceLoader()
+                .load("application.yml", new ClassPathResource("application.yml"));
+        return new Binder(ConfigurationPropertySources.from(sources))
+                .bind("app.admission", AdmissionProperties.class)
+                .orElseThrow(IllegalStateException::new)
+                .getReportPaths();
+    }
+}
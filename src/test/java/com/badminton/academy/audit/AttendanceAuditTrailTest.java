@@ -0,0 +1,185 @@
+package com.badminton.academy.audit;
+
+import com.badminton.academy.model.Attendance;
+import com.badminton.academy.model.AttendanceAuditLog;
+import com.badminton.academy.model.Batch;
+import com.badminton.academy.model.Coach;
+import com.badminton.academy.model.Student;
+import com.badminton.academy.model.enums.AttendanceStatus;
+import com.badminton.academy.model.enums.Role;
+import com.badminton.academy.model.enums.SkillLevel;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Audit rows are written at commit, in the committing transaction, and only when it commits.
+ * Runs outside the test-managed transaction so commits really happen.
+ */
+@DataJpaTest(properties = "spring.flyway.enabled=false")
+@Import({AttendanceAuditTrail.class, AuditLogWriter.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("AttendanceAuditTrail Tests")
+class AttendanceAuditTrailTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2024, 3, 4);
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AttendanceAuditTrail auditTrail;
+
+    private Coach coach;
+    private Batch batch;
+    private Student student;
+
+    @BeforeEach
+    void seed() {
+        transactionTemplate.executeWithoutResult(status -> {
+            coach = new Coach();
+            coach.setEmail("coach@audit.test");
+            coach.setPassword("secret");
+            coach.setFirstName("Asha");
+            coach.setLastName("Rao");
+            coach.setFullName("Asha Rao");
+            coach.setDateOfBirth(LocalDate.of(1990, 1, 1));
+            coach.setRole(Role.COACH);
+            coach.setIsActive(true);
+            coach.setIsEmailVerified(true);
+            entityManager.persist(coach);
+
+            batch = Batch.builder().name("Morning").coach(coach).isActive(true).students(new HashSet<>()).build();
+            entityManager.persist(batch);
+            student = Student.builder().firstName("Ravi").lastName("Student").skillLevel(SkillLevel.BEGINNER).build();
+            entityManager.persist(student);
+        });
+    }
+
+    @AfterEach
+    void cleanUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("DELETE FROM attendance_audit_log");
+            jdbcTemplate.update("DELETE FROM attendance");
+            entityManager.remove(entityManager.find(Student.class, student.getId()));
+            entityManager.remove(entityManager.find(Batch.class, batch.getId()));
+            entityManager.remove(entityManager.find(Coach.class, coach.getId()));
+        });
+    }
+
+    @Test
+    @DisplayName("Should write the transaction's audit rows at commit, including rows for unsaved attendance")
+    void record_Commit_WritesAllRows() {
+        // When
+        Long pendingRows = transactionTemplate.execute(status -> {
+            Attendance first = attendance(MONDAY);
+            entityManager.persist(first);
+            auditTrail.record(auditLog(first, "CREATE"));
+
+            // Recorded before the attendance row has an ID, as the bulk sheet does
+            Attendance second = attendance(MONDAY.plusDays(1));
+            auditTrail.record(auditLog(second, "CREATE"));
+            entityManager.persist(second);
+            return countAuditRows();
+        });
+
+        // Then
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT a.id AS attendance_id, l.attendance_id AS logged_id, l.changed_by_id, l.new_status " +
+                "FROM attendance_audit_log l JOIN attendance a ON a.id = l.attendance_id");
+        assertThat(pendingRows).isZero();
+        assertThat(rows).hasSize(2).allSatisfy(row -> {
+            assertThat(row.get("LOGGED_ID")).isEqualTo(row.get("ATTENDANCE_ID"));
+            assertThat(((Number) row.get("CHANGED_BY_ID")).longValue()).isEqualTo(coach.getId());
+            assertThat(row.get("NEW_STATUS")).isEqualTo("PRESENT");
+        });
+    }
+
+    @Test
+    @DisplayName("Should hand out consecutive IDs from one sequence block across commits")
+    void record_SeparateCommits_ShareSequenceBlock() {
+        // When
+        for (int day = 0; day < 3; day++) {
+            LocalDate date = MONDAY.plusDays(day);
+            transactionTemplate.executeWithoutResult(status -> {
+                Attendance attendance = attendance(date);
+                entityManager.persist(attendance);
+                auditTrail.record(auditLog(attendance, "CREATE"));
+            });
+        }
+
+        // Then
+        List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM attendance_audit_log ORDER BY id", Long.class);
+        assertThat(ids).hasSize(3);
+        assertThat(ids.get(2) - ids.get(0)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should write no audit rows when the transaction rolls back")
+    void record_Rollback_WritesNothing() {
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            Attendance attendance = attendance(MONDAY);
+            entityManager.persist(attendance);
+            auditTrail.record(auditLog(attendance, "CREATE"));
+            status.setRollbackOnly();
+        });
+
+        // Then
+        assertThat(countAuditRows()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reject audit rows recorded outside a transaction")
+    void record_NoTransaction_Throws() {
+        assertThatThrownBy(() -> auditTrail.record(auditLog(attendance(MONDAY), "CREATE")))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private Long countAuditRows() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM attendance_audit_log", Long.class);
+    }
+
+    private Attendance attendance(LocalDate date) {
+        return Attendance.builder()
+                .student(student)
+                .batch(batch)
+                .date(date)
+                .status(AttendanceStatus.PRESENT)
+                .markedBy(coach)
+                .build();
+    }
+
+    private AttendanceAuditLog auditLog(Attendance attendance, String action) {
+        return AttendanceAuditLog.builder()
+                .attendance(attendance)
+                .action(action)
+                .newStatus(attendance.getStatus())
+                .changedBy(coach)
+                .changedByRole("COACH")
+                .wasBackdated(false)
+                .build();
+    }
+}
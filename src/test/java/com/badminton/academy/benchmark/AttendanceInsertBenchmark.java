@@ -0,0 +1,169 @@
+package com.badminton.academy.benchmark;
+
+import com.badminton.academy.model.Attendance;
+import com.badminton.academy.model.Batch;
+import com.badminton.academy.model.Coach;
+import com.badminton.academy.model.Student;
+import com.badminton.academy.model.enums.AttendanceStatus;
+import com.badminton.academy.model.enums.Role;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Insert throughput for a 1,000-row bulk attendance import, comparing the pooled
+ * sequence mapping on {@link Attendance} against an IDENTITY-mapped row of the same shape.
+ *
+ * Run with: mvn test -Pbenchmark
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=25",
+        "spring.jpa.properties.hibernate.order_inserts=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Attendance insert benchmark")
+class AttendanceInsertBenchmark {
+
+    private static final int STUDENTS = 50;
+    private static final int DAYS = 20;
+    private static final int ROWS = STUDENTS * DAYS;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 10;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private Coach coach;
+    private Batch batch;
+    private List<Student> students;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(status -> {
+            coach = new Coach();
+            coach.setEmail("benchmark.coach." + System.nanoTime() + "@academy.com");
+            coach.setPassword("benchmark");
+            coach.setFirstName("Bench");
+            coach.setLastName("Coach");
+            coach.setFullName("Bench Coach");
+            coach.setDateOfBirth(LocalDate.of(1990, 1, 1));
+            coach.setRole(Role.COACH);
+            coach.setIsActive(true);
+            coach.setIsEmailVerified(true);
+            entityManager.persist(coach);
+
+            batch = Batch.builder().name("Benchmark").coach(coach).isActive(true).students(new HashSet<>()).build();
+            entityManager.persist(batch);
+
+            students = new ArrayList<>();
+            for (int i = 0; i < STUDENTS; i++) {
+                Student student = Student.builder().firstName("Student").lastName(String.valueOf(i)).build();
+                entityManager.persist(student);
+                students.add(student);
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("Pooled sequence IDs batch inserts that IDENTITY executes one by one")
+    void bulkImportThroughput() {
+        Result identity = run("IDENTITY", (student, date) -> {
+            IdentityAttendanceRow row = new IdentityAttendanceRow();
+            row.setStudent(student);
+            row.setBatch(batch);
+            row.setDate(date);
+            row.setStatus(AttendanceStatus.PRESENT);
+            row.setMarkedBy(coach);
+            entityManager.persist(row);
+        }, "DELETE FROM IdentityAttendanceRow");
+
+        Result pooled = run("SEQUENCE (pooled, allocationSize=50)", (student, date) ->
+                entityManager.persist(Attendance.builder()
+                        .student(student)
+                        .batch(batch)
+                        .date(date)
+                        .status(AttendanceStatus.PRESENT)
+                        .markedBy(coach)
+                        .build()), "DELETE FROM Attendance");
+
+        System.out.printf("%nBulk attendance import, %d rows x %d rounds%n", ROWS, MEASURED_ROUNDS);
+        identity.print();
+        pooled.print();
+        System.out.printf("Throughput gain: %.2fx%n%n", pooled.rowsPerSecond() / identity.rowsPerSecond());
+
+        assertThat(pooled.statementsPerImport).isLessThan(identity.statementsPerImport);
+    }
+
+    private Result run(String label, BiConsumer<Student, LocalDate> insert, String cleanup) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long totalNanos = 0;
+        long statements = 0;
+
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+            statistics.clear();
+            long start = System.nanoTime();
+            transactionTemplate.executeWithoutResult(status -> {
+                LocalDate date = LocalDate.of(2024, 1, 1);
+                for (int day = 0; day < DAYS; day++) {
+                    for (Student student : students) {
+                        insert.accept(student, date);
+                    }
+                    date = date.plusDays(1);
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+            long elapsed = System.nanoTime() - start;
+
+            if (round >= WARMUP_ROUNDS) {
+                totalNanos += elapsed;
+                statements = statistics.getPrepareStatementCount();
+            }
+            transactionTemplate.executeWithoutResult(status -> entityManager.createQuery(cleanup).executeUpdate());
+        }
+        return new Result(label, totalNanos / MEASURED_ROUNDS, statements);
+    }
+
+    private record Result(String label, long nanosPerImport, long statementsPerImport) {
+
+        double rowsPerSecond() {
+            return ROWS / (nanosPerImport / 1_000_000_000.0);
+        }
+
+        void print() {
+            System.out.printf("  %-38s %8.1f ms/import  %10.0f rows/s  %5d statements/import%n",
+                    label, nanosPerImport / 1_000_000.0, rowsPerSecond(), statementsPerImport);
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.badminton.academy.benchmark;
+
+import com.badminton.academy.BadmintonAcademyApplication;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.web.servlet.function.RouterFunction;
+import org.springframework.web.servlet.function.RouterFunctions;
+import org.springframework.web.servlet.function.ServerResponse;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Load test comparing the default platform-thread request handling with the virtual-thread
+ * mode (Spring profile "virtual"): throughput, p50/p99 latency and requests turned away.
+ *
+ * The application runs in-process on H2 with a five-connection pool. The measured endpoint
+ * holds a connection for {@code loadtest.db-millis} (a remote Postgres round trip) and then
+ * waits {@code loadtest.remote-millis} without one (an SMTP or SMS call), the shape of most
+ * handlers here. The virtual-thread run needs a Java 21 runtime and is skipped otherwise.
+ *
+ * Run with: mvn test -Pbenchmark -Dtest=ExecutionModeLoadBenchmark
+ * Tune with -Dloadtest.concurrency=1000 -Dloadtest.duration=20s -Dloadtest.db-millis=2
+ * -Dloadtest.remote-millis=200
+ */
+@Tag("benchmark")
+@DisplayName("Execution mode load test")
+class ExecutionModeLoadBenchmark {
+
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 1000);
+    private static final Duration DURATION = Duration.parse("PT" + System.getProperty("loadtest.duration", "20s"));
+    private static final Duration WARM_UP = Duration.ofSeconds(5);
+    private static final long DB_MILLIS = Long.getLong("loadtest.db-millis", 2);
+    private static final long REMOTE_MILLIS = Long.getLong("loadtest.remote-millis", 200);
+    private static final String PATH = "/api/public/load-test";
+
+    @Test
+    @DisplayName("Platform threads versus virtual threads under blocking I/O")
+    void compareExecutionModes() throws Exception {
+        System.out.printf("%nLoad test: %d clients, %s, %d ms holding a connection + %d ms remote I/O per request%n",
+                CONCURRENCY, DURATION, DB_MILLIS, REMOTE_MILLIS);
+
+        Result platform = run("platform threads", false);
+        platform.print();
+        if (Runtime.version().feature() < 21) {
+            System.out.printf("  %-18s skipped: needs a Java 21 runtime (running %s)%n%n", "virtual threads", Runtime.version());
+            assertThat(platform.completed).isPositive();
+            return;
+        }
+        Result virtual = run("virtual threads", true);
+        virtual.print();
+        System.out.printf("Throughput: %.2fx, p99: %.2fx%n%n",
+                virtual.throughput() / platform.throughput(), (double) virtual.p99Micros / platform.p99Micros);
+
+        assertThat(virtual.completed).isPositive();
+    }
+
+    private Result run(String label, boolean virtualThreads) throws Exception {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(BadmintonAcademyApplication.class)
+                .initializers(context -> ((GenericApplicationContext) context).registerBean(
+                        "loadTestRoute", RouterFunction.class, () -> loadTestRoute(context)));
+        String[] args = {
+                "--spring.profiles.active=" + (virtualThreads ? "local,virtual" : "local"),
+                "--server.port=0",
+                "--spring.flyway.enabled=false",
+                "--spring.jpa.show-sql=false",
+                "--spring.h2.console.enabled=false",
+                "--spring.datasource.hikari.maximum-pool-size=5",
+                "--app.cache.warm-up.enabled=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.badminton.academy=WARN"
+        };
+
+        try (ConfigurableApplicationContext context = builder.run(args)) {
+            int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+            URI uri = URI.create("http://localhost:" + port + PATH);
+            drive(uri, WARM_UP);
+            return measure(label, uri);
+        }
+    }
+
+    private static RouterFunction<ServerResponse> loadTestRoute(ConfigurableApplicationContext context) {
+        return RouterFunctions.route()
+                .GET(PATH, request -> {
+                    try (Connection connection = context.getBean(DataSource.class).getConnection();
+                         Statement statement = connection.createStatement()) {
+                        statement.execute("SELECT 1");
+                        Thread.sleep(DB_MILLIS);
+                    }
+                    Thread.sleep(REMOTE_MILLIS);
+                    return ServerResponse.ok().body("ok");
+                })
+                .build();
+    }
+
+    private Result measure(String label, URI uri) throws Exception {
+        long start = System.nanoTime();
+        List<Sample> samples = drive(uri, DURATION);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        long[] latencies = samples.stream().flatMapToLong(sample -> Arrays.stream(sample.latencies, 0, sample.count)).toArray();
+        Arrays.sort(latencies);
+        long rejected = samples.stream().mapToLong(sample -> sample.rejected).sum();
+        long failed = samples.stream().mapToLong(sample -> sample.failed).sum();
+        return new Result(label, latencies.length, rejected, failed, seconds,
+                percentile(latencies, 0.50), percentile(latencies, 0.99));
+    }
+
+    private List<Sample> drive(URI uri, Duration duration) throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(Executors.newFixedThreadPool(16))
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(60)).GET().build();
+        long end = System.nanoTime() + duration.toNanos();
+
+        ExecutorService clients = Executors.newFixedThreadPool(CONCURRENCY);
+        try {
+            List<Future<Sample>> futures = new ArrayList<>(CONCURRENCY);
+            for (int i = 0; i < CONCURRENCY; i++) {
+                futures.add(clients.submit(() -> {
+                    Sample sample = new Sample();
+                    while (System.nanoTime() < end) {
+                        long sent = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() == 200) {
+                                sample.add((System.nanoTime() - sent) / 1_000);
+                            } else if (response.statusCode() == 503) {
+                                sample.rejected++;
+                            } else {
+                                sample.failed++;
+                            }
+                        } catch (java.io.IOException ex) {
+                            sample.failed++;
+                        }
+                    }
+                    return sample;
+                }));
+            }
+            List<Sample> samples = new ArrayList<>(CONCURRENCY);
+            for (Future<Sample> future : futures) {
+                samples.add(future.get());
+            }
+            return samples;
+        } finally {
+            clients.shutdownNow();
+            clients.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(percentile * sorted.length) - 1)];
+    }
+
+    private static final class Sample {
+        long[] latencies = new long[256];
+        int count;
+        long rejected;
+        long failed;
+
+        void add(long micros) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = micros;
+        }
+    }
+
+    private record Result(String label, long completed, long rejected, long failed, double seconds,
+                          long p50Micros, long p99Micros) {
+
+        double throughput() {
+            return completed / seconds;
+        }
+
+        void print() {
+            System.out.printf("  %-18s %9.1f req/s  p50 %8.1f ms  p99 %8.1f ms  503s %6d  errors %d%n",
+                    label, throughput(), p50Micros / 1_000.0, p99Micros / 1_000.0, rejected, failed);
+        }
+    }
+}
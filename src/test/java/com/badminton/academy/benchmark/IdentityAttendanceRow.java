@@ -0,0 +1,50 @@
+package com.badminton.academy.benchmark;
+
+import com.badminton.academy.model.Batch;
+import com.badminton.academy.model.Coach;
+import com.badminton.academy.model.Student;
+import com.badminton.academy.model.enums.AttendanceEntryType;
+import com.badminton.academy.model.enums.AttendanceStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * Benchmark-only copy of the attendance row shape that keeps the old
+ * IDENTITY strategy, used as the baseline in {@link AttendanceInsertBenchmark}.
+ */
+@Entity
+@Table(name = "benchmark_identity_attendance")
+@Getter
+@Setter
+@NoArgsConstructor
+class IdentityAttendanceRow {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "student_id", nullable = false)
+    private Student student;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "batch_id", nullable = false)
+    private Batch batch;
+
+    @Column(nullable = false)
+    private LocalDate date;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private AttendanceStatus status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private AttendanceEntryType entryType = AttendanceEntryType.REGULAR;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "marked_by")
+    private Coach markedBy;
+}
@@ -0,0 +1,108 @@
+package com.badminton.academy.benchmark;
+
+import com.badminton.academy.model.User;
+import com.badminton.academy.model.enums.Role;
+import com.badminton.academy.repository.UserRepository;
+import com.badminton.academy.security.PrincipalCache;
+import com.badminton.academy.security.jwt.JwtAuthenticationFilter;
+import com.badminton.academy.security.jwt.JwtUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Per-request cost of JwtAuthenticationFilter with the verified-token cache disabled
+ * (every request HMAC-verifies and parses the token) and enabled (repeat tokens are served
+ * from the cache). The principal cache is warm in both runs so only token handling differs.
+ *
+ * Run with: mvn test -Pbenchmark
+ */
+@Tag("benchmark")
+@DisplayName("JWT filter benchmark")
+class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-that-is-long-enough-for-hmac-sha-256";
+    private static final int TOKENS = 200;
+    private static final int WARMUP_REQUESTS = 50_000;
+    private static final int MEASURED_REQUESTS = 200_000;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Verified-token cache removes signature verification from repeat requests")
+    void filterCostPerRequest() throws Exception {
+        Result uncached = run("verify every request", 0);
+        Result cached = run("verified-token cache", 10_000);
+
+        System.out.printf("%nJwtAuthenticationFilter, %d distinct tokens, %d requests%n", TOKENS, MEASURED_REQUESTS);
+        uncached.print();
+        cached.print();
+        System.out.printf("Speedup: %.2fx%n%n", (double) uncached.nanosPerRequest / cached.nanosPerRequest);
+
+        assertThat(cached.nanosPerRequest).isLessThan(uncached.nanosPerRequest);
+    }
+
+    private Result run(String label, long verifiedCacheMaxSize) throws Exception {
+        JwtUtils jwtUtils = new JwtUtils();
+        ReflectionTestUtils.setField(jwtUtils, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(jwtUtils, "jwtExpirationMs", 3_600_000L);
+        ReflectionTestUtils.setField(jwtUtils, "verifiedCacheMaxSize", verifiedCacheMaxSize);
+        ReflectionTestUtils.setField(jwtUtils, "verifiedCacheMaxTtl", Duration.ofMinutes(10));
+        jwtUtils.init();
+
+        UserRepository userRepository = mock(UserRepository.class);
+        String[] headers = new String[TOKENS];
+        for (int i = 0; i < TOKENS; i++) {
+            User user = new User();
+            user.setId((long) i);
+            user.setEmail("user" + i + "@academy.test");
+            user.setRole(Role.PARENT);
+            user.setIsActive(true);
+            when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
+            headers[i] = "Bearer " + jwtUtils.generateTokenForUser(user);
+        }
+        PrincipalCache principalCache = new PrincipalCache(userRepository, 10_000, Duration.ofMinutes(5), false, 3_600_000L);
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtUtils, principalCache);
+
+        for (int i = 0; i < WARMUP_REQUESTS; i++) {
+            request(filter, headers[i % TOKENS]);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_REQUESTS; i++) {
+            request(filter, headers[i % TOKENS]);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+        return new Result(label, elapsed / MEASURED_REQUESTS);
+    }
+
+    private static void request(JwtAuthenticationFilter filter, String authorization) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/students");
+        request.addHeader("Authorization", authorization);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+    }
+
+    private record Result(String label, long nanosPerRequest) {
+
+        void print() {
+            System.out.printf("  %-24s %8.2f us/request%n", label, nanosPerRequest / 1_000.0);
+        }
+    }
+}
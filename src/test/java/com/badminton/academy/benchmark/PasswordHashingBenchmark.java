@@ -0,0 +1,77 @@
+package com.badminton.academy.benchmark;
+
+import com.badminton.academy.otp.OtpHasher;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Logins per second per core: single-threaded password checks at several BCrypt costs,
+ * next to OTP checks with the BCrypt encoder OTPs used to share and with the HMAC that
+ * replaced it. Use it to pick {@code app.security.password.bcrypt-strength} and to size
+ * {@code app.security.password.hashing.threads}.
+ *
+ * Run with: mvn test -Pbenchmark
+ */
+@Tag("benchmark")
+@DisplayName("Password hashing benchmark")
+class PasswordHashingBenchmark {
+
+    private static final Duration MEASURE_FOR = Duration.ofSeconds(3);
+
+    @Test
+    @DisplayName("Password and OTP checks per second on one core")
+    void checksPerSecondPerCore() {
+        System.out.printf("%nCredential checks per second on one core (%d cores available)%n",
+                Runtime.getRuntime().availableProcessors());
+
+        double bcrypt10 = 0;
+        for (int strength : new int[]{8, 10, 12}) {
+            BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+            String hash = encoder.encode("correct horse battery staple");
+            double perSecond = measure("password, bcrypt " + strength,
+                    () -> encoder.matches("correct horse battery staple", hash));
+            if (strength == 10) {
+                bcrypt10 = perSecond;
+            }
+        }
+
+        PasswordEncoder bcryptOtp = new BCryptPasswordEncoder();
+        String bcryptOtpHash = bcryptOtp.encode("123456");
+        measure("OTP, bcrypt 10 (before)", () -> bcryptOtp.matches("123456", bcryptOtpHash));
+
+        OtpHasher hmac = new OtpHasher("benchmark-secret", "memory");
+        String hmacHash = hmac.hash("LOGIN:PHONE:+919876543210", "123456");
+        double hmacPerSecond = measure("OTP, HMAC-SHA256",
+                () -> hmac.matches("LOGIN:PHONE:+919876543210", "123456", hmacHash));
+        System.out.println();
+
+        assertThat(hmacPerSecond).isGreaterThan(bcrypt10 * 100);
+    }
+
+    private static double measure(String label, java.util.function.BooleanSupplier check) {
+        // Warm up for a third of the measuring time
+        long warmUntil = System.nanoTime() + MEASURE_FOR.toNanos() / 3;
+        while (System.nanoTime() < warmUntil) {
+            assertThat(check.getAsBoolean()).isTrue();
+        }
+        long checks = 0;
+        long start = System.nanoTime();
+        long end = start + MEASURE_FOR.toNanos();
+        long now = start;
+        while (now < end) {
+            assertThat(check.getAsBoolean()).isTrue();
+            checks++;
+            now = System.nanoTime();
+        }
+        double perSecond = checks / ((now - start) / 1e9);
+        System.out.printf("  %-26s %12.1f checks/s  %10.1f us/check%n", label, perSecond, 1e6 / perSecond);
+        return perSecond;
+    }
+}
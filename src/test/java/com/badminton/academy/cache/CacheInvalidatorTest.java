@@ -0,0 +1,225 @@
+package com.badminton.academy.cache;
+
+import com.badminton.academy.cache.StudentFootprint.BatchRef;
+import com.badminton.academy.dto.response.CacheStatsResponse;
+import com.badminton.academy.model.enums.SkillLevel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.cache.support.SimpleCacheManager;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CacheInvalidator Tests")
+class CacheInvalidatorTest {
+
+    private CaffeineCacheManager cacheManager;
+    private CacheInvalidator cacheInvalidator;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new CaffeineCacheManager();
+        cacheManager.setCaffeine(Caffeine.newBuilder().recordStats());
+        cacheInvalidator = new CacheInvalidator(cacheManager, new LoopbackInvalidationBus());
+    }
+
+    private Cache cache(String name) {
+        return cacheManager.getCache(name);
+    }
+
+    private static StudentFootprint student(SkillLevel skillLevel, Long parentId, Set<Long> batchIds) {
+        Set<BatchRef> batches = batchIds.stream().map(id -> new BatchRef(id, 100L)).collect(Collectors.toSet());
+        return new StudentFootprint(7L, true, skillLevel, parentId, batches);
+    }
+
+    private static CoachFootprint coach(String fullName, String specialization, int years) {
+        return new CoachFootprint(100L, "coach@academy.test", fullName, true, specialization, years, Set.of(10L));
+    }
+
+    @Test
+    @DisplayName("Should evict only the student's own entry on a profile edit")
+    void studentChanged_ProfileEdit_EvictsOnlyOwnEntry() {
+        // Given
+        cache("students:byId").put(7L, "student 7");
+        cache("students:byId").put(8L, "student 8");
+        cache("students:byCoach").put(100L, new long[]{7L, 8L});
+        cache("students:byParent").put(50L, new long[]{7L});
+        cache("students:all").put(SimpleKey.EMPTY, new long[]{7L, 8L});
+        cache("batches:byId").put(10L, "batch 10");
+
+        // When
+        cacheInvalidator.studentChanged(
+                student(SkillLevel.BEGINNER, 50L, Set.of(10L)),
+                student(SkillLevel.BEGINNER, 50L, Set.of(10L)));
+
+        // Then
+        assertThat(cache("students:byId").get(7L)).isNull();
+        assertThat(cache("students:byId").get(8L)).isNotNull();
+        assertThat(cache("students:byCoach").get(100L)).as("membership unchanged").isNotNull();
+        assertThat(cache("students:byParent").get(50L)).isNotNull();
+        assertThat(cache("students:all").get(SimpleKey.EMPTY)).isNotNull();
+        assertThat(cache("batches:byId").get(10L)).as("roster unchanged").isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should evict only the old and new skill level lists when the skill level changes")
+    void studentChanged_SkillLevelChange_EvictsOldAndNewLists() {
+        // Given
+        cache("students:bySkillLevel").put(SkillLevel.BEGINNER, new long[]{7L});
+        cache("students:bySkillLevel").put(SkillLevel.INTERMEDIATE, new long[]{8L});
+        cache("students:bySkillLevel").put(SkillLevel.ADVANCED, new long[]{9L});
+        cache("students:byCoach").put(100L, new long[]{7L, 8L});
+
+        // When
+        cacheInvalidator.studentChanged(
+                student(SkillLevel.BEGINNER, 50L, Set.of(10L)),
+                student(SkillLevel.INTERMEDIATE, 50L, Set.of(10L)));
+
+        // Then
+        assertThat(cache("students:bySkillLevel").get(SkillLevel.BEGINNER)).isNull();
+        assertThat(cache("students:bySkillLevel").get(SkillLevel.INTERMEDIATE)).isNull();
+        assertThat(cache("students:bySkillLevel").get(SkillLevel.ADVANCED)).isNotNull();
+        assertThat(cache("students:byCoach").get(100L)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should evict the joined batch and its coach when batch membership changes")
+    void studentChanged_MembershipChange_EvictsChangedBatchOnly() {
+        // Given
+        cache("batches:byId").put(10L, "batch 10");
+        cache("batches:byId").put(11L, "batch 11");
+        cache("students:byBatch").put(10L, new long[]{});
+        cache("students:byBatch").put(11L, new long[]{7L});
+        cache("coaches:byId").put(100L, "coach 100");
+        cache("batches:byCoach").put(100L, new long[]{10L, 11L});
+        cache("batches:all").put(SimpleKey.EMPTY, new long[]{10L, 11L});
+
+        // When
+        cacheInvalidator.studentChanged(
+                student(SkillLevel.BEGINNER, null, Set.of(11L)),
+                student(SkillLevel.BEGINNER, null, Set.of(10L, 11L)));
+
+        // Then
+        assertThat(cache("batches:byId").get(10L)).isNull();
+        assertThat(cache("batches:byId").get(11L)).isNotNull();
+        assertThat(cache("students:byBatch").get(10L)).isNull();
+        assertThat(cache("students:byBatch").get(11L)).isNotNull();
+        assertThat(cache("coaches:byId").get(100L)).as("coach totals changed").isNull();
+        assertThat(cache("batches:byCoach").get(100L)).as("batch IDs unchanged").isNotNull();
+        assertThat(cache("batches:all").get(SimpleKey.EMPTY)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should evict only the experience filters the coach falls into")
+    void coachChanged_EvictsMatchingFilterKeys() {
+        // Given
+        cache("coaches:byExperience").put(3, "3+ years");
+        cache("coaches:byExperience").put(10, "10+ years");
+        cache("coaches:bySpecialization").put("single", "singles coaches");
+        cache("coaches:bySpecialization").put("doubles", "doubles coaches");
+        cache("coaches:byId").put(100L, "coach 100");
+        cache("batches:byId").put(10L, "batch 10");
+
+        // When
+        cacheInvalidator.coachChanged(coach("Asha Rao", "Singles", 5), coach("Asha Rao", "Singles", 6));
+
+        // Then
+        assertThat(cache("coaches:byExperience").get(3)).isNull();
+        assertThat(cache("coaches:byExperience").get(10)).isNotNull();
+        assertThat(cache("coaches:bySpecialization").get("single")).as("specialization unchanged").isNotNull();
+        assertThat(cache("coaches:bySpecialization").get("doubles")).isNotNull();
+        assertThat(cache("coaches:byId").get(100L)).isNull();
+        assertThat(cache("batches:byId").get(10L)).as("coach name unchanged").isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should evict the children's student entries only when the parent is renamed")
+    void parentChanged_Rename_EvictsChildren() {
+        // Given
+        cache("students:byId").put(7L, "student 7");
+        cache("students:byId").put(8L, "student 8");
+        cache("students:byId").put(9L, "student 9");
+        ParentFootprint before = new ParentFootprint(50L, "Jane Smith", Set.of(7L, 8L));
+
+        // When
+        cacheInvalidator.parentChanged(before, new ParentFootprint(50L, "Jane Smith", Set.of(7L, 8L)));
+
+        // Then
+        assertThat(cache("students:byId").get(7L)).as("name unchanged").isNotNull();
+
+        // When
+        cacheInvalidator.parentChanged(before, new ParentFootprint(50L, "Jane Doe", Set.of(7L, 8L)));
+
+        // Then
+        assertThat(cache("students:byId").get(7L)).isNull();
+        assertThat(cache("students:byId").get(8L)).isNull();
+        assertThat(cache("students:byId").get(9L)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should evict the same keys on other instances after the write")
+    void studentChanged_PublishesToOtherInstances() {
+        // Given
+        LoopbackInvalidationBus bus = new LoopbackInvalidationBus();
+        CacheInvalidator nodeA = new CacheInvalidator(cacheManager, bus);
+        CaffeineCacheManager nodeBLocal = new CaffeineCacheManager();
+        ConcurrentMapCache shared = new ConcurrentMapCache("students:byId");
+        SimpleCacheManager nodeBCaches = new SimpleCacheManager();
+        nodeBCaches.setCaches(List.of(
+                new TwoTierCache(nodeBLocal.getCache("students:byId"), shared),
+                nodeBLocal.getCache("coaches:bySpecialization")));
+        nodeBCaches.initializeCaches();
+        new CacheInvalidator(nodeBCaches, bus);
+        nodeBCaches.getCache("students:byId").put(7L, "student 7");
+        nodeBCaches.getCache("students:byId").put(8L, "student 8");
+        nodeBCaches.getCache("coaches:bySpecialization").put("single", new long[]{100L});
+        cache("students:byId").put(7L, "student 7");
+
+        // When
+        nodeA.studentChanged(student(SkillLevel.BEGINNER, 50L, Set.of()), student(SkillLevel.BEGINNER, 50L, Set.of()));
+        nodeA.coachChanged(coach("Asha Rao", "Singles", 5), coach("Asha Rao", "Doubles", 5));
+
+        // Then
+        assertThat(cache("students:byId").get(7L)).isNull();
+        assertThat(nodeBLocal.getCache("students:byId").get(7L)).isNull();
+        assertThat(nodeBLocal.getCache("students:byId").get(8L)).isNotNull();
+        assertThat(shared.get(7L)).as("shared tier is evicted by the writing instance").isNotNull();
+        assertThat(nodeBCaches.getCache("coaches:bySpecialization").get("single")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should report hit ratio and invalidation counters per cache")
+    void stats_ReportsHitRatioAndInvalidations() {
+        // Given
+        Cache byId = cache("students:byId");
+        byId.put(7L, "student 7");
+        byId.get(7L);
+        byId.get(7L);
+        byId.get(8L);
+        cacheInvalidator.studentChanged(student(SkillLevel.BEGINNER, null, Set.of()), student(SkillLevel.BEGINNER, null, Set.of()));
+
+        // When
+        CacheStatsResponse stats = cacheInvalidator.stats().stream()
+                .filter(response -> response.getName().equals("students:byId"))
+                .findFirst()
+                .orElseThrow();
+
+        // Then
+        assertThat(stats.getHitCount()).isEqualTo(2);
+        assertThat(stats.getMissCount()).isEqualTo(1);
+        assertThat(stats.getHitRatio()).isCloseTo(2.0 / 3, within(0.001));
+        assertThat(stats.getInvalidatedKeys()).isEqualTo(1);
+        assertThat(stats.getClears()).isZero();
+        assertThat(stats.getSize()).isZero();
+    }
+}
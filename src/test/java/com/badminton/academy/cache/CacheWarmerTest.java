@@ -0,0 +1,88 @@
+package com.badminton.academy.cache;
+
+import com.badminton.academy.config.CachePolicyProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CacheWarmer Tests")
+class CacheWarmerTest {
+
+    private CaffeineCacheManager cacheManager;
+    private CacheRefreshRegistry refreshRegistry;
+    private CachePolicyProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new CaffeineCacheManager("students:all", "coaches:all", "batches:active");
+        refreshRegistry = new CacheRefreshRegistry();
+        properties = new CachePolicyProperties();
+    }
+
+    @Test
+    @DisplayName("Should preload every configured cache and then report ready")
+    void warmUp_LoadsConfiguredCaches() {
+        // Given
+        refreshRegistry.register("students:all", key -> new long[]{1L, 2L});
+        refreshRegistry.register("coaches:all", key -> new long[]{10L});
+        properties.getWarmUp().setCaches(List.of("students:all", "coaches:all", "unknown:cache"));
+        CacheWarmer cacheWarmer = new CacheWarmer(cacheManager, refreshRegistry, properties);
+        assertThat(cacheWarmer.getState()).isEqualTo(CacheWarmer.State.WARMING);
+
+        // When
+        cacheWarmer.warmUp();
+
+        // Then
+        assertThat(cacheWarmer.isReady()).isTrue();
+        assertThat(cacheManager.getCache("students:all").get(NormalizedCache.ALL, long[].class)).containsExactly(1L, 2L);
+        assertThat(cacheManager.getCache("coaches:all").get(NormalizedCache.ALL, long[].class)).containsExactly(10L);
+    }
+
+    @Test
+    @DisplayName("Should report ready when the budget runs out, leaving slow caches cold")
+    void warmUp_BudgetExceeded_ReportsReady() {
+        // Given
+        CountDownLatch never = new CountDownLatch(1);
+        refreshRegistry.register("students:all", key -> new long[]{1L});
+        refreshRegistry.register("batches:active", key -> {
+            try {
+                never.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new long[]{5L};
+        });
+        properties.getWarmUp().setCaches(List.of("students:all", "batches:active"));
+        properties.getWarmUp().setBudget(Duration.ofMillis(200));
+        CacheWarmer cacheWarmer = new CacheWarmer(cacheManager, refreshRegistry, properties);
+
+        // When
+        cacheWarmer.warmUp();
+
+        // Then
+        assertThat(cacheWarmer.isReady()).isTrue();
+        assertThat(cacheManager.getCache("students:all").get(NormalizedCache.ALL)).isNotNull();
+        assertThat(cacheManager.getCache("batches:active").get(NormalizedCache.ALL)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should start ready when warm-up is disabled")
+    void disabled_StartsReady() {
+        // Given
+        properties.getWarmUp().setCaches(List.of("students:all"));
+        properties.getWarmUp().setEnabled(false);
+
+        // When
+        CacheWarmer cacheWarmer = new CacheWarmer(cacheManager, refreshRegistry, properties);
+
+        // Then
+        assertThat(cacheWarmer.isReady()).isTrue();
+    }
+}
@@ -0,0 +1,80 @@
+package com.badminton.academy.cache;
+
+import com.badminton.academy.model.enums.SkillLevel;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.interceptor.SimpleKey;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("InvalidationCodec Tests")
+class InvalidationCodecTest {
+
+    private final InvalidationCodec codec = new InvalidationCodec(new ObjectMapper(), 7900);
+
+    @Test
+    @DisplayName("Should decode keys equal to the originals")
+    void roundTrip_PreservesKeyTypes() {
+        // Given
+        InvalidationEvent event = new InvalidationEvent("node-a", Map.of(
+                "students:byId", Set.of(7L),
+                "students:bySkillLevel", Set.of(SkillLevel.BEGINNER),
+                "coaches:byExperience", Set.of(5),
+                "coaches:byEmail", Set.of("coach@academy.test"),
+                "students:all", Set.of(SimpleKey.EMPTY)
+        ), Set.of("coaches:bySpecialization"));
+
+        // When
+        InvalidationEvent decoded = codec.decode(codec.encode(event));
+
+        // Then
+        assertThat(decoded).isEqualTo(event);
+    }
+
+    @Test
+    @DisplayName("Should clear a cache whose keys cannot be encoded")
+    void encode_UnsupportedKey_ClearsCache() {
+        // Given
+        InvalidationEvent event = new InvalidationEvent("node-a", Map.of(
+                "students:byId", Set.of(7L),
+                "reports:byRange", Set.of(new SimpleKey(1, 2))
+        ), Set.of());
+
+        // When
+        InvalidationEvent decoded = codec.decode(codec.encode(event));
+
+        // Then
+        assertThat(decoded.keys()).containsOnlyKeys("students:byId");
+        assertThat(decoded.clearedCaches()).containsExactly("reports:byRange");
+    }
+
+    @Test
+    @DisplayName("Should fall back to clearing caches when the payload exceeds the limit")
+    void encode_Oversized_ClearsCaches() {
+        // Given
+        Set<Object> ids = LongStream.range(0, 5000).boxed().collect(Collectors.toSet());
+        InvalidationEvent event = new InvalidationEvent("node-a", Map.of("students:byId", ids), Set.of());
+
+        // When
+        String payload = codec.encode(event);
+        InvalidationEvent decoded = codec.decode(payload);
+
+        // Then
+        assertThat(payload.length()).isLessThan(7900);
+        assertThat(decoded.keys()).isEmpty();
+        assertThat(decoded.clearedCaches()).containsExactly("students:byId");
+    }
+
+    @Test
+    @DisplayName("Should reject malformed payloads")
+    void decode_Malformed_Throws() {
+        assertThatThrownBy(() -> codec.decode("not json"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,190 @@
+package com.badminton.academy.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("NormalizedCache Tests")
+class NormalizedCacheTest {
+
+    private CaffeineCacheManager cacheManager;
+    private CacheRefreshRegistry refreshRegistry;
+    private NormalizedCache normalizedCache;
+    private List<List<Long>> loads;
+    private NormalizedCache.Entities<Row> rows;
+
+    private record Row(Long id, String name) {
+    }
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new CaffeineCacheManager();
+        refreshRegistry = new CacheRefreshRegistry();
+        normalizedCache = new NormalizedCache(cacheManager, refreshRegistry, mock(PlatformTransactionManager.class));
+        loads = new ArrayList<>();
+        rows = new NormalizedCache.Entities<>("rows:byId", Row::id, ids -> {
+            loads.add(ids);
+            return ids.stream().filter(id -> id < 100).map(id -> new Row(id, "loaded " + id)).toList();
+        });
+    }
+
+    @Test
+    @DisplayName("Should store list members as an ID array and share entries across lists")
+    void list_StoresIdsAndCanonicalEntries() {
+        // Given
+        List<Row> all = normalizedCache.list("rows:all", NormalizedCache.ALL, rows,
+                () -> List.of(new Row(1L, "one"), new Row(2L, "two")));
+
+        // When
+        List<Row> filtered = normalizedCache.list("rows:filtered", "two", rows,
+                () -> List.of(new Row(2L, "two (second query)")));
+
+        // Then
+        assertThat(cacheManager.getCache("rows:all").get(NormalizedCache.ALL).get())
+                .isInstanceOf(long[].class)
+                .isEqualTo(new long[]{1L, 2L});
+        assertThat(filtered.get(0)).isSameAs(all.get(1));
+        assertThat(normalizedCache.get(rows, 2L)).isSameAs(all.get(1));
+        assertThat(loads).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reassemble a cached list after an entry is evicted with one batch load")
+    void list_EvictedEntries_ReloadedInOneBatch() {
+        // Given
+        normalizedCache.list("rows:all", NormalizedCache.ALL, rows,
+                () -> List.of(new Row(1L, "one"), new Row(2L, "two"), new Row(3L, "three")));
+        cacheManager.getCache("rows:byId").evict(1L);
+        cacheManager.getCache("rows:byId").evict(3L);
+        AtomicInteger queries = new AtomicInteger();
+
+        // When
+        List<Row> result = normalizedCache.list("rows:all", NormalizedCache.ALL, rows, () -> {
+            queries.incrementAndGet();
+            return List.of();
+        });
+
+        // Then
+        assertThat(result).extracting(Row::name).containsExactly("loaded 1", "two", "loaded 3");
+        assertThat(loads).containsExactly(List.of(1L, 3L));
+        assertThat(queries).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("Should drop list members that no longer exist")
+    void list_DeletedEntries_Dropped() {
+        // Given
+        normalizedCache.list("rows:all", NormalizedCache.ALL, rows,
+                () -> List.of(new Row(1L, "one"), new Row(100L, "deleted later")));
+        cacheManager.getCache("rows:byId").evict(100L);
+
+        // When
+        List<Row> result = normalizedCache.list("rows:all", NormalizedCache.ALL, rows, List::of);
+
+        // Then
+        assertThat(result).extracting(Row::id).containsExactly(1L);
+        assertThat(normalizedCache.get(rows, 100L)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should run the list query once for concurrent misses on the same key")
+    void list_ConcurrentMisses_SingleQuery() throws Exception {
+        // Given
+        int readers = 8;
+        AtomicInteger queries = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(readers);
+        List<Future<List<Row>>> results = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < readers; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return normalizedCache.list("rows:all", NormalizedCache.ALL, rows, () -> {
+                    queries.incrementAndGet();
+                    sleep(100);
+                    return List.of(new Row(1L, "one"), new Row(2L, "two"));
+                });
+            }));
+        }
+        start.countDown();
+        executor.shutdown();
+
+        // Then
+        for (Future<List<Row>> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).extracting(Row::id).containsExactly(1L, 2L);
+        }
+        assertThat(queries).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should serve current IDs while a refresh-ahead reload recomputes the list")
+    void refreshWith_ReloadsListInBackground() {
+        // Given
+        cacheManager.registerCustomCache("rows:active", Caffeine.newBuilder()
+                .refreshAfterWrite(Duration.ofNanos(1))
+                .build(key -> refreshRegistry.load("rows:active", key)));
+        List<Row> activeRows = new CopyOnWriteArrayList<>(List.of(new Row(1L, "one")));
+        normalizedCache.refreshWith("rows:active", rows, key -> List.copyOf(activeRows));
+        normalizedCache.list("rows:active", NormalizedCache.ALL, rows, () -> List.copyOf(activeRows));
+
+        // When
+        activeRows.add(new Row(2L, "two"));
+        List<Row> served = normalizedCache.list("rows:active", NormalizedCache.ALL, rows, List::of);
+
+        // Then
+        assertThat(served).extracting(Row::id).first().isEqualTo(1L);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (cacheManager.getCache("rows:active").get(NormalizedCache.ALL, long[].class).length < 2
+                && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertThat(normalizedCache.list("rows:active", NormalizedCache.ALL, rows, List::of))
+                .extracting(Row::id).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("Should cache lookup pointers only when the entity exists")
+    void pointer_CachesResolvedIdsOnly() {
+        // Given
+        AtomicInteger lookups = new AtomicInteger();
+
+        // When
+        Long first = normalizedCache.pointer("rows:byEmail", "a@academy.test", () -> { lookups.incrementAndGet(); return 1L; });
+        Long second = normalizedCache.pointer("rows:byEmail", "a@academy.test", () -> { lookups.incrementAndGet(); return 1L; });
+        Long missing = normalizedCache.pointer("rows:byEmail", "b@academy.test", () -> null);
+
+        // Then
+        assertThat(first).isEqualTo(1L);
+        assertThat(second).isEqualTo(1L);
+        assertThat(lookups).hasValue(1);
+        assertThat(missing).isNull();
+        assertThat(cacheManager.getCache("rows:byEmail").get("b@academy.test")).isNull();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
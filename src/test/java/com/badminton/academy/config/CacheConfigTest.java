@@ -0,0 +1,132 @@
+package com.badminton.academy.config;
+
+import com.badminton.academy.cache.CacheRefreshRegistry;
+import com.badminton.academy.config.CachePolicyProperties.Policy;
+import com.badminton.academy.dto.response.BatchResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Policy.Eviction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CacheConfig Tests")
+class CacheConfigTest {
+
+    private CachePolicyProperties properties;
+    private CacheRefreshRegistry refreshRegistry;
+
+    @BeforeEach
+    void setUp() {
+        properties = new CachePolicyProperties();
+        properties.getDefaults().setMaximumSize(2000L);
+        properties.getDefaults().setExpireAfterWrite(Duration.ofMinutes(30));
+        refreshRegistry = new CacheRefreshRegistry();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Cache<Object, Object> nativeCache(CacheManager cacheManager, String name) {
+        return (Cache<Object, Object>) cacheManager.getCache(name).getNativeCache();
+    }
+
+    @Test
+    @DisplayName("Should apply defaults to unlisted caches and overrides to listed ones")
+    void cacheManager_AppliesPerCachePolicies() {
+        // Given
+        Policy byId = new Policy();
+        byId.setMaximumWeight(DataSize.ofMegabytes(4));
+        properties.getCaches().put("batches:byId", byId);
+        Policy dashboard = new Policy();
+        dashboard.setMaximumSize(100L);
+        dashboard.setExpireAfterWrite(Duration.ofMinutes(5));
+        properties.getCaches().put("dashboard:stats", dashboard);
+
+        // When
+        CacheManager cacheManager = CacheConfig.buildCacheManager(properties, refreshRegistry, null);
+
+        // Then
+        Eviction<Object, Object> defaults = nativeCache(cacheManager, "students:all").policy().eviction().orElseThrow();
+        assertThat(defaults.isWeighted()).isFalse();
+        assertThat(defaults.getMaximum()).isEqualTo(2000);
+
+        Eviction<Object, Object> weighted = nativeCache(cacheManager, "batches:byId").policy().eviction().orElseThrow();
+        assertThat(weighted.isWeighted()).isTrue();
+        assertThat(weighted.getMaximum()).isEqualTo(DataSize.ofMegabytes(4).toBytes());
+        assertThat(nativeCache(cacheManager, "batches:byId").policy().expireAfterWrite().orElseThrow().getExpiresAfter())
+                .isEqualTo(Duration.ofMinutes(30));
+
+        assertThat(nativeCache(cacheManager, "dashboard:stats").policy().expireAfterWrite().orElseThrow().getExpiresAfter())
+                .isEqualTo(Duration.ofMinutes(5));
+        assertThat(cacheManager.getCache("unknown:cache")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should weigh entries by estimated response size")
+    void weightedCache_WeighsByResponseSize() {
+        // Given
+        Policy byId = new Policy();
+        byId.setMaximumWeight(DataSize.ofMegabytes(1));
+        properties.getCaches().put("batches:byId", byId);
+        CacheManager cacheManager = CacheConfig.buildCacheManager(properties, refreshRegistry, null);
+        org.springframework.cache.Cache cache = cacheManager.getCache("batches:byId");
+        Cache<Object, Object> nativeCache = nativeCache(cacheManager, "batches:byId");
+
+        // When
+        cache.put(1L, BatchResponse.builder().id(1L).name("Morning").studentIds(Set.of(1L)).build());
+        nativeCache.cleanUp();
+        long small = nativeCache.policy().eviction().orElseThrow().weightedSize().orElseThrow();
+        cache.put(2L, BatchResponse.builder().id(2L).name("Evening").studentIds(Set.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L)).build());
+        nativeCache.cleanUp();
+        long both = nativeCache.policy().eviction().orElseThrow().weightedSize().orElseThrow();
+
+        // Then
+        assertThat(small).isPositive();
+        assertThat(both - small).isGreaterThan(small);
+    }
+
+    @Test
+    @DisplayName("Should keep serving the old value while a refresh-after-write entry reloads")
+    void refreshAfterWrite_ReloadsThroughRegistry() {
+        // Given
+        Policy count = new Policy();
+        count.setMaximumSize(1L);
+        count.setRefreshAfterWrite(Duration.ofNanos(1));
+        properties.getCaches().put("coaches:count", count);
+        AtomicLong activeCoaches = new AtomicLong(3);
+        refreshRegistry.register("coaches:count", key -> activeCoaches.get());
+        CacheManager cacheManager = CacheConfig.buildCacheManager(properties, refreshRegistry, null);
+        org.springframework.cache.Cache cache = cacheManager.getCache("coaches:count");
+        cache.put(SimpleKey.EMPTY, 2L);
+
+        // When
+        activeCoaches.set(4);
+        Long served = cache.get(SimpleKey.EMPTY, Long.class);
+
+        // Then
+        assertThat(served).isIn(2L, 4L);
+        await(() -> assertThat(cache.get(SimpleKey.EMPTY, Long.class)).isEqualTo(4L));
+    }
+
+    private static void await(Runnable assertion) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (true) {
+            try {
+                assertion.run();
+                return;
+            } catch (AssertionError e) {
+                if (System.nanoTime() > deadline) {
+                    throw e;
+                }
+                Thread.onSpinWait();
+            }
+        }
+    }
+}
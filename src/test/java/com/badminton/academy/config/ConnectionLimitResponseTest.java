@@ -0,0 +1,109 @@
+package com.badminton.academy.config;
+
+import com.badminton.academy.cache.CacheInvalidator;
+import com.badminton.academy.controller.ParentController;
+import com.badminton.academy.exception.GlobalExceptionHandler;
+import com.badminton.academy.security.AuthorizationIndex;
+import com.badminton.academy.security.PrincipalCache;
+import com.badminton.academy.service.ParentService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * A request turned away by the connection limit answers 503 with Retry-After, even though
+ * the transaction manager wraps the rejection before it reaches the controller advice.
+ * Runs outside the test-managed transaction, which would otherwise hold the only connection.
+ */
+@DataJpaTest(properties = "spring.flyway.enabled=false")
+@Import({ParentService.class, ConnectionLimitResponseTest.LimitedDataSource.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Connection limit response Tests")
+class ConnectionLimitResponseTest {
+
+    @TestConfiguration
+    static class LimitedDataSource {
+
+        @Bean
+        static BeanPostProcessor connectionLimitingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource && !(bean instanceof ConnectionLimitingDataSource)) {
+                        return new ConnectionLimitingDataSource(dataSource, 1, 10, Duration.ofMillis(50));
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ParentService parentService;
+
+    @MockBean
+    private PrincipalCache principalCache;
+
+    @MockBean
+    private AuthorizationIndex authorizationIndex;
+
+    @MockBean
+    private CacheInvalidator cacheInvalidator;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        assertThat(dataSource).isInstanceOf(ConnectionLimitingDataSource.class);
+        mockMvc = MockMvcBuilders.standaloneSetup(new ParentController(parentService, new ObjectMapper()))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should answer 503 with Retry-After when a transactional call cannot get a connection")
+    void transactionalCall_LimitSaturated_ServiceUnavailable() throws Exception {
+        try (Connection held = dataSource.getConnection()) {
+            mockMvc.perform(put("/api/parents/1")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"firstName\":\"Jane\"}"))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+                    .andExpect(jsonPath("$.success").value(false));
+        }
+    }
+
+    @Test
+    @DisplayName("Should reach the service normally once a connection is free")
+    void transactionalCall_ConnectionFree_ReachesService() throws Exception {
+        mockMvc.perform(put("/api/parents/1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"firstName\":\"Jane\"}"))
+                .andExpect(status().isNotFound());
+    }
+}
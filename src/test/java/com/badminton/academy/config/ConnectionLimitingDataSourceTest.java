@@ -0,0 +1,89 @@
+package com.badminton.academy.config;
+
+import com.badminton.academy.exception.ServiceOverloadedException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ConnectionLimitingDataSource Tests")
+class ConnectionLimitingDataSourceTest {
+
+    @Test
+    @DisplayName("Should hold a permit per open connection and release it once on close")
+    void close_ReleasesPermitOnce() throws Exception {
+        // Given
+        DataSource target = mock(DataSource.class);
+        Connection raw = mock(Connection.class);
+        when(target.getConnection()).thenReturn(raw);
+        ConnectionLimitingDataSource dataSource = new ConnectionLimitingDataSource(target, 2, 10, Duration.ofSeconds(1));
+
+        // When
+        Connection first = dataSource.getConnection();
+        Connection second = dataSource.getConnection();
+        int whileOpen = dataSource.availablePermits();
+        first.close();
+        first.close();
+
+        // Then
+        assertThat(whileOpen).isZero();
+        assertThat(dataSource.availablePermits()).isEqualTo(1);
+        verify(raw, times(2)).close();
+        second.close();
+        assertThat(dataSource.availablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should turn callers away when the wait queue is full or the wait times out")
+    void getConnection_Saturated_Rejects() throws Exception {
+        // Given
+        DataSource target = mock(DataSource.class);
+        when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        ConnectionLimitingDataSource dataSource = new ConnectionLimitingDataSource(target, 1, 1, Duration.ofSeconds(5));
+        Connection held = dataSource.getConnection();
+
+        // When
+        CompletableFuture<Connection> waiter = CompletableFuture.supplyAsync(() -> {
+            try {
+                return dataSource.getConnection();
+            } catch (SQLException ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (dataSource.waiting() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+
+        // Then
+        assertThatThrownBy(dataSource::getConnection).isInstanceOf(ServiceOverloadedException.class);
+        held.close();
+        waiter.get(5, TimeUnit.SECONDS).close();
+
+        ConnectionLimitingDataSource impatient = new ConnectionLimitingDataSource(target, 1, 10, Duration.ofMillis(20));
+        Connection taken = impatient.getConnection();
+        assertThatThrownBy(impatient::getConnection).isInstanceOf(ServiceOverloadedException.class);
+        taken.close();
+    }
+
+    @Test
+    @DisplayName("Should return the permit when the pool cannot open a connection")
+    void getConnection_TargetFails_ReleasesPermit() throws Exception {
+        // Given
+        DataSource target = mock(DataSource.class);
+        when(target.getConnection()).thenThrow(new SQLException("connection refused"));
+        ConnectionLimitingDataSource dataSource = new ConnectionLimitingDataSource(target, 1, 10, Duration.ofSeconds(1));
+
+        // When/Then
+        assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLException.class);
+        assertThat(dataSource.availablePermits()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,122 @@
+package com.badminton.academy.config;
+
+import com.badminton.academy.exception.ServiceOverloadedException;
+import com.badminton.academy.otp.OtpHasher;
+import com.badminton.academy.security.BoundedPasswordEncoder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Password and OTP hashing Tests")
+class PasswordHashingTest {
+
+    @Test
+    @DisplayName("Should verify pre-existing BCrypt hashes and upgrade them on login")
+    void delegatingEncoder_LegacyAndWeakerHashes_NeedUpgrade() {
+        // Given
+        PasswordEncoder encoder = SecurityConfig.delegatingPasswordEncoder("bcrypt", 6, 16384, 2);
+        String legacy = new BCryptPasswordEncoder(4).encode("secret");
+        String weaker = "{bcrypt}" + new BCryptPasswordEncoder(4).encode("secret");
+        String current = encoder.encode("secret");
+
+        // Then
+        assertThat(encoder.matches("secret", legacy)).isTrue();
+        assertThat(encoder.matches("secret", weaker)).isTrue();
+        assertThat(current).startsWith("{bcrypt}$2a$06$");
+        assertThat(encoder.upgradeEncoding(legacy)).isTrue();
+        assertThat(encoder.upgradeEncoding(weaker)).isTrue();
+        assertThat(encoder.upgradeEncoding(current)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should refuse an algorithm that is not available")
+    void delegatingEncoder_UnknownAlgorithm_Throws() {
+        assertThatThrownBy(() -> SecurityConfig.delegatingPasswordEncoder("md5", 10, 16384, 2))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("md5");
+    }
+
+    @Test
+    @DisplayName("Should reject hashes beyond the queue and defer rehashing while busy")
+    void boundedEncoder_Saturated_RejectsAndDefersUpgrade() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blocking = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                return "hash:" + rawPassword;
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return encodedPassword.equals(encode(rawPassword));
+            }
+
+            @Override
+            public boolean upgradeEncoding(String encodedPassword) {
+                return true;
+            }
+        };
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(blocking, 1, 1, Duration.ofSeconds(5));
+
+        try {
+            // When
+            CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("a"));
+            await(() -> encoder.activeCount() == 1);
+            CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("b"));
+            await(() -> encoder.queuedCount() == 1);
+
+            // Then
+            assertThatThrownBy(() -> encoder.encode("c"))
+                    .isInstanceOf(ServiceOverloadedException.class);
+            assertThat(encoder.upgradeEncoding("hash:a")).isFalse();
+
+            release.countDown();
+            assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hash:a");
+            assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hash:b");
+            assertThat(encoder.upgradeEncoding("hash:a")).isTrue();
+        } finally {
+            release.countDown();
+            encoder.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("Should bind OTP hashes to their key and secret")
+    void otpHasher_BindsKeyAndSecret() {
+        // Given
+        OtpHasher hasher = new OtpHasher("otp-secret", "database");
+        String hash = hasher.hash("LOGIN:PHONE:+919876543210", "123456");
+
+        // Then
+        assertThat(hasher.matches("LOGIN:PHONE:+919876543210", "123456", hash)).isTrue();
+        assertThat(hasher.matches("LOGIN:PHONE:+919876543210", "123457", hash)).isFalse();
+        assertThat(hasher.matches("SIGNUP:PHONE:+919876543210", "123456", hash)).isFalse();
+        assertThat(new OtpHasher("other-secret", "database").matches("LOGIN:PHONE:+919876543210", "123456", hash)).isFalse();
+        assertThatThrownBy(() -> new OtpHasher("", "database"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static void await(java.util.function.BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("Condition not reached within 5s");
+            }
+            Thread.sleep(5);
+        }
+    }
+}
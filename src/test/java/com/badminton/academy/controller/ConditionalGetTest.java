@@ -0,0 +1,89 @@
+package com.badminton.academy.controller;
+
+import com.badminton.academy.repository.projection.ResourceVersion;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ConditionalGet Tests")
+class ConditionalGetTest {
+
+    private static final ResourceVersion VERSION = new ResourceVersion(3, 12, LocalDateTime.of(2024, 3, 4, 9, 30));
+
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+    private final AtomicInteger bodyLoads = new AtomicInteger();
+
+    @Test
+    @DisplayName("Should return the body with validators on an unconditional GET")
+    void of_NoValidator_ReturnsBody() {
+        // When
+        ResponseEntity<String> result = ConditionalGet.of(request(null), VERSION, this::body);
+
+        // Then
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(result.getBody()).isEqualTo("roster");
+        assertThat(result.getHeaders().getCacheControl()).isEqualTo("no-cache, private");
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(ConditionalGet.etag(VERSION));
+        assertThat(response.getHeader(HttpHeaders.LAST_MODIFIED)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should return 304 without building the body when the ETag matches")
+    void of_MatchingEtag_NotModified() {
+        // When
+        ResponseEntity<String> result = ConditionalGet.of(request(ConditionalGet.etag(VERSION)), VERSION, this::body);
+
+        // Then
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(result.getBody()).isNull();
+        assertThat(bodyLoads).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("Should return the body when the version has moved")
+    void of_StaleEtag_ReturnsBody() {
+        // Given
+        String previous = ConditionalGet.etag(new ResourceVersion(3, 11, VERSION.lastModified()));
+
+        // When
+        ResponseEntity<String> result = ConditionalGet.of(request(previous), VERSION, this::body);
+
+        // Then
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(bodyLoads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should skip validation when there is no version")
+    void of_NullVersion_ReturnsBody() {
+        // When
+        ResponseEntity<String> result = ConditionalGet.of(request("\"anything\""), null, this::body);
+
+        // Then
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNull();
+    }
+
+    private ServletWebRequest request(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/students/batch/7");
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return new ServletWebRequest(request, response);
+    }
+
+    private String body() {
+        bodyLoads.incrementAndGet();
+        return "roster";
+    }
+}
@@ -0,0 +1,49 @@
+package com.badminton.academy.dto.request;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("KeysetCursor Tests")
+class KeysetCursorTest {
+
+    @Test
+    @DisplayName("Should round-trip id and (date, id) cursors")
+    void encodeDecode_RoundTrips() {
+        KeysetCursor byId = KeysetCursor.of(42L);
+        KeysetCursor byDate = KeysetCursor.of(LocalDate.of(2024, 3, 5), 7L);
+
+        assertThat(KeysetCursor.decode(byId.encode())).isEqualTo(byId);
+        assertThat(KeysetCursor.decodeDated(byDate.encode())).isEqualTo(byDate);
+    }
+
+    @Test
+    @DisplayName("Should treat a missing cursor as the first page")
+    void decode_MissingCursor_ReturnsNull() {
+        assertThat(KeysetCursor.decode(null)).isNull();
+        assertThat(KeysetCursor.decode(" ")).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"not base64!", "YWJj", "MjAyNC0xMy0wMXw3"})
+    @DisplayName("Should reject malformed cursors")
+    void decode_MalformedCursor_Throws(String cursor) {
+        assertThatThrownBy(() -> KeysetCursor.decode(cursor))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Invalid cursor");
+    }
+
+    @Test
+    @DisplayName("Should reject an id-only cursor on a date-ordered list")
+    void decodeDated_IdOnlyCursor_Throws() {
+        String cursor = KeysetCursor.of(42L).encode();
+
+        assertThatThrownBy(() -> KeysetCursor.decodeDated(cursor))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
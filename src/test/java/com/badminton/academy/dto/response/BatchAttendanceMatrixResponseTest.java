@@ -0,0 +1,85 @@
+package com.badminton.academy.dto.response;
+
+import com.badminton.academy.model.enums.AttendanceEntryType;
+import com.badminton.academy.model.enums.AttendanceStatus;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("BatchAttendanceMatrixResponse Tests")
+class BatchAttendanceMatrixResponseTest {
+
+    private static final LocalDate START = LocalDate.of(2024, 3, 3);
+    private static final LocalDate END = LocalDate.of(2024, 3, 9);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private BatchAttendanceMatrixResponse weeklyMatrix() {
+        return new BatchAttendanceMatrixResponse(
+                7L, "Evening Juniors", "WEEKLY", LocalDate.of(2024, 3, 5),
+                START, END, LocalDate.of(2024, 3, 5),
+                new long[]{11L, 12L}, new String[]{"Asha Rao", "Vikram Shah"});
+    }
+
+    @Test
+    @DisplayName("Should index cells by student ordinal and day offset")
+    void mark_IndexesCells() {
+        BatchAttendanceMatrixResponse matrix = weeklyMatrix();
+
+        matrix.mark(1, 2, AttendanceStatus.LATE, AttendanceEntryType.MAKEUP, START.minusDays(3), "Traffic");
+
+        assertThat(matrix.getDayCount()).isEqualTo(7);
+        assertThat(matrix.getDisplayUntilOffset()).isEqualTo(2);
+        assertThat(matrix.isMarked(1, 2)).isTrue();
+        assertThat(matrix.getStatus(1, 2)).isEqualTo(AttendanceStatus.LATE);
+        assertThat(matrix.getEntryType(1, 2)).isEqualTo(AttendanceEntryType.MAKEUP);
+        assertThat(matrix.isMarked(0, 2)).isFalse();
+        assertThat(matrix.getStatus(0, 2)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should serialize to the per-cell JSON shape")
+    void serialize_WritesMatrixShape() throws Exception {
+        BatchAttendanceMatrixResponse matrix = weeklyMatrix();
+        matrix.mark(0, 0, AttendanceStatus.PRESENT, AttendanceEntryType.REGULAR, null, null);
+        matrix.mark(1, 2, AttendanceStatus.ABSENT, AttendanceEntryType.REGULAR, null, "Sick");
+
+        JsonNode json = objectMapper.readTree(objectMapper.writeValueAsString(matrix));
+
+        assertThat(json.get("batchId").asLong()).isEqualTo(7L);
+        assertThat(json.get("periodType").asText()).isEqualTo("WEEKLY");
+        assertThat(json.get("startDate").asText()).isEqualTo("2024-03-03");
+        assertThat(json.get("displayUntil").asText()).isEqualTo("2024-03-05");
+
+        JsonNode dateColumns = json.get("dateColumns");
+        assertThat(dateColumns).hasSize(7);
+        assertThat(dateColumns.get(0).get("dayLabel").asText()).isEqualTo("Sun");
+        assertThat(dateColumns.get(2).get("futureDate").asBoolean()).isFalse();
+        assertThat(dateColumns.get(3).get("futureDate").asBoolean()).isTrue();
+
+        JsonNode students = json.get("students");
+        assertThat(students).hasSize(2);
+        assertThat(students.get(0).get("studentName").asText()).isEqualTo("Asha Rao");
+
+        JsonNode presentCell = students.get(0).get("attendance").get(0);
+        assertThat(presentCell.get("date").asText()).isEqualTo("2024-03-03");
+        assertThat(presentCell.get("status").asText()).isEqualTo("PRESENT");
+        assertThat(presentCell.get("entryType").asText()).isEqualTo("REGULAR");
+        assertThat(presentCell.get("compensatesForDate").isNull()).isTrue();
+        assertThat(presentCell.get("marked").asBoolean()).isTrue();
+
+        JsonNode absentCell = students.get(1).get("attendance").get(2);
+        assertThat(absentCell.get("status").asText()).isEqualTo("ABSENT");
+        assertThat(absentCell.get("notes").asText()).isEqualTo("Sick");
+
+        JsonNode emptyCell = students.get(1).get("attendance").get(5);
+        assertThat(emptyCell.get("status").isNull()).isTrue();
+        assertThat(emptyCell.get("marked").asBoolean()).isFalse();
+        assertThat(emptyCell.get("futureDate").asBoolean()).isTrue();
+    }
+}
@@ -0,0 +1,167 @@
+package com.badminton.academy.notification;
+
+import com.badminton.academy.config.WorkerThreads;
+import com.badminton.academy.model.OtpDelivery;
+import com.badminton.academy.model.enums.OtpChannel;
+import com.badminton.academy.otp.OtpCipher;
+import com.badminton.academy.repository.OtpDeliveryRepository;
+import com.badminton.academy.service.EmailService;
+import com.badminton.academy.service.MockSmsService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * OTP messages leave only after the requesting transaction commits, and failed sends stay in
+ * the outbox for a retry. Runs outside the test-managed transaction so commits really happen.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "otp.delivery.poll-interval-ms=600000"
+})
+@Import({OtpDeliveryDispatcher.class, OtpCipher.class, MockSmsService.class, WorkerThreads.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("OtpDeliveryDispatcher Tests")
+class OtpDeliveryDispatcherTest {
+
+    private static final String PHONE = "+919876543210";
+
+    @Autowired
+    private OtpDeliveryDispatcher dispatcher;
+
+    @Autowired
+    private OtpDeliveryRepository deliveryRepository;
+
+    @Autowired
+    private MockSmsService smsService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private OtpCipher otpCipher;
+
+    @MockBean
+    private EmailService emailService;
+
+    @AfterEach
+    void cleanUp() {
+        deliveryRepository.deleteAll();
+        smsService.clearSentMessages();
+    }
+
+    @Test
+    @DisplayName("Should send after commit and remove the delivered row")
+    void dispatch_Commit_SendsAndRemovesRow() {
+        // When
+        Long pendingBeforeCommit = transactionTemplate.execute(status -> {
+            dispatcher.dispatch(OtpChannel.PHONE, PHONE, "123456", "login", LocalDateTime.now().plusMinutes(5));
+            return (long) smsService.getSentMessages().size();
+        });
+
+        // Then
+        await(() -> deliveryRepository.count() == 0);
+        assertThat(pendingBeforeCommit).isZero();
+        assertThat(smsService.getSentMessages()).containsExactly(new MockSmsService.SentSms(PHONE, "123456"));
+        assertThat(dispatcher.stats().getDelivered()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should send nothing when the OTP transaction rolls back")
+    void dispatch_Rollback_SendsNothing() {
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            dispatcher.dispatch(OtpChannel.PHONE, PHONE, "123456", "login", LocalDateTime.now().plusMinutes(5));
+            status.setRollbackOnly();
+        });
+
+        // Then
+        assertThat(deliveryRepository.count()).isZero();
+        assertThat(smsService.getSentMessages()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should keep a failed email in the outbox with its next attempt scheduled")
+    void dispatch_SendFails_ReschedulesDelivery() {
+        // Given
+        when(emailService.sendOtps(anyList())).thenReturn(Map.of(0, "Mail server connection failed"));
+
+        // When
+        dispatcher.dispatch(OtpChannel.EMAIL, "parent@academy.test", "654321", "signup", LocalDateTime.now().plusMinutes(5));
+
+        // Then
+        await(() -> deliveryRepository.findAll().stream().anyMatch(delivery -> delivery.getAttempts() == 1));
+        List<OtpDelivery> deliveries = deliveryRepository.findAll();
+        assertThat(deliveries).singleElement().satisfies(delivery -> {
+            assertThat(delivery.getLastError()).isEqualTo("Mail server connection failed");
+            assertThat(delivery.getNextAttemptAt()).isAfter(LocalDateTime.now());
+            assertThat(delivery.getEncryptedOtp()).doesNotContain("654321");
+            assertThat(otpCipher.decrypt(delivery.getEncryptedOtp(), "parent@academy.test")).isEqualTo("654321");
+        });
+        verify(emailService).sendOtps(List.of(new EmailService.OtpEmail("parent@academy.test", "654321", "signup")));
+    }
+
+    @Test
+    @DisplayName("Should resend a due delivery and drop one it cannot decrypt")
+    void pollDue_DecryptsOrDropsDueDeliveries() {
+        // Given
+        LocalDateTime past = LocalDateTime.now().minusSeconds(1);
+        deliveryRepository.save(OtpDelivery.builder()
+                .channel(OtpChannel.PHONE)
+                .destination(PHONE)
+                .encryptedOtp(otpCipher.encrypt("246810", PHONE))
+                .purpose("login")
+                .nextAttemptAt(past)
+                .expiresAt(LocalDateTime.now().plusMinutes(5))
+                .build());
+        deliveryRepository.save(OtpDelivery.builder()
+                .channel(OtpChannel.PHONE)
+                .destination("+919000000000")
+                .encryptedOtp(new OtpCipher("").encrypt("135790", "+919000000000"))
+                .purpose("login")
+                .nextAttemptAt(past)
+                .expiresAt(LocalDateTime.now().plusMinutes(5))
+                .build());
+
+        // When
+        dispatcher.pollDue();
+
+        // Then
+        await(() -> deliveryRepository.count() == 0);
+        assertThat(OtpDelivery.builder().build().getAttempts()).as("builder default").isZero();
+        assertThat(smsService.getSentMessages()).containsExactly(new MockSmsService.SentSms(PHONE, "246810"));
+        assertThat(dispatcher.stats().getFailed()).isEqualTo(1);
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("Condition not met within 5 seconds");
+            }
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                fail("Interrupted while waiting");
+            }
+        }
+    }
+}
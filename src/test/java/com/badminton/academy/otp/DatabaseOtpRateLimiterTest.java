@@ -0,0 +1,68 @@
+package com.badminton.academy.otp;
+
+import com.badminton.academy.repository.OtpVerificationRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * The database limiter counts the OTP rows saved by {@link DatabaseOtpStore}, so the limit is
+ * shared by every instance using the same database and survives restarts.
+ */
+@DataJpaTest(properties = "spring.flyway.enabled=false")
+@DisplayName("DatabaseOtpRateLimiter Tests")
+class DatabaseOtpRateLimiterTest {
+
+    private static final String KEY = "LOGIN:PHONE:+919876543210";
+    private static final Duration WINDOW = Duration.ofHours(1);
+
+    @Autowired
+    private OtpVerificationRepository otpRepository;
+
+    @Test
+    @DisplayName("Should limit a key by the OTPs already saved for it, on any limiter instance")
+    void tryAcquire_CountsSavedOtps() {
+        // Given
+        DatabaseOtpStore store = new DatabaseOtpStore(otpRepository, WINDOW);
+        store.save(KEY, "hash-1", LocalDateTime.now().plusMinutes(5));
+        store.save(KEY, "hash-2", LocalDateTime.now().plusMinutes(5));
+
+        // When
+        DatabaseOtpRateLimiter restarted = limiter(Clock.systemDefaultZone());
+        long limited = restarted.tryAcquire(KEY);
+        long otherKey = restarted.tryAcquire("SIGNUP:EMAIL:a@b.test");
+        long afterWindow = limiter(Clock.offset(Clock.systemDefaultZone(), WINDOW.plusMinutes(1))).tryAcquire(KEY);
+
+        // Then
+        assertThat(limited).isPositive().isLessThanOrEqualTo(WINDOW.toSeconds());
+        assertThat(otherKey).isZero();
+        assertThat(afterWindow).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep expired OTPs that still count towards the rate limit")
+    void purgeExpired_KeepsRowsInsideWindow() {
+        // Given
+        DatabaseOtpStore store = new DatabaseOtpStore(otpRepository, WINDOW);
+        store.save(KEY, "hash-1", LocalDateTime.now().minusMinutes(1));
+        store.save(KEY, "hash-2", LocalDateTime.now().minusMinutes(1));
+
+        // When
+        int removed = store.purgeExpired();
+
+        // Then
+        assertThat(removed).isZero();
+        assertThat(limiter(Clock.systemDefaultZone()).tryAcquire(KEY)).isPositive();
+    }
+
+    private DatabaseOtpRateLimiter limiter(Clock clock) {
+        return new DatabaseOtpRateLimiter(otpRepository, 2, WINDOW, clock);
+    }
+}
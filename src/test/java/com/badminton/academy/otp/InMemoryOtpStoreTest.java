@@ -0,0 +1,136 @@
+package com.badminton.academy.otp;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("InMemoryOtpStore and InMemoryOtpRateLimiter Tests")
+class InMemoryOtpStoreTest {
+
+    private static final String KEY = "LOGIN:PHONE:+919876543210";
+
+    private final InMemoryOtpStore store = new InMemoryOtpStore(1000);
+
+    @Test
+    @DisplayName("Should replace the outstanding OTP and ignore updates aimed at the old one")
+    void save_ReplacesOutstandingOtp() {
+        // Given
+        store.save(KEY, "first", LocalDateTime.now().plusMinutes(5));
+        StoredOtp first = store.findValid(KEY).orElseThrow();
+
+        // When
+        store.save(KEY, "second", LocalDateTime.now().plusMinutes(5));
+
+        // Then
+        assertThat(store.findValid(KEY)).get().extracting(StoredOtp::otpHash).isEqualTo("second");
+        assertThat(store.consume(KEY, first)).isFalse();
+        store.recordFailedAttempt(KEY, first);
+        assertThat(store.findValid(KEY).orElseThrow().attemptCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should count failed attempts and let only one caller consume the OTP")
+    void consume_OnlyOnce() throws Exception {
+        // Given
+        store.save(KEY, "hash", LocalDateTime.now().plusMinutes(5));
+        StoredOtp otp = store.findValid(KEY).orElseThrow();
+        assertThat(store.recordFailedAttempt(KEY, otp)).isEqualTo(1);
+        assertThat(store.recordFailedAttempt(KEY, otp)).isEqualTo(2);
+
+        // When
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<Boolean>> results = new ArrayList<>();
+        try {
+            Callable<Boolean> consume = () -> store.consume(KEY, otp);
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(consume));
+            }
+            int consumed = 0;
+            for (Future<Boolean> result : results) {
+                consumed += result.get() ? 1 : 0;
+            }
+
+            // Then
+            assertThat(consumed).isEqualTo(1);
+            assertThat(store.findValid(KEY)).isEmpty();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should not return or keep expired OTPs")
+    void findValid_Expired_ReturnsEmpty() {
+        // Given
+        store.save(KEY, "hash", LocalDateTime.now().minusSeconds(1));
+
+        // When
+        store.purgeExpired();
+
+        // Then
+        assertThat(store.findValid(KEY)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should allow requests again one window after the oldest")
+    void rateLimiter_SlidingWindow() {
+        // Given
+        MutableClock clock = new MutableClock();
+        OtpRateLimiter limiter = new InMemoryOtpRateLimiter(2, Duration.ofHours(1), 1000, clock);
+
+        // When
+        long first = limiter.tryAcquire(KEY);
+        clock.advance(Duration.ofMinutes(20));
+        long second = limiter.tryAcquire(KEY);
+        long limited = limiter.tryAcquire(KEY);
+        long otherKey = limiter.tryAcquire("SIGNUP:EMAIL:a@b.test");
+        clock.advance(Duration.ofMinutes(40));
+        long afterOldestExpires = limiter.tryAcquire(KEY);
+
+        // Then
+        assertThat(first).isZero();
+        assertThat(second).isZero();
+        assertThat(limited).isEqualTo(Duration.ofMinutes(40).toSeconds());
+        assertThat(otherKey).isZero();
+        assertThat(afterOldestExpires).isZero();
+        assertThat(limiter.tryAcquire(KEY)).isPositive();
+    }
+
+    private static final class MutableClock extends java.time.Clock {
+        private long millis = 1_700_000_000_000L;
+
+        void advance(Duration duration) {
+            millis += duration.toMillis();
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public java.time.Instant instant() {
+            return java.time.Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public java.time.ZoneId getZone() {
+            return java.time.ZoneOffset.UTC;
+        }
+
+        @Override
+        public java.time.Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+    }
+}
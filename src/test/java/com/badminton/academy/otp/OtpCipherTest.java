@@ -0,0 +1,51 @@
+package com.badminton.academy.otp;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("OtpCipher Tests")
+class OtpCipherTest {
+
+    private static final String KEY = Base64.getEncoder().encodeToString(new byte[32]);
+
+    private final OtpCipher cipher = new OtpCipher(KEY);
+
+    @Test
+    @DisplayName("Should round-trip a code without storing it in the clear")
+    void encrypt_RoundTrips() {
+        // When
+        String first = cipher.encrypt("123456", "+919876543210");
+        String second = cipher.encrypt("123456", "+919876543210");
+
+        // Then
+        assertThat(first).doesNotContain("123456").isNotEqualTo(second);
+        assertThat(cipher.decrypt(first, "+919876543210")).isEqualTo("123456");
+        assertThat(new OtpCipher(KEY).decrypt(second, "+919876543210")).as("shared key").isEqualTo("123456");
+    }
+
+    @Test
+    @DisplayName("Should refuse a code moved to another destination or encrypted under another key")
+    void decrypt_WrongDestinationOrKey_Throws() {
+        // Given
+        String encrypted = cipher.encrypt("123456", "+919876543210");
+
+        // When / Then
+        assertThatThrownBy(() -> cipher.decrypt(encrypted, "+919000000000"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new OtpCipher("").decrypt(encrypted, "+919876543210"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should reject a configured key that is not a valid AES key")
+    void constructor_InvalidKey_Throws() {
+        assertThatThrownBy(() -> new OtpCipher(Base64.getEncoder().encodeToString(new byte[20])))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new OtpCipher("not base64!"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
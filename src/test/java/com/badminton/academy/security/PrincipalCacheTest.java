@@ -0,0 +1,111 @@
+package com.badminton.academy.security;
+
+import com.badminton.academy.model.User;
+import com.badminton.academy.model.enums.Role;
+import com.badminton.academy.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PrincipalCache Tests")
+class PrincipalCacheTest {
+
+    private static final String EMAIL = "coach@academy.test";
+    private static final Instant ISSUED_AT = Instant.parse("2024-03-05T10:00:00Z");
+
+    @Mock
+    private UserRepository userRepository;
+
+    private PrincipalCache principalCache;
+
+    @BeforeEach
+    void setUp() {
+        principalCache = cache(false);
+    }
+
+    private PrincipalCache cache(boolean trustTokenClaims) {
+        return new PrincipalCache(userRepository, 100, Duration.ofMinutes(5), trustTokenClaims, 86400000L);
+    }
+
+    private User user(boolean active) {
+        User user = new User();
+        user.setId(7L);
+        user.setEmail(EMAIL);
+        user.setRole(Role.COACH);
+        user.setIsActive(active);
+        return user;
+    }
+
+    @Test
+    @DisplayName("Should load a subject once and serve later requests with the same token from cache")
+    void resolve_CachesPerSubjectAndIssueTime() {
+        // Given
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user(true)));
+
+        // When
+        AuthenticatedUser first = principalCache.resolve(EMAIL, ISSUED_AT, null);
+        AuthenticatedUser second = principalCache.resolve(EMAIL, ISSUED_AT, null);
+
+        // Then
+        assertThat(first).isEqualTo(new AuthenticatedUser(7L, EMAIL, Role.COACH, true));
+        assertThat(second).isSameAs(first);
+        verify(userRepository, times(1)).findByEmail(EMAIL);
+    }
+
+    @Test
+    @DisplayName("Should reload the subject after invalidation")
+    void invalidate_ForcesReload() {
+        // Given
+        when(userRepository.findByEmail(EMAIL))
+                .thenReturn(Optional.of(user(true)))
+                .thenReturn(Optional.of(user(false)));
+        principalCache.resolve(EMAIL, ISSUED_AT, null);
+
+        // When
+        principalCache.invalidate(EMAIL);
+        AuthenticatedUser reloaded = principalCache.resolve(EMAIL, ISSUED_AT, null);
+
+        // Then
+        assertThat(reloaded.isAccountNonLocked()).isFalse();
+        verify(userRepository, times(2)).findByEmail(EMAIL);
+    }
+
+    @Test
+    @DisplayName("Should return null and not cache a subject that no longer exists")
+    void resolve_UnknownSubject_ReturnsNull() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.empty());
+
+        assertThat(principalCache.resolve(EMAIL, ISSUED_AT, null)).isNull();
+        assertThat(principalCache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should trust token claims until the subject is invalidated after the token was issued")
+    void resolve_TrustedClaims_IgnoredForTokensIssuedBeforeInvalidation() {
+        // Given
+        PrincipalCache trusting = cache(true);
+        AuthenticatedUser fromClaims = new AuthenticatedUser(7L, EMAIL, Role.COACH, true);
+        Instant issuedAt = Instant.now().minusSeconds(60);
+
+        // When / Then
+        assertThat(trusting.resolve(EMAIL, issuedAt, fromClaims)).isSameAs(fromClaims);
+        verifyNoInteractions(userRepository);
+
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user(false)));
+        trusting.invalidate(EMAIL);
+
+        assertThat(trusting.resolve(EMAIL, issuedAt, fromClaims).isAccountNonLocked()).isFalse();
+        assertThat(trusting.resolve(EMAIL, Instant.now().plusSeconds(1), fromClaims)).isSameAs(fromClaims);
+    }
+}
@@ -0,0 +1,93 @@
+package com.badminton.academy.security.jwt;
+
+import com.badminton.academy.model.User;
+import com.badminton.academy.model.enums.Role;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("JwtUtils Tests")
+class JwtUtilsTest {
+
+    private static final String SECRET = "test-secret-key-that-is-long-enough-for-hmac-sha-256";
+
+    static JwtUtils jwtUtils(long verifiedCacheMaxSize, long expirationMs) {
+        JwtUtils jwtUtils = new JwtUtils();
+        ReflectionTestUtils.setField(jwtUtils, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(jwtUtils, "jwtExpirationMs", expirationMs);
+        ReflectionTestUtils.setField(jwtUtils, "jwtRefreshExpirationMs", expirationMs);
+        ReflectionTestUtils.setField(jwtUtils, "verifiedCacheMaxSize", verifiedCacheMaxSize);
+        ReflectionTestUtils.setField(jwtUtils, "verifiedCacheMaxTtl", Duration.ofMinutes(10));
+        jwtUtils.init();
+        return jwtUtils;
+    }
+
+    private static User user() {
+        User user = new User();
+        user.setId(42L);
+        user.setEmail("parent@academy.test");
+        user.setRole(Role.PARENT);
+        return user;
+    }
+
+    @Test
+    @DisplayName("Should verify a token once and serve repeat lookups from the verified cache")
+    void verify_CachesVerifiedClaims() {
+        // Given
+        JwtUtils jwtUtils = jwtUtils(100, 60_000);
+        String token = jwtUtils.generateTokenForUser(user());
+
+        // When
+        Claims first = jwtUtils.verify(token).orElseThrow();
+        Claims second = jwtUtils.getClaimsFromJwtToken(token);
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(first.getSubject()).isEqualTo("parent@academy.test");
+        assertThat(first.get(JwtUtils.CLAIM_USER_ID, Long.class)).isEqualTo(42L);
+        assertThat(jwtUtils.getUsernameFromJwtToken(token)).isEqualTo("parent@academy.test");
+    }
+
+    @Test
+    @DisplayName("Should reject a token whose signature does not match, even after the original was cached")
+    void verify_TamperedToken_Rejected() {
+        // Given
+        JwtUtils jwtUtils = jwtUtils(100, 60_000);
+        String token = jwtUtils.generateTokenForUser(user());
+        jwtUtils.verify(token);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        // When / Then
+        assertThat(jwtUtils.verify(tampered)).isEmpty();
+        assertThat(jwtUtils.validateJwtToken(tampered)).isFalse();
+        assertThatThrownBy(() -> jwtUtils.getClaimsFromJwtToken(tampered)).isInstanceOf(SignatureException.class);
+    }
+
+    @Test
+    @DisplayName("Should treat expired tokens as invalid")
+    void verify_ExpiredToken_Rejected() {
+        JwtUtils jwtUtils = jwtUtils(100, -1_000);
+        String token = jwtUtils.generateTokenFromUsername("parent@academy.test");
+
+        assertThat(jwtUtils.verify(token)).isEmpty();
+        assertThat(jwtUtils.isTokenExpired(token)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should verify every call when the cache is disabled")
+    void verify_CacheDisabled_ParsesEachTime() {
+        JwtUtils jwtUtils = jwtUtils(0, 60_000);
+        String token = jwtUtils.generateTokenForUser(user());
+
+        Claims first = jwtUtils.verify(token).orElseThrow();
+        Claims second = jwtUtils.verify(token).orElseThrow();
+
+        assertThat(second).isNotSameAs(first).isEqualTo(first);
+    }
+}
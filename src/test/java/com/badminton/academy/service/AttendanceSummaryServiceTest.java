@@ -0,0 +1,140 @@
+package com.badminton.academy.service;
+
+import com.badminton.academy.model.Attendance;
+import com.badminton.academy.model.AttendanceSummary;
+import com.badminton.academy.model.Batch;
+import com.badminton.academy.model.Student;
+import com.badminton.academy.model.enums.AttendanceStatus;
+import com.badminton.academy.repository.AttendanceRepository;
+import com.badminton.academy.repository.AttendanceSummaryRepository;
+import com.badminton.academy.repository.projection.AttendanceMonthlyCountRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AttendanceSummaryService Tests")
+class AttendanceSummaryServiceTest {
+
+    private static final LocalDate MARCH = LocalDate.of(2024, 3, 1);
+
+    @Mock
+    private AttendanceRepository attendanceRepository;
+
+    @Mock
+    private AttendanceSummaryRepository attendanceSummaryRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private AttendanceSummaryService attendanceSummaryService;
+
+    @Test
+    @DisplayName("Should net status changes per summary row and skip rows that cancel out")
+    @SuppressWarnings("unchecked")
+    void apply_NetsDeltasPerRow() {
+        // Given
+        Attendance marked = attendance(1L, 10L, MARCH.plusDays(4), AttendanceStatus.ABSENT);
+        Attendance corrected = attendance(2L, 10L, MARCH.plusDays(4), AttendanceStatus.PRESENT);
+        Attendance removed = attendance(3L, 10L, MARCH.plusDays(9), AttendanceStatus.LATE);
+        AttendanceSummaryService.Changes changes = new AttendanceSummaryService.Changes()
+                .added(marked)
+                .statusChanged(corrected, AttendanceStatus.ABSENT)
+                .added(removed)
+                .removed(removed);
+
+        // When
+        attendanceSummaryService.apply(changes);
+
+        // Then
+        ArgumentCaptor<List<Object[]>> deltas = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(contains("UPDATE attendance_summary"), deltas.capture());
+        assertThat(deltas.getValue()).containsExactly(
+                new Object[]{0L, 1L, 0L, 0L, 1L, 10L, MARCH},
+                new Object[]{1L, -1L, 0L, 0L, 2L, 10L, MARCH});
+    }
+
+    @Test
+    @DisplayName("Should not touch the database when nothing changed")
+    void apply_NoChanges() {
+        Attendance unchanged = attendance(1L, 10L, MARCH, AttendanceStatus.PRESENT);
+
+        attendanceSummaryService.apply(new AttendanceSummaryService.Changes()
+                .statusChanged(unchanged, AttendanceStatus.PRESENT));
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Should recount only the summary rows that disagree with attendance")
+    void verifyAndRepair_RecountsDriftedRows() {
+        // Given
+        AttendanceSummary consistent = summary(1L, 3L);
+        AttendanceSummary drifted = summary(2L, 5L);
+        when(attendanceRepository.countMonthlyByStatus()).thenReturn(List.of(
+                new AttendanceMonthlyCountRow(1L, 10L, 2024, 3, AttendanceStatus.PRESENT, 3L),
+                new AttendanceMonthlyCountRow(2L, 10L, 2024, 3, AttendanceStatus.PRESENT, 4L)));
+        when(attendanceSummaryRepository.findAll()).thenReturn(List.of(consistent, drifted));
+        when(attendanceSummaryRepository.findForUpdate(2L, 10L, MARCH)).thenReturn(Optional.of(drifted));
+        when(attendanceRepository.countMonthlyByStatus(eq(2L), eq(10L), eq(MARCH), any()))
+                .thenReturn(List.of(new AttendanceMonthlyCountRow(2L, 10L, 2024, 3, AttendanceStatus.PRESENT, 4L)));
+
+        // When
+        int repaired = attendanceSummaryService.verifyAndRepair();
+
+        // Then
+        assertThat(repaired).isEqualTo(1);
+        assertThat(drifted.getPresentCount()).isEqualTo(4L);
+        verify(attendanceSummaryRepository).save(drifted);
+        verify(attendanceSummaryRepository, never()).findForUpdate(eq(1L), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Should leave summary rows of archived months alone")
+    void verifyAndRepair_SkipsArchivedMonths() {
+        // Given: March 2024 is past the retention, so its attendance rows have been archived
+        ReflectionTestUtils.setField(attendanceSummaryService, "attendanceRetentionMonths", 12);
+        when(attendanceRepository.countMonthlyByStatus()).thenReturn(List.of());
+        when(attendanceSummaryRepository.findAll()).thenReturn(List.of(summary(1L, 3L)));
+
+        // When
+        int repaired = attendanceSummaryService.verifyAndRepair();
+
+        // Then
+        assertThat(repaired).isZero();
+        verify(attendanceSummaryRepository, never()).findForUpdate(anyLong(), anyLong(), any());
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    private static Attendance attendance(Long studentId, Long batchId, LocalDate date, AttendanceStatus status) {
+        Student student = new Student();
+        student.setId(studentId);
+        Batch batch = new Batch();
+        batch.setId(batchId);
+        return Attendance.builder().student(student).batch(batch).date(date).status(status).build();
+    }
+
+    private static AttendanceSummary summary(Long studentId, long presentCount) {
+        return AttendanceSummary.builder()
+                .studentId(studentId)
+                .batchId(10L)
+                .monthStart(MARCH)
+                .presentCount(presentCount)
+                .build();
+    }
+}
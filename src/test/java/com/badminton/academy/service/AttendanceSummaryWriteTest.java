@@ -0,0 +1,153 @@
+package com.badminton.academy.service;
+
+import com.badminton.academy.audit.AttendanceAuditTrail;
+import com.badminton.academy.audit.AuditLogWriter;
+import com.badminton.academy.dto.request.BulkAttendanceRequest;
+import com.badminton.academy.dto.request.MarkAttendanceRequest;
+import com.badminton.academy.dto.request.StudentAttendanceItem;
+import com.badminton.academy.model.AttendanceSummary;
+import com.badminton.academy.model.AttendanceSummaryId;
+import com.badminton.academy.model.Batch;
+import com.badminton.academy.model.Coach;
+import com.badminton.academy.model.Student;
+import com.badminton.academy.model.enums.AttendanceStatus;
+import com.badminton.academy.model.enums.Role;
+import com.badminton.academy.model.enums.SkillLevel;
+import com.badminton.academy.repository.AttendanceSummaryRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Attendance writes keep the monthly summary in step when run against the test database,
+ * which executes the summary SQL for real.
+ */
+@DataJpaTest(properties = "spring.flyway.enabled=false")
+@Import({AttendanceService.class, AttendanceSummaryService.class, AttendanceAuditTrail.class, AuditLogWriter.class})
+@DisplayName("Attendance summary write Tests")
+class AttendanceSummaryWriteTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private AttendanceService attendanceService;
+
+    @Autowired
+    private AttendanceSummaryService attendanceSummaryService;
+
+    @Autowired
+    private AttendanceSummaryRepository attendanceSummaryRepository;
+
+    private Coach coach;
+    private Batch batch;
+    private Student ravi;
+    private Student meera;
+
+    @BeforeEach
+    void seed() {
+        coach = new Coach();
+        coach.setEmail("coach@summary.test");
+        coach.setPassword("secret");
+        coach.setFirstName("Asha");
+        coach.setLastName("Rao");
+        coach.setFullName("Asha Rao");
+        coach.setDateOfBirth(LocalDate.of(1990, 1, 1));
+        coach.setRole(Role.COACH);
+        coach.setIsActive(true);
+        coach.setIsEmailVerified(true);
+        entityManager.persist(coach);
+
+        batch = Batch.builder().name("Morning").coach(coach).isActive(true).students(new HashSet<>()).build();
+        entityManager.persist(batch);
+        ravi = student("Ravi");
+        meera = student("Meera");
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("Should create a summary row per student on the first mark of the month")
+    void markAttendance_CreatesSummaryRow() {
+        // When
+        attendanceService.markAttendance(mark(ravi, AttendanceStatus.PRESENT), coach.getId(), true);
+        attendanceService.markAttendance(mark(meera, AttendanceStatus.LATE), coach.getId(), true);
+
+        // Then
+        assertThat(summary(ravi).getPresentCount()).isEqualTo(1);
+        assertThat(summary(meera).getLateCount()).isEqualTo(1);
+        assertThat(summary(meera).getPresentCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should move counts between statuses when a sheet re-marks existing rows")
+    void markBulkAttendance_UpdatesSummary() {
+        // Given
+        attendanceService.markAttendance(mark(ravi, AttendanceStatus.PRESENT), coach.getId(), true);
+
+        // When
+        attendanceService.markBulkAttendance(sheet(
+                item(ravi, AttendanceStatus.ABSENT),
+                item(meera, AttendanceStatus.PRESENT)), coach.getId(), true);
+
+        // Then
+        AttendanceSummary raviSummary = summary(ravi);
+        assertThat(raviSummary.getPresentCount()).isZero();
+        assertThat(raviSummary.getAbsentCount()).isEqualTo(1);
+        assertThat(summary(meera).getPresentCount()).isEqualTo(1);
+        assertThat(attendanceSummaryService.verifyAndRepair()).isZero();
+    }
+
+    private AttendanceSummary summary(Student student) {
+        entityManager.clear();
+        return attendanceSummaryRepository.findById(AttendanceSummaryId.of(student.getId(), batch.getId(), TODAY))
+                .orElseThrow();
+    }
+
+    private MarkAttendanceRequest mark(Student student, AttendanceStatus status) {
+        return MarkAttendanceRequest.builder()
+                .studentId(student.getId())
+                .batchId(batch.getId())
+                .date(TODAY)
+                .status(status)
+                .build();
+    }
+
+    private BulkAttendanceRequest sheet(StudentAttendanceItem... items) {
+        return BulkAttendanceRequest.builder()
+                .batchId(batch.getId())
+                .date(TODAY)
+                .studentAttendances(List.of(items))
+                .build();
+    }
+
+    private StudentAttendanceItem item(Student student, AttendanceStatus status) {
+        return StudentAttendanceItem.builder()
+                .studentId(student.getId())
+                .status(status)
+                .build();
+    }
+
+    private Student student(String firstName) {
+        Student created = Student.builder()
+                .firstName(firstName)
+                .lastName("Student")
+                .skillLevel(SkillLevel.BEGINNER)
+                .build();
+        entityManager.persist(created);
+        batch.getStudents().add(created);
+        created.getBatches().add(batch);
+        return created;
+    }
+}
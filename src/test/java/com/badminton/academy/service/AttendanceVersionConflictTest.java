@@ -0,0 +1,169 @@
+package com.badminton.academy.service;
+
+import com.badminton.academy.audit.AttendanceAuditTrail;
+import com.badminton.academy.audit.AuditLogWriter;
+import com.badminton.academy.dto.request.BulkAttendanceRequest;
+import com.badminton.academy.dto.request.MarkAttendanceRequest;
+import com.badminton.academy.dto.request.StudentAttendanceItem;
+import com.badminton.academy.dto.response.AttendanceResponse;
+import com.badminton.academy.exception.StaleVersionException;
+import com.badminton.academy.model.Attendance;
+import com.badminton.academy.model.Batch;
+import com.badminton.academy.model.Coach;
+import com.badminton.academy.model.Student;
+import com.badminton.academy.model.enums.AttendanceStatus;
+import com.badminton.academy.model.enums.Role;
+import com.badminton.academy.model.enums.SkillLevel;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Optimistic locking on attendance edits: a stale single update is rejected, and a stale
+ * row in a bulk sheet is reported without blocking the rest of the sheet.
+ */
+@DataJpaTest(properties = "spring.flyway.enabled=false")
+@Import({AttendanceService.class, AttendanceSummaryService.class, AttendanceAuditTrail.class, AuditLogWriter.class})
+@DisplayName("Attendance version conflict Tests")
+class AttendanceVersionConflictTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private AttendanceService attendanceService;
+
+    private Coach coach;
+    private Batch batch;
+    private Attendance first;
+    private Attendance second;
+
+    @BeforeEach
+    void seed() {
+        coach = new Coach();
+        coach.setEmail("coach@conflicts.test");
+        coach.setPassword("secret");
+        coach.setFirstName("Asha");
+        coach.setLastName("Rao");
+        coach.setFullName("Asha Rao");
+        coach.setDateOfBirth(LocalDate.of(1990, 1, 1));
+        coach.setRole(Role.COACH);
+        coach.setIsActive(true);
+        coach.setIsEmailVerified(true);
+        entityManager.persist(coach);
+
+        batch = Batch.builder().name("Morning").coach(coach).isActive(true).students(new HashSet<>()).build();
+        entityManager.persist(batch);
+        first = attendance(student("Ravi"));
+        second = attendance(student("Meera"));
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("Should reject an update based on an older version")
+    void updateAttendance_StaleVersion_Throws() {
+        // Given
+        MarkAttendanceRequest request = update(AttendanceStatus.ABSENT, first.getVersion() + 1);
+
+        // When / Then
+        assertThatThrownBy(() -> attendanceService.updateAttendance(first.getId(), request, coach.getId(), true))
+                .isInstanceOf(StaleVersionException.class);
+        assertThat(first.getStatus()).isEqualTo(AttendanceStatus.PRESENT);
+    }
+
+    @Test
+    @DisplayName("Should return the incremented version after an update")
+    void updateAttendance_CurrentVersion_IncrementsVersion() {
+        // Given
+        long version = first.getVersion();
+
+        // When
+        AttendanceResponse response = attendanceService.updateAttendance(
+                first.getId(), update(AttendanceStatus.ABSENT, version), coach.getId(), true);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(AttendanceStatus.ABSENT);
+        assertThat(response.getVersion()).isEqualTo(version + 1);
+    }
+
+    @Test
+    @DisplayName("Should flag stale rows in a sheet and still apply the others")
+    void markBulkAttendance_StaleRow_ReportedAsConflict() {
+        // Given
+        first.setNotes("edited by another coach");
+        entityManager.flush();
+        BulkAttendanceRequest request = BulkAttendanceRequest.builder()
+                .batchId(batch.getId())
+                .date(TODAY)
+                .studentAttendances(List.of(
+                        item(first, first.getVersion() - 1),
+                        item(second, second.getVersion())))
+                .build();
+
+        // When
+        List<AttendanceResponse> responses = attendanceService.markBulkAttendance(request, coach.getId(), true);
+
+        // Then
+        assertThat(responses).hasSize(2);
+        assertThat(responses.get(0).getConflict()).isTrue();
+        assertThat(responses.get(0).getStatus()).isEqualTo(AttendanceStatus.PRESENT);
+        assertThat(responses.get(0).getNotes()).isEqualTo("edited by another coach");
+        assertThat(responses.get(1).getConflict()).isNull();
+        assertThat(responses.get(1).getStatus()).isEqualTo(AttendanceStatus.LATE);
+        assertThat(responses.get(1).getVersion()).isEqualTo(1);
+    }
+
+    private MarkAttendanceRequest update(AttendanceStatus status, Long version) {
+        return MarkAttendanceRequest.builder()
+                .studentId(first.getStudent().getId())
+                .batchId(batch.getId())
+                .date(TODAY)
+                .status(status)
+                .version(version)
+                .build();
+    }
+
+    private StudentAttendanceItem item(Attendance attendance, Long version) {
+        return StudentAttendanceItem.builder()
+                .studentId(attendance.getStudent().getId())
+                .status(AttendanceStatus.LATE)
+                .version(version)
+                .build();
+    }
+
+    private Student student(String firstName) {
+        Student created = Student.builder()
+                .firstName(firstName)
+                .lastName("Student")
+                .skillLevel(SkillLevel.BEGINNER)
+                .build();
+        entityManager.persist(created);
+        batch.getStudents().add(created);
+        created.getBatches().add(batch);
+        return created;
+    }
+
+    private Attendance attendance(Student attendee) {
+        Attendance row = Attendance.builder()
+                .student(attendee)
+                .batch(batch)
+                .date(TODAY)
+                .status(AttendanceStatus.PRESENT)
+                .markedBy(coach)
+                .build();
+        entityManager.persist(row);
+        return row;
+    }
+}
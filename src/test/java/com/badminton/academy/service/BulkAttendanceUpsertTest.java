@@ -0,0 +1,249 @@
+package com.badminton.academy.service;
+
+import com.badminton.academy.audit.AttendanceAuditTrail;
+import com.badminton.academy.audit.AuditLogWriter;
+import com.badminton.academy.dto.request.BulkAttendanceRequest;
+import com.badminton.academy.dto.request.StudentAttendanceItem;
+import com.badminton.academy.dto.response.AttendanceResponse;
+import com.badminton.academy.exception.DuplicateResourceException;
+import com.badminton.academy.model.Attendance;
+import com.badminton.academy.model.Batch;
+import com.badminton.academy.model.Coach;
+import com.badminton.academy.model.Student;
+import com.badminton.academy.model.enums.AttendanceEntryType;
+import com.badminton.academy.model.enums.AttendanceStatus;
+import com.badminton.academy.model.enums.Role;
+import com.badminton.academy.model.enums.SkillLevel;
+import com.badminton.academy.repository.AttendanceRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Bulk attendance sheets against a real repository: existing rows are updated and new rows
+ * inserted from one prefetch, makeup compensations are checked across the whole sheet, and
+ * the number of JDBC statements does not grow with the number of students.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"
+})
+@Import({AttendanceService.class, AttendanceSummaryService.class, AttendanceAuditTrail.class, AuditLogWriter.class})
+@DisplayName("Bulk attendance upsert Tests")
+class BulkAttendanceUpsertTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+    private static final LocalDate MISSED = TODAY.minusDays(3);
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private AttendanceService attendanceService;
+
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+
+    private Statistics statistics;
+    private Coach coach;
+    private Batch batch;
+
+    @BeforeEach
+    void seed() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        coach = new Coach();
+        coach.setEmail("coach@bulk.test");
+        coach.setPassword("secret");
+        coach.setFirstName("Asha");
+        coach.setLastName("Rao");
+        coach.setFullName("Asha Rao");
+        coach.setDateOfBirth(LocalDate.of(1990, 1, 1));
+        coach.setRole(Role.COACH);
+        coach.setIsActive(true);
+        coach.setIsEmailVerified(true);
+        entityManager.persist(coach);
+
+        batch = Batch.builder().name("Morning").coach(coach).isActive(true).students(new HashSet<>()).build();
+        entityManager.persist(batch);
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("Should update students already marked and insert the rest of the sheet")
+    void markBulkAttendance_MixedSheet_InsertsAndUpdates() {
+        // Given
+        Student ravi = student("Ravi");
+        Student meera = student("Meera");
+        Attendance existing = attendance(ravi, AttendanceStatus.PRESENT);
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        // When
+        List<AttendanceResponse> responses = attendanceService.markBulkAttendance(sheet(
+                item(ravi, AttendanceStatus.ABSENT),
+                item(meera, AttendanceStatus.LATE)), coach.getId(), true);
+
+        // Then
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+        assertThat(responses).extracting(AttendanceResponse::getStudentId).containsExactly(ravi.getId(), meera.getId());
+        assertThat(responses.get(0).getId()).isEqualTo(existing.getId());
+        assertThat(responses.get(0).getStatus()).isEqualTo(AttendanceStatus.ABSENT);
+        assertThat(responses.get(1).getId()).isNotNull();
+
+        entityManager.clear();
+        assertThat(attendanceRepository.findByBatchAndDate(batch.getId(), TODAY))
+                .extracting(attendance -> attendance.getStudent().getId(), Attendance::getStatus)
+                .containsExactlyInAnyOrder(
+                        tuple(ravi.getId(), AttendanceStatus.ABSENT),
+                        tuple(meera.getId(), AttendanceStatus.LATE));
+    }
+
+    @Test
+    @DisplayName("Should reject a sheet that makes up the same absence twice for one student")
+    void markBulkAttendance_DuplicateMakeupInSheet_Rejected() {
+        // Given
+        Student ravi = student("Ravi");
+        Student meera = student("Meera");
+        entityManager.flush();
+
+        // When / Then
+        assertThatThrownBy(() -> attendanceService.markBulkAttendance(sheet(
+                makeup(ravi),
+                makeup(meera),
+                makeup(ravi)), coach.getId(), true))
+                .isInstanceOf(DuplicateResourceException.class)
+                .hasMessageContaining("already compensated")
+                .hasMessageContaining(String.valueOf(ravi.getId()));
+        assertThat(attendanceRepository.findByBatchAndDate(batch.getId(), TODAY)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should allow different students to make up the same date in one sheet")
+    void markBulkAttendance_MakeupPerStudent_Accepted() {
+        // Given
+        Student ravi = student("Ravi");
+        Student meera = student("Meera");
+        entityManager.flush();
+
+        // When
+        List<AttendanceResponse> responses = attendanceService.markBulkAttendance(
+                sheet(makeup(ravi), makeup(meera)), coach.getId(), true);
+
+        // Then
+        assertThat(responses).extracting(AttendanceResponse::getEntryType)
+                .containsOnly(AttendanceEntryType.MAKEUP);
+        assertThat(responses).extracting(AttendanceResponse::getCompensatesForDate)
+                .containsOnly(MISSED);
+    }
+
+    @Test
+    @DisplayName("Should write a sheet with a fixed number of statements regardless of its size")
+    void markBulkAttendance_StatementCountIndependentOfSheetSize() {
+        // Given
+        List<StudentAttendanceItem> small = new ArrayList<>();
+        List<StudentAttendanceItem> large = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            StudentAttendanceItem item = item(student("Student" + i), AttendanceStatus.PRESENT);
+            if (i < 4) {
+                small.add(item);
+            }
+            large.add(item);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        long smallInserts = statements(small);
+        long largeInsertsAndUpdates = statements(large);
+        long largeUpdates = statements(large);
+
+        // Then
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(large.size());
+        assertThat(largeInsertsAndUpdates)
+                .as("JDBC statements for %d students", large.size())
+                .isLessThanOrEqualTo(smallInserts + 2);
+        assertThat(largeUpdates)
+                .as("JDBC statements to re-mark %d students", large.size())
+                .isLessThanOrEqualTo(smallInserts + 2);
+    }
+
+    private long statements(List<StudentAttendanceItem> items) {
+        statistics.clear();
+        attendanceService.markBulkAttendance(BulkAttendanceRequest.builder()
+                .batchId(batch.getId())
+                .date(TODAY)
+                .studentAttendances(items)
+                .build(), coach.getId(), true);
+        entityManager.clear();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private BulkAttendanceRequest sheet(StudentAttendanceItem... items) {
+        return BulkAttendanceRequest.builder()
+                .batchId(batch.getId())
+                .date(TODAY)
+                .studentAttendances(List.of(items))
+                .build();
+    }
+
+    private StudentAttendanceItem item(Student student, AttendanceStatus status) {
+        return StudentAttendanceItem.builder()
+                .studentId(student.getId())
+                .status(status)
+                .build();
+    }
+
+    private StudentAttendanceItem makeup(Student student) {
+        return StudentAttendanceItem.builder()
+                .studentId(student.getId())
+                .status(AttendanceStatus.PRESENT)
+                .entryType(AttendanceEntryType.MAKEUP)
+                .compensatesForDate(MISSED)
+                .build();
+    }
+
+    private Student student(String firstName) {
+        Student created = Student.builder()
+                .firstName(firstName)
+                .lastName("Student")
+                .skillLevel(SkillLevel.BEGINNER)
+                .build();
+        entityManager.persist(created);
+        batch.getStudents().add(created);
+        created.getBatches().add(batch);
+        return created;
+    }
+
+    private Attendance attendance(Student attendee, AttendanceStatus status) {
+        Attendance row = Attendance.builder()
+                .student(attendee)
+                .batch(batch)
+                .date(TODAY)
+                .status(status)
+                .markedBy(coach)
+                .build();
+        entityManager.persist(row);
+        return row;
+    }
+}
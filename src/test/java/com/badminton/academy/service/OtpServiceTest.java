@@ -7,8 +7,13 @@ import com.badminton.academy.dto.response.OtpResponse;
 import com.badminton.academy.model.OtpVerification;
 import com.badminton.academy.model.Parent;
 import com.badminton.academy.model.User;
+import com.badminton.academy.model.enums.OtpChannel;
 import com.badminton.academy.model.enums.Role;
-import com.badminton.academy.repository.OtpVerificationRepository;
+import com.badminton.academy.notification.OtpDeliveryDispatcher;
+import com.badminton.academy.otp.OtpHasher;
+import com.badminton.academy.otp.OtpRateLimiter;
+import com.badminton.academy.otp.OtpStore;
+import com.badminton.academy.otp.StoredOtp;
 import com.badminton.academy.repository.ParentRepository;
 import com.badminton.academy.repository.UserRepository;
 import com.badminton.academy.security.jwt.JwtUtils;
@@ -18,6 +23,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -37,7 +43,13 @@ import static org.mockito.Mockito.*;
 class OtpServiceTest {
 
     @Mock
-    private OtpVerificationRepository otpRepository;
+    private OtpStore otpStore;
+
+    @Mock
+    private OtpRateLimiter otpRateLimiter;
+
+    @Mock
+    private OtpHasher otpHasher;
 
     @Mock
     private UserRepository userRepository;
@@ -49,7 +61,7 @@ class OtpServiceTest {
     private PasswordEncoder passwordEncoder;
 
     @Mock
-    private SmsService smsService;
+    private OtpDeliveryDispatcher otpDeliveryDispatcher;
 
     @Mock
     private JwtUtils jwtUtils;
@@ -60,12 +72,12 @@ class OtpServiceTest {
     private static final String VALID_PHONE = "+919876543210";
     private static final String VALID_OTP = "123456";
     private static final String ENCODED_OTP = "encoded_otp_hash";
+    private static final String LOGIN_KEY = "LOGIN:PHONE:" + VALID_PHONE;
 
     @BeforeEach
     void setUp() {
         // Set configuration values via reflection
         ReflectionTestUtils.setField(otpService, "otpExpiryMinutes", 5);
-        ReflectionTestUtils.setField(otpService, "maxRequestsPerHour", 5);
         ReflectionTestUtils.setField(otpService, "maxVerifyAttempts", 5);
     }
 
@@ -81,10 +93,8 @@ class OtpServiceTest {
                     .phoneNumber(VALID_PHONE)
                     .build();
 
-            when(otpRepository.countRecentOtpRequests(anyString(), any(LocalDateTime.class)))
-                    .thenReturn(0L);
-            when(passwordEncoder.encode(anyString())).thenReturn(ENCODED_OTP);
-            when(smsService.sendOtp(anyString(), anyString())).thenReturn(true);
+            when(otpRateLimiter.tryAcquire(LOGIN_KEY)).thenReturn(0L);
+            when(otpHasher.hash(eq(LOGIN_KEY), anyString())).thenReturn(ENCODED_OTP);
 
             // When
             OtpResponse response = otpService.requestOtp(request);
@@ -94,9 +104,8 @@ class OtpServiceTest {
             assertThat(response.getMessage()).isEqualTo("OTP sent successfully");
             assertThat(response.getExpiresInSeconds()).isEqualTo(300); // 5 minutes
 
-            verify(otpRepository).invalidateAllOtpsForPhoneNumber(VALID_PHONE);
-            verify(otpRepository).save(any(OtpVerification.class));
-            verify(smsService).sendOtp(eq(VALID_PHONE), anyString());
+            verify(otpStore).save(eq(LOGIN_KEY), eq(ENCODED_OTP), any(LocalDateTime.class));
+            verify(otpDeliveryDispatcher).dispatch(eq(OtpChannel.PHONE), eq(VALID_PHONE), anyString(), eq("login"), any(LocalDateTime.class));
         }
 
         @Test
@@ -107,8 +116,7 @@ class OtpServiceTest {
                     .phoneNumber(VALID_PHONE)
                     .build();
 
-            when(otpRepository.countRecentOtpRequests(anyString(), any(LocalDateTime.class)))
-                    .thenReturn(5L); // Max requests reached
+            when(otpRateLimiter.tryAcquire(LOGIN_KEY)).thenReturn(1200L); // Max requests reached
 
             // When
             OtpResponse response = otpService.requestOtp(request);
@@ -116,33 +124,31 @@ class OtpServiceTest {
             // Then
             assertThat(response.isSuccess()).isFalse();
             assertThat(response.getMessage()).contains("Too many OTP requests");
-            assertThat(response.getExpiresInSeconds()).isEqualTo(3600); // 1 hour
+            assertThat(response.getExpiresInSeconds()).isEqualTo(1200);
 
-            verify(otpRepository, never()).save(any(OtpVerification.class));
-            verify(smsService, never()).sendOtp(anyString(), anyString());
+            verify(otpStore, never()).save(anyString(), anyString(), any());
+            verify(otpDeliveryDispatcher, never()).dispatch(any(), any(), any(), any(), any());
         }
 
         @Test
-        @DisplayName("Should return error when SMS sending fails")
-        void requestOtp_SmsFailure() {
+        @DisplayName("Should save the OTP before handing it to the delivery dispatcher")
+        void requestOtp_SavesBeforeDispatch() {
             // Given
             OtpRequestDto request = OtpRequestDto.builder()
                     .phoneNumber(VALID_PHONE)
                     .build();
 
-            when(otpRepository.countRecentOtpRequests(anyString(), any(LocalDateTime.class)))
-                    .thenReturn(0L);
-            when(passwordEncoder.encode(anyString())).thenReturn(ENCODED_OTP);
-            when(smsService.sendOtp(anyString(), anyString())).thenReturn(false);
+            when(otpRateLimiter.tryAcquire(LOGIN_KEY)).thenReturn(0L);
+            when(otpHasher.hash(eq(LOGIN_KEY), anyString())).thenReturn(ENCODED_OTP);
 
             // When
             OtpResponse response = otpService.requestOtp(request);
 
             // Then
-            assertThat(response.isSuccess()).isFalse();
-            assertThat(response.getMessage()).contains("Failed to send OTP");
-
-            verify(otpRepository).save(any(OtpVerification.class));
+            assertThat(response.isSuccess()).isTrue();
+            InOrder inOrder = inOrder(otpStore, otpDeliveryDispatcher);
+            inOrder.verify(otpStore).save(eq(LOGIN_KEY), anyString(), any());
+            inOrder.verify(otpDeliveryDispatcher).dispatch(eq(OtpChannel.PHONE), eq(VALID_PHONE), anyString(), anyString(), any());
         }
 
         @Test
@@ -153,37 +159,33 @@ class OtpServiceTest {
                     .phoneNumber("+91 987-654-3210")
                     .build();
 
-            when(otpRepository.countRecentOtpRequests(eq(VALID_PHONE), any(LocalDateTime.class)))
-                    .thenReturn(0L);
-            when(passwordEncoder.encode(anyString())).thenReturn(ENCODED_OTP);
-            when(smsService.sendOtp(eq(VALID_PHONE), anyString())).thenReturn(true);
+            when(otpRateLimiter.tryAcquire(LOGIN_KEY)).thenReturn(0L);
+            when(otpHasher.hash(eq(LOGIN_KEY), anyString())).thenReturn(ENCODED_OTP);
 
             // When
             OtpResponse response = otpService.requestOtp(request);
 
             // Then
             assertThat(response.isSuccess()).isTrue();
-            verify(otpRepository).invalidateAllOtpsForPhoneNumber(VALID_PHONE);
+            verify(otpStore).save(eq(LOGIN_KEY), anyString(), any());
         }
 
         @Test
-        @DisplayName("Should invalidate previous OTPs for same phone number")
-        void requestOtp_InvalidatesPreviousOtps() {
+        @DisplayName("Should rate limit by purpose, channel and phone number")
+        void requestOtp_RateLimitsByOtpKey() {
             // Given
             OtpRequestDto request = OtpRequestDto.builder()
                     .phoneNumber(VALID_PHONE)
                     .build();
 
-            when(otpRepository.countRecentOtpRequests(anyString(), any(LocalDateTime.class)))
-                    .thenReturn(0L);
-            when(passwordEncoder.encode(anyString())).thenReturn(ENCODED_OTP);
-            when(smsService.sendOtp(anyString(), anyString())).thenReturn(true);
+            when(otpRateLimiter.tryAcquire(LOGIN_KEY)).thenReturn(0L);
+            when(otpHasher.hash(eq(LOGIN_KEY), anyString())).thenReturn(ENCODED_OTP);
 
             // When
             otpService.requestOtp(request);
 
             // Then
-            verify(otpRepository).invalidateAllOtpsForPhoneNumber(VALID_PHONE);
+            verify(otpRateLimiter).tryAcquire(LOGIN_KEY);
         }
 
         @Test
@@ -194,26 +196,20 @@ class OtpServiceTest {
                     .phoneNumber(VALID_PHONE)
                     .build();
 
-            when(otpRepository.countRecentOtpRequests(anyString(), any(LocalDateTime.class)))
-                    .thenReturn(0L);
-            when(passwordEncoder.encode(anyString())).thenReturn(ENCODED_OTP);
-            when(smsService.sendOtp(anyString(), anyString())).thenReturn(true);
+            when(otpRateLimiter.tryAcquire(LOGIN_KEY)).thenReturn(0L);
+            when(otpHasher.hash(eq(LOGIN_KEY), anyString())).thenReturn(ENCODED_OTP);
 
-            ArgumentCaptor<OtpVerification> otpCaptor = ArgumentCaptor.forClass(OtpVerification.class);
+            ArgumentCaptor<LocalDateTime> expiryCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
 
             // When
             otpService.requestOtp(request);
 
             // Then
-            verify(otpRepository).save(otpCaptor.capture());
-            OtpVerification savedOtp = otpCaptor.getValue();
-
-            assertThat(savedOtp.getPhoneNumber()).isEqualTo(VALID_PHONE);
-            assertThat(savedOtp.getOtpHash()).isEqualTo(ENCODED_OTP);
-            assertThat(savedOtp.getIsUsed()).isFalse();
-            assertThat(savedOtp.getAttemptCount()).isEqualTo(0);
-            assertThat(savedOtp.getExpiresAt()).isAfter(LocalDateTime.now());
-            assertThat(savedOtp.getExpiresAt()).isBefore(LocalDateTime.now().plusMinutes(6));
+            verify(otpStore).save(eq(LOGIN_KEY), eq(ENCODED_OTP), expiryCaptor.capture());
+            LocalDateTime expiresAt = expiryCaptor.getValue();
+
+            assertThat(expiresAt).isAfter(LocalDateTime.now());
+            assertThat(expiresAt).isBefore(LocalDateTime.now().plusMinutes(6));
         }
     }
 
@@ -230,13 +226,13 @@ class OtpServiceTest {
                     .otp(VALID_OTP)
                     .build();
 
-            OtpVerification otp = createValidOtpVerification();
+            StoredOtp otp = createValidOtp(0);
 
             User existingUser = createTestUser();
 
-            when(otpRepository.findLatestValidOtp(eq(VALID_PHONE), any(LocalDateTime.class)))
-                    .thenReturn(Optional.of(otp));
-            when(passwordEncoder.matches(VALID_OTP, ENCODED_OTP)).thenReturn(true);
+            when(otpStore.findValid(LOGIN_KEY)).thenReturn(Optional.of(otp));
+            when(otpHasher.matches(LOGIN_KEY, VALID_OTP, ENCODED_OTP)).thenReturn(true);
+            when(otpStore.consume(LOGIN_KEY, otp)).thenReturn(true);
             when(userRepository.findByPhoneNumber(VALID_PHONE)).thenReturn(Optional.of(existingUser));
             when(jwtUtils.generateTokenFromUsername(anyString())).thenReturn("access_token");
             when(jwtUtils.generateRefreshToken(anyString())).thenReturn("refresh_token");
@@ -251,7 +247,7 @@ class OtpServiceTest {
             assertThat(response.getUser()).isNotNull();
             assertThat(response.getUser().getEmail()).isEqualTo(existingUser.getEmail());
 
-            verify(otpRepository).save(argThat(o -> o.getIsUsed()));
+            verify(otpStore).consume(LOGIN_KEY, otp);
         }
 
         @Test
@@ -263,13 +259,13 @@ class OtpServiceTest {
                     .otp(VALID_OTP)
                     .build();
 
-            OtpVerification otp = createValidOtpVerification();
+            StoredOtp otp = createValidOtp(0);
 
             Parent newParent = createTestParent();
 
-            when(otpRepository.findLatestValidOtp(eq(VALID_PHONE), any(LocalDateTime.class)))
-                    .thenReturn(Optional.of(otp));
-            when(passwordEncoder.matches(VALID_OTP, ENCODED_OTP)).thenReturn(true);
+            when(otpStore.findValid(LOGIN_KEY)).thenReturn(Optional.of(otp));
+            when(otpHasher.matches(LOGIN_KEY, VALID_OTP, ENCODED_OTP)).thenReturn(true);
+            when(otpStore.consume(LOGIN_KEY, otp)).thenReturn(true);
             when(userRepository.findByPhoneNumber(VALID_PHONE)).thenReturn(Optional.empty());
             when(passwordEncoder.encode(anyString())).thenReturn("encoded_password");
             when(parentRepository.save(any(Parent.class))).thenReturn(newParent);
@@ -293,8 +289,7 @@ class OtpServiceTest {
                     .otp(VALID_OTP)
                     .build();
 
-            when(otpRepository.findLatestValidOtp(eq(VALID_PHONE), any(LocalDateTime.class)))
-                    .thenReturn(Optional.empty());
+            when(otpStore.findValid(LOGIN_KEY)).thenReturn(Optional.empty());
 
             // When/Then
             assertThatThrownBy(() -> otpService.verifyOtp(request))
@@ -311,18 +306,18 @@ class OtpServiceTest {
                     .otp("000000")
                     .build();
 
-            OtpVerification otp = createValidOtpVerification();
+            StoredOtp otp = createValidOtp(0);
 
-            when(otpRepository.findLatestValidOtp(eq(VALID_PHONE), any(LocalDateTime.class)))
-                    .thenReturn(Optional.of(otp));
-            when(passwordEncoder.matches("000000", ENCODED_OTP)).thenReturn(false);
+            when(otpStore.findValid(LOGIN_KEY)).thenReturn(Optional.of(otp));
+            when(otpHasher.matches(LOGIN_KEY, "000000", ENCODED_OTP)).thenReturn(false);
+            when(otpStore.recordFailedAttempt(LOGIN_KEY, otp)).thenReturn(1);
 
             // When/Then
             assertThatThrownBy(() -> otpService.verifyOtp(request))
                     .isInstanceOf(IllegalArgumentException.class)
                     .hasMessageContaining("Invalid OTP");
 
-            verify(otpRepository).save(argThat(o -> o.getAttemptCount() == 1));
+            verify(otpStore, never()).consume(anyString(), any());
         }
 
         @Test
@@ -334,18 +329,16 @@ class OtpServiceTest {
                     .otp(VALID_OTP)
                     .build();
 
-            OtpVerification otp = createValidOtpVerification();
-            otp.setAttemptCount(5); // Max attempts reached
+            StoredOtp otp = createValidOtp(5); // Max attempts reached
 
-            when(otpRepository.findLatestValidOtp(eq(VALID_PHONE), any(LocalDateTime.class)))
-                    .thenReturn(Optional.of(otp));
+            when(otpStore.findValid(LOGIN_KEY)).thenReturn(Optional.of(otp));
 
             // When/Then
             assertThatThrownBy(() -> otpService.verifyOtp(request))
                     .isInstanceOf(IllegalArgumentException.class)
                     .hasMessageContaining("Too many failed attempts");
 
-            verify(otpRepository).save(argThat(o -> o.getIsUsed()));
+            verify(otpStore).consume(LOGIN_KEY, otp);
         }
 
         @Test
@@ -357,19 +350,41 @@ class OtpServiceTest {
                     .otp("000000")
                     .build();
 
-            OtpVerification otp = createValidOtpVerification();
-            otp.setAttemptCount(2);
+            StoredOtp otp = createValidOtp(2);
 
-            when(otpRepository.findLatestValidOtp(eq(VALID_PHONE), any(LocalDateTime.class)))
-                    .thenReturn(Optional.of(otp));
-            when(passwordEncoder.matches("000000", ENCODED_OTP)).thenReturn(false);
+            when(otpStore.findValid(LOGIN_KEY)).thenReturn(Optional.of(otp));
+            when(otpHasher.matches(LOGIN_KEY, "000000", ENCODED_OTP)).thenReturn(false);
+            when(otpStore.recordFailedAttempt(LOGIN_KEY, otp)).thenReturn(3);
 
             // When/Then
             assertThatThrownBy(() -> otpService.verifyOtp(request))
                     .isInstanceOf(IllegalArgumentException.class)
                     .hasMessageContaining("2 attempts remaining");
 
-            verify(otpRepository).save(argThat(o -> o.getAttemptCount() == 3));
+            verify(otpStore).recordFailedAttempt(LOGIN_KEY, otp);
+        }
+
+        @Test
+        @DisplayName("Should reject an OTP that a concurrent verify already used")
+        void verifyOtp_AlreadyConsumed_ThrowsException() {
+            // Given
+            OtpVerifyDto request = OtpVerifyDto.builder()
+                    .phoneNumber(VALID_PHONE)
+                    .otp(VALID_OTP)
+                    .build();
+
+            StoredOtp otp = createValidOtp(0);
+
+            when(otpStore.findValid(LOGIN_KEY)).thenReturn(Optional.of(otp));
+            when(otpHasher.matches(LOGIN_KEY, VALID_OTP, ENCODED_OTP)).thenReturn(true);
+            when(otpStore.consume(LOGIN_KEY, otp)).thenReturn(false);
+
+            // When/Then
+            assertThatThrownBy(() -> otpService.verifyOtp(request))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Invalid or expired OTP");
+
+            verifyNoInteractions(userRepository, jwtUtils);
         }
 
         @Test
@@ -381,14 +396,14 @@ class OtpServiceTest {
                     .otp(VALID_OTP)
                     .build();
 
-            OtpVerification otp = createValidOtpVerification();
+            StoredOtp otp = createValidOtp(0);
 
             User deactivatedUser = createTestUser();
             deactivatedUser.setIsActive(false);
 
-            when(otpRepository.findLatestValidOtp(eq(VALID_PHONE), any(LocalDateTime.class)))
-                    .thenReturn(Optional.of(otp));
-            when(passwordEncoder.matches(VALID_OTP, ENCODED_OTP)).thenReturn(true);
+            when(otpStore.findValid(LOGIN_KEY)).thenReturn(Optional.of(otp));
+            when(otpHasher.matches(LOGIN_KEY, VALID_OTP, ENCODED_OTP)).thenReturn(true);
+            when(otpStore.consume(LOGIN_KEY, otp)).thenReturn(true);
             when(userRepository.findByPhoneNumber(VALID_PHONE)).thenReturn(Optional.of(deactivatedUser));
 
             // When/Then
@@ -409,7 +424,8 @@ class OtpServiceTest {
             otpService.cleanupExpiredOtps();
 
             // Then
-            verify(otpRepository).deleteExpiredOtps(any(LocalDateTime.class));
+            verify(otpStore).purgeExpired();
+            verify(otpRateLimiter).purgeExpired();
         }
     }
 
@@ -475,15 +491,8 @@ class OtpServiceTest {
     }
 
     // Helper methods
-    private OtpVerification createValidOtpVerification() {
-        return OtpVerification.builder()
-                .id(1L)
-                .phoneNumber(VALID_PHONE)
-                .otpHash(ENCODED_OTP)
-                .expiresAt(LocalDateTime.now().plusMinutes(5))
-                .isUsed(false)
-                .attemptCount(0)
-                .build();
+    private StoredOtp createValidOtp(int attemptCount) {
+        return new StoredOtp(1L, ENCODED_OTP, LocalDateTime.now().plusMinutes(5), attemptCount);
     }
 
     private User createTestUser() {
@@ -0,0 +1,137 @@
+package com.badminton.academy.service;
+
+import com.badminton.academy.cache.CacheInvalidator;
+import com.badminton.academy.cache.CacheRefreshRegistry;
+import com.badminton.academy.cache.LoopbackInvalidationBus;
+import com.badminton.academy.cache.NormalizedCache;
+import com.badminton.academy.dto.request.UpdateParentRequest;
+import com.badminton.academy.dto.request.UpdateUserRequest;
+import com.badminton.academy.model.Parent;
+import com.badminton.academy.model.Student;
+import com.badminton.academy.model.enums.Role;
+import com.badminton.academy.model.enums.SkillLevel;
+import com.badminton.academy.security.AuthorizationIndex;
+import com.badminton.academy.security.PrincipalCache;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Student responses embed the parent name, so renaming a parent must evict the cached
+ * responses of the parent's children.
+ */
+@DataJpaTest(properties = "spring.flyway.enabled=false")
+@Import({
+        ParentService.class,
+        UserService.class,
+        StudentService.class,
+        StudentStatisticsService.class,
+        AuthorizationIndex.class,
+        CacheInvalidator.class,
+        LoopbackInvalidationBus.class,
+        CacheRefreshRegistry.class,
+        NormalizedCache.class,
+        ParentRenameCacheTest.Caches.class
+})
+@DisplayName("Parent rename cache Tests")
+class ParentRenameCacheTest {
+
+    @TestConfiguration
+    static class Caches {
+
+        @Bean
+        CacheManager cacheManager() {
+            return new CaffeineCacheManager();
+        }
+    }
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ParentService parentService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private StudentService studentService;
+
+    @MockBean
+    private PrincipalCache principalCache;
+
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    private Parent parent;
+    private Student child;
+
+    @BeforeEach
+    void seed() {
+        parent = new Parent();
+        parent.setEmail("parent@rename.test");
+        parent.setPassword("secret");
+        parent.setFirstName("Jane");
+        parent.setLastName("Smith");
+        parent.setFullName("Jane Smith");
+        parent.setDateOfBirth(LocalDate.of(1985, 1, 1));
+        parent.setRole(Role.PARENT);
+        parent.setIsActive(true);
+        parent.setIsEmailVerified(true);
+        entityManager.persist(parent);
+
+        child = Student.builder()
+                .firstName("Tom")
+                .lastName("Smith")
+                .skillLevel(SkillLevel.BEGINNER)
+                .parent(parent)
+                .build();
+        entityManager.persist(child);
+        parent.getChildren().add(child);
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("Should show the new parent name on a cached student after a parent update")
+    void updateParent_Rename_EvictsChildren() {
+        // Given
+        assertThat(studentService.getStudentById(child.getId()).getParentName()).isEqualTo("Jane Smith");
+
+        // When
+        UpdateParentRequest request = new UpdateParentRequest();
+        request.setLastName("Doe");
+        parentService.updateParent(parent.getId(), request);
+
+        // Then
+        assertThat(studentService.getStudentById(child.getId()).getParentName()).isEqualTo("Jane Doe");
+    }
+
+    @Test
+    @DisplayName("Should show the new parent name on a cached student after a user update")
+    void updateUser_ParentRename_EvictsChildren() {
+        // Given
+        assertThat(studentService.getStudentById(child.getId()).getParentName()).isEqualTo("Jane Smith");
+
+        // When
+        UpdateUserRequest request = new UpdateUserRequest();
+        request.setFirstName("Janet");
+        userService.updateUser(parent.getId(), request);
+
+        // Then
+        assertThat(studentService.getStudentById(child.getId()).getParentName()).isEqualTo("Janet Smith");
+    }
+}
@@ -0,0 +1,160 @@
+package com.badminton.academy.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PartitionMaintenanceService Tests")
+class PartitionMaintenanceServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("Should do nothing on databases without the partitioned tables")
+    @SuppressWarnings("unchecked")
+    void maintain_NotPostgres_DoesNothing() {
+        // Given
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("H2");
+
+        // When
+        service(0).maintain();
+        service(0).maintain();
+
+        // Then
+        verify(jdbcTemplate, never()).queryForObject(anyString(), eq(Boolean.class), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("Should create the current and upcoming months for both tables")
+    @SuppressWarnings("unchecked")
+    void maintain_CreatesUpcomingPartitions() {
+        // Given
+        givenPartitionedPostgres();
+        LocalDate currentMonth = LocalDate.now().withDayOfMonth(1);
+
+        // When
+        service(0).maintain();
+
+        // Then
+        ArgumentCaptor<Object> arguments = ArgumentCaptor.forClass(Object.class);
+        verify(jdbcTemplate, times(6)).queryForObject(eq("SELECT create_monthly_partition(?, ?)"),
+                eq(Boolean.class), arguments.capture(), arguments.capture());
+        assertThat(arguments.getAllValues()).containsExactly(
+                "attendance_audit_log", Date.valueOf(currentMonth),
+                "attendance_audit_log", Date.valueOf(currentMonth.plusMonths(1)),
+                "attendance_audit_log", Date.valueOf(currentMonth.plusMonths(2)),
+                "attendance", Date.valueOf(currentMonth),
+                "attendance", Date.valueOf(currentMonth.plusMonths(1)),
+                "attendance", Date.valueOf(currentMonth.plusMonths(2)));
+        verifyNoInteractions(transactionTemplate);
+    }
+
+    @Test
+    @DisplayName("Should create attendance partitions back to the start of the backdate window")
+    @SuppressWarnings("unchecked")
+    void maintain_CreatesBackdatablePartitions() {
+        // Given
+        givenPartitionedPostgres();
+        LocalDate currentMonth = LocalDate.now().withDayOfMonth(1);
+        LocalDate firstWritable = LocalDate.now().minusDays(45).withDayOfMonth(1);
+
+        // When
+        new PartitionMaintenanceService(jdbcTemplate, transactionTemplate, true, 0, "archive", 0, 0, 45).maintain();
+
+        // Then
+        verify(jdbcTemplate).queryForObject("SELECT create_monthly_partition(?, ?)",
+                Boolean.class, "attendance", Date.valueOf(firstWritable));
+        verify(jdbcTemplate).queryForObject("SELECT create_monthly_partition(?, ?)",
+                Boolean.class, "attendance", Date.valueOf(firstWritable.plusMonths(1)));
+        verify(jdbcTemplate).queryForObject("SELECT create_monthly_partition(?, ?)",
+                Boolean.class, "attendance_audit_log", Date.valueOf(currentMonth));
+        verify(jdbcTemplate, times(1)).queryForObject(eq("SELECT create_monthly_partition(?, ?)"),
+                eq(Boolean.class), eq("attendance_audit_log"), any());
+    }
+
+    @Test
+    @DisplayName("Should keep attendance partitions still open for backdating past their retention")
+    @SuppressWarnings("unchecked")
+    void maintain_RetentionShorterThanBackdateWindow_KeepsWritableMonths() {
+        // Given
+        givenPartitionedPostgres();
+        LocalDate firstWritable = LocalDate.now().minusDays(90).withDayOfMonth(1);
+        String expired = partitionName("attendance", firstWritable.minusMonths(1));
+        String writable = partitionName("attendance", firstWritable);
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq("attendance")))
+                .thenReturn(List.of(expired, writable));
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        // When
+        new PartitionMaintenanceService(jdbcTemplate, transactionTemplate, true, 0, "archive", 0, 1, 90).maintain();
+
+        // Then
+        verify(jdbcTemplate).execute("ALTER TABLE attendance DETACH PARTITION " + expired);
+        verify(jdbcTemplate, never()).execute("ALTER TABLE attendance DETACH PARTITION " + writable);
+    }
+
+    @Test
+    @DisplayName("Should archive only the audit partitions past their retention")
+    @SuppressWarnings("unchecked")
+    void maintain_ArchivesExpiredPartitions() {
+        // Given
+        givenPartitionedPostgres();
+        LocalDate keepFrom = LocalDate.now().withDayOfMonth(1).minusMonths(6);
+        String expired = partitionName("attendance_audit_log", keepFrom.minusMonths(1));
+        String kept = partitionName("attendance_audit_log", keepFrom);
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq("attendance_audit_log")))
+                .thenReturn(List.of(expired, kept));
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        // When
+        service(6).maintain();
+
+        // Then
+        verify(jdbcTemplate).execute("ALTER TABLE attendance_audit_log DETACH PARTITION " + expired);
+        verify(jdbcTemplate).execute("ALTER TABLE " + expired + " SET SCHEMA archive");
+        verify(jdbcTemplate, never()).execute("ALTER TABLE attendance_audit_log DETACH PARTITION " + kept);
+        verify(jdbcTemplate, never()).queryForList(anyString(), eq(String.class), eq("attendance"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenPartitionedPostgres() {
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("PostgreSQL");
+        when(jdbcTemplate.queryForObject(contains("pg_partitioned_table"), eq(Boolean.class))).thenReturn(true);
+    }
+
+    private PartitionMaintenanceService service(int auditRetentionMonths) {
+        return new PartitionMaintenanceService(jdbcTemplate, transactionTemplate,
+                true, 2, "archive", auditRetentionMonths, 0, 0);
+    }
+
+    private static String partitionName(String table, LocalDate month) {
+        return String.format("%s_p%04d_%02d", table, month.getYear(), month.getMonthValue());
+    }
+}
@@ -0,0 +1,165 @@
+package com.badminton.academy.service;
+
+import com.badminton.academy.config.CachePolicyProperties;
+import com.badminton.academy.model.Attendance;
+import com.badminton.academy.model.Batch;
+import com.badminton.academy.model.Coach;
+import com.badminton.academy.model.Student;
+import com.badminton.academy.model.enums.AttendanceStatus;
+import com.badminton.academy.model.enums.Role;
+import com.badminton.academy.model.enums.SkillLevel;
+import com.badminton.academy.repository.projection.ResourceVersion;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * The version queries behind conditional GET: every change that alters a response must
+ * move its version, and unrelated changes must not.
+ */
+@DataJpaTest(properties = "spring.flyway.enabled=false")
+@Import({ResourceVersionService.class, CachePolicyProperties.class})
+@DisplayName("ResourceVersionService Tests")
+class ResourceVersionServiceTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2024, 3, 4);
+    private static final LocalDate SUNDAY = LocalDate.of(2024, 3, 10);
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ResourceVersionService resourceVersionService;
+
+    private Coach coach;
+    private Batch batch;
+    private Student student;
+    private Attendance attendance;
+
+    @BeforeEach
+    void seed() {
+        coach = new Coach();
+        coach.setEmail("coach@versions.test");
+        coach.setPassword("secret");
+        coach.setFirstName("Asha");
+        coach.setLastName("Rao");
+        coach.setFullName("Asha Rao");
+        coach.setDateOfBirth(LocalDate.of(1990, 1, 1));
+        coach.setRole(Role.COACH);
+        coach.setIsActive(true);
+        coach.setIsEmailVerified(true);
+        entityManager.persist(coach);
+
+        batch = Batch.builder().name("Morning").coach(coach).isActive(true).students(new HashSet<>()).build();
+        entityManager.persist(batch);
+        student = student("Ravi");
+        attendance = attendance(student, MONDAY);
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("Should move the batch version when its roster changes")
+    void batch_RosterChange_MovesVersion() {
+        // Given
+        ResourceVersion before = resourceVersionService.batch(batch.getId());
+
+        // When
+        student("Meera");
+        batch.markRosterChanged();
+        entityManager.flush();
+
+        // Then
+        assertThat(before).isNotNull();
+        assertThat(resourceVersionService.batch(batch.getId())).isNotEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("Should return no version for a batch that does not exist")
+    void batch_Missing_ReturnsNull() {
+        assertThat(resourceVersionService.batch(-1L)).isNull();
+        assertThat(resourceVersionService.student(-1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should move the roster version when a student is added or renamed")
+    void studentsInBatch_StudentChanges_MoveVersion() {
+        // Given
+        ResourceVersion initial = resourceVersionService.studentsInBatch(batch.getId());
+
+        // When
+        student("Meera");
+        entityManager.flush();
+        ResourceVersion added = resourceVersionService.studentsInBatch(batch.getId());
+        student.setLastName("Kumar");
+        entityManager.flush();
+        ResourceVersion renamed = resourceVersionService.studentsInBatch(batch.getId());
+
+        // Then
+        assertThat(initial.count()).isEqualTo(1);
+        assertThat(added.count()).isEqualTo(2);
+        assertThat(renamed.count()).isEqualTo(2);
+        assertThat(renamed).isNotEqualTo(added);
+    }
+
+    @Test
+    @DisplayName("Should move the attendance version for changes inside the range only")
+    void attendanceForBatch_TracksRowsInRange() {
+        // Given
+        ResourceVersion initial = resourceVersionService.attendanceForBatch(batch.getId(), MONDAY, SUNDAY);
+
+        // When
+        attendance(student, SUNDAY.plusDays(1));
+        entityManager.flush();
+        ResourceVersion outsideRange = resourceVersionService.attendanceForBatch(batch.getId(), MONDAY, SUNDAY);
+        attendance.setStatus(AttendanceStatus.ABSENT);
+        entityManager.flush();
+        ResourceVersion updated = resourceVersionService.attendanceForBatch(batch.getId(), MONDAY, SUNDAY);
+
+        // Then
+        assertThat(initial.count()).isEqualTo(1);
+        assertThat(outsideRange).isEqualTo(initial);
+        assertThat(updated).isNotEqualTo(initial);
+        assertThat(resourceVersionService.attendanceForStudent(student.getId(), MONDAY, SUNDAY)).isEqualTo(updated);
+    }
+
+    @Test
+    @DisplayName("Should give an empty range a version so polling it can return 304")
+    void attendanceForBatch_EmptyRange_HasVersion() {
+        ResourceVersion version = resourceVersionService.attendanceForBatch(batch.getId(), SUNDAY, SUNDAY);
+
+        assertThat(version).isEqualTo(new ResourceVersion(0, 0, null));
+    }
+
+    private Student student(String firstName) {
+        Student created = Student.builder()
+                .firstName(firstName)
+                .lastName("Student")
+                .skillLevel(SkillLevel.BEGINNER)
+                .build();
+        entityManager.persist(created);
+        batch.getStudents().add(created);
+        created.getBatches().add(batch);
+        return created;
+    }
+
+    private Attendance attendance(Student attendee, LocalDate date) {
+        Attendance row = Attendance.builder()
+                .student(attendee)
+                .batch(batch)
+                .date(date)
+                .status(AttendanceStatus.PRESENT)
+                .markedBy(coach)
+                .build();
+        entityManager.persist(row);
+        return row;
+    }
+}
@@ -0,0 +1,361 @@
+package com.badminton.academy.service;
+
+import com.badminton.academy.audit.AttendanceAuditTrail;
+import com.badminton.academy.audit.AuditLogWriter;
+import com.badminton.academy.cache.CacheInvalidator;
+import com.badminton.academy.cache.CacheRefreshRegistry;
+import com.badminton.academy.cache.LoopbackInvalidationBus;
+import com.badminton.academy.cache.NormalizedCache;
+import com.badminton.academy.dto.response.AchievementResponse;
+import com.badminton.academy.dto.response.AssessmentResponse;
+import com.badminton.academy.dto.response.AttendanceAuditLogResponse;
+import com.badminton.academy.dto.response.AttendanceResponse;
+import com.badminton.academy.dto.response.BatchResponse;
+import com.badminton.academy.dto.response.CursorPage;
+import com.badminton.academy.dto.response.SkillEvaluationResponse;
+import com.badminton.academy.dto.response.StudentResponse;
+import com.badminton.academy.model.Achievement;
+import com.badminton.academy.model.Assessment;
+import com.badminton.academy.model.Attendance;
+import com.badminton.academy.model.AttendanceAuditLog;
+import com.badminton.academy.model.Batch;
+import com.badminton.academy.model.Coach;
+import com.badminton.academy.model.Parent;
+import com.badminton.academy.model.SkillEvaluation;
+import com.badminton.academy.model.Student;
+import com.badminton.academy.model.User;
+import com.badminton.academy.model.enums.AchievementType;
+import com.badminton.academy.model.enums.AssessmentType;
+import com.badminton.academy.model.enums.AttendanceStatus;
+import com.badminton.academy.model.enums.Role;
+import com.badminton.academy.model.enums.SkillLevel;
+import com.badminton.academy.security.AuthorizationIndex;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Query-count regression test for the response fetch plans.
+ *
+ * Associations are LAZY and each read path loads what its mapTo*Response method reads
+ * through a named entity graph. Service calls run outside a transaction (as they do from
+ * the controllers with open-in-view disabled), so a missing graph attribute fails with a
+ * LazyInitializationException and an extra association load fails the statement count.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"
+})
+@Import({
+        AttendanceService.class,
+        AttendanceAuditTrail.class,
+        AuditLogWriter.class,
+        AttendanceSummaryService.class,
+        AchievementService.class,
+        AssessmentService.class,
+        SkillEvaluationService.class,
+        BatchService.class,
+        StudentService.class,
+        StudentStatisticsService.class,
+        AuthorizationIndex.class,
+        CacheInvalidator.class,
+        LoopbackInvalidationBus.class,
+        CacheRefreshRegistry.class,
+        NormalizedCache.class,
+        NoOpCacheManager.class
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("Response fetch plan query counts")
+class ResponseFetchPlanTest {
+
+    private static final LocalDate DAY_ONE = LocalDate.of(2024, 3, 4);
+    private static final LocalDate DAY_TWO = LocalDate.of(2024, 3, 5);
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private AttendanceService attendanceService;
+
+    @Autowired
+    private AchievementService achievementService;
+
+    @Autowired
+    private AssessmentService assessmentService;
+
+    @Autowired
+    private SkillEvaluationService skillEvaluationService;
+
+    @Autowired
+    private BatchService batchService;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private AuthorizationIndex authorizationIndex;
+
+    private Statistics statistics;
+    private Coach headCoach;
+    private Parent parent;
+    private Batch morningBatch;
+    private Batch eveningBatch;
+    private Student student;
+    private Attendance attendance;
+
+    @BeforeAll
+    void seed() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            headCoach = user(new Coach(), "head.coach", Role.COACH);
+            Coach assistantCoach = user(new Coach(), "assistant.coach", Role.COACH);
+            parent = user(new Parent(), "parent", Role.PARENT);
+
+            morningBatch = batch("Morning", headCoach);
+            eveningBatch = batch("Evening", assistantCoach);
+
+            List<Student> students = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                Student s = Student.builder()
+                        .firstName("Student")
+                        .lastName(String.valueOf(i))
+                        .skillLevel(SkillLevel.BEGINNER)
+                        .parent(parent)
+                        .build();
+                entityManager.persist(s);
+                Batch batch = i % 2 == 0 ? morningBatch : eveningBatch;
+                batch.getStudents().add(s);
+                s.getBatches().add(batch);
+                students.add(s);
+            }
+            student = students.get(0);
+
+            for (Student s : students) {
+                Batch batch = s.getBatches().iterator().next();
+                for (LocalDate date : List.of(DAY_ONE, DAY_TWO)) {
+                    Attendance row = Attendance.builder()
+                            .student(s)
+                            .batch(batch)
+                            .date(date)
+                            .status(AttendanceStatus.PRESENT)
+                            .markedBy(batch.getCoach())
+                            .build();
+                    entityManager.persist(row);
+                    entityManager.persist(AttendanceAuditLog.builder()
+                            .attendance(row)
+                            .action("CREATE")
+                            .newStatus(row.getStatus())
+                            .changedBy(batch.getCoach())
+                            .changedByRole("COACH")
+                            .wasBackdated(true)
+                            .build());
+                    if (attendance == null) {
+                        attendance = row;
+                    }
+                }
+
+                entityManager.persist(Achievement.builder()
+                        .student(s)
+                        .title("District final")
+                        .type(AchievementType.MEDAL)
+                        .achievedDate(DAY_ONE)
+                        .isVerified(true)
+                        .verifiedBy(assistantCoach)
+                        .build());
+                entityManager.persist(Assessment.builder()
+                        .student(s)
+                        .conductedBy(headCoach)
+                        .type(AssessmentType.SPEED)
+                        .name("20m Sprint")
+                        .score(4.5)
+                        .unit("seconds")
+                        .assessmentDate(DAY_ONE)
+                        .build());
+                entityManager.persist(SkillEvaluation.builder()
+                        .student(s)
+                        .evaluatedBy(assistantCoach)
+                        .footwork(7).strokes(6).stamina(8).attack(5).defence(6).agility(7).courtCoverage(6)
+                        .build());
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("Attendance reads load student, batch and marking coach in one statement")
+    void attendanceReads() {
+        List<AttendanceResponse> all = assertStatements(1, attendanceService::getAllAttendances);
+        assertThat(all).hasSize(8).allSatisfy(response -> {
+            assertThat(response.getStudentName()).isNotNull();
+            assertThat(response.getBatchName()).isNotNull();
+            assertThat(response.getMarkedByName()).isNotNull();
+        });
+
+        assertStatements(1, () -> attendanceService.getAttendanceById(attendance.getId()));
+        assertThat(assertStatements(1, () -> attendanceService.getAttendanceByStudent(student.getId()))).hasSize(2);
+        assertThat(assertStatements(1, () -> attendanceService.getAttendanceByBatch(morningBatch.getId()))).hasSize(4);
+        assertThat(assertStatements(1, () -> attendanceService.getAttendanceByDate(DAY_ONE))).hasSize(4);
+        assertStatements(1, () -> attendanceService.getAttendanceByStudentAndDateRange(student.getId(), DAY_ONE, DAY_TWO));
+        assertStatements(1, () -> attendanceService.getAttendanceByBatchAndDateRange(morningBatch.getId(), DAY_ONE, DAY_TWO));
+        assertStatements(1, () -> attendanceService.getAttendanceByCoachAndDate(headCoach.getId(), DAY_ONE));
+    }
+
+    @Test
+    @DisplayName("Audit log reads load the attendance row and its student and batch in one statement")
+    void auditLogReads() {
+        List<AttendanceAuditLogResponse> logs = assertStatements(1, attendanceService::getAllBackdatedChanges);
+        assertThat(logs).hasSize(8).allSatisfy(response -> {
+            assertThat(response.getStudentName()).isNotNull();
+            assertThat(response.getBatchName()).isNotNull();
+            assertThat(response.getChangedByName()).isNotNull();
+        });
+
+        assertStatements(1, () -> attendanceService.getAuditLogByAttendanceId(attendance.getId()));
+        assertStatements(1, () -> attendanceService.getAuditLogByStudentId(student.getId()));
+        assertStatements(1, () -> attendanceService.getAuditLogByBatchId(morningBatch.getId()));
+    }
+
+    @Test
+    @DisplayName("Achievement, assessment and skill evaluation reads use one statement each")
+    void studentProgressReads() {
+        List<AchievementResponse> achievements = assertStatements(1, achievementService::getAllAchievements);
+        assertThat(achievements).hasSize(4).allSatisfy(response ->
+                assertThat(response.getVerifiedByName()).isNotNull());
+        assertStatements(1, () -> achievementService.getAchievementsByStudent(student.getId()));
+        assertStatements(1, () -> achievementService.getVerifiedAchievementsByStudent(student.getId()));
+
+        List<AssessmentResponse> assessments = assertStatements(1, assessmentService::getAllAssessments);
+        assertThat(assessments).hasSize(4).allSatisfy(response ->
+                assertThat(response.getConductedByName()).isNotNull());
+        assertStatements(1, () -> assessmentService.getAssessmentsByStudent(student.getId()));
+
+        List<SkillEvaluationResponse> evaluations = assertStatements(1, skillEvaluationService::getAllSkillEvaluations);
+        assertThat(evaluations).hasSize(4).allSatisfy(response ->
+                assertThat(response.getEvaluatedByName()).isNotNull());
+        assertStatements(1, () -> skillEvaluationService.getLatestSkillEvaluation(student.getId()));
+    }
+
+    @Test
+    @DisplayName("Batch reads load coach and roster in one statement")
+    void batchReads() {
+        List<BatchResponse> batches = assertStatements(1, batchService::getAllBatches);
+        assertThat(batches).hasSize(2).allSatisfy(response -> {
+            assertThat(response.getCoachName()).isNotNull();
+            assertThat(response.getTotalStudents()).isEqualTo(2);
+        });
+        assertStatements(1, () -> batchService.getBatchById(morningBatch.getId()));
+    }
+
+    @Test
+    @DisplayName("Student reads load batches and parent with the student, plus training days and three grouped statistics")
+    void studentReads() {
+        StudentResponse response = assertStatements(5, () -> studentService.getStudentById(student.getId()));
+        assertThat(response.getParentName()).isNotNull();
+        assertThat(response.getBatchNames()).containsExactly("Morning");
+
+        assertThat(assertStatements(5, () -> studentService.getStudentsBySkillLevel(SkillLevel.BEGINNER))).hasSize(4);
+        assertThat(assertStatements(5, studentService::getAllStudents)).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("Keyset pages load one statement per page and walk every row exactly once")
+    void keysetPages() {
+        CursorPage<AttendanceResponse> first = assertStatements(1, () -> attendanceService.getAttendancePage(null, 3));
+        assertThat(first.getItems()).hasSize(3);
+        assertThat(first.isHasMore()).isTrue();
+
+        CursorPage<AttendanceResponse> second = assertStatements(1,
+                () -> attendanceService.getAttendancePage(first.getNextCursor(), 3));
+        assertThat(second.getItems().get(0).getDate()).isAfterOrEqualTo(first.getItems().get(2).getDate());
+
+        List<Long> attendanceIds = CursorPage.stream(cursor -> attendanceService.getAttendancePage(cursor, 3))
+                .map(AttendanceResponse::getId)
+                .toList();
+        assertThat(attendanceIds).hasSize(8).doesNotHaveDuplicates();
+
+        CursorPage<AchievementResponse> achievements = assertStatements(1, () -> achievementService.getAchievementPage(null, 10));
+        assertThat(achievements.getItems()).hasSize(4);
+        assertThat(achievements.isHasMore()).isFalse();
+        assertThat(achievements.getNextCursor()).isNull();
+
+        assertThat(assessmentService.streamAllAssessments()).hasSize(4);
+        assertThat(skillEvaluationService.streamAllSkillEvaluations()).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("Authorization checks issue one existence query and are then served from the decision cache")
+    void authorizationChecks() {
+        assertThat(assertStatements(1, () -> authorizationIndex.isParentOfStudent(parent.getId(), student.getId()))).isTrue();
+        assertThat(assertStatements(0, () -> authorizationIndex.isParentOfStudent(parent.getId(), student.getId()))).isTrue();
+        assertThat(assertStatements(1, () -> authorizationIndex.isCoachOfStudent(headCoach.getId(), student.getId()))).isTrue();
+        assertThat(assertStatements(1, () -> authorizationIndex.isCoachOfBatch(headCoach.getId(), morningBatch.getId()))).isTrue();
+        assertThat(assertStatements(1, () -> authorizationIndex.isCoachOfBatch(headCoach.getId(), eveningBatch.getId()))).isFalse();
+
+        authorizationIndex.invalidateStudent(student.getId());
+        assertStatements(1, () -> authorizationIndex.isParentOfStudent(parent.getId(), student.getId()));
+        assertStatements(1, () -> authorizationIndex.isCoachOfStudent(headCoach.getId(), student.getId()));
+        assertStatements(0, () -> authorizationIndex.isCoachOfBatch(headCoach.getId(), morningBatch.getId()));
+    }
+
+    private <T> T assertStatements(int expected, Supplier<T> call) {
+        statistics.clear();
+        T result = call.get();
+        assertThat(statistics.getPrepareStatementCount())
+                .as("JDBC statements")
+                .isEqualTo(expected);
+        return result;
+    }
+
+    private <U extends User> U user(U user, String name, Role role) {
+        user.setEmail(name + "@fetchplan.test");
+        user.setPassword("secret");
+        user.setFirstName(name);
+        user.setLastName("User");
+        user.setFullName(name + " User");
+        user.setDateOfBirth(LocalDate.of(1990, 1, 1));
+        user.setRole(role);
+        user.setIsActive(true);
+        user.setIsEmailVerified(true);
+        entityManager.persist(user);
+        return user;
+    }
+
+    private Batch batch(String name, Coach coach) {
+        Batch batch = Batch.builder()
+                .name(name)
+                .coach(coach)
+                .isActive(true)
+                .students(new HashSet<>())
+                .build();
+        entityManager.persist(batch);
+        return batch;
+    }
+}
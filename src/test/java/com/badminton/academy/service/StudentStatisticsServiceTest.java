@@ -0,0 +1,117 @@
+package com.badminton.academy.service;
+
+import com.badminton.academy.repository.AchievementRepository;
+import com.badminton.academy.repository.AttendanceSummaryRepository;
+import com.badminton.academy.repository.SkillEvaluationRepository;
+import com.badminton.academy.repository.projection.AttendanceCountsProjection;
+import com.badminton.academy.repository.projection.StudentAverageProjection;
+import com.badminton.academy.repository.projection.StudentCountProjection;
+import com.badminton.academy.service.StudentStatisticsService.StudentStatistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StudentStatisticsService Tests")
+class StudentStatisticsServiceTest {
+
+    @Mock
+    private AchievementRepository achievementRepository;
+
+    @Mock
+    private AttendanceSummaryRepository attendanceSummaryRepository;
+
+    @Mock
+    private SkillEvaluationRepository skillEvaluationRepository;
+
+    @InjectMocks
+    private StudentStatisticsService studentStatisticsService;
+
+    @Test
+    @DisplayName("Should aggregate grouped rows per student and default missing students to zero")
+    void loadStatistics_AggregatesGroupedRows() {
+        // Given
+        when(achievementRepository.countVerifiedAchievementsByStudentIds(anyCollection()))
+                .thenReturn(List.of(count(1L, 3L)));
+        when(attendanceSummaryRepository.sumByStudentIds(anyCollection()))
+                .thenReturn(List.of(attendanceCounts(1L, 6L, 1L, 1L, 4L)));
+        when(skillEvaluationRepository.getAverageOverallScoreByStudentIds(anyCollection()))
+                .thenReturn(List.of(average(1L, 7.5)));
+
+        // When
+        Map<Long, StudentStatistics> statistics = studentStatisticsService.loadStatistics(List.of(1L, 2L));
+
+        // Then
+        StudentStatistics first = statistics.get(1L);
+        assertThat(first.getVerifiedAchievements()).isEqualTo(3L);
+        assertThat(first.getExcusedCount()).isEqualTo(4L);
+        assertThat(first.getAttendancePercentage()).isEqualTo(75.0);
+        assertThat(first.getAverageSkillRating()).isEqualTo(7.5);
+
+        StudentStatistics second = statistics.get(2L);
+        assertThat(second.getVerifiedAchievements()).isZero();
+        assertThat(second.getAttendancePercentage()).isZero();
+        assertThat(second.getAverageSkillRating()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should issue one grouped query per statistic per chunk of IDs")
+    void loadStatistics_ChunksLargeIdLists() {
+        // Given
+        List<Long> ids = LongStream.rangeClosed(1, StudentStatisticsService.ID_CHUNK_SIZE + 1)
+                .boxed()
+                .collect(Collectors.toList());
+
+        // When
+        Map<Long, StudentStatistics> statistics = studentStatisticsService.loadStatistics(ids);
+
+        // Then
+        assertThat(statistics).hasSize(ids.size());
+        verify(achievementRepository, times(2)).countVerifiedAchievementsByStudentIds(anyCollection());
+        verify(attendanceSummaryRepository, times(2)).sumByStudentIds(anyCollection());
+        verify(skillEvaluationRepository, times(2)).getAverageOverallScoreByStudentIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Should not query when there are no students")
+    void loadStatistics_EmptyInput() {
+        assertThat(studentStatisticsService.loadStatistics(List.of())).isEmpty();
+        verifyNoInteractions(achievementRepository, attendanceSummaryRepository, skillEvaluationRepository);
+    }
+
+    private static StudentCountProjection count(Long studentId, Long total) {
+        return new StudentCountProjection() {
+            public Long getStudentId() { return studentId; }
+            public Long getTotal() { return total; }
+        };
+    }
+
+    private static AttendanceCountsProjection attendanceCounts(Long studentId, Long present, Long absent, Long late, Long excused) {
+        return new AttendanceCountsProjection() {
+            public Long getStudentId() { return studentId; }
+            public Long getPresentCount() { return present; }
+            public Long getAbsentCount() { return absent; }
+            public Long getLateCount() { return late; }
+            public Long getExcusedCount() { return excused; }
+        };
+    }
+
+    private static StudentAverageProjection average(Long studentId, Double average) {
+        return new StudentAverageProjection() {
+            public Long getStudentId() { return studentId; }
+            public Double getAverage() { return average; }
+        };
+    }
+}